@@ -0,0 +1,38 @@
+package com.kthowns.mobidic.api.benchmark;
+
+import com.kthowns.mobidic.MobidicApiApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * 통합 테스트와 같은 test 프로필(로컬 MySQL/Redis)로 한 번만 띄우고, 각 벤치마크는 @Setup 인자로 받아 빈을 꺼내 쓴다.
+ */
+@State(Scope.Benchmark)
+public class ApiBenchmarkContext {
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(MobidicApiApplication.class)
+                .run("--spring.profiles.active=test", "--server.port=0", "--spring.jpa.show-sql=false");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public <T> T getBean(String name, Class<T> type) {
+        return context.getBean(name, type);
+    }
+}
@@ -0,0 +1,104 @@
+package com.kthowns.mobidic.api.benchmark;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.user.model.User;
+import com.kthowns.mobidic.domain.user.model.UserRole;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordStatisticJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jparepository.WordStatisticJpaRepository;
+import com.kthowns.mobidic.storage.user.jpaentity.UserJpaEntity;
+import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
+import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
+import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
+import com.kthowns.mobidic.storage.word.jpaentity.WordJpaEntity;
+import com.kthowns.mobidic.storage.word.jparepository.WordJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 단어에 채점이 몰릴 때의 채점 벤치마크
+ * 로컬 MySQL 에 단어 하나를 만들고 64개 스레드가 동시에 StatisticService.increaseCorrectCount 를 호출한다.
+ * 통계 행 단일 UPDATE, 단어장 집계값 갱신, 복습 일정 갱신이 모두 같은 행에 몰리므로 처리량과 함께 SampleTime 으로 꼬리 지연을 본다.
+ * 커넥션 풀보다 스레드가 많으면 풀 대기 시간도 함께 측정되므로 결과를 볼 때 풀 크기를 같이 적는다.
+ */
+@State(Scope.Benchmark)
+@Threads(64)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HotWordGradingBenchmark {
+    private StatisticService statisticService;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID vocabularyId;
+    private UUID wordId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApiBenchmarkContext context) {
+        statisticService = context.getBean(StatisticService.class);
+        em = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        UserJpaRepository userJpaRepository = context.getBean(UserJpaRepository.class);
+        VocabularyJpaRepository vocabularyJpaRepository = context.getBean(VocabularyJpaRepository.class);
+        WordJpaRepository wordJpaRepository = context.getBean(WordJpaRepository.class);
+        WordStatisticJpaRepository wordStatisticJpaRepository = context.getBean(WordStatisticJpaRepository.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            UserJpaEntity user = userJpaRepository.save(UserJpaEntity.createFromModel(
+                    User.create("hot-word-bench-" + UUID.randomUUID() + "@test.com", "hot-word-bench", "password", UserRole.USER)));
+            VocabularyJpaEntity vocabulary = vocabularyJpaRepository.save(VocabularyJpaEntity.createFromModel(
+                    Vocabulary.create(user.getId(), "hot-word-bench", null, 1L)));
+            WordJpaEntity word = wordJpaRepository.save(WordJpaEntity.createFromModel(
+                    Word.create(vocabulary.getId(), "apple"), vocabulary));
+            wordStatisticJpaRepository.save(WordStatisticJpaEntity.createFromModel(WordStatistic.create(word.getId())));
+
+            userId = user.getId();
+            vocabularyId = vocabulary.getId();
+            wordId = word.getId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM WordReviewScheduleJpaEntity r WHERE r.userId = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM WordStatisticJpaEntity ws WHERE ws.wordId = :wordId")
+                    .setParameter("wordId", wordId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM WordJpaEntity w WHERE w.vocabulary.id = :vocabularyId")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM VocabularyJpaEntity v WHERE v.id = :vocabularyId")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM UserJpaEntity u WHERE u.id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+        });
+    }
+
+    @Benchmark
+    public void increaseCorrectCount() {
+        statisticService.increaseCorrectCount(userId, wordId);
+    }
+}
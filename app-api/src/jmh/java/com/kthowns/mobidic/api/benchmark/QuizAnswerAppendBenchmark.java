@@ -0,0 +1,90 @@
+package com.kthowns.mobidic.api.benchmark;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.properties.QuizRedisKey;
+import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 정답 저장 벤치마크
+ * 로컬 Redis 기준으로 퀴즈 세트 크기별 문제당 개별 키 저장과 세션 해시 일괄 저장(appendAll)의 지연 시간을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuizAnswerAppendBenchmark {
+    private static final long EXP_MILLIS = 60000L;
+    private static final int DELETE_CHUNK = 500;
+
+    @Param({"10", "100", "1000"})
+    private int setSize;
+
+    private QuizAnswerRepository quizAnswerRepository;
+    private RedisTemplate<String, Object> objectRedisTemplate;
+    private Map<String, QuizAnswer> quizAnswers;
+
+    private final UUID userId = UUID.randomUUID();
+    private final List<String> writtenKeys = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp(ApiBenchmarkContext context) {
+        quizAnswerRepository = context.getBean(QuizAnswerRepository.class);
+        objectRedisTemplate = context.getBean("objectRedisTemplate", RedisTemplate.class);
+
+        quizAnswers = new LinkedHashMap<>();
+        for (int i = 0; i < setSize; i++) {
+            quizAnswers.put(String.valueOf(i), QuizAnswer.of(userId, UUID.randomUUID(), UUID.randomUUID(), "answer" + i));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteWrittenKeys() {
+        for (int from = 0; from < writtenKeys.size(); from += DELETE_CHUNK) {
+            objectRedisTemplate.delete(writtenKeys.subList(from, Math.min(from + DELETE_CHUNK, writtenKeys.size())));
+        }
+        writtenKeys.clear();
+    }
+
+    // 비교 기준: 문제마다 별도의 키로 저장하던 방식
+    @Benchmark
+    public void keyPerQuiz() {
+        String sessionKey = createSessionKey();
+        Duration ttl = Duration.ofMillis(EXP_MILLIS);
+
+        quizAnswers.forEach((field, quizAnswer) -> {
+            String key = sessionKey + ":" + field;
+            objectRedisTemplate.opsForValue().set(key, quizAnswer, ttl);
+            writtenKeys.add(key);
+        });
+    }
+
+    @Benchmark
+    public void appendAll() {
+        quizAnswerRepository.appendAll(createSessionKey(), userId, quizAnswers, EXP_MILLIS);
+    }
+
+    private String createSessionKey() {
+        String sessionKey = QuizRedisKey.QUIZ + ":" + UUID.randomUUID();
+        writtenKeys.add(sessionKey);
+        return sessionKey;
+    }
+}
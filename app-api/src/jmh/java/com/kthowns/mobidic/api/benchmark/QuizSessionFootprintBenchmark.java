@@ -0,0 +1,144 @@
+package com.kthowns.mobidic.api.benchmark;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.properties.QuizRedisKey;
+import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 세션 저장 구조 메모리 비교 벤치마크
+ * 동시 세션 10k 개를 한 번 저장할 때의 시간과 함께, 늘어난 키 개수와 Redis used_memory 를 보조 지표(keys, usedMemoryBytes)로 보고한다.
+ * 같은 Redis 를 쓰는 다른 작업이 없을 때 실행해야 메모리 차이가 의미 있음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class QuizSessionFootprintBenchmark {
+    private static final int SESSION_COUNT = 10_000;
+    private static final int QUIZZES_PER_SESSION = 10;
+    private static final int PIPELINE_CHUNK = 500;
+    private static final long EXP_MILLIS = 600_000L;
+
+    private QuizAnswerRepository quizAnswerRepository;
+    private RedisTemplate<String, Object> objectRedisTemplate;
+    private List<Map<String, QuizAnswer>> sessions;
+
+    private final List<String> writtenKeys = new ArrayList<>();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long keys;
+        public long usedMemoryBytes;
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp(ApiBenchmarkContext context) {
+        quizAnswerRepository = context.getBean(QuizAnswerRepository.class);
+        objectRedisTemplate = context.getBean("objectRedisTemplate", RedisTemplate.class);
+
+        sessions = new ArrayList<>(SESSION_COUNT);
+        for (int s = 0; s < SESSION_COUNT; s++) {
+            UUID userId = UUID.randomUUID();
+            Map<String, QuizAnswer> quizAnswers = new LinkedHashMap<>();
+            for (int i = 0; i < QUIZZES_PER_SESSION; i++) {
+                quizAnswers.put(String.valueOf(i), QuizAnswer.of(userId, UUID.randomUUID(), UUID.randomUUID(), "answer"));
+            }
+            sessions.add(quizAnswers);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteWrittenKeys() {
+        for (int from = 0; from < writtenKeys.size(); from += PIPELINE_CHUNK) {
+            objectRedisTemplate.delete(writtenKeys.subList(from, Math.min(from + PIPELINE_CHUNK, writtenKeys.size())));
+        }
+        writtenKeys.clear();
+    }
+
+    // 비교 기준: 문제마다 별도의 키로 저장하던 방식
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void keyPerQuiz(Footprint footprint) {
+        long memoryBaseline = usedMemory();
+        long keysBaseline = dbSize();
+        Duration ttl = Duration.ofMillis(EXP_MILLIS);
+
+        for (int from = 0; from < sessions.size(); from += PIPELINE_CHUNK) {
+            List<Map<String, QuizAnswer>> chunk = sessions.subList(from, Math.min(from + PIPELINE_CHUNK, sessions.size()));
+
+            objectRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> stringKeyOperations = (RedisOperations<String, Object>) operations;
+                    for (Map<String, QuizAnswer> quizAnswers : chunk) {
+                        quizAnswers.values().forEach(quizAnswer -> {
+                            String key = QuizRedisKey.QUIZ + ":" + UUID.randomUUID();
+                            stringKeyOperations.opsForValue().set(key, quizAnswer, ttl);
+                            writtenKeys.add(key);
+                        });
+                    }
+                    return null;
+                }
+            });
+        }
+
+        footprint.keys = dbSize() - keysBaseline;
+        footprint.usedMemoryBytes = usedMemory() - memoryBaseline;
+    }
+
+    @Benchmark
+    public void sessionHash(Footprint footprint) {
+        long memoryBaseline = usedMemory();
+        long keysBaseline = dbSize();
+
+        for (Map<String, QuizAnswer> quizAnswers : sessions) {
+            String sessionKey = QuizRedisKey.QUIZ + ":" + UUID.randomUUID();
+            UUID userId = quizAnswers.values().iterator().next().userId();
+            quizAnswerRepository.appendAll(sessionKey, userId, quizAnswers, EXP_MILLIS);
+            writtenKeys.add(sessionKey);
+        }
+
+        footprint.keys = dbSize() - keysBaseline;
+        footprint.usedMemoryBytes = usedMemory() - memoryBaseline;
+    }
+
+    private long usedMemory() {
+        Properties info = objectRedisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private long dbSize() {
+        Long size = objectRedisTemplate.execute((RedisCallback<Long>) RedisConnection::dbSize);
+        return size == null ? 0L : size;
+    }
+}
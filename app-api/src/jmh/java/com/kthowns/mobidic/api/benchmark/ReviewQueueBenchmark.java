@@ -0,0 +1,211 @@
+package com.kthowns.mobidic.api.benchmark;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.repository.ReviewScheduleRepository;
+import com.kthowns.mobidic.domain.user.model.User;
+import com.kthowns.mobidic.domain.user.model.UserRole;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordReviewScheduleJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordStatisticJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jparepository.WordStatisticJpaRepository;
+import com.kthowns.mobidic.storage.user.jpaentity.UserJpaEntity;
+import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
+import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
+import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
+import com.kthowns.mobidic.storage.word.jpaentity.WordJpaEntity;
+import com.kthowns.mobidic.storage.word.jparepository.WordJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복습 대기열 조회 벤치마크
+ * 로컬 MySQL 에 100만 개의 복습 일정(대상 사용자 1만 개 + 다른 사용자 99만 개)을 넣고
+ * (user_id, next_review_at) 인덱스로 밀린 단어 N 개를 꺼내는 조회와 사용자 단어 전체를 읽어 정렬하는 방식을 비교한다.
+ * reviewDay 는 호출마다 하루씩 지나며 꺼내기 -> 채점 -> 재예약을 반복하므로 SampleTime 분포로 본다.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReviewQueueBenchmark {
+    private static final int TOTAL_SCHEDULES = 1_000_000;
+    private static final int TARGET_WORDS = 10_000;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final int REVIEWS_PER_DAY = 20;
+    private static final double CORRECT_RATE = 0.8;
+
+    private ReviewScheduleRepository reviewScheduleRepository;
+    private EntityManager em;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    private final SplittableRandom random = new SplittableRandom(2024);
+
+    private Instant start;
+    private UUID userId;
+    private UUID vocabularyId;
+    private final List<UUID> otherUserIds = new ArrayList<>();
+    private int day;
+
+    @Setup(Level.Trial)
+    public void setUp(ApiBenchmarkContext context) {
+        reviewScheduleRepository = context.getBean(ReviewScheduleRepository.class);
+        em = context.getBean(EntityManager.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        start = Instant.now();
+        List<UUID> wordIds = createWords(context);
+        insertSchedules(wordIds);
+
+        // 두 방식의 결과가 같아야 비교가 의미 있음
+        if (!indexedQueue().equals(fullScan())) {
+            throw new IllegalStateException("due word ids differ");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM word_review_schedules WHERE user_id = ?", toBytes(userId));
+            otherUserIds.forEach(otherUserId ->
+                    jdbcTemplate.update("DELETE FROM word_review_schedules WHERE user_id = ?", toBytes(otherUserId)));
+            em.createQuery("DELETE FROM WordStatisticJpaEntity ws WHERE ws.wordId IN" +
+                            " (SELECT w.id FROM WordJpaEntity w WHERE w.vocabulary.id = :vocabularyId)")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM WordJpaEntity w WHERE w.vocabulary.id = :vocabularyId")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM VocabularyJpaEntity v WHERE v.id = :vocabularyId")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM UserJpaEntity u WHERE u.id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public List<UUID> indexedQueue() {
+        return transactionTemplate.execute(status ->
+                reviewScheduleRepository.readDueWordIds(userId, start, REVIEWS_PER_DAY));
+    }
+
+    // 비교 기준: 인덱스 없이 사용자의 모든 단어 일정을 읽어 애플리케이션에서 거르고 정렬하는 방식
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public List<UUID> fullScan() {
+        return transactionTemplate.execute(status -> em.createQuery(
+                        "SELECT r FROM WordReviewScheduleJpaEntity r" +
+                                " JOIN WordJpaEntity w ON w.id = r.wordId" +
+                                " JOIN WordStatisticJpaEntity ws ON ws.wordId = r.wordId" +
+                                " WHERE w.vocabulary.userId = :userId AND ws.isLearned = false",
+                        WordReviewScheduleJpaEntity.class)
+                .setParameter("userId", userId)
+                .getResultList().stream()
+                .filter(schedule -> !schedule.getNextReviewAt().isAfter(start))
+                .sorted(Comparator.comparing(WordReviewScheduleJpaEntity::getNextReviewAt))
+                .limit(REVIEWS_PER_DAY)
+                .map(WordReviewScheduleJpaEntity::getWordId)
+                .toList());
+    }
+
+    // 하루치 복습: REVIEWS_PER_DAY 개를 꺼내 채점하고 SM-2 로 다시 예약
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void reviewDay() {
+        Instant now = start.plus(Duration.ofDays(day++));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> due = reviewScheduleRepository.readDueWordIds(userId, now, REVIEWS_PER_DAY);
+            List<ReviewSchedule> reviewed = reviewScheduleRepository.readOrCreateAllForUpdate(userId, due).stream()
+                    .map(schedule -> schedule.review(random.nextDouble() < CORRECT_RATE, now))
+                    .toList();
+            reviewScheduleRepository.updateAll(reviewed);
+        });
+    }
+
+    private List<UUID> createWords(ApiBenchmarkContext context) {
+        UserJpaRepository userJpaRepository = context.getBean(UserJpaRepository.class);
+        VocabularyJpaRepository vocabularyJpaRepository = context.getBean(VocabularyJpaRepository.class);
+        WordJpaRepository wordJpaRepository = context.getBean(WordJpaRepository.class);
+        WordStatisticJpaRepository wordStatisticJpaRepository = context.getBean(WordStatisticJpaRepository.class);
+
+        return transactionTemplate.execute(status -> {
+            UserJpaEntity user = userJpaRepository.save(UserJpaEntity.createFromModel(
+                    User.create("review-bench-" + UUID.randomUUID() + "@test.com", "review-bench", "password", UserRole.USER)));
+            VocabularyJpaEntity vocabulary = vocabularyJpaRepository.save(VocabularyJpaEntity.createFromModel(
+                    Vocabulary.create(user.getId(), "review-bench", null, TARGET_WORDS)));
+
+            List<WordJpaEntity> words = new ArrayList<>(TARGET_WORDS);
+            for (int i = 0; i < TARGET_WORDS; i++) {
+                words.add(WordJpaEntity.createFromModel(Word.create(vocabulary.getId(), "word" + i), vocabulary));
+            }
+            wordJpaRepository.saveAll(words);
+
+            wordStatisticJpaRepository.saveAll(words.stream()
+                    .map(word -> WordStatisticJpaEntity.createFromModel(WordStatistic.create(word.getId())))
+                    .toList());
+
+            userId = user.getId();
+            vocabularyId = vocabulary.getId();
+            return words.stream().map(WordJpaEntity::getId).toList();
+        });
+    }
+
+    // 대상 사용자의 단어는 앞뒤 30일 안에 고르게, 나머지는 다른 사용자 99명의 일정으로 채움
+    private void insertSchedules(List<UUID> wordIds) {
+        for (int i = 0; i < TOTAL_SCHEDULES / TARGET_WORDS - 1; i++) {
+            otherUserIds.add(UUID.randomUUID());
+        }
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < TOTAL_SCHEDULES; i++) {
+            boolean target = i < wordIds.size();
+            UUID wordId = target ? wordIds.get(i) : UUID.randomUUID();
+            UUID ownerId = target ? userId : otherUserIds.get(i % otherUserIds.size());
+            Instant nextReviewAt = start.plus(Duration.ofSeconds(random.nextLong(-30L * 24 * 3600, 30L * 24 * 3600)));
+
+            batch.add(new Object[]{toBytes(wordId), toBytes(ownerId), 1, ReviewSchedule.INITIAL_EASE_FACTOR, 1,
+                    Timestamp.from(nextReviewAt), Timestamp.from(start), Timestamp.from(start)});
+
+            if (batch.size() == INSERT_BATCH_SIZE || i == TOTAL_SCHEDULES - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO word_review_schedules" +
+                        " (word_id, user_id, repetition, ease_factor, interval_days, next_review_at, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,183 @@
+package com.kthowns.mobidic.api.benchmark;
+
+import com.kthowns.mobidic.domain.definition.model.Definition;
+import com.kthowns.mobidic.domain.definition.model.PartOfSpeech;
+import com.kthowns.mobidic.domain.user.model.User;
+import com.kthowns.mobidic.domain.user.model.UserRole;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.repository.WordRepository;
+import com.kthowns.mobidic.storage.definition.jpaentity.DefinitionJpaEntity;
+import com.kthowns.mobidic.storage.definition.jparepository.DefinitionJpaRepository;
+import com.kthowns.mobidic.storage.user.jpaentity.UserJpaEntity;
+import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
+import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
+import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
+import com.kthowns.mobidic.storage.word.jpaentity.WordJpaEntity;
+import com.kthowns.mobidic.storage.word.jparepository.WordJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 단어 상세 목록 조회 벤치마크
+ * 로컬 MySQL 기준으로 단어 수별 기존 방식(단어 조회 + 뜻 IN 조회 + Java 그룹핑)과
+ * 단어 x 뜻 평탄 조인 단일 조회의 지연 시간과 할당량(gc 프로파일러)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WordDetailFetchBenchmark {
+    private static final int DEFINITIONS_PER_WORD = 2;
+
+    @Param({"1000", "10000"})
+    private int wordCount;
+
+    private WordRepository wordRepository;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    private UUID userId;
+    private UUID vocabularyId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApiBenchmarkContext context) {
+        wordRepository = context.getBean(WordRepository.class);
+        em = context.getBean(EntityManager.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        UserJpaRepository userJpaRepository = context.getBean(UserJpaRepository.class);
+        VocabularyJpaRepository vocabularyJpaRepository = context.getBean(VocabularyJpaRepository.class);
+        WordJpaRepository wordJpaRepository = context.getBean(WordJpaRepository.class);
+        DefinitionJpaRepository definitionJpaRepository = context.getBean(DefinitionJpaRepository.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            UserJpaEntity user = userJpaRepository.save(UserJpaEntity.createFromModel(
+                    User.create("bench-" + UUID.randomUUID() + "@test.com", "bench", "password", UserRole.USER)));
+            VocabularyJpaEntity vocabulary = vocabularyJpaRepository.save(VocabularyJpaEntity.createFromModel(
+                    Vocabulary.create(user.getId(), "bench-" + wordCount, null, wordCount)));
+
+            List<WordJpaEntity> words = new ArrayList<>(wordCount);
+            for (int i = 0; i < wordCount; i++) {
+                words.add(WordJpaEntity.createFromModel(Word.create(vocabulary.getId(), "word" + i), vocabulary));
+            }
+            wordJpaRepository.saveAll(words);
+
+            List<DefinitionJpaEntity> definitions = new ArrayList<>(wordCount * DEFINITIONS_PER_WORD);
+            for (WordJpaEntity word : words) {
+                for (int d = 0; d < DEFINITIONS_PER_WORD; d++) {
+                    definitions.add(DefinitionJpaEntity.createFromModel(
+                            Definition.create(word.getId(), word.getExpression() + "-meaning" + d, PartOfSpeech.NOUN), word));
+                }
+            }
+            definitionJpaRepository.saveAll(definitions);
+
+            userId = user.getId();
+            vocabularyId = vocabulary.getId();
+        });
+
+        // 두 방식의 결과가 같아야 비교가 의미 있음
+        if (!summarize(twoQueries()).equals(summarize(singleQuery()))) {
+            throw new IllegalStateException("word detail results differ");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM DefinitionJpaEntity d WHERE d.word.id IN" +
+                            " (SELECT w.id FROM WordJpaEntity w WHERE w.vocabulary.id = :vocabularyId)")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM WordJpaEntity w WHERE w.vocabulary.id = :vocabularyId")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM VocabularyJpaEntity v WHERE v.id = :vocabularyId")
+                    .setParameter("vocabularyId", vocabularyId)
+                    .executeUpdate();
+            em.createQuery("DELETE FROM UserJpaEntity u WHERE u.id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+        });
+    }
+
+    // 비교 기준: 단어 조회 후 뜻을 IN 으로 한 번 더 조회하여 Java 에서 그룹핑하던 방식
+    @Benchmark
+    public List<WordDetail> twoQueries() {
+        return readOnlyTransactionTemplate.execute(status -> fetchWithTwoQueries());
+    }
+
+    @Benchmark
+    public List<WordDetail> singleQuery() {
+        return readOnlyTransactionTemplate.execute(status ->
+                wordRepository.readDetailsByVocabularyId(userId, vocabularyId, false));
+    }
+
+    private List<WordDetail> fetchWithTwoQueries() {
+        List<Object[]> wordRows = em.createQuery(
+                        "SELECT w.id, w.expression, COALESCE(ws.difficulty, 0.5), COALESCE(ws.accuracy, 0.0)," +
+                                " COALESCE(ws.isLearned, false), w.createdAt, w.updatedAt" +
+                                " FROM WordJpaEntity w" +
+                                " LEFT JOIN WordStatisticJpaEntity ws ON ws.wordId = w.id" +
+                                " WHERE w.vocabulary.id = :vocabularyId AND w.vocabulary.userId = :userId", Object[].class)
+                .setParameter("vocabularyId", vocabularyId)
+                .setParameter("userId", userId)
+                .getResultList();
+
+        List<WordDetail> wordDetails = wordRows.stream()
+                .map(row -> new WordDetail((UUID) row[0], (String) row[1], (Double) row[2], (Double) row[3],
+                        (Boolean) row[4], new ArrayList<>(), (Instant) row[5], (Instant) row[6]))
+                .toList();
+
+        List<UUID> wordIds = wordDetails.stream().map(WordDetail::id).toList();
+        if (wordIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<UUID, List<Definition>> definitionMap = em.createQuery(
+                        "SELECT d FROM DefinitionJpaEntity d WHERE d.word.id IN :wordIds", DefinitionJpaEntity.class)
+                .setParameter("wordIds", wordIds)
+                .getResultList().stream()
+                .collect(Collectors.groupingBy(d -> d.getWord().getId(),
+                        Collectors.mapping(DefinitionJpaEntity::toModel, Collectors.toList())));
+
+        return wordDetails.stream()
+                .map(wd -> new WordDetail(wd.id(), wd.expression(), wd.difficulty(), wd.accuracy(), wd.isLearned(),
+                        definitionMap.getOrDefault(wd.id(), Collections.emptyList()), wd.createdAt(), wd.updatedAt()))
+                .toList();
+    }
+
+    // 순서와 무관하게 단어별 뜻 목록을 비교
+    private Map<UUID, List<String>> summarize(List<WordDetail> wordDetails) {
+        return wordDetails.stream()
+                .collect(Collectors.toMap(WordDetail::id, wd -> wd.definitions().stream()
+                        .map(Definition::meaning)
+                        .sorted()
+                        .toList()));
+    }
+}
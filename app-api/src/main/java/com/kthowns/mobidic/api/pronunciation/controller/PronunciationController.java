@@ -4,6 +4,7 @@ import com.kthowns.mobidic.api.global.dto.ErrorResponse;
 import com.kthowns.mobidic.api.global.dto.GeneralResponse;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
+import com.kthowns.mobidic.domain.pronunciation.model.SimilarityMode;
 import com.kthowns.mobidic.domain.pronunciation.service.PronunciationService;
 import com.kthowns.mobidic.security.model.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,7 +36,8 @@ public class PronunciationController {
 
     @Operation(
             summary = "발음 체크",
-            description = "음성 파일과 단어 식별자를 통한 발음 점수 체크, 0~1 사이의 실수, 파일 크기는 100KB 이내",
+            description = "음성 파일과 단어 식별자를 통한 발음 점수 체크, 0~1 사이의 실수, 파일 크기는 100KB 이내, " +
+                    "mode 는 LITERAL(글자 비교) 또는 PHONETIC(발음 키 + 자소 묶음 비교), 없으면 서버 설정값",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -55,6 +57,7 @@ public class PronunciationController {
     public ResponseEntity<GeneralResponse<Double>> ratePronunciation(
             @RequestParam MultipartFile file,
             @PathVariable UUID wordId,
+            @RequestParam(required = false) SimilarityMode mode,
             @AuthenticationPrincipal AuthUser authUser
     ) {
         if (file.getSize() > 500 * 1024) { // Allow file size under 500KB
@@ -62,6 +65,6 @@ public class PronunciationController {
         }
 
         return GeneralResponse.toResponseEntity(OK,
-                pronunciationService.ratePronunciation(authUser.getId(), wordId, file));
+                pronunciationService.ratePronunciation(authUser.getId(), wordId, file, mode));
     }
 }
@@ -2,10 +2,14 @@ package com.kthowns.mobidic.api.quiz.controller;
 
 import com.kthowns.mobidic.api.global.dto.ErrorResponse;
 import com.kthowns.mobidic.api.global.dto.GeneralResponse;
+import com.kthowns.mobidic.api.quiz.dto.request.QuizBatchRateRequest;
 import com.kthowns.mobidic.api.quiz.dto.request.QuizRateRequest;
 import com.kthowns.mobidic.domain.quiz.model.QuizInfo;
 import com.kthowns.mobidic.domain.quiz.model.QuizResult;
+import com.kthowns.mobidic.domain.quiz.model.QuizSubmission;
+import com.kthowns.mobidic.domain.quiz.model.QuizType;
 import com.kthowns.mobidic.domain.quiz.service.QuizService;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import com.kthowns.mobidic.security.model.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +18,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -35,7 +40,7 @@ public class QuizController {
 
     @Operation(
             summary = "OX 퀴즈 생성",
-            description = "단어장 식별자를 통해 단어장에 속한 단어들로 문제 생성",
+            description = "단어장 식별자를 통해 단어장에 속한 학습하지 않은 단어 중 size 개(기본 20, 최대 100)를 추출하여 문제 생성, sampling=DIFFICULTY 이면 어려운 단어 위주로, ADAPTIVE 이면 난이도와 마지막 풀이 이후 경과 시간으로 가중 추출",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -52,15 +57,17 @@ public class QuizController {
     @GetMapping("/vocabularies/{vocabularyId}/quizzes/ox")
     public ResponseEntity<GeneralResponse<List<QuizInfo>>> getOxQuizzes(
             @PathVariable UUID vocabularyId,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sampling", defaultValue = "RANDOM") WordSampling sampling,
             @AuthenticationPrincipal AuthUser authUser
     ) {
         return GeneralResponse.toResponseEntity(OK,
-                quizService.getOXQuizzes(authUser.getId(), vocabularyId));
+                quizService.getOXQuizzes(authUser.getId(), vocabularyId, size, sampling));
     }
 
     @Operation(
             summary = "빈칸 채우기 생성",
-            description = "단어장 식별자를 통해 단어장에 속한 단어들로 문제 생성",
+            description = "단어장 식별자를 통해 단어장에 속한 학습하지 않은 단어 중 size 개(기본 20, 최대 100)를 추출하여 문제 생성, sampling=DIFFICULTY 이면 어려운 단어 위주로, ADAPTIVE 이면 난이도와 마지막 풀이 이후 경과 시간으로 가중 추출",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -77,10 +84,37 @@ public class QuizController {
     @GetMapping("/vocabularies/{vocabularyId}/quizzes/blank")
     public ResponseEntity<GeneralResponse<List<QuizInfo>>> getBlankQuizzes(
             @PathVariable UUID vocabularyId,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sampling", defaultValue = "RANDOM") WordSampling sampling,
             @AuthenticationPrincipal AuthUser authUser
     ) {
         return GeneralResponse.toResponseEntity(OK,
-                quizService.getBlankQuizzes(authUser.getId(), vocabularyId));
+                quizService.getBlankQuizzes(authUser.getId(), vocabularyId, size, sampling));
+    }
+
+    @Operation(
+            summary = "복습 퀴즈 생성",
+            description = "모든 단어장에서 복습 예정 시각이 지난 단어를 가장 오래 밀린 순으로 size 개(기본 20, 최대 100) 출제, " +
+                    "채점 결과에 따라 다음 복습 일정이 정해짐",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인가되지 않은 요청",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/quizzes/review")
+    public ResponseEntity<GeneralResponse<List<QuizInfo>>> getReviewQuizzes(
+            @RequestParam(value = "type", defaultValue = "OX") QuizType type,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return GeneralResponse.toResponseEntity(OK,
+                quizService.getReviewQuizzes(authUser.getId(), type, size));
     }
 
     @Operation(
@@ -109,4 +143,34 @@ public class QuizController {
         return GeneralResponse.toResponseEntity(OK,
                 quizService.rateQuiz(authUser.getId(), quizRateRequest.getToken(), quizRateRequest.getAnswer()));
     }
+
+    @Operation(
+            summary = "퀴즈 일괄 채점",
+            description = "퀴즈 세트의 토큰과 사용자 입력 값 목록을 한 번에 채점, 결과는 요청 순서대로 반환. " +
+                    "만료되었거나 이미 채점된 문제는 오답으로 처리되며 정답은 비어 있음",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인가되지 않은 요청",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 리소스",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(hidden = true)))
+    })
+    @PostMapping("/quizzes/rate/batch")
+    public ResponseEntity<GeneralResponse<List<QuizResult>>> rateQuizzes(
+            @RequestBody @Valid QuizBatchRateRequest quizBatchRateRequest,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        List<QuizSubmission> submissions = quizBatchRateRequest.getItems().stream()
+                .map(item -> QuizSubmission.of(item.getToken(), item.getAnswer()))
+                .toList();
+
+        return GeneralResponse.toResponseEntity(OK,
+                quizService.rateQuizzes(authUser.getId(), submissions));
+    }
 }
@@ -0,0 +1,19 @@
+package com.kthowns.mobidic.api.quiz.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class QuizBatchRateRequest {
+    @NotEmpty(message = "채점할 문제는 필수 입력값 입니다.")
+    private List<@Valid QuizRateRequest> items;
+}
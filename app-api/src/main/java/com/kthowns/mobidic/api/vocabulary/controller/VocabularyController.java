@@ -3,6 +3,7 @@ package com.kthowns.mobidic.api.vocabulary.controller;
 import com.kthowns.mobidic.api.global.dto.ErrorResponse;
 import com.kthowns.mobidic.api.global.dto.GeneralResponse;
 import com.kthowns.mobidic.api.vocabulary.dto.request.AddVocabularyRequestDto;
+import com.kthowns.mobidic.domain.vocabulary.facade.VocabularyFacade;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
 import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
 import com.kthowns.mobidic.security.model.AuthUser;
@@ -32,6 +33,7 @@ import static com.kthowns.mobidic.common.code.GeneralResponseCode.OK;
 @Tag(name = "단어장 관련 서비스", description = "사용자별 단어장 목록 불러오기, 추가 등")
 public class VocabularyController {
     private final VocabularyService vocabularyService;
+    private final VocabularyFacade vocabularyFacade;
 
     @Operation(
             summary = "단어장 추가",
@@ -167,7 +169,7 @@ public class VocabularyController {
             @PathVariable UUID vocabularyId,
             @AuthenticationPrincipal AuthUser authUser
     ) {
-        vocabularyService.deleteVocab(authUser.getId(), vocabularyId);
+        vocabularyFacade.deleteVocab(authUser.getId(), vocabularyId);
         return GeneralResponse.toResponseEntity(OK, null);
     }
 }
@@ -8,6 +8,7 @@ import com.kthowns.mobidic.api.word.dto.request.UpdateWordAndDefinitionsRequestD
 import com.kthowns.mobidic.api.word.util.WordCommandMapper;
 import com.kthowns.mobidic.domain.word.facade.WordFacade;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordDetailSlice;
 import com.kthowns.mobidic.domain.word.service.WordService;
 import com.kthowns.mobidic.security.model.AuthUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -65,6 +66,33 @@ public class WordController {
                 wordService.getWordDetailsByVocabularyId(authUser.getId(), vocabularyId));
     }
 
+    @Operation(
+            summary = "단어 페이지 조회",
+            description = "생성 순 커서 기반 페이지 조회, 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (nextCursor 가 null 이면 마지막 페이지), size 기본 100 최대 500",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인가되지 않은 요청",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 리소스",
+                    content = @Content(schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(hidden = true)))
+    })
+    @GetMapping("/vocabularies/{vocabularyId}/words/page")
+    public ResponseEntity<GeneralResponse<WordDetailSlice>> getWordSliceByVocabularyId(
+            @PathVariable UUID vocabularyId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return GeneralResponse.toResponseEntity(OK,
+                wordService.getWordDetailSliceByVocabularyId(authUser.getId(), vocabularyId, cursor, size));
+    }
+
     @Operation(
             summary = "단어 추가",
             description = "중복체크 있음, 최대 45자",
@@ -153,7 +181,7 @@ public class WordController {
             @PathVariable UUID wordId,
             @AuthenticationPrincipal AuthUser authUser
     ) {
-        wordService.deleteWord(authUser.getId(), wordId);
+        wordFacade.deleteWord(authUser.getId(), wordId);
         return GeneralResponse.toResponseEntity(OK, null);
     }
 }
@@ -17,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -187,6 +188,32 @@ public class AuthIntegrationTest {
         assertThat(jwtProvider.validateToken(token)).isTrue();
     }
 
+    @Test
+    @DisplayName("로그인 성공 - 저장된 해시의 비용이 설정과 다르면 설정한 비용으로 다시 해시한다.")
+    void loginRehashesPasswordWhenCostChanged() throws Exception {
+        // Given
+        String oldHash = new BCryptPasswordEncoder(4).encode("password123!");
+        userJpaRepository.save(UserJpaEntity.createFromModel(User.create(
+                "test@test.com", "test", oldHash, UserRole.USER)));
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("test@test.com")
+                .password("password123!")
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                // Then
+                .andExpect(status().isOk());
+
+        String newHash = userJpaRepository.findByEmail("test@test.com").orElseThrow().getPassword();
+        assertThat(newHash).isNotEqualTo(oldHash).startsWith("$2a$10$");
+        assertThat(passwordEncoder.upgradeEncoding(newHash)).isFalse();
+        assertThat(passwordEncoder.matches("password123!", newHash)).isTrue();
+    }
+
     @Test
     @DisplayName("로그인 실패 - 틀린 비밀번호로는 로그인할 수 없다.")
     void loginFailWrongPassword() throws Exception {
@@ -30,8 +30,11 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -117,6 +120,69 @@ public class PronunciationIntegrationTest {
                 .andExpect(jsonPath("$.data").value(1.0)); // 정확히 일치하므로 점수 1.0
     }
 
+    @Test
+    @DisplayName("발음 평가 성공 - 발음 유사도 모드는 소리가 같은 전사 결과에 글자 비교보다 높은 점수")
+    void evaluatePronunciationPhoneticMode() throws Exception {
+        // Given
+        given(speechToTextClient.transcribe(any())).willReturn("Aple.");
+
+        // 전사 결과는 음성 내용 해시로 캐시되므로 다른 테스트와 겹치지 않는 내용 사용
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test.m4a", "audio/m4a", UUID.randomUUID().toString().getBytes());
+
+        // When
+        mockMvc.perform(multipart("/api/words/" + testWord.getId() + "/pronunciation")
+                        .file(file)
+                        .param("mode", "LITERAL")
+                        .header("Authorization", "Bearer " + userToken))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(0.8)); // 글자 비교: 거리 1, 최대 길이 5
+
+        mockMvc.perform(multipart("/api/words/" + testWord.getId() + "/pronunciation")
+                        .file(file)
+                        .param("mode", "PHONETIC")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(greaterThan(0.8)));
+    }
+
+    @Test
+    @DisplayName("발음 평가 성공 - 같은 음성을 다시 올리면 STT 서버를 다시 호출하지 않음")
+    void evaluatePronunciationReusesTranscriptionForSameAudio() throws Exception {
+        // Given
+        given(speechToTextClient.transcribe(any())).willReturn("apple");
+        byte[] audio = UUID.randomUUID().toString().getBytes();
+
+        // When
+        for (String fileName : new String[]{"first.m4a", "retry.m4a"}) {
+            mockMvc.perform(multipart("/api/words/" + testWord.getId() + "/pronunciation")
+                            .file(new MockMultipartFile("file", fileName, "audio/m4a", audio))
+                            .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data").value(1.0));
+        }
+
+        // Then
+        verify(speechToTextClient, times(1)).transcribe(any());
+    }
+
+    @Test
+    @DisplayName("발음 평가 실패 - 잘못된 유사도 계산 방식")
+    void evaluatePronunciationFailInvalidMode() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test.m4a", "audio/m4a", "dummy audio content".getBytes());
+
+        // When
+        mockMvc.perform(multipart("/api/words/" + testWord.getId() + "/pronunciation")
+                        .file(file)
+                        .param("mode", "SOUNDEX")
+                        .header("Authorization", "Bearer " + userToken))
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("발음 평가 실패 - 너무 큰 파일")
     void evaluatePronunciationFailFileSizeExceeded() throws Exception {
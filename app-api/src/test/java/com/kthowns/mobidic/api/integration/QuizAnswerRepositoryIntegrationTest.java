@@ -0,0 +1,126 @@
+package com.kthowns.mobidic.api.integration;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.properties.QuizRedisKey;
+import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 퀴즈 정답 세션 해시 저장/소비 테스트
+ * 지연 시간 비교는 src/jmh 의 QuizAnswerAppendBenchmark 에서 측정한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QuizAnswerRepositoryIntegrationTest {
+    private static final long EXP_MILLIS = 60000L;
+
+    @Autowired
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> objectRedisTemplate;
+
+    private final List<String> writtenKeys = new ArrayList<>();
+    private final UUID userId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        objectRedisTemplate.delete(writtenKeys);
+        writtenKeys.clear();
+    }
+
+    @Test
+    @DisplayName("일괄 저장된 퀴즈 정답 조회 및 세션 TTL 설정 확인")
+    void appendAllStoresEveryAnswerWithTtl() {
+        // Given
+        Map<String, QuizAnswer> quizAnswers = createQuizAnswers(50);
+        String sessionKey = createSessionKey();
+
+        // When
+        quizAnswerRepository.appendAll(sessionKey, userId, quizAnswers, EXP_MILLIS);
+
+        // Then
+        assertThat(objectRedisTemplate.getExpire(sessionKey)).isPositive();
+        quizAnswers.forEach((field, quizAnswer) ->
+                assertThat(quizAnswerRepository.consume(sessionKey, field, userId)).contains(quizAnswer));
+    }
+
+    @Test
+    @DisplayName("이미 소비된 퀴즈 정답은 다시 조회되지 않음")
+    void consumeIsExactlyOnce() {
+        // Given
+        Map<String, QuizAnswer> quizAnswers = createQuizAnswers(2);
+        String sessionKey = createSessionKey();
+        quizAnswerRepository.appendAll(sessionKey, userId, quizAnswers, EXP_MILLIS);
+
+        // When
+        quizAnswerRepository.consume(sessionKey, "0", userId);
+
+        // Then
+        assertThat(quizAnswerRepository.consume(sessionKey, "0", userId)).isEmpty();
+        assertThat(quizAnswerRepository.consume(sessionKey, "1", userId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("마지막 문제를 소비하면 소유자 필드만 남은 세션 키도 삭제됨")
+    void sessionKeyDeletedAfterLastConsume() {
+        // Given
+        Map<String, QuizAnswer> quizAnswers = createQuizAnswers(3);
+        String sessionKey = createSessionKey();
+        quizAnswerRepository.appendAll(sessionKey, userId, quizAnswers, EXP_MILLIS);
+
+        // When
+        quizAnswerRepository.consume(sessionKey, "0", userId);
+        boolean existsAfterFirst = Boolean.TRUE.equals(objectRedisTemplate.hasKey(sessionKey));
+        quizAnswerRepository.consumeAll(sessionKey, List.of("1", "2"), userId);
+
+        // Then
+        assertThat(existsAfterFirst).isTrue();
+        assertThat(objectRedisTemplate.hasKey(sessionKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("세션 소유자 확인 - 다른 사용자의 세션이 섞여 있으면 거부, 만료된 세션은 제외")
+    void isOwnedByChecksEverySession() {
+        // Given
+        String ownSessionKey = createSessionKey();
+        String otherSessionKey = createSessionKey();
+        String expiredSessionKey = createSessionKey();
+        quizAnswerRepository.appendAll(ownSessionKey, userId, createQuizAnswers(1), EXP_MILLIS);
+        quizAnswerRepository.appendAll(otherSessionKey, UUID.randomUUID(), createQuizAnswers(1), EXP_MILLIS);
+
+        // When & Then
+        assertThat(quizAnswerRepository.isOwnedBy(List.of(ownSessionKey, expiredSessionKey), userId)).isTrue();
+        assertThat(quizAnswerRepository.isOwnedBy(List.of(ownSessionKey, otherSessionKey), userId)).isFalse();
+    }
+
+    private String createSessionKey() {
+        String sessionKey = QuizRedisKey.QUIZ + ":" + UUID.randomUUID();
+        writtenKeys.add(sessionKey);
+        return sessionKey;
+    }
+
+    private Map<String, QuizAnswer> createQuizAnswers(int size) {
+        Map<String, QuizAnswer> quizAnswers = new LinkedHashMap<>();
+
+        for (int i = 0; i < size; i++) {
+            quizAnswers.put(String.valueOf(i), QuizAnswer.of(userId, UUID.randomUUID(), UUID.randomUUID(), "answer" + i));
+        }
+
+        return quizAnswers;
+    }
+}
@@ -2,11 +2,14 @@ package com.kthowns.mobidic.api.integration;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kthowns.mobidic.api.quiz.dto.request.QuizBatchRateRequest;
 import com.kthowns.mobidic.api.quiz.dto.request.QuizRateRequest;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.domain.definition.model.Definition;
 import com.kthowns.mobidic.domain.definition.model.PartOfSpeech;
 import com.kthowns.mobidic.domain.quiz.model.QuizInfo;
+import com.kthowns.mobidic.domain.quiz.properties.QuizProperties;
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
 import com.kthowns.mobidic.domain.user.model.User;
 import com.kthowns.mobidic.domain.user.model.UserRole;
@@ -15,7 +18,9 @@ import com.kthowns.mobidic.domain.word.model.Word;
 import com.kthowns.mobidic.security.util.JwtProvider;
 import com.kthowns.mobidic.storage.definition.jpaentity.DefinitionJpaEntity;
 import com.kthowns.mobidic.storage.definition.jparepository.DefinitionJpaRepository;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordReviewScheduleJpaEntity;
 import com.kthowns.mobidic.storage.statistic.jpaentity.WordStatisticJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jparepository.WordReviewScheduleJpaRepository;
 import com.kthowns.mobidic.storage.statistic.jparepository.WordStatisticJpaRepository;
 import com.kthowns.mobidic.storage.user.jpaentity.UserJpaEntity;
 import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
@@ -37,12 +42,22 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -80,12 +95,18 @@ public class QuizIntegrationTest {
     @Autowired
     private WordStatisticJpaRepository wordStatisticJpaRepository;
 
+    @Autowired
+    private WordReviewScheduleJpaRepository wordReviewScheduleJpaRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     private TransactionTemplate transactionTemplate;
 
+    @Autowired
+    private QuizProperties quizProperties;
+
     private UserJpaEntity testUser;
     private String userToken;
     private VocabularyJpaEntity testVocab;
@@ -130,6 +151,7 @@ public class QuizIntegrationTest {
     void tearDown() {
         transactionTemplate.execute(status -> {
             definitionJpaRepository.deleteAllInBatch();
+            wordReviewScheduleJpaRepository.deleteAllInBatch();
             wordStatisticJpaRepository.deleteAllInBatch();
             wordJpaRepository.deleteAllInBatch();
             vocabularyJpaRepository.deleteAllInBatch();
@@ -179,6 +201,77 @@ public class QuizIntegrationTest {
                 .filter(w -> w.getExpression().equals(quiz.stem())).findFirst().orElseThrow();
         WordStatisticJpaEntity statistic = wordStatisticJpaRepository.findById(word.getId()).orElseThrow();
         assertThat(statistic.getCorrectCount()).isEqualTo(1L);
+
+        // 처음 맞힌 단어는 하루 뒤 복습 예정
+        WordReviewScheduleJpaEntity schedule = wordReviewScheduleJpaRepository.findById(word.getId()).orElseThrow();
+        assertThat(schedule.getRepetition()).isEqualTo(1);
+        assertThat(schedule.getNextReviewAt()).isAfter(Instant.now().plus(Duration.ofHours(23)));
+    }
+
+    @Test
+    @DisplayName("복습 퀴즈 생성 성공 - 복습 예정 시각이 지난 단어만 출제")
+    void reviewQuizzesOnlyDueWords() throws Exception {
+        // Given
+        List<WordJpaEntity> words = wordJpaRepository.findAll();
+        Instant now = Instant.now();
+        transactionTemplate.execute(status -> {
+            for (int i = 0; i < words.size(); i++) {
+                Instant nextReviewAt = i < 2 ? now.minus(Duration.ofDays(i + 1)) : now.plus(Duration.ofDays(1));
+                wordReviewScheduleJpaRepository.save(WordReviewScheduleJpaEntity.createFromModel(
+                        new ReviewSchedule(words.get(i).getId(), testUser.getId(), 1, 2.5, 1, nextReviewAt)));
+            }
+            return null;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/quizzes/review")
+                        .param("type", "BLANK")
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        List<QuizInfo> quizzes = objectMapper.readValue(
+                objectMapper.readTree(result.getResponse().getContentAsString()).path("data").toString(),
+                new TypeReference<>() {
+                }
+        );
+        assertThat(quizzes).hasSize(2);
+        List<String> dueExpressions = List.of(words.get(0).getExpression(), words.get(1).getExpression());
+        assertThat(quizzes).allSatisfy(quiz -> assertThat(dueExpressions.stream()
+                .anyMatch(expression -> isMatchPattern(expression, quiz.stem()))).isTrue());
+    }
+
+    @Test
+    @DisplayName("학습 완료, 단어 삭제, 단어장 삭제 시 복습 일정도 삭제")
+    void reviewSchedulesRemovedWithLearnedOrDeletedWords() throws Exception {
+        // Given
+        List<WordJpaEntity> words = wordJpaRepository.findAll();
+        Instant past = Instant.now().minus(Duration.ofDays(1));
+        transactionTemplate.execute(status -> {
+            words.forEach(word -> wordReviewScheduleJpaRepository.save(WordReviewScheduleJpaEntity.createFromModel(
+                    new ReviewSchedule(word.getId(), testUser.getId(), 1, 2.5, 1, past))));
+            return null;
+        });
+
+        // When & Then: 학습 완료
+        mockMvc.perform(patch("/api/words/{wordId}/toggle-learned", words.get(0).getId())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+        assertThat(wordReviewScheduleJpaRepository.existsById(words.get(0).getId())).isFalse();
+
+        // When & Then: 단어 삭제
+        mockMvc.perform(delete("/api/words/{wordId}", words.get(1).getId())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+        assertThat(wordReviewScheduleJpaRepository.existsById(words.get(1).getId())).isFalse();
+        assertThat(wordReviewScheduleJpaRepository.count()).isEqualTo(words.size() - 2);
+
+        // When & Then: 단어장 삭제
+        mockMvc.perform(delete("/api/vocabularies/{vocabularyId}", testVocab.getId())
+                        .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isOk());
+        assertThat(wordReviewScheduleJpaRepository.count()).isZero();
     }
 
     @Test
@@ -249,6 +342,161 @@ public class QuizIntegrationTest {
         assertThat(existsDifferentOrder).isTrue();
     }
 
+    @Test
+    @DisplayName("같은 토큰 동시 채점 시 한 번만 채점됨")
+    void concurrentRateSameTokenGradedOnce() throws Exception {
+        // Given
+        QuizInfo quiz = getQuizzes().getFirst();
+        String answer = wordToMeaning.get(quiz.stem()).equals(quiz.options().getFirst()) ? "1" : "0";
+        String content = objectMapper.writeValueAsString(QuizRateRequest.builder()
+                .token(quiz.token())
+                .answer(answer)
+                .build());
+
+        int threadCount = 16;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return mockMvc.perform(post("/api/quizzes/rate")
+                                .header("Authorization", "Bearer " + userToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(content))
+                        .andReturn().getResponse().getStatus();
+            }));
+        }
+        startLatch.countDown();
+
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> future : futures) {
+            statuses.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 408).hasSize(threadCount - 1);
+
+        WordJpaEntity word = wordJpaRepository.findAll().stream()
+                .filter(w -> w.getExpression().equals(quiz.stem())).findFirst().orElseThrow();
+        WordStatisticJpaEntity statistic = wordStatisticJpaRepository.findById(word.getId()).orElseThrow();
+        assertThat(statistic.getCorrectCount() + statistic.getIncorrectCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 토큰 채점 실패 - 소유자의 문제는 유지됨")
+    void rateOtherUsersQuizFail() throws Exception {
+        // Given
+        QuizInfo quiz = getQuizzes().getFirst();
+        UserJpaEntity otherUser = transactionTemplate.execute(status -> userJpaRepository.save(
+                UserJpaEntity.createFromModel(User.create("other@test.com", "other", "pass", UserRole.USER))));
+        String otherUserToken = jwtProvider.generateToken(otherUser.getId(), otherUser.getRole().name());
+        String content = objectMapper.writeValueAsString(QuizRateRequest.builder()
+                .token(quiz.token())
+                .answer("1")
+                .build());
+
+        // When
+        mockMvc.perform(post("/api/quizzes/rate")
+                        .header("Authorization", "Bearer " + otherUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                // Then
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(GeneralResponseCode.NO_QUIZ.getMessage()));
+
+        mockMvc.perform(post("/api/quizzes/rate")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("퀴즈 세트 일괄 채점 성공 - 중복 제출은 한 번만 채점됨")
+    void rateQuizzesBatchSuccess() throws Exception {
+        // Given
+        List<QuizInfo> quizzes = getQuizzes();
+        List<QuizRateRequest> items = new ArrayList<>();
+        for (QuizInfo quiz : quizzes) {
+            String answer = wordToMeaning.get(quiz.stem()).equals(quiz.options().getFirst()) ? "1" : "0";
+            items.add(QuizRateRequest.builder()
+                    .token(quiz.token())
+                    .answer(answer)
+                    .build());
+        }
+        items.add(items.getFirst());
+
+        QuizBatchRateRequest batchRequest = QuizBatchRateRequest.builder()
+                .items(items)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/quizzes/rate/batch")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(quizzes.size() + 1))
+                .andExpect(jsonPath("$.data[0].isCorrect").value(true))
+                .andExpect(jsonPath("$.data[" + (quizzes.size() - 1) + "].isCorrect").value(true))
+                .andExpect(jsonPath("$.data[" + quizzes.size() + "].isCorrect").value(false));
+
+        // Then
+        assertThat(wordStatisticJpaRepository.findAll())
+                .allSatisfy(statistic -> {
+                    assertThat(statistic.getCorrectCount()).isEqualTo(1L);
+                    assertThat(statistic.getIncorrectCount()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("퀴즈 일괄 채점 실패 - 빈 요청")
+    void rateQuizzesBatchFailEmpty() throws Exception {
+        // Given
+        QuizBatchRateRequest batchRequest = QuizBatchRateRequest.builder()
+                .items(List.of())
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/quizzes/rate/batch")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("퀴즈 일괄 채점 실패 - 최대 출제 개수 초과")
+    void rateQuizzesBatchFailTooMany() throws Exception {
+        // Given
+        List<QuizRateRequest> items = new ArrayList<>();
+        for (int i = 0; i <= quizProperties.getMaxQuizSize(); i++) {
+            items.add(QuizRateRequest.builder()
+                    .token("token-" + i)
+                    .answer("1")
+                    .build());
+        }
+        QuizBatchRateRequest batchRequest = QuizBatchRateRequest.builder()
+                .items(items)
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/quizzes/rate/batch")
+                        .header("Authorization", "Bearer " + userToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                // Then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(GeneralResponseCode.TOO_MANY_QUIZ_SUBMISSIONS.getMessage()));
+    }
+
     // 헬퍼 메서드: 두 리스트의 순서와 내용이 완벽히 일치하는지 확인
     private boolean isExactlySameList(List<QuizInfo> list1, List<QuizInfo> list2) {
         if (list1.size() != list2.size()) return false;
@@ -273,6 +521,32 @@ public class QuizIntegrationTest {
         );
     }
 
+    @Test
+    @DisplayName("퀴즈 생성 성공 - 요청한 문제 수만큼 추출")
+    void quizCreateWithSizeSuccess() throws Exception {
+        for (String sampling : List.of("RANDOM", "DIFFICULTY", "ADAPTIVE")) {
+            // When
+            mockMvc.perform(get("/api/vocabularies/" + testVocab.getId() + "/quizzes/blank")
+                            .param("size", "2")
+                            .param("sampling", sampling)
+                            .header("Authorization", "Bearer " + userToken))
+                    // Then
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2));
+        }
+    }
+
+    @Test
+    @DisplayName("퀴즈 생성 실패 - 지원하지 않는 추출 방식")
+    void quizCreateFailInvalidSampling() throws Exception {
+        // When
+        mockMvc.perform(get("/api/vocabularies/" + testVocab.getId() + "/quizzes/ox")
+                        .param("sampling", "UNKNOWN")
+                        .header("Authorization", "Bearer " + userToken))
+                // Then
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("퀴즈 생성 실패 - 존재하지 않는 단어장")
     void quizCreateFailNoVocab() throws Exception {
@@ -0,0 +1,77 @@
+package com.kthowns.mobidic.api.integration;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.properties.QuizRedisKey;
+import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 퀴즈 세션 저장 구조 테스트
+ * 세션마다 해시 키 하나(문제 필드 + 소유자 필드)와 TTL 하나만 생기는지 확인한다.
+ * 문제당 키 방식과의 메모리 비교는 src/jmh 의 QuizSessionFootprintBenchmark 에서 측정한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QuizSessionStructureIntegrationTest {
+    private static final int SESSION_COUNT = 100;
+    private static final int QUIZZES_PER_SESSION = 10;
+    private static final long EXP_MILLIS = 600_000L;
+
+    @Autowired
+    private QuizAnswerRepository quizAnswerRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> objectRedisTemplate;
+
+    private final List<String> writtenKeys = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        objectRedisTemplate.delete(writtenKeys);
+        writtenKeys.clear();
+    }
+
+    @Test
+    @DisplayName("세션마다 키 하나(해시)만 생성되고 문제 필드와 소유자 필드, TTL 을 가짐")
+    void oneHashKeyPerSession() {
+        // When
+        for (int s = 0; s < SESSION_COUNT; s++) {
+            UUID userId = UUID.randomUUID();
+            String sessionKey = QuizRedisKey.QUIZ + ":" + UUID.randomUUID();
+            quizAnswerRepository.appendAll(sessionKey, userId, createQuizAnswers(userId), EXP_MILLIS);
+            writtenKeys.add(sessionKey);
+        }
+
+        // Then
+        assertThat(objectRedisTemplate.countExistingKeys(writtenKeys)).isEqualTo(SESSION_COUNT);
+        for (String sessionKey : writtenKeys) {
+            assertThat(objectRedisTemplate.type(sessionKey)).isEqualTo(DataType.HASH);
+            assertThat(objectRedisTemplate.opsForHash().size(sessionKey)).isEqualTo(QUIZZES_PER_SESSION + 1L);
+            assertThat(objectRedisTemplate.getExpire(sessionKey)).isPositive();
+            assertThat(objectRedisTemplate.hasKey(sessionKey + ":0")).isFalse();
+        }
+    }
+
+    private Map<String, QuizAnswer> createQuizAnswers(UUID userId) {
+        Map<String, QuizAnswer> quizAnswers = new LinkedHashMap<>();
+        for (int i = 0; i < QUIZZES_PER_SESSION; i++) {
+            quizAnswers.put(String.valueOf(i), QuizAnswer.of(userId, UUID.randomUUID(), UUID.randomUUID(), "answer"));
+        }
+        return quizAnswers;
+    }
+}
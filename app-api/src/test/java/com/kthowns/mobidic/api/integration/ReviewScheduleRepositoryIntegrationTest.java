@@ -0,0 +1,129 @@
+package com.kthowns.mobidic.api.integration;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+import com.kthowns.mobidic.domain.statistic.repository.ReviewScheduleRepository;
+import com.kthowns.mobidic.domain.user.model.User;
+import com.kthowns.mobidic.domain.user.model.UserRole;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordReviewScheduleJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jparepository.WordReviewScheduleJpaRepository;
+import com.kthowns.mobidic.storage.user.jpaentity.UserJpaEntity;
+import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
+import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
+import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
+import com.kthowns.mobidic.storage.word.jpaentity.WordJpaEntity;
+import com.kthowns.mobidic.storage.word.jparepository.WordJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복습 일정 동시 갱신 테스트
+ * 같은 단어를 동시에 처음 채점해도 중복 키 오류 없이 한 행만 생기고 모든 복습 결과가 순서대로 반영되는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReviewScheduleRepositoryIntegrationTest {
+    private static final int REVIEWER_COUNT = 16;
+
+    @Autowired
+    private ReviewScheduleRepository reviewScheduleRepository;
+
+    @Autowired
+    private WordReviewScheduleJpaRepository wordReviewScheduleJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private VocabularyJpaRepository vocabularyJpaRepository;
+
+    @Autowired
+    private WordJpaRepository wordJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserJpaEntity testUser;
+    private WordJpaEntity testWord;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.execute(status -> {
+            testUser = userJpaRepository.save(UserJpaEntity.createFromModel(
+                    User.create("test@test.com", "test", "password", UserRole.USER)));
+
+            VocabularyJpaEntity testVocab = vocabularyJpaRepository.save(VocabularyJpaEntity.createFromModel(
+                    Vocabulary.create(testUser.getId(), "복습 단어장", null, 0L)));
+
+            testWord = wordJpaRepository.save(WordJpaEntity.createFromModel(
+                    Word.create(testVocab.getId(), "apple"), testVocab));
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.execute(status -> {
+            wordReviewScheduleJpaRepository.deleteAllInBatch();
+            wordJpaRepository.deleteAllInBatch();
+            vocabularyJpaRepository.deleteAllInBatch();
+            userJpaRepository.deleteAllInBatch();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 같은 단어를 동시에 처음 복습해도 한 행에 모든 복습이 반영")
+    void concurrentFirstReviews() throws Exception {
+        // Given
+        ExecutorService executorService = Executors.newFixedThreadPool(REVIEWER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REVIEWER_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<ReviewSchedule> reviewed = reviewScheduleRepository
+                            .readOrCreateAllForUpdate(testUser.getId(), List.of(testWord.getId())).stream()
+                            .map(schedule -> schedule.review(true, Instant.now()))
+                            .toList();
+                    reviewScheduleRepository.updateAll(reviewed);
+                });
+                return null;
+            }));
+        }
+
+        // When
+        startLatch.countDown();
+        // 중복 키 오류나 교착 상태로 롤백된 트랜잭션이 있으면 해당 작업의 예외로 실패
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(wordReviewScheduleJpaRepository.findAll()).singleElement()
+                .extracting(WordReviewScheduleJpaEntity::getRepetition)
+                .isEqualTo(REVIEWER_COUNT);
+    }
+}
@@ -6,6 +6,7 @@ import com.kthowns.mobidic.api.vocabulary.dto.request.AddVocabularyRequestDto;
 import com.kthowns.mobidic.common.code.AuthResponseCode;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
 import com.kthowns.mobidic.domain.user.model.User;
 import com.kthowns.mobidic.domain.user.model.UserRole;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
@@ -31,7 +32,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -73,6 +76,9 @@ public class VocabularyIntegrationTest {
     @Autowired
     private TransactionTemplate transactionTemplate;
 
+    @Autowired
+    private StatisticService statisticService;
+
     private UserJpaEntity testUser;
     private String userToken;
 
@@ -146,40 +152,31 @@ public class VocabularyIntegrationTest {
     @DisplayName("사용자별 단어장 목록 조회 성공")
     void getVocabulariesSuccess() throws Exception {
         // Given
-        transactionTemplate.execute(status -> {
+        List<WordJpaEntity> words = transactionTemplate.execute(status -> {
             VocabularyJpaEntity vocab = vocabularyJpaRepository.save(VocabularyJpaEntity.createFromModel(
                     Vocabulary.create(testUser.getId(), "단어장1", null, 3L)));
 
-            WordJpaEntity w1 = wordJpaRepository.save(WordJpaEntity.createFromModel(
-                    Word.create(vocab.getId(), "w1"), vocab));
-            WordJpaEntity w2 = wordJpaRepository.save(WordJpaEntity.createFromModel(
-                    Word.create(vocab.getId(), "w2"), vocab));
-            WordJpaEntity w3 = wordJpaRepository.save(WordJpaEntity.createFromModel(
-                    Word.create(vocab.getId(), "w3"), vocab));
-
-            WordStatistic stat1Model = WordStatistic.create(w1.getId()).toggleLearned();
-            WordStatisticJpaEntity stat1 = WordStatisticJpaEntity.createFromModel(stat1Model);
-            stat1.updateFromModel(stat1Model);
-            wordStatisticJpaRepository.save(stat1);
-
-            WordStatistic stat2Model = WordStatistic.create(w2.getId()).increaseCorrectCount().increaseIncorrectCount();
-            WordStatisticJpaEntity stat2 = WordStatisticJpaEntity.createFromModel(stat2Model);
-            stat2.updateFromModel(stat2Model);
-            wordStatisticJpaRepository.save(stat2);
-
-            WordStatistic stat3Model = WordStatistic.create(w3.getId());
-            WordStatisticJpaEntity stat3 = WordStatisticJpaEntity.createFromModel(stat3Model);
-            wordStatisticJpaRepository.save(stat3);
-            return null;
+            List<WordJpaEntity> saved = Stream.of("w1", "w2", "w3")
+                    .map(expression -> wordJpaRepository.save(WordJpaEntity.createFromModel(
+                            Word.create(vocab.getId(), expression), vocab)))
+                    .toList();
+            saved.forEach(word -> wordStatisticJpaRepository.save(
+                    WordStatisticJpaEntity.createFromModel(WordStatistic.create(word.getId()))));
+            return saved;
         });
 
+        // 통계 변경은 서비스를 거쳐 단어장 집계값에 반영
+        statisticService.toggleLearnedByWordId(testUser.getId(), words.get(0).getId());
+        statisticService.increaseCorrectCount(testUser.getId(), words.get(1).getId());
+        statisticService.increaseIncorrectCount(testUser.getId(), words.get(1).getId());
+
         // When
         mockMvc.perform(get("/api/vocabularies")
                         .header("Authorization", "Bearer " + userToken))
                 // Then
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data[0].vocabulary.title").value("단어장1"))
-                .andExpect(jsonPath("$.data[0].learningRate").value(0.33333))
+                .andExpect(jsonPath("$.data[0].learningRate").value(1.0 / 3))
                 .andExpect(jsonPath("$.data[0].accuracy").value(0.16666666666666666));
     }
 
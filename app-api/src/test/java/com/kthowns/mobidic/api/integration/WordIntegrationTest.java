@@ -1,5 +1,6 @@
 package com.kthowns.mobidic.api.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kthowns.mobidic.api.definition.dto.request.AddDefinitionRequestDto;
 import com.kthowns.mobidic.api.definition.dto.request.UpdateDefinitionRequestDto;
@@ -36,6 +37,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -256,6 +258,52 @@ public class WordIntegrationTest {
         assertThat(wordJpaRepository.findById(word.getId())).isEmpty();
     }
 
+    @Test
+    @DisplayName("단어 페이지 조회 - 커서를 따라가면 모든 단어를 중복 없이 생성 순으로 조회")
+    void getWordSliceFollowsCursorSuccess() throws Exception {
+        // Given
+        List<String> expressions = List.of("one", "two", "three", "four", "five");
+        for (String expression : expressions) {
+            wordJpaRepository.saveAndFlush(WordJpaEntity.createFromModel(
+                    Word.create(testVocab.getId(), expression), testVocab));
+        }
+
+        // When
+        List<String> fetched = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/vocabularies/" + testVocab.getId() + "/words/page")
+                    .header("Authorization", "Bearer " + userToken)
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode data = objectMapper.readTree(body).get("data");
+            data.get("words").forEach(word -> fetched.add(word.get("expression").asText()));
+            cursor = data.get("nextCursor").isNull() ? null : data.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(fetched).containsExactlyElementsOf(expressions);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("단어 페이지 조회 - 잘못된 커서는 400")
+    void getWordSliceInvalidCursorFail() throws Exception {
+        mockMvc.perform(get("/api/vocabularies/" + testVocab.getId() + "/words/page")
+                        .header("Authorization", "Bearer " + userToken)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(GeneralResponseCode.INVALID_REQUEST.getMessage()));
+    }
+
     @Test
     @DisplayName("보안 테스트 - 인증 토큰 없이 요청 시 실패")
     void securityFailNoToken() throws Exception {
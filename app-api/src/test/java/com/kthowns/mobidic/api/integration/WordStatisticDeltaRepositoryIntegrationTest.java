@@ -0,0 +1,101 @@
+package com.kthowns.mobidic.api.integration;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDeltaBatch;
+import com.kthowns.mobidic.domain.statistic.repository.StatisticRedisKey;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * write-behind 증가분 꺼내기/확인/복구 테스트
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class WordStatisticDeltaRepositoryIntegrationTest {
+
+    @Autowired
+    private WordStatisticDeltaRepository wordStatisticDeltaRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("꺼낸 증가분은 확인 전까지 처리 중 배치에 남고 조회에도 합산됨")
+    void claimKeepsDeltasUntilAcknowledged() {
+        // Given
+        UUID wordId = UUID.randomUUID();
+        wordStatisticDeltaRepository.increaseAll(List.of(
+                WordStatisticDelta.of(wordId, 2L, 1L),
+                WordStatisticDelta.of(wordId, 1L, 0L)
+        ));
+
+        // When
+        Optional<WordStatisticDeltaBatch> batch = wordStatisticDeltaRepository.claim();
+        wordStatisticDeltaRepository.increase(WordStatisticDelta.of(wordId, 0L, 1L));
+
+        // Then
+        assertThat(batch).isPresent();
+        assertThat(batch.get().deltas()).containsExactly(WordStatisticDelta.of(wordId, 3L, 1L));
+        assertThat(wordStatisticDeltaRepository.readByWordIds(List.of(wordId)))
+                .containsEntry(wordId, WordStatisticDelta.of(wordId, 3L, 2L));
+
+        // When
+        wordStatisticDeltaRepository.acknowledge(batch.get().id(), List.of(wordId));
+
+        // Then
+        assertThat(stringRedisTemplate.opsForZSet().size(StatisticRedisKey.BATCHES.toString())).isZero();
+        assertThat(wordStatisticDeltaRepository.readByWordIds(List.of(wordId)))
+                .containsEntry(wordId, WordStatisticDelta.of(wordId, 0L, 1L));
+    }
+
+    @Test
+    @DisplayName("확인되지 않은 배치는 복구 기준 시각이 지나면 다시 꺼낼 수 있음")
+    void unacknowledgedBatchIsReclaimed() {
+        // Given
+        UUID wordId = UUID.randomUUID();
+        wordStatisticDeltaRepository.increase(WordStatisticDelta.of(wordId, 1L, 0L));
+        WordStatisticDeltaBatch claimed = wordStatisticDeltaRepository.claim().orElseThrow();
+
+        // When
+        Optional<WordStatisticDeltaBatch> notYet = wordStatisticDeltaRepository.reclaim(Instant.now().minusSeconds(60));
+        Optional<WordStatisticDeltaBatch> reclaimed = wordStatisticDeltaRepository.reclaim(Instant.now().plusSeconds(1));
+
+        // Then
+        assertThat(notYet).isEmpty();
+        assertThat(reclaimed).contains(claimed);
+        assertThat(wordStatisticDeltaRepository.claim()).isEmpty();
+    }
+
+    private void clear() {
+        Set<String> batchIds = stringRedisTemplate.opsForZSet().range(StatisticRedisKey.BATCHES.toString(), 0, -1);
+        if (batchIds != null) {
+            batchIds.forEach(batchId -> stringRedisTemplate.delete(StatisticRedisKey.PROCESSING + ":" + batchId));
+        }
+        stringRedisTemplate.delete(List.of(StatisticRedisKey.PENDING.toString(), StatisticRedisKey.BATCHES.toString()));
+    }
+}
@@ -0,0 +1,272 @@
+package com.kthowns.mobidic.api.integration;
+
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticRepository;
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.user.model.User;
+import com.kthowns.mobidic.domain.user.model.UserRole;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordStatisticJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jparepository.AppliedWordStatisticDeltaJpaRepository;
+import com.kthowns.mobidic.storage.statistic.jparepository.WordStatisticJpaRepository;
+import com.kthowns.mobidic.storage.user.jpaentity.UserJpaEntity;
+import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
+import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
+import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
+import com.kthowns.mobidic.storage.word.jpaentity.WordJpaEntity;
+import com.kthowns.mobidic.storage.word.jparepository.WordJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 단어 통계 단일 UPDATE 증가 통합 테스트
+ * SQL 로 계산한 정확도/난이도가 WordStatistic 의 계산식과 일치하는지, 한 단어에 채점이 몰려도 카운터와 단어장 집계값이 맞는지,
+ * 채점과 학습 완료 토글이 같은 순서(통계 행, 단어장 행)로 잠가 교착 없이 함께 반영되는지,
+ * write-behind 배치를 다시 반영해도 한 번만 더해지는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class WordStatisticIncrementIntegrationTest {
+    private static final long[] CORRECT_COUNTS = {0, 1, 5, 11, 12, 30};
+    private static final long[] INCORRECT_COUNTS = {0, 1, 4, 9, 10, 25};
+    private static final int GRADER_COUNT = 64;
+    private static final int GRADES_PER_GRADER = 50;
+    private static final int TOGGLER_COUNT = 8;
+    // 짝수 번 토글하므로 끝나면 학습 완료가 아닌 상태로 돌아옴
+    private static final int TOGGLES_PER_TOGGLER = 50;
+
+    @Autowired
+    private StatisticService statisticService;
+
+    @Autowired
+    private WordStatisticRepository wordStatisticRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private VocabularyJpaRepository vocabularyJpaRepository;
+
+    @Autowired
+    private WordJpaRepository wordJpaRepository;
+
+    @Autowired
+    private WordStatisticJpaRepository wordStatisticJpaRepository;
+
+    @Autowired
+    private AppliedWordStatisticDeltaJpaRepository appliedWordStatisticDeltaJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserJpaEntity testUser;
+    private WordJpaEntity testWord;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.execute(status -> {
+            testUser = userJpaRepository.save(UserJpaEntity.createFromModel(
+                    User.create("test@test.com", "test", "password", UserRole.USER)));
+
+            VocabularyJpaEntity testVocab = vocabularyJpaRepository.save(VocabularyJpaEntity.createFromModel(
+                    Vocabulary.create(testUser.getId(), "통계 단어장", null, 0L)));
+
+            testWord = wordJpaRepository.save(WordJpaEntity.createFromModel(
+                    Word.create(testVocab.getId(), "apple"), testVocab));
+
+            wordStatisticJpaRepository.save(WordStatisticJpaEntity.createFromModel(
+                    WordStatistic.create(testWord.getId())));
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.execute(status -> {
+            appliedWordStatisticDeltaJpaRepository.deleteAllInBatch();
+            wordStatisticJpaRepository.deleteAllInBatch();
+            wordJpaRepository.deleteAllInBatch();
+            vocabularyJpaRepository.deleteAllInBatch();
+            userJpaRepository.deleteAllInBatch();
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("SQL 증가 결과가 WordStatistic 계산식과 일치")
+    void sqlFormulaMatchesModel() {
+        for (long correct : CORRECT_COUNTS) {
+            for (long incorrect : INCORRECT_COUNTS) {
+                WordStatistic stored = new WordStatistic(testWord.getId(), correct, incorrect, false, 0.5, 0.0, AuditTime.create());
+
+                assertParity(stored, stored.increaseCorrectCount(), 1, 0);
+                assertParity(stored, stored.increaseIncorrectCount(), 0, 1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 단어 통계는 증가시키지 않음")
+    void increaseCountsOtherUserFail() {
+        // When
+        Optional<WordStatistic> increased = transactionTemplate.execute(status ->
+                wordStatisticRepository.increaseCounts(testWord.getId(), UUID.randomUUID(), 1, 0));
+
+        // Then
+        assertThat(increased).isEmpty();
+        assertThat(wordStatisticJpaRepository.findById(testWord.getId()).orElseThrow().getCorrectCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 후 확인 전에 실패해 다시 꺼낸 배치는 한 번만 반영")
+    void reclaimedBatchAppliedOnce() {
+        // Given
+        List<WordStatisticDelta> deltas = List.of(WordStatisticDelta.of(testWord.getId(), 3L, 1L));
+        statisticService.applyDeltas("batch", deltas);
+
+        // When
+        statisticService.applyDeltas("batch", deltas);
+
+        // Then
+        WordStatisticJpaEntity stat = wordStatisticJpaRepository.findById(testWord.getId()).orElseThrow();
+        assertThat(stat.getCorrectCount()).isEqualTo(3L);
+        assertThat(stat.getIncorrectCount()).isEqualTo(1L);
+        assertThat(vocabularyJpaRepository.findAll()).singleElement()
+                .satisfies(vocab -> assertThat(vocab.getAccuracySum()).isCloseTo(0.75, within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 한 단어에 64명이 동시에 채점")
+    void hotWordConcurrentGrading() throws Exception {
+        // Given
+        ExecutorService executorService = Executors.newFixedThreadPool(GRADER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < GRADER_COUNT; i++) {
+            boolean correct = i % 2 == 0;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < GRADES_PER_GRADER; j++) {
+                    if (correct) {
+                        statisticService.increaseCorrectCount(testUser.getId(), testWord.getId());
+                    } else {
+                        statisticService.increaseIncorrectCount(testUser.getId(), testWord.getId());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // When
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        int total = GRADER_COUNT * GRADES_PER_GRADER;
+
+        // Then
+        WordStatisticJpaEntity stat = wordStatisticJpaRepository.findById(testWord.getId()).orElseThrow();
+        assertThat(stat.getCorrectCount()).isEqualTo(total / 2);
+        assertThat(stat.getIncorrectCount()).isEqualTo(total / 2);
+        assertThat(stat.getAccuracy()).isCloseTo(0.5, within(1e-9));
+        // 단어장 정확도 합도 같은 트랜잭션에서 증가 전후 차이만큼 갱신됨
+        assertThat(vocabularyJpaRepository.findAll()).singleElement()
+                .satisfies(vocab -> assertThat(vocab.getAccuracySum()).isCloseTo(0.5, within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("동시성 테스트 - 같은 단어의 채점과 학습 완료 토글이 교착 없이 모두 반영")
+    void gradeAndToggleConcurrently() throws Exception {
+        // Given
+        ExecutorService executorService = Executors.newFixedThreadPool(GRADER_COUNT + TOGGLER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < GRADER_COUNT; i++) {
+            boolean correct = i % 2 == 0;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < GRADES_PER_GRADER; j++) {
+                    if (correct) {
+                        statisticService.increaseCorrectCount(testUser.getId(), testWord.getId());
+                    } else {
+                        statisticService.increaseIncorrectCount(testUser.getId(), testWord.getId());
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int i = 0; i < TOGGLER_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < TOGGLES_PER_TOGGLER; j++) {
+                    statisticService.toggleLearnedByWordId(testUser.getId(), testWord.getId());
+                }
+                return null;
+            }));
+        }
+
+        // When
+        startLatch.countDown();
+        // 교착 상태로 롤백된 트랜잭션이 있으면 해당 작업의 예외로 실패
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        int total = GRADER_COUNT * GRADES_PER_GRADER;
+
+        // Then
+        WordStatisticJpaEntity stat = wordStatisticJpaRepository.findById(testWord.getId()).orElseThrow();
+        assertThat(stat.getCorrectCount()).isEqualTo(total / 2);
+        assertThat(stat.getIncorrectCount()).isEqualTo(total / 2);
+        assertThat(stat.isLearned()).isFalse();
+        assertThat(vocabularyJpaRepository.findAll()).singleElement()
+                .satisfies(vocab -> {
+                    assertThat(vocab.getAccuracySum()).isCloseTo(stat.getAccuracy(), within(1e-9));
+                    assertThat(vocab.getLearnedCount()).isZero();
+                });
+    }
+
+    private void assertParity(WordStatistic stored, WordStatistic expected, long correctDelta, long incorrectDelta) {
+        transactionTemplate.execute(status -> {
+            WordStatisticJpaEntity entity = wordStatisticJpaRepository.findById(stored.wordId()).orElseThrow();
+            entity.updateFromModel(stored);
+            return null;
+        });
+
+        transactionTemplate.execute(status ->
+                wordStatisticRepository.increaseCounts(stored.wordId(), testUser.getId(), correctDelta, incorrectDelta));
+
+        WordStatisticJpaEntity actual = wordStatisticJpaRepository.findById(stored.wordId()).orElseThrow();
+        assertThat(actual.getCorrectCount()).isEqualTo(expected.correctCount());
+        assertThat(actual.getIncorrectCount()).isEqualTo(expected.incorrectCount());
+        assertThat(actual.getAccuracy()).isCloseTo(expected.accuracy(), within(1e-9));
+        assertThat(actual.getDifficulty()).isCloseTo(expected.difficulty(), within(1e-9));
+    }
+}
@@ -30,6 +30,9 @@ public enum GeneralResponseCode implements ApiResponseCode {
     INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, "유효하지 않은 요청입니다."),
     REQUEST_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "요청 시간이 초과 되었습니다."),
     TOO_BIG_FILE_SIZE(HttpStatus.BAD_REQUEST, "파일 크기가 너무 큽니다."),
+    TOO_MANY_QUIZ_SUBMISSIONS(HttpStatus.BAD_REQUEST, "한 번에 채점할 수 있는 문제 수를 초과했습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    REDIS_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류가 발생했습니다."),
     EXTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "알 수 없는 오류가 발생했습니다.");
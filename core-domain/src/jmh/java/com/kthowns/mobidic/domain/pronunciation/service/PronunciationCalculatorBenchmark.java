@@ -0,0 +1,103 @@
+package com.kthowns.mobidic.domain.pronunciation.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발음 유사도 계산 벤치마크
+ * 단어 길이별로 전체 행렬을 만드는 기존 방식과 비트 병렬(64자 이하) / 행 3개 밴드(64자 초과) 방식,
+ * 최소 유사도를 준 조기 중단 방식의 처리 시간과 할당량(-prof gc)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PronunciationCalculatorBenchmark {
+    private static final int PAIR_COUNT = 1024;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz ";
+
+    @Param({"8", "16", "64", "200"})
+    private int length;
+
+    private final PronunciationCalculator pronunciationCalculator = new PronunciationCalculator();
+    private final String[] expressions = new String[PAIR_COUNT];
+    private final String[] transcriptions = new String[PAIR_COUNT];
+    private int cursor;
+
+    // 전사 결과는 원문에서 10% 정도의 글자를 바꾼 문자열
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int p = 0; p < PAIR_COUNT; p++) {
+            char[] expression = new char[length];
+            for (int i = 0; i < length; i++) {
+                expression[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length() - 1));
+            }
+
+            char[] transcription = expression.clone();
+            for (int i = 0; i < Math.max(1, length / 10); i++) {
+                transcription[random.nextInt(length)] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+
+            expressions[p] = new String(expression);
+            transcriptions[p] = new String(transcription);
+        }
+    }
+
+    @Benchmark
+    public double similarity() {
+        int p = next();
+        return pronunciationCalculator.calculateSimilarity(expressions[p], transcriptions[p]);
+    }
+
+    @Benchmark
+    public double similarityWithThreshold() {
+        int p = next();
+        return pronunciationCalculator.calculateSimilarity(expressions[p], transcriptions[p], 0.95);
+    }
+
+    @Benchmark
+    public double legacySimilarity() {
+        int p = next();
+        String processed = transcriptions[p].toLowerCase().trim();
+        double maxLength = Double.max(expressions[p].length(), processed.length());
+        return (maxLength - legacyDistance(expressions[p], processed)) / maxLength;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (PAIR_COUNT - 1);
+        return cursor;
+    }
+
+    // 비교 기준: 호출마다 (n+1) x (m+1) 행렬을 할당하던 기존 구현
+    private int legacyDistance(CharSequence source, CharSequence target) {
+        int sourceLength = source.length();
+        int targetLength = target.length();
+        if (sourceLength == 0) return targetLength;
+        if (targetLength == 0) return sourceLength;
+
+        int[][] dist = new int[sourceLength + 1][targetLength + 1];
+        for (int i = 0; i < sourceLength + 1; i++) dist[i][0] = i;
+        for (int j = 0; j < targetLength + 1; j++) dist[0][j] = j;
+
+        for (int i = 1; i < sourceLength + 1; i++) {
+            for (int j = 1; j < targetLength + 1; j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                dist[i][j] = Math.min(Math.min(dist[i - 1][j] + 1, dist[i][j - 1] + 1), dist[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2) && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    dist[i][j] = Math.min(dist[i][j], dist[i - 2][j - 2] + cost);
+                }
+            }
+        }
+        return dist[sourceLength][targetLength];
+    }
+}
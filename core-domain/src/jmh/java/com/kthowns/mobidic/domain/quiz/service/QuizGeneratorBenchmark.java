@@ -0,0 +1,127 @@
+package com.kthowns.mobidic.domain.quiz.service;
+
+import com.kthowns.mobidic.domain.definition.model.Definition;
+import com.kthowns.mobidic.domain.quiz.model.Quiz;
+import com.kthowns.mobidic.domain.word.model.WordDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 생성기 벤치마크
+ * 단어 수별로 박싱된 인덱스 목록을 정렬하던 기존 방식과 int[] 버퍼를 재사용하는 현재 방식의
+ * 처리 시간과 할당량(-prof gc 의 gc.alloc.rate.norm)을 비교하고, 순차 생성과 병렬 생성의 교차 지점을 측정한다.
+ * 코어 수별 교차 지점은 공용 풀 크기를 바꿔 실행하여 비교한다.
+ * (예: -Djava.util.concurrent.ForkJoinPool.common.parallelism=4 / 8 / 16 을 jmh.jvmArgsAppend 에 지정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizGeneratorBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int wordCount;
+
+    private final UUID userId = UUID.randomUUID();
+    private final BlankQuizGenerator blankQuizGenerator = new BlankQuizGenerator();
+    private final OXQuizGenerator oxQuizGenerator = new OXQuizGenerator();
+    private final LegacyBlankQuizGenerator legacyBlankQuizGenerator = new LegacyBlankQuizGenerator();
+    private List<WordDetail> wordDetails;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        wordDetails = new ArrayList<>(wordCount);
+
+        for (int i = 0; i < wordCount; i++) {
+            StringBuilder expression = new StringBuilder();
+            int length = rnd.nextInt(3, 16);
+            for (int c = 0; c < length; c++) {
+                expression.append((char) ('a' + rnd.nextInt(26)));
+            }
+
+            UUID wordId = UUID.randomUUID();
+            wordDetails.add(new WordDetail(wordId, expression.toString(), 0.5, 0.0, false,
+                    List.of(Definition.create(wordId, "meaning" + i, null)), null, null));
+        }
+    }
+
+    @Benchmark
+    public List<Quiz> blankQuiz() {
+        return blankQuizGenerator.generate(userId, wordDetails);
+    }
+
+    // 임계값 1: 단어 수가 최소 구간 크기의 두 배 이상이면 항상 병렬로 생성
+    @Benchmark
+    public List<Quiz> blankQuizParallel() {
+        return blankQuizGenerator.generate(userId, wordDetails, 1);
+    }
+
+    @Benchmark
+    public List<Quiz> oxQuiz() {
+        return oxQuizGenerator.generate(userId, wordDetails);
+    }
+
+    @Benchmark
+    public List<Quiz> oxQuizParallel() {
+        return oxQuizGenerator.generate(userId, wordDetails, 1);
+    }
+
+    @Benchmark
+    public List<Quiz> legacyBlankQuiz() {
+        return legacyBlankQuizGenerator.generate(userId, wordDetails);
+    }
+
+    // 비교 기준: 단어마다 List<Integer> 를 만들고 derange 후 앞 k 개를 골라 정렬하던 방식
+    private static class LegacyBlankQuizGenerator extends QuizGenerator {
+        @Override
+        public List<Quiz> generate(UUID memberId, List<WordDetail> orgWordDetails, int parallelThreshold) {
+            List<WordDetail> wordDetails = new ArrayList<>(orgWordDetails);
+            derange(wordDetails);
+
+            ArrayList<Quiz> quizzes = new ArrayList<>(wordDetails.size());
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (WordDetail wordDetail : wordDetails) {
+                String option = wordDetail.definitions().get(rnd.nextInt(wordDetail.definitions().size())).meaning();
+
+                List<Integer> nums = new ArrayList<>();
+                for (int i = 0; i < wordDetail.expression().length(); i++) {
+                    nums.add(i);
+                }
+                derange(nums);
+
+                int blankCount = wordDetail.expression().length() / 2 + 1;
+                List<Integer> blankIndices = new ArrayList<>(nums.subList(0, Math.min(blankCount, nums.size())));
+                Collections.sort(blankIndices);
+
+                char[] stem = wordDetail.expression().toCharArray();
+                for (int index : blankIndices) {
+                    stem[index] = '_';
+                }
+
+                quizzes.add(Quiz.builder()
+                        .id(UUID.randomUUID())
+                        .wordId(wordDetail.id())
+                        .userId(memberId)
+                        .stem(new String(stem))
+                        .answer(wordDetail.expression())
+                        .options(List.of(option))
+                        .build());
+            }
+
+            return quizzes;
+        }
+    }
+}
@@ -6,7 +6,11 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum AuthRedisKey {
-    DEACTIVATED("deactivated_user");
+    DEACTIVATED("deactivated_user"),
+    // 비활성화 사용자 ID 색인 (score: 만료 시각 epoch millis), 인스턴스 로컬 사본을 다시 읽을 때 사용
+    DEACTIVATED_INDEX("deactivated_user_index"),
+    // 비활성화 알림 채널 (메시지: "{userId}:{만료 시각 epoch millis}")
+    DEACTIVATED_CHANNEL("deactivated_user_events");
 
     private final String prefix;
 
@@ -4,6 +4,7 @@ import com.kthowns.mobidic.domain.user.model.User;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface AuthUserRepository {
@@ -11,4 +12,6 @@ public interface AuthUserRepository {
 
     Optional<User> readByKakaoId(Long kakaoId);
 
+    // 해시 비용이 바뀐 비밀번호를 로그인 시 다시 해시하여 저장
+    void updatePassword(UUID userId, String encodedPassword);
 }
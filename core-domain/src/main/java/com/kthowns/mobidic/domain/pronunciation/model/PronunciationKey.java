@@ -0,0 +1,13 @@
+package com.kthowns.mobidic.domain.pronunciation.model;
+
+/**
+ * 발음 유사도(PHONETIC) 비교용 키
+ * normalized: 악센트, 구두점을 지우고 공백을 하나로 줄인 소문자 문자열
+ * primaryCode, alternateCode: 단어별 Double Metaphone 키를 공백으로 이은 문자열 (영문자가 없으면 빈 문자열)
+ */
+public record PronunciationKey(
+        String normalized,
+        String primaryCode,
+        String alternateCode
+) {
+}
@@ -0,0 +1,11 @@
+package com.kthowns.mobidic.domain.pronunciation.model;
+
+/**
+ * 발음 유사도 계산 방식
+ * LITERAL: 소문자로 바꾼 글자 그대로 비교
+ * PHONETIC: 유니코드 정규화 + 자소 묶음(grapheme cluster) 단위 비교에 Double Metaphone 발음 키 비교를 더함
+ */
+public enum SimilarityMode {
+    LITERAL,
+    PHONETIC
+}
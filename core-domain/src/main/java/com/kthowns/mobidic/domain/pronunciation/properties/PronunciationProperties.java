@@ -0,0 +1,30 @@
+package com.kthowns.mobidic.domain.pronunciation.properties;
+
+import com.kthowns.mobidic.domain.pronunciation.model.SimilarityMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PronunciationProperties {
+    // 요청에 유사도 계산 방식이 없을 때 사용할 기본값
+    private final SimilarityMode similarityMode;
+
+    // 글자 유사도가 이 값 미만이면 0.0 으로 처리하고 편집 거리 계산을 일찍 멈춤 (0 이하이면 항상 정확한 값)
+    private final double minSimilarity;
+
+    public PronunciationProperties(
+            @Value("${pronunciation.similarity-mode:LITERAL}") SimilarityMode similarityMode,
+            @Value("${pronunciation.min-similarity:0.0}") double minSimilarity
+    ) {
+        this.similarityMode = similarityMode;
+        this.minSimilarity = minSimilarity;
+    }
+
+    public SimilarityMode getSimilarityMode() {
+        return similarityMode;
+    }
+
+    public double getMinSimilarity() {
+        return minSimilarity;
+    }
+}
@@ -0,0 +1,15 @@
+package com.kthowns.mobidic.domain.pronunciation.repository;
+
+import com.kthowns.mobidic.domain.pronunciation.model.PronunciationKey;
+
+import java.util.Optional;
+
+/**
+ * 단어 표현(Word.expression)별 발음 키 캐시
+ * 같은 표현이면 키도 같으므로 사용자, 단어 식별자와 무관하게 표현 문자열로 공유
+ */
+public interface PronunciationKeyRepository {
+    Optional<PronunciationKey> readByExpression(String expression);
+
+    void save(String expression, PronunciationKey pronunciationKey);
+}
@@ -0,0 +1,17 @@
+package com.kthowns.mobidic.domain.pronunciation.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PronunciationRedisKey {
+    TRANSCRIPTION("stt_transcription");
+
+    private final String prefix;
+
+    @Override
+    public String toString() {
+        return prefix;
+    }
+}
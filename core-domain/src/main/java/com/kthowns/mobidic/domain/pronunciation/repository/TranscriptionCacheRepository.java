@@ -0,0 +1,13 @@
+package com.kthowns.mobidic.domain.pronunciation.repository;
+
+import java.util.Optional;
+
+/**
+ * 음성 파일 내용 해시(SHA-256, 16진수)별 STT 전사 결과 캐시
+ * 같은 바이트를 다시 올리면 STT 서버를 호출하지 않음, 캐시 장애 시에는 예외 대신 미스로 처리
+ */
+public interface TranscriptionCacheRepository {
+    Optional<String> readByAudioHash(String audioHash);
+
+    void save(String audioHash, String transcription);
+}
@@ -1,12 +1,36 @@
 package com.kthowns.mobidic.domain.pronunciation.service;
 
-import lombok.NonNull;
+import com.kthowns.mobidic.domain.pronunciation.model.PronunciationKey;
 import org.springframework.stereotype.Component;
 
+import java.text.BreakIterator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Component
 class PronunciationCalculator {
+    // 짧은 쪽 문자열이 이 길이 이하이면 한 long 에 담아 비트 병렬로 계산
+    private static final int BIT_PARALLEL_MAX_LENGTH = Long.SIZE;
+    private static final int ASCII_SIZE = 128;
+
+    // 발음 키가 모음을 대부분 버리므로 발음 키만으로 만점을 주지 않고 글자 유사도와 섞음
+    private static final double PHONETIC_WEIGHT = 0.7;
+    // 여러 코드 유닛으로 된 자소 묶음을 한 글자로 바꿔 비교할 때 쓰는 사용자 정의 영역 시작 문자
+    private static final char CLUSTER_SYMBOL_START = '\uE000';
+
+    // 비트 병렬 계산용 문자별 위치 마스크, 호출마다 사용한 칸만 되돌려 재사용
+    private static final ThreadLocal<long[]> PATTERN_MASKS = ThreadLocal.withInitial(() -> new long[ASCII_SIZE]);
 
     public double calculateSimilarity(String orgString, String compareString) {
+        return calculateSimilarity(orgString, compareString, 0.0);
+    }
+
+    /**
+     * 유사도가 minSimilarity 이상이면 calculateSimilarity(orgString, compareString) 와 같은 값을,
+     * 미만이면 0.0 을 반환, 허용 거리를 넘는 순간 계산을 멈춤
+     */
+    public double calculateSimilarity(String orgString, String compareString, double minSimilarity) {
         if (compareString == null || compareString.isEmpty() || orgString == null || orgString.isEmpty()) {
             return 0.0;
         }
@@ -22,28 +46,238 @@ class PronunciationCalculator {
             return 0.0;
         }
 
-        return (maxLength - getDamerauLevenshteinDistance(orgString, processedCompare)) / maxLength;
+        // (maxLength - distance) / maxLength >= minSimilarity 를 만족하는 최대 거리
+        int maxDistance = minSimilarity <= 0.0
+                ? Integer.MAX_VALUE
+                : (int) Math.floor(maxLength * (1.0 - minSimilarity) + 1e-9);
+
+        int distance = getDamerauLevenshteinDistance(orgString, processedCompare, maxDistance);
+        if (distance > maxDistance) {
+            return 0.0;
+        }
+
+        return (maxLength - distance) / maxLength;
+    }
+
+    /**
+     * 발음 유사도: 자소 묶음 단위 글자 유사도와, 발음 키(주/보조 조합 중 최댓값) 유사도를 섞은 값 중 큰 값
+     * 철자는 달라도 소리가 같은 전사 결과가 글자 비교보다 낮은 점수를 받지 않음
+     */
+    public double calculatePhoneticSimilarity(PronunciationKey expected, PronunciationKey actual) {
+        if (expected.normalized().isEmpty() || actual.normalized().isEmpty()) {
+            return 0.0;
+        }
+
+        double graphemeSimilarity = graphemeSimilarity(expected.normalized(), actual.normalized());
+
+        if (expected.primaryCode().isEmpty() || actual.primaryCode().isEmpty()) {
+            return graphemeSimilarity;
+        }
+
+        double codeSimilarity = Math.max(
+                codeSimilarity(expected.primaryCode(), actual.primaryCode()),
+                Math.max(codeSimilarity(expected.primaryCode(), actual.alternateCode()),
+                        codeSimilarity(expected.alternateCode(), actual.primaryCode())));
+
+        return Math.max(graphemeSimilarity,
+                PHONETIC_WEIGHT * codeSimilarity + (1 - PHONETIC_WEIGHT) * graphemeSimilarity);
+    }
+
+    private double codeSimilarity(String expected, String actual) {
+        double maxLength = Double.max(expected.length(), actual.length());
+        return (maxLength - getDamerauLevenshteinDistance(expected, actual, Integer.MAX_VALUE)) / maxLength;
     }
 
-    private int getDamerauLevenshteinDistance(@NonNull CharSequence source, @NonNull CharSequence target) {
+    // 결합 문자, 이모지 조합 등 여러 코드 유닛으로 된 자소 묶음도 한 글자로 세어 편집 거리를 계산
+    private double graphemeSimilarity(String expected, String actual) {
+        Map<String, Character> clusterSymbols = new HashMap<>();
+        String expectedSymbols = toClusterSymbols(expected, clusterSymbols);
+        String actualSymbols = toClusterSymbols(actual, clusterSymbols);
+
+        double maxLength = Double.max(expectedSymbols.length(), actualSymbols.length());
+        return (maxLength - getDamerauLevenshteinDistance(expectedSymbols, actualSymbols, Integer.MAX_VALUE)) / maxLength;
+    }
+
+    private String toClusterSymbols(String text, Map<String, Character> clusterSymbols) {
+        BreakIterator clusters = BreakIterator.getCharacterInstance(Locale.ROOT);
+        clusters.setText(text);
+
+        StringBuilder symbols = new StringBuilder(text.length());
+        for (int start = clusters.first(), end = clusters.next(); end != BreakIterator.DONE; start = end, end = clusters.next()) {
+            if (end - start == 1) {
+                symbols.append(text.charAt(start));
+                continue;
+            }
+
+            // 두 문자열이 같은 표를 공유하므로 같은 묶음은 같은 글자로 바뀜
+            symbols.append(clusterSymbols.computeIfAbsent(text.substring(start, end),
+                    cluster -> (char) (CLUSTER_SYMBOL_START + clusterSymbols.size())));
+        }
+        return symbols.toString();
+    }
+
+    /**
+     * 인접 문자 교환을 포함한 편집 거리 (Optimal String Alignment)
+     * 거리가 maxDistance 를 넘으면 maxDistance + 1 을 반환
+     */
+    int getDamerauLevenshteinDistance(CharSequence source, CharSequence target, int maxDistance) {
         int sourceLength = source.length();
         int targetLength = target.length();
+        int limit = Math.min(maxDistance, Math.max(sourceLength, targetLength));
+
+        if (Math.abs(sourceLength - targetLength) > limit) {
+            return limit + 1;
+        }
         if (sourceLength == 0) return targetLength;
         if (targetLength == 0) return sourceLength;
 
-        int[][] dist = new int[sourceLength + 1][targetLength + 1];
-        for (int i = 0; i < sourceLength + 1; i++) dist[i][0] = i;
-        for (int j = 0; j < targetLength + 1; j++) dist[0][j] = j;
+        // 짧은 쪽을 패턴으로 사용 (OSA 거리는 대칭)
+        if (sourceLength > targetLength) {
+            CharSequence tmp = source;
+            source = target;
+            target = tmp;
+        }
 
-        for (int i = 1; i < sourceLength + 1; i++) {
-            for (int j = 1; j < targetLength + 1; j++) {
-                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
-                dist[i][j] = Math.min(Math.min(dist[i - 1][j] + 1, dist[i][j - 1] + 1), dist[i - 1][j - 1] + cost);
-                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2) && source.charAt(i - 2) == target.charAt(j - 1)) {
-                    dist[i][j] = Math.min(dist[i][j], dist[i - 2][j - 2] + cost);
+        if (source.length() <= BIT_PARALLEL_MAX_LENGTH) {
+            return bitParallelDistance(source, target, limit);
+        }
+
+        return bandedDistance(source, target, limit);
+    }
+
+    /**
+     * Hyyrö(2003) 의 비트 병렬 OSA 거리: 패턴의 각 행을 비트 하나로 보고 텍스트 한 글자당 한 열을 O(1) 에 계산
+     * 남은 글자를 모두 맞혀도 limit 이하로 내려올 수 없으면 중단
+     */
+    private int bitParallelDistance(CharSequence pattern, CharSequence text, int limit) {
+        int patternLength = pattern.length();
+        int textLength = text.length();
+        long[] masks = PATTERN_MASKS.get();
+
+        for (int i = 0; i < patternLength; i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII_SIZE) {
+                masks[c] |= 1L << i;
+            }
+        }
+
+        try {
+            long vp = -1L;
+            long vn = 0L;
+            long d0 = 0L;
+            long prevEq = 0L;
+            long last = 1L << (patternLength - 1);
+            int distance = patternLength;
+
+            for (int j = 0; j < textLength; j++) {
+                long eq = patternMask(masks, pattern, text.charAt(j));
+
+                long tr = (((~d0) & eq) << 1) & prevEq;
+                d0 = (((eq & vp) + vp) ^ vp) | eq | vn | tr;
+                long hp = vn | ~(d0 | vp);
+                long hn = d0 & vp;
+
+                if ((hp & last) != 0) {
+                    distance++;
+                } else if ((hn & last) != 0) {
+                    distance--;
+                }
+
+                if (distance - (textLength - j - 1) > limit) {
+                    return limit + 1;
+                }
+
+                hp = (hp << 1) | 1L;
+                hn = hn << 1;
+                vp = hn | ~(d0 | hp);
+                vn = hp & d0;
+                prevEq = eq;
+            }
+
+            return distance;
+        } finally {
+            for (int i = 0; i < patternLength; i++) {
+                char c = pattern.charAt(i);
+                if (c < ASCII_SIZE) {
+                    masks[c] = 0L;
+                }
+            }
+        }
+    }
+
+    private long patternMask(long[] masks, CharSequence pattern, char c) {
+        if (c < ASCII_SIZE) {
+            return masks[c];
+        }
+
+        // ASCII 밖의 문자는 드물기 때문에 표를 두지 않고 패턴을 직접 훑음
+        long mask = 0L;
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == c) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 긴 문자열용: 행 3개(i-2, i-1, i)만 유지하고 대각선에서 limit 이내인 칸만 계산
+     * 교환 연산이 한 행을 건너뛸 수 있으므로 연속한 두 행의 최솟값이 모두 limit 을 넘으면 중단
+     */
+    private int bandedDistance(CharSequence source, CharSequence target, int limit) {
+        int sourceLength = source.length();
+        int targetLength = target.length();
+        int outside = limit + 1;
+
+        int[] twoBefore = new int[targetLength + 1];
+        int[] previous = new int[targetLength + 1];
+        int[] current = new int[targetLength + 1];
+
+        for (int j = 0; j <= targetLength; j++) {
+            previous[j] = j <= limit ? j : outside;
+        }
+        int previousMin = 0;
+
+        for (int i = 1; i <= sourceLength; i++) {
+            int from = Math.max(1, i - limit);
+            int to = Math.min(targetLength, i + limit);
+            int currentMin = outside;
+
+            current[from - 1] = from == 1 ? i : outside;
+            if (from == 1) {
+                currentMin = Math.min(currentMin, current[0]);
+            }
+
+            char sourceChar = source.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                char targetChar = target.charAt(j - 1);
+                int cost = sourceChar == targetChar ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+
+                if (i > 1 && j > 1 && sourceChar == target.charAt(j - 2) && source.charAt(i - 2) == targetChar) {
+                    value = Math.min(value, twoBefore[j - 2] + cost);
                 }
+
+                value = Math.min(value, outside);
+                current[j] = value;
+                currentMin = Math.min(currentMin, value);
+            }
+
+            if (to < targetLength) {
+                current[to + 1] = outside;
             }
+
+            if (currentMin > limit && previousMin > limit) {
+                return outside;
+            }
+
+            int[] recycled = twoBefore;
+            twoBefore = previous;
+            previous = current;
+            current = recycled;
+            previousMin = currentMin;
         }
-        return dist[sourceLength][targetLength];
+
+        return Math.min(previous[targetLength], outside);
     }
 }
@@ -0,0 +1,60 @@
+package com.kthowns.mobidic.domain.pronunciation.service;
+
+import com.kthowns.mobidic.domain.pronunciation.model.PronunciationKey;
+import org.apache.commons.codec.language.DoubleMetaphone;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+@Component
+class PronunciationKeyEncoder {
+    // 기본값(4)은 긴 단어의 뒷부분을 버리므로 단어 전체를 키로 만들 수 있도록 늘림
+    private static final int MAX_CODE_LENGTH = 32;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern PUNCTUATION = Pattern.compile("\\p{P}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    public PronunciationKey encode(String text) {
+        String normalized = normalize(text == null ? "" : text);
+
+        if (normalized.isEmpty()) {
+            return new PronunciationKey("", "", "");
+        }
+
+        // DoubleMetaphone 은 내부 상태(maxCodeLen)를 가지므로 호출마다 생성
+        DoubleMetaphone doubleMetaphone = new DoubleMetaphone();
+        doubleMetaphone.setMaxCodeLen(MAX_CODE_LENGTH);
+
+        StringBuilder primary = new StringBuilder();
+        StringBuilder alternate = new StringBuilder();
+
+        for (String token : WHITESPACES.split(normalized)) {
+            String primaryCode = doubleMetaphone.doubleMetaphone(token, false);
+            if (primaryCode == null || primaryCode.isEmpty()) {
+                continue;
+            }
+
+            if (!primary.isEmpty()) {
+                primary.append(' ');
+                alternate.append(' ');
+            }
+            primary.append(primaryCode);
+            alternate.append(doubleMetaphone.doubleMetaphone(token, true));
+        }
+
+        return new PronunciationKey(normalized, primary.toString(), alternate.toString());
+    }
+
+    // 호환 문자 분해(NFKD) 후 라틴 악센트 기호만 지우고 다시 조합(NFC), 한글 음절과 다른 문자의 결합 기호는 그대로 복원됨
+    private String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        String composed = Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        String withoutPunctuation = PUNCTUATION.matcher(composed).replaceAll("");
+
+        return WHITESPACES.matcher(withoutPunctuation).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,23 @@
+package com.kthowns.mobidic.domain.pronunciation.service;
+
+import com.kthowns.mobidic.domain.pronunciation.model.PronunciationKey;
+import com.kthowns.mobidic.domain.pronunciation.repository.PronunciationKeyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+class PronunciationKeyReader {
+    private final PronunciationKeyRepository pronunciationKeyRepository;
+    private final PronunciationKeyEncoder pronunciationKeyEncoder;
+
+    // 단어 표현의 키는 캐시에서 읽고, 없으면 만들어서 저장
+    public PronunciationKey readByExpression(String expression) {
+        return pronunciationKeyRepository.readByExpression(expression)
+                .orElseGet(() -> {
+                    PronunciationKey pronunciationKey = pronunciationKeyEncoder.encode(expression);
+                    pronunciationKeyRepository.save(expression, pronunciationKey);
+                    return pronunciationKey;
+                });
+    }
+}
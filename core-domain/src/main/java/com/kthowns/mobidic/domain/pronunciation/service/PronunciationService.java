@@ -1,6 +1,7 @@
 package com.kthowns.mobidic.domain.pronunciation.service;
 
-import com.kthowns.mobidic.domain.pronunciation.client.SpeechToTextClient;
+import com.kthowns.mobidic.domain.pronunciation.model.SimilarityMode;
+import com.kthowns.mobidic.domain.pronunciation.properties.PronunciationProperties;
 import com.kthowns.mobidic.domain.word.model.Word;
 import com.kthowns.mobidic.domain.word.service.WordService;
 import lombok.RequiredArgsConstructor;
@@ -15,13 +16,26 @@ import java.util.UUID;
 @Slf4j
 public class PronunciationService {
     private final WordService wordService;
-    private final SpeechToTextClient sttClient;
+    private final TranscriptionReader transcriptionReader;
     private final PronunciationCalculator pronunciationCalculator;
+    private final PronunciationKeyReader pronunciationKeyReader;
+    private final PronunciationKeyEncoder pronunciationKeyEncoder;
+    private final PronunciationProperties pronunciationProperties;
 
-    public Double ratePronunciation(UUID userId, UUID wordId, MultipartFile multipartFile) {
+    // 유사도 계산 방식이 없으면 설정값(pronunciation.similarity-mode) 사용
+    public Double ratePronunciation(UUID userId, UUID wordId, MultipartFile multipartFile, SimilarityMode mode) {
         Word word = wordService.getWordById(userId, wordId);
-        String transcribedText = sttClient.transcribe(multipartFile);
+        String transcribedText = transcriptionReader.read(multipartFile);
 
-        return pronunciationCalculator.calculateSimilarity(word.expression(), transcribedText);
+        SimilarityMode similarityMode = mode == null ? pronunciationProperties.getSimilarityMode() : mode;
+
+        if (similarityMode == SimilarityMode.PHONETIC) {
+            return pronunciationCalculator.calculatePhoneticSimilarity(
+                    pronunciationKeyReader.readByExpression(word.expression()),
+                    pronunciationKeyEncoder.encode(transcribedText));
+        }
+
+        return pronunciationCalculator.calculateSimilarity(
+                word.expression(), transcribedText, pronunciationProperties.getMinSimilarity());
     }
 }
@@ -0,0 +1,60 @@
+package com.kthowns.mobidic.domain.pronunciation.service;
+
+import com.kthowns.mobidic.domain.pronunciation.client.SpeechToTextClient;
+import com.kthowns.mobidic.domain.pronunciation.repository.TranscriptionCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class TranscriptionReader {
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final SpeechToTextClient sttClient;
+    private final TranscriptionCacheRepository transcriptionCacheRepository;
+
+    // 내용 해시로 캐시를 먼저 찾고, 없을 때만 STT 서버에 전사 요청 후 저장
+    public String read(MultipartFile file) {
+        Optional<String> audioHash = hash(file);
+
+        if (audioHash.isPresent()) {
+            Optional<String> cached = transcriptionCacheRepository.readByAudioHash(audioHash.get());
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        String transcription = sttClient.transcribe(file);
+        audioHash.ifPresent(hash -> transcriptionCacheRepository.save(hash, transcription));
+
+        return transcription;
+    }
+
+    // 업로드는 이미 서블릿 컨테이너가 메모리/임시 파일에 받아두었으므로 스트림으로 읽으며 해시만 계산 (바이트 배열 복사 없음)
+    private Optional<String> hash(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+
+            return Optional.of(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Failed to hash audio file. Transcribing without cache. fileName: {}", file.getOriginalFilename(), e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kthowns.mobidic.domain.quiz.model;
+
+public record QuizSubmission(
+        String token,
+        String answer
+) {
+    public static QuizSubmission of(String token, String answer) {
+        return new QuizSubmission(token, answer);
+    }
+}
@@ -0,0 +1,47 @@
+package com.kthowns.mobidic.domain.quiz.model;
+
+import java.util.Optional;
+
+/**
+ * 퀴즈 세션 식별자와 세션 내 문제 번호로 구성된 채점용 토큰
+ * 형식: {sessionId}.{index}
+ */
+public record QuizToken(
+        String sessionId,
+        int index
+) {
+    private static final char DELIMITER = '.';
+
+    public static QuizToken of(String sessionId, int index) {
+        return new QuizToken(sessionId, index);
+    }
+
+    public static Optional<QuizToken> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int delimiterIdx = token.lastIndexOf(DELIMITER);
+        if (delimiterIdx <= 0 || delimiterIdx == token.length() - 1) {
+            return Optional.empty();
+        }
+
+        try {
+            int index = Integer.parseInt(token.substring(delimiterIdx + 1));
+            if (index < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new QuizToken(token.substring(0, delimiterIdx), index));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String field() {
+        return String.valueOf(index);
+    }
+
+    public String value() {
+        return sessionId + DELIMITER + index;
+    }
+}
@@ -0,0 +1,190 @@
+package com.kthowns.mobidic.domain.quiz.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * 단어별 출제 가중치로 만든 별칭 테이블 (Vose alias method), 생성 O(N) / 추출 1회 O(1)
+ * 가중치 변경은 배열 값만 바꾸고 다음 추출 때 별칭 배열을 메모리에서 다시 계산하므로 DB 를 다시 읽지 않음
+ * 퀴즈 생성과 통계 변경 이벤트가 같은 테이블에 동시에 접근하므로 상태를 바꾸는 메서드는 synchronized
+ */
+public final class QuizWordTable {
+    // 서로 다른 단어를 뽑을 때 중복으로 버려지는 추출이 이 배수를 넘으면 나머지는 가중치 순으로 채움
+    private static final int MAX_ATTEMPTS_PER_WORD = 8;
+
+    private final UUID[] wordIds;
+    private final double[] weights;
+    private final Map<UUID, Integer> indexByWordId;
+
+    private final double[] probability;
+    private final int[] alias;
+    private int positiveCount;
+    private boolean stale;
+
+    private QuizWordTable(UUID[] wordIds, double[] weights) {
+        this.wordIds = wordIds;
+        this.weights = weights;
+        this.indexByWordId = new HashMap<>(wordIds.length * 2);
+        for (int i = 0; i < wordIds.length; i++) {
+            indexByWordId.put(wordIds[i], i);
+        }
+
+        this.probability = new double[wordIds.length];
+        this.alias = new int[wordIds.length];
+        rebuild();
+    }
+
+    public static QuizWordTable of(List<UUID> wordIds, double[] weights) {
+        if (wordIds.size() != weights.length) {
+            throw new IllegalArgumentException("wordIds and weights must have the same length");
+        }
+
+        double[] copied = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            copied[i] = Math.max(weights[i], 0.0);
+        }
+
+        return new QuizWordTable(wordIds.toArray(UUID[]::new), copied);
+    }
+
+    public Set<UUID> wordIds() {
+        return Collections.unmodifiableSet(indexByWordId.keySet());
+    }
+
+    public boolean contains(UUID wordId) {
+        return indexByWordId.containsKey(wordId);
+    }
+
+    public int size() {
+        return wordIds.length;
+    }
+
+    // 테이블에 없는 단어면 false, 가중치 0 은 출제하지 않음(학습 완료)
+    public synchronized boolean updateWeight(UUID wordId, double weight) {
+        Integer index = indexByWordId.get(wordId);
+        if (index == null) {
+            return false;
+        }
+
+        weights[index] = Math.max(weight, 0.0);
+        stale = true;
+        return true;
+    }
+
+    // 가중치에 비례하여 서로 다른 단어를 최대 count 개 추출
+    public synchronized List<UUID> draw(int count, RandomGenerator random) {
+        if (stale) {
+            rebuild();
+        }
+
+        int target = Math.min(count, positiveCount);
+        List<UUID> drawn = new ArrayList<>(target);
+        if (target <= 0) {
+            return drawn;
+        }
+
+        BitSet picked = new BitSet(wordIds.length);
+        int maxAttempts = target * MAX_ATTEMPTS_PER_WORD;
+
+        for (int attempt = 0; attempt < maxAttempts && drawn.size() < target; attempt++) {
+            int index = next(random);
+
+            // 부동소수점 오차로 남은 칸이 가중치 0 인 단어를 가리킬 수 있으므로 한 번 더 확인
+            if (weights[index] > 0.0 && !picked.get(index)) {
+                picked.set(index);
+                drawn.add(wordIds[index]);
+            }
+        }
+
+        if (drawn.size() < target) {
+            fillByWeight(drawn, picked, target);
+        }
+
+        return drawn;
+    }
+
+    private int next(RandomGenerator random) {
+        int column = random.nextInt(wordIds.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    private void fillByWeight(List<UUID> drawn, BitSet picked, int target) {
+        List<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < wordIds.length; i++) {
+            if (weights[i] > 0.0 && !picked.get(i)) {
+                remaining.add(i);
+            }
+        }
+        remaining.sort(Comparator.comparingDouble((Integer i) -> weights[i]).reversed());
+
+        for (int i = 0; i < remaining.size() && drawn.size() < target; i++) {
+            drawn.add(wordIds[remaining.get(i)]);
+        }
+    }
+
+    // 평균보다 작은 칸과 큰 칸을 짝지어 모든 칸을 자기 자신과 별칭 하나로 채움
+    private void rebuild() {
+        int n = weights.length;
+        double total = 0.0;
+        int positive = 0;
+
+        for (double weight : weights) {
+            total += weight;
+            if (weight > 0.0) {
+                positive++;
+            }
+        }
+
+        positiveCount = positive;
+        stale = false;
+
+        if (positive == 0) {
+            return;
+        }
+
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int i = 0; i < n; i++) {
+            probability[i] = weights[i] * n / total;
+            alias[i] = i;
+
+            if (probability[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+
+            alias[less] = more;
+            probability[more] = probability[more] + probability[less] - 1.0;
+
+            if (probability[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1.0;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1.0;
+        }
+    }
+}
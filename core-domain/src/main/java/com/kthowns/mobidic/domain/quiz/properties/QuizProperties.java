@@ -1,5 +1,6 @@
 package com.kthowns.mobidic.domain.quiz.properties;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -7,7 +8,35 @@ public class QuizProperties {
     //@Value("${quiz.exp-per-quiz:15000}")
     private final Long expPerQuiz = 15000L;
 
+    // 한 번에 출제하는 문제 수 (요청에 없으면 기본값, 최대값을 넘으면 최대값)
+    private final int defaultQuizSize = 20;
+    private final int maxQuizSize;
+
+    // 문제 수가 이 값 이상이면 단어별 문제 생성을 병렬로 처리 (0 이하이면 항상 순차)
+    // 최대 문제 수보다 크면 병렬 생성은 쓰이지 않으므로 두 값은 함께 조정
+    private final int parallelGenerationThreshold;
+
+    public QuizProperties(
+            @Value("${quiz.max-size:100}") int maxQuizSize,
+            @Value("${quiz.generation.parallel-threshold:2000}") int parallelGenerationThreshold
+    ) {
+        this.maxQuizSize = maxQuizSize;
+        this.parallelGenerationThreshold = parallelGenerationThreshold;
+    }
+
     public long getExpPerQuiz() {
         return expPerQuiz;
     }
+
+    public int getDefaultQuizSize() {
+        return defaultQuizSize;
+    }
+
+    public int getMaxQuizSize() {
+        return maxQuizSize;
+    }
+
+    public int getParallelGenerationThreshold() {
+        return parallelGenerationThreshold;
+    }
 }
@@ -2,12 +2,29 @@ package com.kthowns.mobidic.domain.quiz.repository;
 
 import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface QuizAnswerRepository {
-    void append(String key, QuizAnswer quizAnswer, long expMillis);
+    void appendAll(String sessionKey, UUID userId, Map<String, QuizAnswer> quizAnswers, long expMillis);
 
-    Optional<QuizAnswer> read(String key);
+    /**
+     * 세션 소유자 확인, 정답 조회, 삭제를 하나의 원자적 연산으로 수행
+     * 세션 소유자가 아니면 NO_QUIZ 예외, 만료되었거나 이미 채점된 문제면 빈 값 반환
+     */
+    Optional<QuizAnswer> consume(String sessionKey, String field, UUID userId);
 
-    void remove(String key);
+    /**
+     * 같은 세션의 여러 문제를 한 번의 원자적 연산으로 소비
+     * 소유자가 아니면 NO_QUIZ 예외, 만료되었거나 이미 채점된 문제는 결과에서 제외
+     */
+    Map<String, QuizAnswer> consumeAll(String sessionKey, List<String> fields, UUID userId);
+
+    /**
+     * 모든 세션이 요청 사용자의 것인지 확인 (만료된 세션은 제외)
+     * 세션 소유자는 생성 후 바뀌지 않으므로 확인 후 소비해도 결과가 달라지지 않음
+     */
+    boolean isOwnedBy(List<String> sessionKeys, UUID userId);
 }
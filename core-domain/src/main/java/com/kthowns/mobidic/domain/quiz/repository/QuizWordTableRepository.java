@@ -0,0 +1,22 @@
+package com.kthowns.mobidic.domain.quiz.repository;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizWordTable;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 단어장별 퀴즈 출제 가중치 테이블 캐시
+ * 단어장은 한 사용자에게만 속하므로 단어장 식별자만으로 (사용자, 단어장) 단위 캐시가 됨
+ */
+public interface QuizWordTableRepository {
+    // 캐시에 없으면 builder 로 만들어 캐시에 올림, 같은 단어장을 동시에 요청하면 한 번만 만들고 나머지는 기다림
+    // 만드는 동안 같은 단어장의 evict 도 기다렸다가 만든 테이블을 버림
+    QuizWordTable readOrBuild(UUID vocabularyId, Supplier<QuizWordTable> builder);
+
+    // 통계 변경 이벤트에는 단어 식별자만 있으므로 단어가 속한 테이블을 찾을 때 사용
+    Optional<QuizWordTable> readByWordId(UUID wordId);
+
+    void evict(UUID vocabularyId);
+}
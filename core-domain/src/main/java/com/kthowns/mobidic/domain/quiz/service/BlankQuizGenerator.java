@@ -4,59 +4,54 @@ import com.kthowns.mobidic.domain.quiz.model.Quiz;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 class BlankQuizGenerator extends QuizGenerator {
     @Override
-    public List<Quiz> generate(UUID memberId, List<WordDetail> orgWordDetails) {
+    public List<Quiz> generate(UUID memberId, List<WordDetail> orgWordDetails, int parallelThreshold) {
         List<WordDetail> wordDetails = new ArrayList<>(orgWordDetails);
         derange(wordDetails);
 
-        //option은 뜻
-        ArrayList<Quiz> quizzes = new ArrayList<>(wordDetails.size());
-
+        int maxLength = 0;
         for (WordDetail wordDetail : wordDetails) {
-            String option = "";
-
-            if (wordDetail.definitions() != null && !wordDetail.definitions().isEmpty()) {
-                int randIdx = ThreadLocalRandom.current().nextInt(wordDetail.definitions().size());
-                option = wordDetail.definitions().get(randIdx).meaning();
-            }
-
-            List<Integer> nums = new ArrayList<>();
-            for (int i = 0; i < wordDetail.expression().length(); i++) {
-                nums.add(i);
-            }
-            int blankCount = nums.size() / 2 + 1;
-            derange(nums);
-
-            List<Integer> indices = new ArrayList<>();
-            for (int i = 0; i < blankCount; i++) {
-                indices.add(nums.get(i));
-            }
-            Collections.sort(indices);
-
-            char[] stem = wordDetail.expression().toCharArray();
-
-            for (int idx : indices) {
-                stem[idx] = '_';
-            }
-
-            quizzes.add(
-                    Quiz.builder()
-                            .id(UUID.randomUUID())
-                            .wordId(wordDetail.id())
-                            .userId(memberId)
-                            .stem(new String(stem))
-                            .answer(wordDetail.expression())
-                            .options(List.of(option))
-                            .build()
-            );
+            maxLength = Math.max(maxLength, wordDetail.expression().length());
         }
-
-        return quizzes;
+        int bufferSize = maxLength;
+
+        return buildQuizzes(wordDetails.size(), parallelThreshold, (from, to, out) -> {
+            // 빈칸 위치 추출용 버퍼는 가장 긴 단어 길이로 구간마다 한 번만 만들어 구간 내 모든 단어에 재사용
+            int[] positions = new int[bufferSize];
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            for (int w = from; w < to; w++) {
+                WordDetail wordDetail = wordDetails.get(w);
+                //option은 뜻
+                String option = "";
+
+                if (wordDetail.definitions() != null && !wordDetail.definitions().isEmpty()) {
+                    int randIdx = rnd.nextInt(wordDetail.definitions().size());
+                    option = wordDetail.definitions().get(randIdx).meaning();
+                }
+
+                char[] stem = wordDetail.expression().toCharArray();
+                int blankCount = Math.min(stem.length / 2 + 1, stem.length);
+                sampleIndices(positions, stem.length, blankCount, rnd);
+
+                for (int i = 0; i < blankCount; i++) {
+                    stem[positions[i]] = '_';
+                }
+
+                out[w] = Quiz.builder()
+                        .id(UUID.randomUUID())
+                        .wordId(wordDetail.id())
+                        .userId(memberId)
+                        .stem(new String(stem))
+                        .answer(wordDetail.expression())
+                        .options(List.of(option))
+                        .build();
+            }
+        });
     }
 }
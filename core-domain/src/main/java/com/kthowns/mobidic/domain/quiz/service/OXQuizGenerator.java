@@ -11,12 +11,11 @@ import java.util.concurrent.ThreadLocalRandom;
 
 class OXQuizGenerator extends QuizGenerator {
     @Override
-    public List<Quiz> generate(UUID memberId, List<WordDetail> orgWordDetails) {
+    public List<Quiz> generate(UUID memberId, List<WordDetail> orgWordDetails, int parallelThreshold) {
         List<WordDetail> wordDetails = new ArrayList<>(orgWordDetails);
         derange(wordDetails);
 
-        ArrayList<String> options = new ArrayList<>();
-        ArrayList<Quiz> quizzes = new ArrayList<>();
+        ArrayList<String> options = new ArrayList<>(wordDetails.size());
 
         for (WordDetail wordDetail : wordDetails) {
             String option = "";
@@ -28,30 +27,29 @@ class OXQuizGenerator extends QuizGenerator {
 
             options.add(option); //단어당 랜덤한 하나의 뜻 추출하여 options에 저장
         }
+        // 뜻 섞기는 목록 전체에 걸치므로 순차로 끝낸 뒤 단어별 채점값 계산만 나눠서 처리
         partialShuffle((options.size() / 2) + 1, options);
 
-        for (int i = 0; i < wordDetails.size(); i++) {
-            String answer = "0";
-
-            List<String> defs = wordDetails.get(i).definitions().stream()
-                    .map(Definition::meaning).toList();
-
-            if (defs.contains(options.get(i))) {
-                answer = "1";
+        return buildQuizzes(wordDetails.size(), parallelThreshold, (from, to, out) -> {
+            for (int i = from; i < to; i++) {
+                String answer = "0";
+
+                List<String> defs = wordDetails.get(i).definitions().stream()
+                        .map(Definition::meaning).toList();
+
+                if (defs.contains(options.get(i))) {
+                    answer = "1";
+                }
+
+                out[i] = Quiz.builder()
+                        .id(UUID.randomUUID())
+                        .wordId(wordDetails.get(i).id())
+                        .userId(memberId)
+                        .stem(wordDetails.get(i).expression())
+                        .answer(answer)
+                        .options(List.of(options.get(i)))
+                        .build();
             }
-
-            quizzes.add(
-                    Quiz.builder()
-                            .id(UUID.randomUUID())
-                            .wordId(wordDetails.get(i).id())
-                            .userId(memberId)
-                            .stem(wordDetails.get(i).expression())
-                            .answer(answer)
-                            .options(List.of(options.get(i)))
-                            .build()
-            );
-        }
-
-        return quizzes;
+        });
     }
 }
@@ -2,11 +2,16 @@ package com.kthowns.mobidic.domain.quiz.service;
 
 import com.kthowns.mobidic.domain.quiz.model.Quiz;
 import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.model.QuizToken;
 import com.kthowns.mobidic.domain.quiz.properties.QuizRedisKey;
 import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -14,14 +19,23 @@ import java.util.UUID;
 class QuizAppender {
     private final QuizAnswerRepository quizAnswerRepository;
 
-    public String append(UUID userId, Quiz quiz, long expMillis) {
-        String token = UUID.randomUUID().toString();
-        String key = QuizRedisKey.QUIZ + ":" + token;
+    // 퀴즈 세트 하나를 하나의 세션으로 저장하고, 퀴즈 순서와 동일한 순서의 토큰 목록 반환
+    public List<String> appendAll(UUID userId, List<Quiz> quizzes, long expMillis) {
+        String sessionId = UUID.randomUUID().toString();
+        String sessionKey = QuizRedisKey.QUIZ + ":" + sessionId;
 
-        QuizAnswer quizAnswer = QuizAnswer
-                .of(userId, quiz.wordId(), quiz.id(), quiz.answer());
+        List<String> tokens = new ArrayList<>(quizzes.size());
+        Map<String, QuizAnswer> quizAnswers = new LinkedHashMap<>();
 
-        quizAnswerRepository.append(key, quizAnswer, expMillis);
-        return token;
+        for (int i = 0; i < quizzes.size(); i++) {
+            Quiz quiz = quizzes.get(i);
+            QuizToken quizToken = QuizToken.of(sessionId, i);
+
+            quizAnswers.put(quizToken.field(), QuizAnswer.of(userId, quiz.wordId(), quiz.id(), quiz.answer()));
+            tokens.add(quizToken.value());
+        }
+
+        quizAnswerRepository.appendAll(sessionKey, userId, quizAnswers, expMillis);
+        return tokens;
     }
 }
@@ -3,38 +3,67 @@ package com.kthowns.mobidic.domain.quiz.service;
 import com.kthowns.mobidic.domain.quiz.model.Quiz;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadLocalRandom;
 
 abstract class QuizGenerator {
-    public abstract List<Quiz> generate(UUID memberId, List<WordDetail> wordDetails);
+    // 병렬 생성 시 하나의 작업이 맡는 최소 단어 수, 이보다 작게는 나누지 않음
+    private static final int MIN_CHUNK_SIZE = 256;
 
+    public List<Quiz> generate(UUID memberId, List<WordDetail> wordDetails) {
+        return generate(memberId, wordDetails, 0);
+    }
+
+    /**
+     * parallelThreshold 이상의 단어 수면 단어별 문제 생성을 공용 ForkJoinPool 에서 나눠서 처리 (0 이하이면 항상 순차)
+     * derange 처럼 목록 전체에 걸친 섞기는 항상 먼저 순차로 수행하므로 병렬 여부와 관계없이 결과의 성질은 같음
+     */
+    public abstract List<Quiz> generate(UUID memberId, List<WordDetail> wordDetails, int parallelThreshold);
+
+    // 단어 구간 [from, to) 의 문제를 만들어 out 의 같은 위치에 채움, 구간마다 독립적이어야 함
+    @FunctionalInterface
+    protected interface QuizRangeBuilder {
+        void build(int from, int to, Quiz[] out);
+    }
+
+    protected List<Quiz> buildQuizzes(int size, int parallelThreshold, QuizRangeBuilder builder) {
+        Quiz[] quizzes = new Quiz[size];
+
+        if (parallelThreshold > 0 && size >= parallelThreshold && size >= MIN_CHUNK_SIZE * 2) {
+            ForkJoinPool.commonPool().invoke(new BuildQuizzesTask(builder, quizzes, 0, size));
+        } else {
+            builder.build(0, size, quizzes);
+        }
+
+        return Arrays.asList(quizzes);
+    }
+
+    // 임의로 고른 n 개 위치의 값끼리만 derange, 고른 위치는 모두 다른 값으로 바뀜
     protected <T> void partialShuffle(int n, List<T> list) {
         if (list == null || list.size() < 2 || n < 2) {
             return;
         }
 
-        List<Integer> nums = new ArrayList<>();
-        for (int i = 0; i < list.size(); i++) {
-            nums.add(i);
-        }
-        Collections.shuffle(nums);
-
         int shuffleSize = Math.min(n, list.size());
-        List<Integer> indices = nums.subList(0, shuffleSize);
+        int[] indices = new int[list.size()];
+        sampleIndices(indices, list.size(), shuffleSize, ThreadLocalRandom.current());
 
-        List<T> selectedValues = new ArrayList<>();
-        for (Integer idx : indices) {
-            selectedValues.add(list.get(idx));
+        for (int i = 0; i < shuffleSize; i++) {
+            if (list.get(indices[i]) == null) {
+                return;
+            }
         }
 
-        if (derange(selectedValues)) {
-            for (int i = 0; i < indices.size(); i++) {
-                list.set(indices.get(i), selectedValues.get(i));
-            }
+        // 고른 위치들에 대해 Sattolo's algorithm 을 적용하여 값을 옮기므로 별도의 값 목록을 만들지 않음
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int i = shuffleSize - 1; i > 0; i--) {
+            int j = rnd.nextInt(i);
+            Collections.swap(list, indices[i], indices[j]);
         }
     }
 
@@ -58,4 +87,46 @@ abstract class QuizGenerator {
 
         return true;
     }
+
+    /**
+     * 부분 Fisher-Yates: 0 ~ size-1 중 서로 다른 k 개를 균등하게 골라 buffer[0 ~ k-1] 에 채움
+     * buffer 는 size 이상이면 재사용 가능, 박싱된 인덱스 목록을 만들지 않고 O(size) 초기화 + O(k) 추출
+     */
+    protected static void sampleIndices(int[] buffer, int size, int k, ThreadLocalRandom rnd) {
+        for (int i = 0; i < size; i++) {
+            buffer[i] = i;
+        }
+
+        for (int i = 0; i < k; i++) {
+            int j = i + rnd.nextInt(size - i);
+            int tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private static class BuildQuizzesTask extends RecursiveAction {
+        private final QuizRangeBuilder builder;
+        private final Quiz[] out;
+        private final int from;
+        private final int to;
+
+        private BuildQuizzesTask(QuizRangeBuilder builder, Quiz[] out, int from, int to) {
+            this.builder = builder;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < MIN_CHUNK_SIZE * 2) {
+                builder.build(from, to, out);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new BuildQuizzesTask(builder, out, from, mid), new BuildQuizzesTask(builder, out, mid, to));
+        }
+    }
 }
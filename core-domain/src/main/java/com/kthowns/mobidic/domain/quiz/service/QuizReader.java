@@ -3,19 +3,58 @@ package com.kthowns.mobidic.domain.quiz.service;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.model.QuizToken;
 import com.kthowns.mobidic.domain.quiz.properties.QuizRedisKey;
 import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 class QuizReader {
     private final QuizAnswerRepository quizAnswerRepository;
 
-    public QuizAnswer read(String token) {
-        String key = QuizRedisKey.QUIZ + ":" + token;
-        return quizAnswerRepository.read(key)
+    // 정답 조회와 삭제를 원자적으로 수행하므로 같은 토큰은 한 번만 채점됨
+    public QuizAnswer consume(String token, UUID userId) {
+        QuizToken quizToken = QuizToken.parse(token)
+                .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_QUIZ));
+        return quizAnswerRepository.consume(sessionKey(quizToken.sessionId()), quizToken.field(), userId)
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.REQUEST_TIMEOUT));
     }
+
+    // 세션별로 한 번씩 원자적으로 소비, 만료되었거나 이미 채점된 토큰은 결과에서 제외
+    public Map<String, QuizAnswer> consumeAll(List<String> tokens, UUID userId) {
+        Map<String, Map<String, String>> tokensBySession = new LinkedHashMap<>();
+
+        for (String token : tokens) {
+            QuizToken quizToken = QuizToken.parse(token)
+                    .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_QUIZ));
+            tokensBySession.computeIfAbsent(quizToken.sessionId(), sessionId -> new LinkedHashMap<>())
+                    .putIfAbsent(quizToken.field(), token);
+        }
+
+        Map<String, QuizAnswer> quizAnswers = new HashMap<>();
+
+        // 여러 세션이면 소비 전에 모든 세션의 소유자를 확인해, 뒤 세션에서 실패해도 앞 세션의 정답이 채점 없이 지워지지 않게 함
+        if (tokensBySession.size() > 1 && !quizAnswerRepository.isOwnedBy(
+                tokensBySession.keySet().stream().map(QuizReader::sessionKey).toList(), userId)) {
+            throw new ApiException(GeneralResponseCode.NO_QUIZ);
+        }
+
+        tokensBySession.forEach((sessionId, tokensByField) ->
+                quizAnswerRepository.consumeAll(sessionKey(sessionId), List.copyOf(tokensByField.keySet()), userId)
+                        .forEach((field, quizAnswer) -> quizAnswers.put(tokensByField.get(field), quizAnswer)));
+
+        return quizAnswers;
+    }
+
+    private static String sessionKey(String sessionId) {
+        return QuizRedisKey.QUIZ + ":" + sessionId;
+    }
 }
@@ -1,9 +1,13 @@
 package com.kthowns.mobidic.domain.quiz.service;
 
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.quiz.model.*;
 import com.kthowns.mobidic.domain.quiz.properties.QuizProperties;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
 import com.kthowns.mobidic.domain.statistic.service.StatisticService;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import com.kthowns.mobidic.domain.word.service.WordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -24,26 +29,29 @@ public class QuizService {
 
     private final QuizAppender quizAppender;
     private final QuizReader quizReader;
-    private final QuizRemover quizRemover;
-    private final QuizValidator quizValidator;
+    private final QuizWordSelector quizWordSelector;
 
     @Transactional(readOnly = true)
-    public List<QuizInfo> getOXQuizzes(UUID userId, UUID vocabularyId) {
-        return generateQuizzes(userId, vocabularyId, QuizType.OX);
+    public List<QuizInfo> getOXQuizzes(UUID userId, UUID vocabularyId, Integer size, WordSampling sampling) {
+        return generateQuizzes(userId, vocabularyId, QuizType.OX, size, sampling);
     }
 
     @Transactional(readOnly = true)
-    public List<QuizInfo> getBlankQuizzes(UUID userId, UUID vocabularyId) {
-        return generateQuizzes(userId, vocabularyId, QuizType.BLANK);
+    public List<QuizInfo> getBlankQuizzes(UUID userId, UUID vocabularyId, Integer size, WordSampling sampling) {
+        return generateQuizzes(userId, vocabularyId, QuizType.BLANK, size, sampling);
     }
 
-    @Transactional
-    public QuizResult rateQuiz(UUID userId, String token, String answer) {
-        QuizAnswer quizAnswer = quizReader.read(token);
+    // 모든 단어장에서 복습 예정 시각이 지난 단어를 가장 오래 밀린 순으로 출제, 채점되면 다음 복습 일정이 다시 잡힘
+    @Transactional(readOnly = true)
+    public List<QuizInfo> getReviewQuizzes(UUID userId, QuizType quizType, Integer size) {
+        List<UUID> dueWordIds = statisticService.getDueWordIds(userId, resolveQuizSize(size));
 
-        quizValidator.validateOwnership(quizAnswer, userId);
+        return toQuizInfos(userId, quizType, wordService.getWordDetailsNotLearnedByIds(userId, dueWordIds));
+    }
 
-        quizRemover.remove(token);
+    @Transactional
+    public QuizResult rateQuiz(UUID userId, String token, String answer) {
+        QuizAnswer quizAnswer = quizReader.consume(token, userId);
 
         boolean isCorrect = answer.equalsIgnoreCase(quizAnswer.answer());
 
@@ -59,24 +67,85 @@ public class QuizService {
                 .build();
     }
 
-    private List<QuizInfo> generateQuizzes(UUID userId, UUID vocabularyId, QuizType quizType) {
-        List<WordDetail> wordDetails = wordService.getWordDetailsNotLearnedByVocabularyId(userId, vocabularyId);
+    // 만료되었거나 이미 채점된 문제는 오답으로 표시하고 정답은 비워서 반환
+    @Transactional
+    public List<QuizResult> rateQuizzes(UUID userId, List<QuizSubmission> submissions) {
+        // 한 번에 채점할 수 있는 문제 수는 출제 최대 개수와 같게 제한
+        if (submissions.size() > quizProperties.getMaxQuizSize()) {
+            throw new ApiException(GeneralResponseCode.TOO_MANY_QUIZ_SUBMISSIONS);
+        }
+
+        Map<String, QuizAnswer> quizAnswers = quizReader.consumeAll(
+                submissions.stream().map(QuizSubmission::token).toList(), userId);
+
+        // 같은 단어가 여러 번 채점되어도 복습 일정은 채점마다 갱신되도록 합치지 않고 채점 순서대로 넘김
+        List<WordStatisticDelta> grades = new ArrayList<>(submissions.size());
+        List<QuizResult> results = new ArrayList<>(submissions.size());
+
+        for (QuizSubmission submission : submissions) {
+            // 같은 토큰이 중복으로 제출되면 처음 것만 채점
+            QuizAnswer quizAnswer = quizAnswers.remove(submission.token());
+
+            if (quizAnswer == null) {
+                results.add(QuizResult.builder()
+                        .isCorrect(false)
+                        .build());
+                continue;
+            }
+
+            boolean isCorrect = submission.answer().equalsIgnoreCase(quizAnswer.answer());
+
+            grades.add(WordStatisticDelta.of(quizAnswer.wordId(), isCorrect ? 1 : 0, isCorrect ? 0 : 1));
+
+            results.add(QuizResult.builder()
+                    .isCorrect(isCorrect)
+                    .correctAnswer(quizAnswer.answer())
+                    .build());
+        }
+
+        if (!grades.isEmpty()) {
+            statisticService.increaseCounts(userId, grades);
+        }
+
+        return results;
+    }
+
+    // 단어장 전체가 아닌 출제할 단어만 DB 에서 추출하여 문제 수에 비례하는 비용으로 생성
+    private List<QuizInfo> generateQuizzes(UUID userId, UUID vocabularyId, QuizType quizType, Integer size, WordSampling sampling) {
+        int quizSize = resolveQuizSize(size);
+
+        List<WordDetail> wordDetails = sampling == WordSampling.ADAPTIVE
+                ? quizWordSelector.select(userId, vocabularyId, quizSize)
+                : wordService.sampleWordDetailsNotLearnedByVocabularyId(
+                userId, vocabularyId, quizSize, sampling == null ? WordSampling.RANDOM : sampling);
+
+        return toQuizInfos(userId, quizType, wordDetails);
+    }
 
+    private int resolveQuizSize(Integer size) {
+        return size == null
+                ? quizProperties.getDefaultQuizSize()
+                : Math.clamp(size, 1, quizProperties.getMaxQuizSize());
+    }
+
+    private List<QuizInfo> toQuizInfos(UUID userId, QuizType quizType, List<WordDetail> wordDetails) {
         if (wordDetails.isEmpty()) {
             return List.of();
         }
 
         QuizGenerator quizGenerator = QuizGeneratorFactory.get(quizType);
-        List<Quiz> quizzes = quizGenerator.generate(userId, wordDetails);
+        List<Quiz> quizzes = quizGenerator.generate(userId, wordDetails, quizProperties.getParallelGenerationThreshold());
         List<QuizInfo> quizInfos = new ArrayList<>();
 
         long expMillis = quizProperties.getExpPerQuiz() * quizzes.size();
 
-        for (Quiz quiz : quizzes) {
-            String token = quizAppender.append(userId, quiz, expMillis);
+        List<String> tokens = quizAppender.appendAll(userId, quizzes, expMillis);
+
+        for (int i = 0; i < quizzes.size(); i++) {
+            Quiz quiz = quizzes.get(i);
 
             quizInfos.add(QuizInfo.builder()
-                    .token(token)
+                    .token(tokens.get(i))
                     .options(quiz.options())
                     .stem(quiz.stem())
                     .expMil(expMillis)
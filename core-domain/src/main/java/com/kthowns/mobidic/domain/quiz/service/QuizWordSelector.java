@@ -0,0 +1,98 @@
+package com.kthowns.mobidic.domain.quiz.service;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizWordTable;
+import com.kthowns.mobidic.domain.quiz.repository.QuizWordTableRepository;
+import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.service.WordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 난이도가 높고 마지막으로 푼 지 오래된 단어일수록 자주 출제되도록 가중 추출
+ * 가중치 테이블은 단어장별로 캐시하고 이후 통계 변경은 QuizWordTableUpdater 가 단어 단위로 반영하므로
+ * 요청마다 word_statistics 를 다시 읽지 않고 뽑힌 단어의 상세 정보만 조회
+ * 캐시에 없으면 한 요청만 테이블을 만들고 같은 단어장을 요청한 나머지는 만들어질 때까지 기다림
+ */
+@Component
+@RequiredArgsConstructor
+class QuizWordSelector {
+    // 난이도가 0 인 단어도 가끔은 출제되도록 가중치 하한
+    private static final double MIN_WEIGHT = 0.05;
+    private static final long NOT_BUILT = 0L;
+
+    private final QuizWordTableRepository quizWordTableRepository;
+    private final StatisticService statisticService;
+    private final WordService wordService;
+    private final QuizWordTableChangeLog quizWordTableChangeLog;
+
+    public List<WordDetail> select(UUID userId, UUID vocabularyId, int size) {
+        QuizWordTable quizWordTable = readOrBuild(userId, vocabularyId);
+
+        List<UUID> wordIds = quizWordTable.draw(size, ThreadLocalRandom.current());
+
+        // 소유자 확인은 상세 조회에서 수행, 테이블 생성 이후 삭제된 단어는 여기서 빠짐
+        return wordService.getWordDetailsNotLearnedByIds(userId, vocabularyId, wordIds);
+    }
+
+    // 가중치 = max(난이도, 하한) * (1 + ln(1 + 마지막 풀이 이후 경과 일수)), 학습 완료 단어는 0
+    static double weight(double difficulty, boolean isLearned, Instant lastAttemptedAt, Instant now) {
+        if (isLearned) {
+            return 0.0;
+        }
+
+        double elapsedDays = lastAttemptedAt == null
+                ? 0.0
+                : Math.max(Duration.between(lastAttemptedAt, now).toMinutes(), 0L) / (24.0 * 60.0);
+
+        return Math.max(difficulty, MIN_WEIGHT) * (1.0 + Math.log1p(elapsedDays));
+    }
+
+    // 직접 만든 경우에만 캐시에 올린 뒤 생성 도중 기록된 가중치 변경을 반영
+    private QuizWordTable readOrBuild(UUID userId, UUID vocabularyId) {
+        AtomicLong buildVersion = new AtomicLong(NOT_BUILT);
+
+        try {
+            QuizWordTable quizWordTable = quizWordTableRepository.readOrBuild(vocabularyId, () -> {
+                buildVersion.set(quizWordTableChangeLog.startBuild());
+                return build(userId, vocabularyId);
+            });
+
+            if (buildVersion.get() != NOT_BUILT) {
+                quizWordTableChangeLog.changedSince(buildVersion.get()).forEach(quizWordTable::updateWeight);
+            }
+            return quizWordTable;
+        } finally {
+            if (buildVersion.get() != NOT_BUILT) {
+                quizWordTableChangeLog.finishBuild(buildVersion.get());
+            }
+        }
+    }
+
+    private QuizWordTable build(UUID userId, UUID vocabularyId) {
+        List<WordStatistic> wordStatistics = statisticService.getWordStatisticsByVocabularyId(userId, vocabularyId);
+        Instant now = Instant.now();
+
+        List<UUID> wordIds = new ArrayList<>(wordStatistics.size());
+        double[] weights = new double[wordStatistics.size()];
+
+        for (int i = 0; i < wordStatistics.size(); i++) {
+            WordStatistic wordStatistic = wordStatistics.get(i);
+            Instant lastAttemptedAt = wordStatistic.auditTime() == null ? null : wordStatistic.auditTime().updatedAt();
+
+            wordIds.add(wordStatistic.wordId());
+            weights[i] = weight(wordStatistic.difficulty(), wordStatistic.isLearned(), lastAttemptedAt, now);
+        }
+
+        return QuizWordTable.of(wordIds, weights);
+    }
+}
@@ -0,0 +1,63 @@
+package com.kthowns.mobidic.domain.quiz.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가중치 테이블을 만드는 동안 커밋된 가중치 변경 기록 (생성 버전 이후의 변경만 다시 반영)
+ * 만드는 중인 테이블은 캐시에 없어 변경 이벤트가 반영되지 않고, 생성은 퀴즈 조회 트랜잭션의 스냅숏으로 통계를 읽으므로
+ * 통계를 다시 읽지 않고 이벤트가 계산한 가중치를 모아 두었다가 테이블이 캐시에 올라간 뒤 반영한다.
+ * 만드는 중인 테이블이 있을 때만 기록하고, 가장 먼저 시작한 생성보다 앞선 기록은 생성이 끝날 때 지운다.
+ */
+@Component
+class QuizWordTableChangeLog {
+    private final AtomicLong version = new AtomicLong();
+    private final Map<UUID, Change> changes = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> buildVersions = new ConcurrentSkipListSet<>();
+
+    // 통계를 읽기 전에 호출해야 그 뒤에 커밋된 변경이 기록됨, 반환한 버전은 changedSince/finishBuild 에 넘김
+    public synchronized long startBuild() {
+        long buildVersion = version.incrementAndGet();
+        buildVersions.add(buildVersion);
+        return buildVersion;
+    }
+
+    public boolean isBuilding() {
+        return !buildVersions.isEmpty();
+    }
+
+    // 변경 이벤트가 캐시된 테이블을 찾기 전에 호출해야 생성과 엇갈려도 빠지지 않음
+    public void record(UUID wordId, double weight) {
+        if (isBuilding()) {
+            changes.put(wordId, new Change(weight, version.incrementAndGet()));
+        }
+    }
+
+    // 단어별 마지막 가중치
+    public Map<UUID, Double> changedSince(long buildVersion) {
+        Map<UUID, Double> weights = new HashMap<>();
+        changes.forEach((wordId, change) -> {
+            if (change.version() > buildVersion) {
+                weights.put(wordId, change.weight());
+            }
+        });
+        return weights;
+    }
+
+    public synchronized void finishBuild(long buildVersion) {
+        buildVersions.remove(buildVersion);
+
+        long oldest = buildVersions.isEmpty() ? version.get() + 1 : buildVersions.first();
+        changes.values().removeIf(change -> change.version() < oldest);
+    }
+
+    private record Change(double weight, long version) {
+    }
+}
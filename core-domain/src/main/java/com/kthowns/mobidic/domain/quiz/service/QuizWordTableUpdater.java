@@ -0,0 +1,70 @@
+package com.kthowns.mobidic.domain.quiz.service;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizWordTable;
+import com.kthowns.mobidic.domain.quiz.repository.QuizWordTableRepository;
+import com.kthowns.mobidic.domain.statistic.event.WordStatisticChangedEvent;
+import com.kthowns.mobidic.domain.statistic.event.WordStatisticIncreasedEvent;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticChange;
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.word.event.VocabularyWordsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 커밋된 통계 변경만 캐시된 가중치 테이블에 반영
+ * 채점 직후 단어는 경과 시간이 0 이므로 가중치가 난이도 값으로 돌아감
+ * 단어 추가/삭제는 테이블 크기가 바뀌므로 단어장 테이블을 버리고 다음 출제 때 다시 생성
+ * 만드는 중인 테이블은 캐시에 없으므로 가중치를 QuizWordTableChangeLog 에 먼저 기록하고, 생성한 쪽이 캐시에 올린 뒤 반영
+ */
+@Component
+@RequiredArgsConstructor
+class QuizWordTableUpdater {
+    private final QuizWordTableRepository quizWordTableRepository;
+    private final StatisticService statisticService;
+    private final QuizWordTableChangeLog quizWordTableChangeLog;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void update(WordStatisticChangedEvent event) {
+        Instant now = Instant.now();
+
+        for (WordStatisticChange change : event.changes()) {
+            double weight = QuizWordSelector.weight(change.difficulty(), change.isLearned(), now, now);
+
+            quizWordTableChangeLog.record(change.wordId(), weight);
+            quizWordTableRepository.readByWordId(change.wordId())
+                    .ifPresent(quizWordTable -> quizWordTable.updateWeight(change.wordId(), weight));
+        }
+    }
+
+    // 증가 후 난이도는 이벤트에 없으므로 가중치 테이블이 캐시되었거나 만드는 중인 테이블이 있을 때만 통계를 다시 읽음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void refresh(WordStatisticIncreasedEvent event) {
+        Instant now = Instant.now();
+
+        for (UUID wordId : event.wordIds()) {
+            Optional<QuizWordTable> cached = quizWordTableRepository.readByWordId(wordId);
+            if (cached.isEmpty() && !quizWordTableChangeLog.isBuilding()) {
+                continue;
+            }
+
+            statisticService.findWordStatisticById(event.userId(), wordId).ifPresent(wordStatistic -> {
+                double weight = QuizWordSelector.weight(wordStatistic.difficulty(), wordStatistic.isLearned(), now, now);
+
+                quizWordTableChangeLog.record(wordId, weight);
+                // 기록하는 사이 캐시에 올라간 테이블도 반영되도록 다시 찾음
+                quizWordTableRepository.readByWordId(wordId)
+                        .ifPresent(quizWordTable -> quizWordTable.updateWeight(wordId, weight));
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(VocabularyWordsChangedEvent event) {
+        quizWordTableRepository.evict(event.vocabularyId());
+    }
+}
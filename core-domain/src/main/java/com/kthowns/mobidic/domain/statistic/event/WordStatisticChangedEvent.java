@@ -0,0 +1,17 @@
+package com.kthowns.mobidic.domain.statistic.event;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticChange;
+
+import java.util.List;
+
+/**
+ * 단어 통계(난이도, 학습 완료 여부)가 DB 에 반영되었음을 알리는 도메인 이벤트
+ * 트랜잭션 커밋 이후 캐시된 퀴즈 출제 가중치를 단어 단위로 갱신하는 데 사용
+ */
+public record WordStatisticChangedEvent(
+        List<WordStatisticChange> changes
+) {
+    public static WordStatisticChangedEvent of(List<WordStatisticChange> changes) {
+        return new WordStatisticChangedEvent(List.copyOf(changes));
+    }
+}
@@ -0,0 +1,17 @@
+package com.kthowns.mobidic.domain.statistic.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 단일 UPDATE 문으로 채점 횟수가 증가했음을 알리는 도메인 이벤트
+ * 증가 후 난이도를 다시 읽지 않으므로, 캐시된 퀴즈 출제 가중치가 있는 단어만 커밋 후 통계를 읽어 갱신하는 데 사용
+ */
+public record WordStatisticIncreasedEvent(
+        UUID userId,
+        List<UUID> wordIds
+) {
+    public static WordStatisticIncreasedEvent of(UUID userId, List<UUID> wordIds) {
+        return new WordStatisticIncreasedEvent(userId, List.copyOf(wordIds));
+    }
+}
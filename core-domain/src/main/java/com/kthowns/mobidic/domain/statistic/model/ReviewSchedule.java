@@ -0,0 +1,53 @@
+package com.kthowns.mobidic.domain.statistic.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * SM-2 간격 반복 일정
+ * 퀴즈는 정답/오답만 있으므로 정답은 품질 4, 오답은 품질 1 로 계산
+ */
+public record ReviewSchedule(
+        UUID wordId,
+        UUID userId,
+        int repetition,
+        double easeFactor,
+        int intervalDays,
+        Instant nextReviewAt
+) {
+    public static final double INITIAL_EASE_FACTOR = 2.5;
+    public static final double MIN_EASE_FACTOR = 1.3;
+    // 간격은 EF 배로 계속 늘어나므로 상한이 없으면 수십 번 연속 정답 뒤에 int 범위를 넘어섬
+    public static final int MAX_INTERVAL_DAYS = 365;
+
+    private static final int CORRECT_QUALITY = 4;
+    private static final int INCORRECT_QUALITY = 1;
+
+    public static ReviewSchedule create(UUID wordId, UUID userId) {
+        return new ReviewSchedule(wordId, userId, 0, INITIAL_EASE_FACTOR, 0, null);
+    }
+
+    // 정답이면 간격을 1일, 6일, 이전 간격 * EF 순으로 최대 MAX_INTERVAL_DAYS 일까지 늘리고 오답이면 처음부터 다시 1일 뒤
+    public ReviewSchedule review(boolean correct, Instant now) {
+        int quality = correct ? CORRECT_QUALITY : INCORRECT_QUALITY;
+        double newEaseFactor = Math.max(MIN_EASE_FACTOR,
+                this.easeFactor + (0.1 - (5 - quality) * (0.08 + (5 - quality) * 0.02)));
+
+        int newRepetition = correct ? this.repetition + 1 : 0;
+        int newIntervalDays = switch (newRepetition) {
+            case 0, 1 -> 1;
+            case 2 -> 6;
+            default -> (int) Math.min(MAX_INTERVAL_DAYS, Math.round(this.intervalDays * newEaseFactor));
+        };
+
+        return new ReviewSchedule(
+                this.wordId,
+                this.userId,
+                newRepetition,
+                newEaseFactor,
+                newIntervalDays,
+                now.plus(Duration.ofDays(newIntervalDays))
+        );
+    }
+}
@@ -51,6 +51,20 @@ public record WordStatistic(
         );
     }
 
+    public WordStatistic applyDelta(WordStatisticDelta delta) {
+        long newCorrectCount = this.correctCount + delta.correctCount();
+        long newIncorrectCount = this.incorrectCount + delta.incorrectCount();
+        return new WordStatistic(
+                this.wordId,
+                newCorrectCount,
+                newIncorrectCount,
+                this.isLearned,
+                calculateDifficulty(newCorrectCount, newIncorrectCount),
+                calculateAccuracy(newCorrectCount, newIncorrectCount),
+                AuditTime.update(this.auditTime)
+        );
+    }
+
     public WordStatistic toggleLearned() {
         return new WordStatistic(
                 this.wordId,
@@ -70,6 +84,11 @@ public record WordStatistic(
         return (double) correct / (correct + incorrect);
     }
 
+    // 정확도는 항상 횟수로부터 계산해 저장하므로 증가 후 횟수에서 증가분을 빼 증가 전 저장값을 얻음
+    public double accuracyBefore(long correctDelta, long incorrectDelta) {
+        return calculateAccuracy(this.correctCount - correctDelta, this.incorrectCount - incorrectDelta);
+    }
+
     private double calculateAccuracy(long correct, long incorrect) {
         long total = correct + incorrect;
         if (total == 0) return 0.0;
@@ -0,0 +1,29 @@
+package com.kthowns.mobidic.domain.statistic.model;
+
+import java.util.UUID;
+
+/**
+ * 단어 통계 변경 전후의 차이, 단어장 집계값(학습 완료 단어 수, 정확도 합) 갱신에 사용
+ * difficulty, isLearned 는 변경 후 값으로 퀴즈 출제 가중치 갱신에 사용
+ */
+public record WordStatisticChange(
+        UUID wordId,
+        long learnedDelta,
+        double accuracyDelta,
+        double difficulty,
+        boolean isLearned
+) {
+    public static WordStatisticChange between(WordStatistic before, WordStatistic after) {
+        return new WordStatisticChange(
+                after.wordId(),
+                (after.isLearned() ? 1 : 0) - (before.isLearned() ? 1 : 0),
+                after.accuracy() - before.accuracy(),
+                after.difficulty(),
+                after.isLearned()
+        );
+    }
+
+    public boolean isEmpty() {
+        return learnedDelta == 0 && accuracyDelta == 0.0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.kthowns.mobidic.domain.statistic.model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아직 DB에 반영되지 않은 단어별 정답/오답 증가분
+ */
+public record WordStatisticDelta(
+        UUID wordId,
+        long correctCount,
+        long incorrectCount
+) {
+    public static WordStatisticDelta of(UUID wordId, long correctCount, long incorrectCount) {
+        return new WordStatisticDelta(wordId, correctCount, incorrectCount);
+    }
+
+    // 같은 단어의 증가분을 처음 나온 순서대로 하나로 합침
+    public static List<WordStatisticDelta> mergeByWordId(List<WordStatisticDelta> deltas) {
+        Map<UUID, WordStatisticDelta> merged = new LinkedHashMap<>();
+        deltas.forEach(delta -> merged.merge(delta.wordId(), delta, WordStatisticDelta::plus));
+        return List.copyOf(merged.values());
+    }
+
+    public WordStatisticDelta plus(WordStatisticDelta other) {
+        return new WordStatisticDelta(
+                this.wordId,
+                this.correctCount + other.correctCount,
+                this.incorrectCount + other.incorrectCount
+        );
+    }
+
+    public boolean isEmpty() {
+        return correctCount == 0 && incorrectCount == 0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.kthowns.mobidic.domain.statistic.model;
+
+import java.util.List;
+
+/**
+ * 반영 대기열에서 꺼냈지만 아직 DB 반영이 확인(acknowledge)되지 않은 증가분 묶음
+ */
+public record WordStatisticDeltaBatch(
+        String id,
+        List<WordStatisticDelta> deltas
+) {
+    public static WordStatisticDeltaBatch of(String id, List<WordStatisticDelta> deltas) {
+        return new WordStatisticDeltaBatch(id, deltas);
+    }
+}
@@ -0,0 +1,28 @@
+package com.kthowns.mobidic.domain.statistic.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 채점 횟수 증가 결과
+ * appliedDeltas 는 DB 에 바로 반영된 단어별 증가분으로 write-behind 모드에서는 비어 있음
+ * statistics 는 증가가 받아들여진 단어의 통계로 학습 완료 여부는 잠금을 쥔 상태에서 읽은 값
+ */
+public record WordStatisticIncrease(
+        List<WordStatisticDelta> appliedDeltas,
+        List<WordStatistic> statistics
+) {
+    // 증가가 받아들여졌고 학습 완료가 아닌 단어의 채점 결과만 채점 순서대로 남김
+    public List<WordStatisticDelta> reviewGrades(List<WordStatisticDelta> grades) {
+        Set<UUID> reviewWordIds = statistics.stream()
+                .filter(statistic -> !statistic.isLearned())
+                .map(WordStatistic::wordId)
+                .collect(Collectors.toSet());
+
+        return grades.stream()
+                .filter(grade -> reviewWordIds.contains(grade.wordId()))
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.kthowns.mobidic.domain.statistic.properties;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StatisticProperties {
+    // true 이면 채점 결과를 Redis 카운터에 모아두었다가 주기적으로 DB에 일괄 반영
+    // 통계 조회는 대기 중인 증가분을 합쳐 바로 반영되지만, 단어장 집계값과 단어 목록의 정확도/난이도,
+    // 퀴즈 출제 가중치는 DB 반영 시점(최대 flush 주기)까지 늦게 바뀜
+    private final boolean writeBehindEnabled;
+    private final int flushBatchSize;
+    // 꺼낸 뒤 이 시간이 지나도록 확인되지 않은 배치는 반영 도중 실패한 것으로 보고 다시 반영
+    private final long recoveryAfterMillis;
+    // 배치별 반영 기록 보관 기간, 확인되지 않은 배치를 다시 꺼낼 수 있는 기간(recovery-after-millis)보다 충분히 길어야 함
+    private final long appliedRetentionMillis;
+
+    public StatisticProperties(
+            @Value("${statistic.write-behind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${statistic.write-behind.flush-batch-size:500}") int flushBatchSize,
+            @Value("${statistic.write-behind.recovery-after-millis:30000}") long recoveryAfterMillis,
+            @Value("${statistic.write-behind.applied-retention-millis:86400000}") long appliedRetentionMillis
+    ) {
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.flushBatchSize = flushBatchSize;
+        this.recoveryAfterMillis = recoveryAfterMillis;
+        this.appliedRetentionMillis = appliedRetentionMillis;
+    }
+
+    public boolean isWriteBehindEnabled() {
+        return writeBehindEnabled;
+    }
+
+    public int getFlushBatchSize() {
+        return flushBatchSize;
+    }
+
+    public long getRecoveryAfterMillis() {
+        return recoveryAfterMillis;
+    }
+
+    public long getAppliedRetentionMillis() {
+        return appliedRetentionMillis;
+    }
+}
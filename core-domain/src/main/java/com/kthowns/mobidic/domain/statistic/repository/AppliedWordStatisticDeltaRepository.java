@@ -0,0 +1,18 @@
+package com.kthowns.mobidic.domain.statistic.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * write-behind 배치의 단어별 DB 반영 기록
+ * 증가분 반영과 같은 트랜잭션에서 기록하므로, 커밋 후 확인(acknowledge) 전에 실패해 다시 꺼낸 배치는 이미 반영된 단어를 건너뜀
+ */
+public interface AppliedWordStatisticDeltaRepository {
+    // batchId 배치의 wordIds 를 반영 기록으로 남기고 이번에 새로 기록된(아직 반영되지 않은) 단어만 반환
+    // 같은 배치를 동시에 반영하는 트랜잭션은 먼저 기록한 쪽이 커밋하거나 롤백할 때까지 기다림
+    Set<UUID> markApplied(String batchId, Collection<UUID> wordIds);
+
+    void deleteAppliedBefore(Instant appliedBefore);
+}
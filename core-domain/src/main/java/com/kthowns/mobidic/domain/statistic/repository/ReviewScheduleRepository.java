@@ -0,0 +1,24 @@
+package com.kthowns.mobidic.domain.statistic.repository;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReviewScheduleRepository {
+    // 처음 복습하는 단어는 처음 상태의 일정을 만든 뒤 모두 잠가서 반환, 같은 단어를 동시에 채점하면 잠금 순서대로 갱신됨
+    // 그 사이 지워진 일정은 결과에서 빠짐
+    List<ReviewSchedule> readOrCreateAllForUpdate(UUID userId, Collection<UUID> wordIds);
+
+    // 같은 트랜잭션에서 readOrCreateAllForUpdate 로 불러온 일정만 갱신
+    void updateAll(List<ReviewSchedule> reviewSchedules);
+
+    // 복습 예정 시각이 now 이전인 단어를 가장 오래 밀린 순으로 최대 limit 개, 학습 완료와 삭제된 단어는 제외
+    List<UUID> readDueWordIds(UUID userId, Instant now, int limit);
+
+    void deleteAllByWordIds(UUID userId, Collection<UUID> wordIds);
+
+    void deleteAllByVocabularyId(UUID userId, UUID vocabularyId);
+}
@@ -0,0 +1,20 @@
+package com.kthowns.mobidic.domain.statistic.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 스크립트가 함께 다루는 키가 Redis Cluster 에서도 한 슬롯에 모이도록 같은 해시 태그({statistic_delta})를 사용
+@Getter
+@RequiredArgsConstructor
+public enum StatisticRedisKey {
+    PENDING("{statistic_delta}:pending"),
+    PROCESSING("{statistic_delta}:processing"),
+    BATCHES("{statistic_delta}:batches");
+
+    private final String prefix;
+
+    @Override
+    public String toString() {
+        return prefix;
+    }
+}
@@ -0,0 +1,28 @@
+package com.kthowns.mobidic.domain.statistic.repository;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDeltaBatch;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface WordStatisticDeltaRepository {
+    void increase(WordStatisticDelta delta);
+
+    void increaseAll(Collection<WordStatisticDelta> deltas);
+
+    // 반영 대기 중인 증가분과 꺼냈지만 아직 확인되지 않은 증가분을 합쳐 반환
+    Map<UUID, WordStatisticDelta> readByWordIds(Collection<UUID> wordIds);
+
+    // 반영 대기 중인 증가분 전체를 처리 중 배치로 옮겨 반환, acknowledge 전까지는 저장소에 남음
+    Optional<WordStatisticDeltaBatch> claim();
+
+    // claimedBefore 이전에 꺼낸 뒤 확인되지 않은 배치 하나를 다시 꺼냄 (반영 도중 종료, 응답 유실 등)
+    Optional<WordStatisticDeltaBatch> reclaim(Instant claimedBefore);
+
+    // DB 에 반영된 단어의 증가분을 배치에서 제거, 배치가 비면 배치도 제거
+    void acknowledge(String batchId, Collection<UUID> wordIds);
+}
@@ -2,6 +2,7 @@ package com.kthowns.mobidic.domain.statistic.repository;
 
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,13 +12,24 @@ public interface WordStatisticRepository {
 
     void update(WordStatistic wordStatistic, UUID userId);
 
+    void updateAll(List<WordStatistic> wordStatistics);
+
+    // 잠금 없이 단일 UPDATE 문으로 카운터를 증가시키고 정확도/난이도를 다시 계산, 대상 통계가 없으면 빈 값
+    // 단어장 정확도 합도 증가 전후 정확도 차이만큼 함께 갱신하고, UPDATE 로 잠근 행의 증가 후 값을 반환
+    Optional<WordStatistic> increaseCounts(UUID wordId, UUID userId, long correctDelta, long incorrectDelta);
+
     Optional<WordStatistic> readByWordIdAndUserId(UUID wordId, UUID userId);
 
     Optional<WordStatistic> readForUpdate(UUID wordId, UUID userId);
 
+    List<WordStatistic> readAllForUpdate(Collection<UUID> wordIds);
+
     List<WordStatistic> readByVocabularyId(UUID vocabularyId, UUID userId);
 
     List<WordStatistic> readByUserId(UUID userId);
 
+    // wordIds 중 사용자의 단어장에 속한 단어의 통계만 공유 잠금으로 반환
+    List<WordStatistic> readOwnedForShare(UUID userId, Collection<UUID> wordIds);
+
     double calculateVocabularyLearningRate(UUID vocabularyId, UUID userId);
 }
@@ -0,0 +1,68 @@
+package com.kthowns.mobidic.domain.statistic.service;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.repository.ReviewScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채점 결과로 단어별 복습 일정을 갱신
+ * 채점 결과 하나가 복습 한 번이며, 한 번에 같은 단어가 여러 번 채점되면 채점 순서대로 이어서 적용
+ */
+@Component
+@RequiredArgsConstructor
+class ReviewScheduler {
+    private final ReviewScheduleRepository reviewScheduleRepository;
+
+    public void schedule(UUID userId, UUID wordId, boolean correct) {
+        schedule(userId, List.of(WordStatisticDelta.of(wordId, correct ? 1 : 0, correct ? 0 : 1)));
+    }
+
+    // grades 는 채점 결과 하나당 증가분 하나 (정답이면 1/0, 오답이면 0/1)
+    public void schedule(UUID userId, List<WordStatisticDelta> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+
+        // 일정을 만든 뒤 잠그기 전에 학습 완료나 삭제로 지워진 단어는 결과에 없으므로 건너뜀
+        Map<UUID, ReviewSchedule> schedules = reviewScheduleRepository.readOrCreateAllForUpdate(userId,
+                        grades.stream().map(WordStatisticDelta::wordId).distinct().toList()).stream()
+                .collect(Collectors.toMap(ReviewSchedule::wordId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        Instant now = Instant.now();
+        for (WordStatisticDelta grade : grades) {
+            schedules.computeIfPresent(grade.wordId(),
+                    (wordId, schedule) -> schedule.review(grade.incorrectCount() == 0, now));
+        }
+
+        if (!schedules.isEmpty()) {
+            reviewScheduleRepository.updateAll(List.copyOf(schedules.values()));
+        }
+    }
+
+    // 학습 완료되거나 삭제된 단어의 일정이 남아 있으면 대기열 조회가 건너뛸 행이 계속 쌓이므로 바로 지움
+    public void remove(UUID userId, List<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return;
+        }
+
+        reviewScheduleRepository.deleteAllByWordIds(userId, wordIds);
+    }
+
+    public void removeByVocabularyId(UUID userId, UUID vocabularyId) {
+        reviewScheduleRepository.deleteAllByVocabularyId(userId, vocabularyId);
+    }
+
+    public List<UUID> readDueWordIds(UUID userId, int limit) {
+        return reviewScheduleRepository.readDueWordIds(userId, Instant.now(), limit);
+    }
+}
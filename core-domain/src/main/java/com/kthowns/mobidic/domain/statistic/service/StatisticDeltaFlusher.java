@@ -0,0 +1,79 @@
+package com.kthowns.mobidic.domain.statistic.service;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDeltaBatch;
+import com.kthowns.mobidic.domain.statistic.properties.StatisticProperties;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 꺼낸 증가분은 DB 커밋 후 확인(acknowledge)될 때까지 처리 중 배치로 남으므로, 반영 도중 종료되거나
+ * 꺼내기 응답이 유실되어도 복구 주기에 다시 반영됨
+ * 커밋 후 확인 전에 실패한 단어는 같은 트랜잭션에 남긴 반영 기록으로 건너뛰므로 두 번 반영되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class StatisticDeltaFlusher {
+    private final StatisticService statisticService;
+    private final WordStatisticDeltaRepository wordStatisticDeltaRepository;
+    private final StatisticProperties statisticProperties;
+
+    @Scheduled(fixedDelayString = "${statistic.write-behind.flush-interval-millis:1000}")
+    public void flush() {
+        if (!statisticProperties.isWriteBehindEnabled()) {
+            return;
+        }
+
+        // 이전 주기나 다른 인스턴스가 꺼낸 뒤 확인하지 못한 배치부터 반영
+        Instant claimedBefore = Instant.now().minusMillis(statisticProperties.getRecoveryAfterMillis());
+        Optional<WordStatisticDeltaBatch> staleBatch;
+        while ((staleBatch = wordStatisticDeltaRepository.reclaim(claimedBefore)).isPresent()) {
+            if (!apply(staleBatch.get())) {
+                return;
+            }
+        }
+
+        wordStatisticDeltaRepository.claim().ifPresent(this::apply);
+    }
+
+    // 반영 기록은 배치를 다시 꺼낼 수 있는 동안만 필요하므로 보관 기간이 지나면 정리
+    @Scheduled(fixedDelayString = "${statistic.write-behind.applied-cleanup-interval-millis:3600000}")
+    public void deleteExpiredAppliedDeltas() {
+        if (!statisticProperties.isWriteBehindEnabled()) {
+            return;
+        }
+
+        statisticService.deleteAppliedDeltasBefore(
+                Instant.now().minusMillis(statisticProperties.getAppliedRetentionMillis()));
+    }
+
+    // flush-batch-size 단위로 나누어 반영하고 커밋된 단위마다 확인, 실패하면 남은 증가분은 배치에 둔 채 복구 주기에 다시 시도
+    private boolean apply(WordStatisticDeltaBatch batch) {
+        List<WordStatisticDelta> deltas = batch.deltas();
+        int chunkSize = statisticProperties.getFlushBatchSize();
+
+        for (int from = 0; from < deltas.size(); from += chunkSize) {
+            List<WordStatisticDelta> chunk = deltas.subList(from, Math.min(from + chunkSize, deltas.size()));
+
+            try {
+                statisticService.applyDeltas(batch.id(), chunk);
+            } catch (Exception e) {
+                log.error("Failed to flush word statistic deltas. {} deltas stay in batch {} for retry.",
+                        deltas.size() - from, batch.id(), e);
+                return false;
+            }
+
+            wordStatisticDeltaRepository.acknowledge(batch.id(), chunk.stream().map(WordStatisticDelta::wordId).toList());
+        }
+
+        return true;
+    }
+}
@@ -3,32 +3,67 @@ package com.kthowns.mobidic.domain.statistic.service;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.properties.StatisticProperties;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
 import com.kthowns.mobidic.domain.statistic.repository.WordStatisticRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 class StatisticReader {
     private final WordStatisticRepository wordStatisticRepository;
+    private final WordStatisticDeltaRepository wordStatisticDeltaRepository;
+    private final StatisticProperties statisticProperties;
 
     public WordStatistic readByWordIdAndUserId(UUID wordId, UUID userId) {
-        return wordStatisticRepository.readByWordIdAndUserId(wordId, userId)
+        WordStatistic wordStatistic = wordStatisticRepository.readByWordIdAndUserId(wordId, userId)
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_STAT));
+
+        return mergePendingDeltas(List.of(wordStatistic)).getFirst();
+    }
+
+    public Optional<WordStatistic> findByWordIdAndUserId(UUID wordId, UUID userId) {
+        return wordStatisticRepository.readByWordIdAndUserId(wordId, userId)
+                .map(wordStatistic -> mergePendingDeltas(List.of(wordStatistic)).getFirst());
     }
 
     public List<WordStatistic> readByVocabularyId(UUID vocabularyId, UUID userId) {
-        return wordStatisticRepository.readByVocabularyId(vocabularyId, userId);
+        return mergePendingDeltas(wordStatisticRepository.readByVocabularyId(vocabularyId, userId));
     }
 
     public List<WordStatistic> readByUserId(UUID userId) {
-        return wordStatisticRepository.readByUserId(userId);
+        return mergePendingDeltas(wordStatisticRepository.readByUserId(userId));
     }
 
     public double readVocabLearningRate(UUID vocabularyId, UUID userId) {
         return wordStatisticRepository.calculateVocabularyLearningRate(vocabularyId, userId);
     }
+
+    // write-behind 모드에서는 아직 DB에 반영되지 않은 증가분을 합쳐서 반환
+    private List<WordStatistic> mergePendingDeltas(List<WordStatistic> wordStatistics) {
+        if (!statisticProperties.isWriteBehindEnabled() || wordStatistics.isEmpty()) {
+            return wordStatistics;
+        }
+
+        Map<UUID, WordStatisticDelta> pendingDeltas = wordStatisticDeltaRepository.readByWordIds(
+                wordStatistics.stream().map(WordStatistic::wordId).toList());
+
+        if (pendingDeltas.isEmpty()) {
+            return wordStatistics;
+        }
+
+        return wordStatistics.stream()
+                .map(ws -> {
+                    WordStatisticDelta delta = pendingDeltas.get(ws.wordId());
+                    return delta == null ? ws : ws.applyDelta(delta);
+                })
+                .toList();
+    }
 }
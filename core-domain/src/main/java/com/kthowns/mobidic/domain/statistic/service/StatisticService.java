@@ -2,14 +2,24 @@ package com.kthowns.mobidic.domain.statistic.service;
 
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
+import com.kthowns.mobidic.domain.statistic.event.WordStatisticChangedEvent;
+import com.kthowns.mobidic.domain.statistic.event.WordStatisticIncreasedEvent;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticChange;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticIncrease;
+import com.kthowns.mobidic.domain.vocabulary.event.VocabularyDetailChangedEvent;
 import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -19,7 +29,9 @@ public class StatisticService {
     private final StatisticReader statisticReader;
     private final StatisticUpdater statisticUpdater;
     private final StatisticAppender statisticAppender;
+    private final ReviewScheduler reviewScheduler;
     private final VocabularyService vocabularyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void append(UUID wordId) {
@@ -31,6 +43,12 @@ public class StatisticService {
         return statisticReader.readByWordIdAndUserId(wordId, userId);
     }
 
+    // 커밋 후 캐시 갱신용, 그 사이 삭제된 단어는 빈 값
+    @Transactional(readOnly = true)
+    public Optional<WordStatistic> findWordStatisticById(UUID userId, UUID wordId) {
+        return statisticReader.findByWordIdAndUserId(wordId, userId);
+    }
+
     @Transactional(readOnly = true)
     public double getVocabLearningRate(UUID userId, UUID vocabId) {
         if (!vocabularyService.existsByIdAndUser(vocabId, userId)) {
@@ -40,19 +58,74 @@ public class StatisticService {
         return statisticReader.readVocabLearningRate(vocabId, userId);
     }
 
+    @Transactional(readOnly = true)
+    public List<WordStatistic> getWordStatisticsByVocabularyId(UUID userId, UUID vocabularyId) {
+        if (!vocabularyService.existsByIdAndUser(vocabularyId, userId)) {
+            throw new ApiException(GeneralResponseCode.NO_VOCAB);
+        }
+
+        return statisticReader.readByVocabularyId(vocabularyId, userId);
+    }
+
+    // 학습 완료된 단어는 복습 대기열에서 빠지고, 학습 완료를 해제하면 다음 채점부터 다시 예약됨
     @Transactional
     public void toggleLearnedByWordId(UUID userId, UUID wordId) {
-        statisticUpdater.toggleLearned(userId, wordId);
+        statisticUpdater.toggleLearned(userId, wordId)
+                .ifPresent(change -> {
+                    applyToVocabulary(userId, List.of(change));
+                    if (change.isLearned()) {
+                        reviewScheduler.remove(userId, List.of(wordId));
+                    }
+                });
     }
 
     @Transactional
     public void increaseCorrectCount(UUID userId, UUID wordId) {
-        statisticUpdater.increaseCorrectCount(userId, wordId);
+        onIncreased(userId, statisticUpdater.increaseCorrectCount(userId, wordId),
+                List.of(WordStatisticDelta.of(wordId, 1, 0)));
     }
 
     @Transactional
     public void increaseIncorrectCount(UUID userId, UUID wordId) {
-        statisticUpdater.increaseIncorrectCount(userId, wordId);
+        onIncreased(userId, statisticUpdater.increaseIncorrectCount(userId, wordId),
+                List.of(WordStatisticDelta.of(wordId, 0, 1)));
+    }
+
+    // 채점 결과 하나당 증가분 하나를 채점 순서대로 받음, 통계는 단어별로 합쳐 반영하고 복습 일정은 채점마다 한 번씩 갱신
+    @Transactional
+    public void increaseCounts(UUID userId, List<WordStatisticDelta> grades) {
+        onIncreased(userId, statisticUpdater.increaseCounts(userId, grades), grades);
+    }
+
+    // 복습 일정은 write-behind 여부와 관계없이 채점 시점에 바로 갱신되므로 지연 반영분을 합칠 필요 없음
+    @Transactional(readOnly = true)
+    public List<UUID> getDueWordIds(UUID userId, int size) {
+        return reviewScheduler.readDueWordIds(userId, size);
+    }
+
+    @Transactional
+    public void deleteReviewSchedule(UUID userId, UUID wordId) {
+        reviewScheduler.remove(userId, List.of(wordId));
+    }
+
+    // 단어장 삭제 시 단어는 DB 에서 함께 지워지므로 단어장을 지우기 전에 호출해야 함
+    @Transactional
+    public void deleteReviewSchedulesByVocabularyId(UUID userId, UUID vocabularyId) {
+        reviewScheduler.removeByVocabularyId(userId, vocabularyId);
+    }
+
+    @Transactional
+    public void applyDeltas(String batchId, List<WordStatisticDelta> deltas) {
+        List<WordStatisticChange> changes = statisticUpdater.applyDeltas(batchId, deltas);
+        publishStatisticChanged(changes);
+
+        List<UUID> changedWordIds = adjustVocabularyAggregates(changes);
+        vocabularyService.publishDetailChangedByWordIds(changedWordIds);
+    }
+
+    @Transactional
+    public void deleteAppliedDeltasBefore(Instant appliedBefore) {
+        statisticUpdater.deleteAppliedBefore(appliedBefore);
     }
 
     @Transactional(readOnly = true)
@@ -71,6 +144,55 @@ public class StatisticService {
         return calcAvgRate(wordStatistics);
     }
 
+    private void applyToVocabulary(UUID userId, List<WordStatisticChange> changes) {
+        publishStatisticChanged(changes);
+
+        if (!adjustVocabularyAggregates(changes).isEmpty()) {
+            eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
+        }
+    }
+
+    // 증가가 받아들여진 단어 중 학습 완료가 아닌 단어만 복습 일정을 갱신
+    // 학습 완료나 단어 삭제로 지워진 일정을 채점이 다시 만들지 않도록 함
+    private void onIncreased(UUID userId, WordStatisticIncrease increase, List<WordStatisticDelta> grades) {
+        publishIncreased(userId, increase.appliedDeltas());
+        reviewScheduler.schedule(userId, increase.reviewGrades(grades));
+    }
+
+    // 단어장 정확도 합은 증가 UPDATE 에서 함께 갱신되었으므로 캐시 무효화와 출제 가중치 갱신만 알림
+    private void publishIncreased(UUID userId, List<WordStatisticDelta> appliedDeltas) {
+        if (appliedDeltas.isEmpty()) {
+            return;
+        }
+
+        eventPublisher.publishEvent(WordStatisticIncreasedEvent.of(
+                userId, appliedDeltas.stream().map(WordStatisticDelta::wordId).toList()));
+        eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
+    }
+
+    // 정확도가 그대로여도 난이도는 바뀔 수 있으므로 집계값 변경 여부와 관계없이 발행
+    private void publishStatisticChanged(List<WordStatisticChange> changes) {
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(WordStatisticChangedEvent.of(changes));
+        }
+    }
+
+    // 단어장 목록 조회 시 GROUP BY 없이 읽을 수 있도록 단어장 집계값을 같은 트랜잭션에서 갱신, 집계값이 바뀐 단어 식별자 반환
+    private List<UUID> adjustVocabularyAggregates(List<WordStatisticChange> changes) {
+        List<UUID> changedWordIds = new ArrayList<>(changes.size());
+
+        for (WordStatisticChange change : changes) {
+            if (change.isEmpty()) {
+                continue;
+            }
+
+            vocabularyService.adjustAggregates(change.wordId(), change.learnedDelta(), change.accuracyDelta());
+            changedWordIds.add(change.wordId());
+        }
+
+        return changedWordIds;
+    }
+
     private double calcAvgRate(List<WordStatistic> wordStatistics) {
         if (wordStatistics == null || wordStatistics.isEmpty()) {
             return 0.0;
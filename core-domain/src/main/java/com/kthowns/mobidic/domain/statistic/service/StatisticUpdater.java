@@ -3,35 +3,152 @@ package com.kthowns.mobidic.domain.statistic.service;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticChange;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticIncrease;
+import com.kthowns.mobidic.domain.statistic.properties.StatisticProperties;
+import com.kthowns.mobidic.domain.statistic.repository.AppliedWordStatisticDeltaRepository;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
 import com.kthowns.mobidic.domain.statistic.repository.WordStatisticRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 학습 완료 토글과 일괄 반영(applyDeltas)은 단어장 집계값 갱신을 위해 변경 전후의 차이를 반환
+ * 채점 횟수 증가는 단어장 정확도 합까지 UPDATE 문에서 갱신하므로 DB 에 바로 반영된 증가분만 반환
+ * write-behind 모드에서 Redis 에만 기록된 증가분은 DB 반영 시점(applyDeltas)에 차이를 반환
+ * 채점 횟수 증가는 복습 일정 갱신 여부를 정할 수 있도록 증가가 받아들여진 단어의 통계도 함께 반환
+ * Redis 기록은 DB 트랜잭션과 함께 롤백되지 않으므로 채점 트랜잭션이 커밋된 뒤에 기록
+ */
 @Component
 @RequiredArgsConstructor
 class StatisticUpdater {
     private final WordStatisticRepository wordStatisticRepository;
+    private final WordStatisticDeltaRepository wordStatisticDeltaRepository;
+    private final AppliedWordStatisticDeltaRepository appliedWordStatisticDeltaRepository;
+    private final StatisticProperties statisticProperties;
 
-    public void toggleLearned(UUID userId, UUID wordId) {
+    public Optional<WordStatisticChange> toggleLearned(UUID userId, UUID wordId) {
         WordStatistic wordStatistic = wordStatisticRepository.readForUpdate(wordId, userId)
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_STAT));
+        WordStatistic toggled = wordStatistic.toggleLearned();
 
-        wordStatisticRepository.update(wordStatistic.toggleLearned(), userId);
+        wordStatisticRepository.update(toggled, userId);
+
+        return Optional.of(WordStatisticChange.between(wordStatistic, toggled));
     }
 
-    public void increaseCorrectCount(UUID userId, UUID wordId) {
-        WordStatistic wordStatistic = wordStatisticRepository.readForUpdate(wordId, userId)
-                .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_STAT));
+    public WordStatisticIncrease increaseCorrectCount(UUID userId, UUID wordId) {
+        return increase(userId, WordStatisticDelta.of(wordId, 1, 0));
+    }
 
-        wordStatisticRepository.update(wordStatistic.increaseCorrectCount(), userId);
+    public WordStatisticIncrease increaseIncorrectCount(UUID userId, UUID wordId) {
+        return increase(userId, WordStatisticDelta.of(wordId, 0, 1));
     }
 
-    public void increaseIncorrectCount(UUID userId, UUID wordId) {
-        WordStatistic wordStatistic = wordStatisticRepository.readForUpdate(wordId, userId)
+    // 채점마다 받은 증가분을 단어별로 합쳐 단어당 UPDATE 한 번으로 반영, 퀴즈 도중 삭제된 단어의 증가분은 버림
+    public WordStatisticIncrease increaseCounts(UUID userId, List<WordStatisticDelta> grades) {
+        List<WordStatisticDelta> deltas = WordStatisticDelta.mergeByWordId(grades);
+
+        if (statisticProperties.isWriteBehindEnabled()) {
+            List<WordStatistic> owned = wordStatisticRepository.readOwnedForShare(
+                    userId, deltas.stream().map(WordStatisticDelta::wordId).toList());
+            Set<UUID> ownedWordIds = owned.stream().map(WordStatistic::wordId).collect(Collectors.toSet());
+            List<WordStatisticDelta> ownedDeltas = deltas.stream()
+                    .filter(delta -> ownedWordIds.contains(delta.wordId()))
+                    .toList();
+            afterCommit(() -> wordStatisticDeltaRepository.increaseAll(ownedDeltas));
+            return new WordStatisticIncrease(List.of(), owned);
+        }
+
+        List<WordStatisticDelta> applied = new ArrayList<>(deltas.size());
+        List<WordStatistic> increased = new ArrayList<>(deltas.size());
+        for (WordStatisticDelta delta : deltas) {
+            wordStatisticRepository.increaseCounts(delta.wordId(), userId, delta.correctCount(), delta.incorrectCount())
+                    .ifPresent(statistic -> {
+                        applied.add(delta);
+                        increased.add(statistic);
+                    });
+        }
+
+        return new WordStatisticIncrease(applied, increased);
+    }
+
+    // 그 사이 삭제된 단어의 증가분은 버리고, 같은 배치에서 이미 반영된 단어(커밋 후 확인 전에 실패해 다시 꺼낸 경우)는 건너뜀
+    public List<WordStatisticChange> applyDeltas(String batchId, List<WordStatisticDelta> deltas) {
+        Set<UUID> unappliedWordIds = appliedWordStatisticDeltaRepository.markApplied(
+                batchId, deltas.stream().map(WordStatisticDelta::wordId).toList());
+        Map<UUID, WordStatisticDelta> deltaMap = deltas.stream()
+                .filter(delta -> unappliedWordIds.contains(delta.wordId()))
+                .collect(Collectors.toMap(WordStatisticDelta::wordId, Function.identity()));
+
+        if (deltaMap.isEmpty()) {
+            return List.of();
+        }
+
+        List<WordStatistic> before = wordStatisticRepository.readAllForUpdate(deltaMap.keySet());
+        List<WordStatistic> updated = before.stream()
+                .map(ws -> ws.applyDelta(deltaMap.get(ws.wordId())))
+                .toList();
+
+        wordStatisticRepository.updateAll(updated);
+
+        List<WordStatisticChange> changes = new ArrayList<>(updated.size());
+        for (int i = 0; i < updated.size(); i++) {
+            changes.add(WordStatisticChange.between(before.get(i), updated.get(i)));
+        }
+
+        return changes;
+    }
+
+    public void deleteAppliedBefore(Instant appliedBefore) {
+        appliedWordStatisticDeltaRepository.deleteAppliedBefore(appliedBefore);
+    }
+
+    private WordStatisticIncrease increase(UUID userId, WordStatisticDelta delta) {
+        // write-behind 모드에서도 동기 경로의 UPDATE 조건과 같이 사용자의 단어인지 확인한 뒤에만 기록
+        // 공유 잠금으로 읽어 학습 완료 토글(readForUpdate)과 순서를 맞춤
+        if (statisticProperties.isWriteBehindEnabled()) {
+            List<WordStatistic> owned = wordStatisticRepository.readOwnedForShare(userId, List.of(delta.wordId()));
+            if (owned.isEmpty()) {
+                throw new ApiException(GeneralResponseCode.NO_STAT);
+            }
+
+            afterCommit(() -> wordStatisticDeltaRepository.increase(delta));
+            return new WordStatisticIncrease(List.of(), owned);
+        }
+
+        WordStatistic increased = wordStatisticRepository.increaseCounts(
+                        delta.wordId(), userId, delta.correctCount(), delta.incorrectCount())
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_STAT));
 
-        wordStatisticRepository.update(wordStatistic.increaseIncorrectCount(), userId);
+        return new WordStatisticIncrease(List.of(delta), List.of(increased));
+    }
+
+    // 트랜잭션 밖에서 호출되면 바로 기록, 커밋 후 기록이 실패하면 DB 는 이미 커밋되었으므로 예외만 호출 측으로 전달됨
+    private void afterCommit(Runnable record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.run();
+            }
+        });
     }
 }
@@ -0,0 +1,15 @@
+package com.kthowns.mobidic.domain.vocabulary.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 단어장 상세 정보(단어 수, 학습률, 정확도 등)가 변경되었음을 알리는 도메인 이벤트
+ * 트랜잭션 커밋 이후 해당 사용자의 단어장 상세 캐시를 무효화하는 데 사용
+ */
+public record VocabularyDetailChangedEvent(
+        UUID userId
+) {
+    public static VocabularyDetailChangedEvent of(UUID userId) {
+        return new VocabularyDetailChangedEvent(userId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.kthowns.mobidic.domain.vocabulary.facade;
+
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class VocabularyFacade {
+    private final VocabularyService vocabularyService;
+    private final StatisticService statisticService;
+
+    @Transactional
+    public void deleteVocab(UUID userId, UUID vocabularyId) {
+        // 단어장을 지우면 단어가 DB 에서 함께 지워져 복습 일정을 단어장으로 찾을 수 없으므로 먼저 삭제
+        statisticService.deleteReviewSchedulesByVocabularyId(userId, vocabularyId);
+
+        vocabularyService.deleteVocab(userId, vocabularyId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kthowns.mobidic.domain.vocabulary.model;
+
+import java.util.UUID;
+
+/**
+ * 단어장 목록 조회용으로 단어장 행에 미리 계산해 두는 집계값
+ * 학습률 = learnedCount / wordCount, 평균 정확도 = accuracySum / wordCount
+ */
+public record VocabularyAggregate(
+        UUID vocabularyId,
+        long wordCount,
+        long learnedCount,
+        double accuracySum
+) {
+    // 부동소수점 누적 오차는 드리프트로 보지 않음
+    private static final double ACCURACY_TOLERANCE = 1e-6;
+
+    public static VocabularyAggregate of(UUID vocabularyId, long wordCount, long learnedCount, double accuracySum) {
+        return new VocabularyAggregate(vocabularyId, wordCount, learnedCount, accuracySum);
+    }
+
+    public boolean isDriftedFrom(VocabularyAggregate actual) {
+        return this.wordCount != actual.wordCount
+                || this.learnedCount != actual.learnedCount
+                || Math.abs(this.accuracySum - actual.accuracySum) > ACCURACY_TOLERANCE;
+    }
+
+    public double learningRate() {
+        return wordCount == 0 ? 0.0 : (double) learnedCount / wordCount;
+    }
+
+    public double accuracy() {
+        return wordCount == 0 ? 0.0 : accuracySum / wordCount;
+    }
+}
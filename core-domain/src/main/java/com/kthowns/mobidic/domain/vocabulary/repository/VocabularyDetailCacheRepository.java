@@ -0,0 +1,25 @@
+package com.kthowns.mobidic.domain.vocabulary.repository;
+
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 단어장 상세 목록 캐시
+ * 캐시 장애 시에는 예외 대신 미스로 처리하여 DB 조회로 대체
+ */
+public interface VocabularyDetailCacheRepository {
+
+    Optional<List<VocabularyDetail>> readByUserId(UUID userId);
+
+    /**
+     * 캐시 미스면 loader 로 조회한 값을 반환하고 캐시에 채움
+     * 조회하는 동안 evict 된 경우 조회 결과가 이미 오래된 값일 수 있으므로 채우지 않음
+     */
+    List<VocabularyDetail> readOrLoad(UUID userId, Supplier<List<VocabularyDetail>> loader);
+
+    void evict(UUID userId);
+}
@@ -0,0 +1,17 @@
+package com.kthowns.mobidic.domain.vocabulary.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VocabularyRedisKey {
+    DETAILS("vocabulary_details");
+
+    private final String prefix;
+
+    @Override
+    public String toString() {
+        return prefix;
+    }
+}
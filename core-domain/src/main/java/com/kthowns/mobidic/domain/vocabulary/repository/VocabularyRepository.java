@@ -1,8 +1,10 @@
 package com.kthowns.mobidic.domain.vocabulary.repository;
 
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,7 +23,27 @@ public interface VocabularyRepository {
 
     void increaseWordCount(UUID vocabularyId, UUID userId);
 
-    void decreaseWordCount(UUID vocabularyId, UUID userId);
+    // 삭제되는 단어의 학습 여부와 정확도도 함께 집계값에서 차감
+    void decreaseWordCount(UUID vocabularyId, UUID wordId, UUID userId);
+
+    void adjustAggregatesByWordId(UUID wordId, long learnedDelta, double accuracyDelta);
+
+    List<VocabularyAggregate> readAggregates(UUID lastVocabularyId, int limit);
+
+    // 집계 컬럼이 추가되기 전부터 있던, 아직 한 번도 집계값을 계산하지 않은 단어장
+    List<UUID> readNotBackfilledIds(int limit);
+
+    Optional<VocabularyAggregate> readAggregateForUpdate(UUID vocabularyId);
+
+    // 단어와 단어 통계로부터 집계값을 새로 계산 (정합성 검증용)
+    List<VocabularyAggregate> calculateAggregates(Collection<UUID> vocabularyIds);
+
+    // 저장하면서 집계값 계산 완료로 표시
+    void updateAggregate(VocabularyAggregate vocabularyAggregate);
+
+    Optional<UUID> readUserIdById(UUID vocabularyId);
+
+    List<UUID> readUserIdsByWordIds(Collection<UUID> wordIds);
 
     void delete(UUID vocabularyId, UUID userId);
 
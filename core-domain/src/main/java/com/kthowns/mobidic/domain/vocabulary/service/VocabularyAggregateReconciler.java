@@ -0,0 +1,73 @@
+package com.kthowns.mobidic.domain.vocabulary.service;
+
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 단어장 행에 저장된 집계값을 단어/단어 통계로부터 다시 계산한 값과 비교하고 어긋난 단어장을 복구
+ * 집계 컬럼 추가 이전의 단어장은 기본값 0 으로 남아 있으므로 기동 시 한 번 다시 계산(backfill)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class VocabularyAggregateReconciler {
+    private static final int PAGE_SIZE = 500;
+
+    private final VocabularyService vocabularyService;
+
+    // 계산한 단어장은 완료로 표시되어 다음 조회에서 빠지므로 항상 첫 페이지를 다시 읽음
+    @EventListener(ContextRefreshedEvent.class)
+    public void backfill() {
+        int backfilled = 0;
+
+        List<UUID> page;
+        do {
+            page = vocabularyService.getNotBackfilledIds(PAGE_SIZE);
+            page.forEach(vocabularyService::backfillAggregate);
+            backfilled += page.size();
+        } while (page.size() == PAGE_SIZE);
+
+        if (backfilled > 0) {
+            log.info("Vocabulary aggregates backfilled. count: {}", backfilled);
+        }
+    }
+
+    @Scheduled(cron = "${vocabulary.aggregate.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        UUID lastVocabularyId = null;
+        int checked = 0;
+        int repaired = 0;
+
+        List<VocabularyAggregate> page;
+        do {
+            page = vocabularyService.getAggregates(lastVocabularyId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            for (UUID vocabularyId : vocabularyService.findDriftedVocabularyIds(page)) {
+                // 검사 이후 정상적으로 갱신된 경우도 있으므로 잠금을 잡고 다시 확인한 뒤 복구
+                if (vocabularyService.reconcileAggregate(vocabularyId)) {
+                    repaired++;
+                }
+            }
+
+            checked += page.size();
+            lastVocabularyId = page.getLast().vocabularyId();
+        } while (page.size() == PAGE_SIZE);
+
+        if (repaired > 0) {
+            log.warn("Vocabulary aggregates drifted. checked: {}, repaired: {}", checked, repaired);
+        } else {
+            log.info("Vocabulary aggregates verified. checked: {}", checked);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.kthowns.mobidic.domain.vocabulary.service;
+
+import com.kthowns.mobidic.domain.vocabulary.event.VocabularyDetailChangedEvent;
+import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyDetailCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋 전에 무효화하면 다른 요청이 커밋 전 값을 다시 캐시에 채울 수 있으므로 커밋 이후에 무효화
+ * 롤백된 변경은 무효화하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+class VocabularyDetailCacheEvictor {
+    private final VocabularyDetailCacheRepository vocabularyDetailCacheRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(VocabularyDetailChangedEvent event) {
+        vocabularyDetailCacheRepository.evict(event.userId());
+    }
+}
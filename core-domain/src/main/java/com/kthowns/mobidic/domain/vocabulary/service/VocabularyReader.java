@@ -3,21 +3,27 @@ package com.kthowns.mobidic.domain.vocabulary.service;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyDetailCacheRepository;
 import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 class VocabularyReader {
     private final VocabularyRepository vocabularyRepository;
+    private final VocabularyDetailCacheRepository vocabularyDetailCacheRepository;
 
+    // 캐시는 VocabularyDetailChangedEvent 커밋 이후 무효화되고, 조회 도중 무효화되면 조회 결과로 채우지 않음
     public List<VocabularyDetail> readDetailsByUserId(UUID userId) {
-        return vocabularyRepository.readDetailsByUserId(userId);
+        return vocabularyDetailCacheRepository.readOrLoad(userId, () -> vocabularyRepository.readDetailsByUserId(userId));
     }
 
     public Vocabulary readById(UUID vocabularyId, UUID userId) {
@@ -25,8 +31,14 @@ class VocabularyReader {
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_VOCAB));
     }
 
+    // 목록 캐시가 있으면 그 안에서 찾고, 없으면 단건만 조회 (단건 조회로 목록 캐시를 채우지는 않음)
     public VocabularyDetail readDetailById(UUID userId, UUID vocabularyId) {
-        return vocabularyRepository.readDetailById(vocabularyId, userId)
+        Optional<VocabularyDetail> cached = vocabularyDetailCacheRepository.readByUserId(userId)
+                .flatMap(details -> details.stream()
+                        .filter(detail -> vocabularyId.equals(detail.vocabulary().id()))
+                        .findFirst());
+
+        return cached.or(() -> vocabularyRepository.readDetailById(vocabularyId, userId))
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_VOCAB));
     }
 
@@ -37,4 +49,24 @@ class VocabularyReader {
     public boolean existsByIdAndUser(UUID vocabularyId, UUID userId) {
         return vocabularyRepository.existsByIdAndUser_Id(vocabularyId, userId);
     }
+
+    public Optional<UUID> readUserIdById(UUID vocabularyId) {
+        return vocabularyRepository.readUserIdById(vocabularyId);
+    }
+
+    public List<UUID> readUserIdsByWordIds(Collection<UUID> wordIds) {
+        return vocabularyRepository.readUserIdsByWordIds(wordIds);
+    }
+
+    public List<VocabularyAggregate> readAggregates(UUID lastVocabularyId, int limit) {
+        return vocabularyRepository.readAggregates(lastVocabularyId, limit);
+    }
+
+    public List<UUID> readNotBackfilledIds(int limit) {
+        return vocabularyRepository.readNotBackfilledIds(limit);
+    }
+
+    public List<VocabularyAggregate> calculateAggregates(Collection<UUID> vocabularyIds) {
+        return vocabularyRepository.calculateAggregates(vocabularyIds);
+    }
 }
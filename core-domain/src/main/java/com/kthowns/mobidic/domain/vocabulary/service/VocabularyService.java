@@ -1,14 +1,21 @@
 package com.kthowns.mobidic.domain.vocabulary.service;
 
+import com.kthowns.mobidic.domain.vocabulary.event.VocabularyDetailChangedEvent;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -19,6 +26,7 @@ public class VocabularyService {
     private final VocabularyReader vocabularyReader;
     private final VocabularyUpdater vocabularyUpdater;
     private final VocabularyRemover vocabularyRemover;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Vocabulary addVocabulary(
@@ -28,7 +36,9 @@ public class VocabularyService {
     ) {
         // 동시성 제어 필요
         vocabularyValidator.validateTitleAppendDuplication(title, userId);
-        return vocabularyAppender.append(title, description, userId);
+        Vocabulary vocabulary = vocabularyAppender.append(title, description, userId);
+        eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
+        return vocabulary;
     }
 
     @Transactional(readOnly = true)
@@ -50,6 +60,7 @@ public class VocabularyService {
     ) {
         vocabularyValidator.validateTitleUpdateDuplication(title, vocabularyId, userId);
         vocabularyUpdater.update(userId, vocabularyId, title, description);
+        eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
     }
 
     @Transactional
@@ -58,6 +69,7 @@ public class VocabularyService {
             UUID vocabularyId
     ) {
         vocabularyRemover.remove(vocabularyId, userId);
+        eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
     }
 
     @Transactional(readOnly = true)
@@ -73,9 +85,75 @@ public class VocabularyService {
     @Transactional
     public void increaseWordCount(UUID vocabularyId, UUID userId) {
         vocabularyUpdater.increaseWordCount(vocabularyId, userId);
+        eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
     }
 
-    public void decreaseWordCount(UUID vocabularyId, UUID userId) {
-        vocabularyUpdater.decreaseWordCount(vocabularyId, userId);
+    public void decreaseWordCount(UUID vocabularyId, UUID wordId, UUID userId) {
+        vocabularyUpdater.decreaseWordCount(vocabularyId, wordId, userId);
+        eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId));
+    }
+
+    @Transactional
+    public void adjustAggregates(UUID wordId, long learnedDelta, double accuracyDelta) {
+        vocabularyUpdater.adjustAggregates(wordId, learnedDelta, accuracyDelta);
+    }
+
+    // 단어 식별자만 알고 있는 경우(write-behind 일괄 반영 등) 소유자를 조회하여 상세 캐시 무효화
+    @Transactional(readOnly = true)
+    public void publishDetailChangedByWordIds(Collection<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return;
+        }
+
+        vocabularyReader.readUserIdsByWordIds(wordIds)
+                .forEach(userId -> eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<VocabularyAggregate> getAggregates(UUID lastVocabularyId, int limit) {
+        return vocabularyReader.readAggregates(lastVocabularyId, limit);
+    }
+
+    // 저장된 집계값과 새로 계산한 집계값이 다른 단어장 식별자 목록
+    @Transactional(readOnly = true)
+    public List<UUID> findDriftedVocabularyIds(List<VocabularyAggregate> storedAggregates) {
+        if (storedAggregates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, VocabularyAggregate> actualById = vocabularyReader.calculateAggregates(
+                        storedAggregates.stream().map(VocabularyAggregate::vocabularyId).toList()).stream()
+                .collect(Collectors.toMap(VocabularyAggregate::vocabularyId, Function.identity()));
+
+        return storedAggregates.stream()
+                .filter(stored -> stored.isDriftedFrom(actualById.getOrDefault(stored.vocabularyId(),
+                        VocabularyAggregate.of(stored.vocabularyId(), 0, 0, 0.0))))
+                .map(VocabularyAggregate::vocabularyId)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> getNotBackfilledIds(int limit) {
+        return vocabularyReader.readNotBackfilledIds(limit);
+    }
+
+    @Transactional
+    public void backfillAggregate(UUID vocabularyId) {
+        if (vocabularyUpdater.backfillAggregate(vocabularyId)) {
+            vocabularyReader.readUserIdById(vocabularyId)
+                    .ifPresent(userId -> eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId)));
+        }
+    }
+
+    @Transactional
+    public boolean reconcileAggregate(UUID vocabularyId) {
+        boolean repaired = vocabularyUpdater.reconcileAggregate(vocabularyId);
+
+        if (repaired) {
+            vocabularyReader.readUserIdById(vocabularyId)
+                    .ifPresent(userId -> eventPublisher.publishEvent(VocabularyDetailChangedEvent.of(userId)));
+        }
+
+        return repaired;
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.kthowns.mobidic.domain.vocabulary.service;
 
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
 import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -23,7 +26,47 @@ class VocabularyUpdater {
         vocabularyRepository.increaseWordCount(vocabularyId, userId);
     }
 
-    public void decreaseWordCount(UUID vocabularyId, UUID userId) {
-        vocabularyRepository.decreaseWordCount(vocabularyId, userId);
+    public void decreaseWordCount(UUID vocabularyId, UUID wordId, UUID userId) {
+        vocabularyRepository.decreaseWordCount(vocabularyId, wordId, userId);
+    }
+
+    public void adjustAggregates(UUID wordId, long learnedDelta, double accuracyDelta) {
+        vocabularyRepository.adjustAggregatesByWordId(wordId, learnedDelta, accuracyDelta);
+    }
+
+    // 단어장 행을 잠근 뒤 다시 계산하므로 그 사이의 통계 변경분은 잠금 해제 후 순서대로 반영됨
+    public boolean reconcileAggregate(UUID vocabularyId) {
+        Optional<VocabularyAggregate> stored = vocabularyRepository.readAggregateForUpdate(vocabularyId);
+        if (stored.isEmpty()) {
+            return false;
+        }
+
+        VocabularyAggregate actual = calculateAggregate(vocabularyId);
+
+        if (!stored.get().isDriftedFrom(actual)) {
+            return false;
+        }
+
+        vocabularyRepository.updateAggregate(actual);
+        return true;
+    }
+
+    // 어긋남 여부와 관계없이 다시 계산한 값을 저장해 계산 완료로 표시, 집계값이 바뀌었으면 true
+    public boolean backfillAggregate(UUID vocabularyId) {
+        Optional<VocabularyAggregate> stored = vocabularyRepository.readAggregateForUpdate(vocabularyId);
+        if (stored.isEmpty()) {
+            return false;
+        }
+
+        VocabularyAggregate actual = calculateAggregate(vocabularyId);
+        vocabularyRepository.updateAggregate(actual);
+
+        return stored.get().isDriftedFrom(actual);
+    }
+
+    private VocabularyAggregate calculateAggregate(UUID vocabularyId) {
+        return vocabularyRepository.calculateAggregates(List.of(vocabularyId)).stream()
+                .findFirst()
+                .orElse(VocabularyAggregate.of(vocabularyId, 0, 0, 0.0));
     }
 }
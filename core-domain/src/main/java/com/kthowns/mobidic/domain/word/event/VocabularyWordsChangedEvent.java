@@ -0,0 +1,15 @@
+package com.kthowns.mobidic.domain.word.event;
+
+import java.util.UUID;
+
+/**
+ * 단어장에 단어가 추가되거나 삭제되었음을 알리는 도메인 이벤트
+ * 트랜잭션 커밋 이후 해당 단어장의 퀴즈 출제 가중치 테이블을 무효화하는 데 사용
+ */
+public record VocabularyWordsChangedEvent(
+        UUID vocabularyId
+) {
+    public static VocabularyWordsChangedEvent of(UUID vocabularyId) {
+        return new VocabularyWordsChangedEvent(vocabularyId);
+    }
+}
@@ -82,4 +82,12 @@ public class WordFacade {
         // Definitions batch 업데이트
         definitionService.updateDefinitions(userId, updateWordCommand.wordId(), updateDefinitionCommands);
     }
+
+    @Transactional
+    public void deleteWord(UUID userId, UUID wordId) {
+        wordService.deleteWord(userId, wordId);
+
+        // 복습 일정은 단어와 연관 관계가 없으므로 직접 삭제
+        statisticService.deleteReviewSchedule(userId, wordId);
+    }
 }
@@ -0,0 +1,47 @@
+package com.kthowns.mobidic.domain.word.model;
+
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 단어 목록 키셋 페이지네이션 커서, (createdAt, id) 순서에서 마지막으로 내려준 단어의 위치
+ * 클라이언트에는 불투명한 문자열로 전달
+ */
+public record WordCursor(
+        Instant createdAt,
+        UUID id
+) {
+    private static final String DELIMITER = "_";
+
+    public static WordCursor of(Instant createdAt, UUID id) {
+        return new WordCursor(createdAt, id);
+    }
+
+    public static WordCursor after(WordDetail wordDetail) {
+        return of(wordDetail.createdAt(), wordDetail.id());
+    }
+
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + DELIMITER + createdAt.getNano() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static WordCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, 3);
+
+            return of(
+                    Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                    UUID.fromString(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new ApiException(GeneralResponseCode.INVALID_REQUEST);
+        }
+    }
+}
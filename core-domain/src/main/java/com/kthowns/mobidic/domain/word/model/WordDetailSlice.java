@@ -0,0 +1,15 @@
+package com.kthowns.mobidic.domain.word.model;
+
+import java.util.List;
+
+/**
+ * 단어 목록의 한 페이지, nextCursor 가 null 이면 마지막 페이지
+ */
+public record WordDetailSlice(
+        List<WordDetail> words,
+        String nextCursor
+) {
+    public static WordDetailSlice of(List<WordDetail> words, String nextCursor) {
+        return new WordDetailSlice(words, nextCursor);
+    }
+}
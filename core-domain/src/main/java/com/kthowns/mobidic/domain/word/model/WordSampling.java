@@ -0,0 +1,12 @@
+package com.kthowns.mobidic.domain.word.model;
+
+/**
+ * 퀴즈 출제 단어 추출 방식
+ * RANDOM: 균등 추출, DIFFICULTY: 난이도(word_statistics.difficulty)에 비례한 가중 추출
+ * ADAPTIVE: 난이도와 마지막 풀이 이후 경과 시간으로 가중 추출 (사용자, 단어장별로 캐시된 가중치 테이블 사용)
+ */
+public enum WordSampling {
+    RANDOM,
+    DIFFICULTY,
+    ADAPTIVE
+}
@@ -1,7 +1,9 @@
 package com.kthowns.mobidic.domain.word.repository;
 
 import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,15 @@ public interface WordRepository {
 
     List<WordDetail> readDetailsByVocabularyId(UUID userId, UUID vocabularyId, boolean onlyNotLearned);
 
+    // (createdAt, id) 순으로 cursor 이후 최대 limit 개, cursor 가 null 이면 처음부터
+    List<WordDetail> readDetailsByVocabularyIdAfter(UUID userId, UUID vocabularyId, WordCursor cursor, int limit);
+
+    // 학습하지 않은 단어 중 size 개를 DB 에서 추출하고 추출된 단어의 뜻만 조회
+    List<WordDetail> sampleDetailsNotLearned(UUID userId, UUID vocabularyId, int size, WordSampling sampling);
+
+    // vocabularyId 가 null 이면 사용자의 모든 단어장에서 조회
+    List<WordDetail> readDetailsNotLearnedByIds(UUID userId, UUID vocabularyId, List<UUID> wordIds);
+
     void update(Word word, UUID userId);
 
     void delete(UUID wordId, UUID userId);
@@ -3,7 +3,10 @@ package com.kthowns.mobidic.domain.word.service;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordDetailSlice;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import com.kthowns.mobidic.domain.word.repository.WordRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -20,6 +23,26 @@ class WordReader {
         return wordRepository.readDetailsByVocabularyId(userId, vocabularyId, onlyNotLearned);
     }
 
+    // 다음 페이지 존재 여부를 알기 위해 한 개 더 조회
+    public WordDetailSlice readDetailSliceByVocabularyId(UUID userId, UUID vocabularyId, WordCursor cursor, int size) {
+        List<WordDetail> wordDetails = wordRepository.readDetailsByVocabularyIdAfter(userId, vocabularyId, cursor, size + 1);
+
+        if (wordDetails.size() <= size) {
+            return WordDetailSlice.of(wordDetails, null);
+        }
+
+        List<WordDetail> page = wordDetails.subList(0, size);
+        return WordDetailSlice.of(page, WordCursor.after(page.getLast()).encode());
+    }
+
+    public List<WordDetail> sampleDetailsNotLearned(UUID userId, UUID vocabularyId, int size, WordSampling sampling) {
+        return wordRepository.sampleDetailsNotLearned(userId, vocabularyId, size, sampling);
+    }
+
+    public List<WordDetail> readDetailsNotLearnedByIds(UUID userId, UUID vocabularyId, List<UUID> wordIds) {
+        return wordRepository.readDetailsNotLearnedByIds(userId, vocabularyId, wordIds);
+    }
+
     public Word readByIdAndUserId(UUID wordId, UUID userId) {
         return wordRepository.readByIdAndUserId(wordId, userId)
                 .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_WORD));
@@ -3,10 +3,15 @@ package com.kthowns.mobidic.domain.word.service;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
+import com.kthowns.mobidic.domain.word.event.VocabularyWordsChangedEvent;
 import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordDetailSlice;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +22,9 @@ import java.util.UUID;
 @Slf4j
 @RequiredArgsConstructor
 public class WordService {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final WordReader wordReader;
     private final WordAppender wordAppender;
     private final WordUpdater wordUpdater;
@@ -24,13 +32,17 @@ public class WordService {
     private final WordValidator wordValidator;
 
     private final VocabularyService vocabularyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Word addWord(UUID userId, UUID vocabId, String expression) {
         validateVocabularyExist(vocabId, userId);
         wordValidator.validateExpressionDuplication(expression, vocabId, userId);
 
-        return wordAppender.append(expression, vocabId);
+        Word word = wordAppender.append(expression, vocabId);
+        eventPublisher.publishEvent(VocabularyWordsChangedEvent.of(vocabId));
+
+        return word;
     }
 
     @Transactional(readOnly = true)
@@ -45,6 +57,17 @@ public class WordService {
         return wordReader.readDetailsByVocabularyId(userId, vocabularyId, false);
     }
 
+    // 큰 단어장도 전체를 메모리에 올리지 않도록 페이지 단위로 조회, 페이지 크기는 MAX_PAGE_SIZE 로 제한
+    @Transactional(readOnly = true)
+    public WordDetailSlice getWordDetailSliceByVocabularyId(UUID userId, UUID vocabularyId, String cursor, Integer size) {
+        validateVocabularyExist(vocabularyId, userId);
+
+        WordCursor wordCursor = cursor == null || cursor.isBlank() ? null : WordCursor.decode(cursor);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        return wordReader.readDetailSliceByVocabularyId(userId, vocabularyId, wordCursor, pageSize);
+    }
+
     @Transactional(readOnly = true)
     public List<WordDetail> getWordDetailsNotLearnedByVocabularyId(UUID userId, UUID vocabularyId) {
         validateVocabularyExist(vocabularyId, userId);
@@ -52,6 +75,40 @@ public class WordService {
         return wordReader.readDetailsByVocabularyId(userId, vocabularyId, true);
     }
 
+    @Transactional(readOnly = true)
+    public List<WordDetail> sampleWordDetailsNotLearnedByVocabularyId(
+            UUID userId,
+            UUID vocabularyId,
+            int size,
+            WordSampling sampling
+    ) {
+        validateVocabularyExist(vocabularyId, userId);
+
+        return wordReader.sampleDetailsNotLearned(userId, vocabularyId, size, sampling);
+    }
+
+    // 출제 순서는 호출자가 정하므로 순서는 보장하지 않음, 그 사이 삭제되었거나 학습 완료된 단어는 제외
+    @Transactional(readOnly = true)
+    public List<WordDetail> getWordDetailsNotLearnedByIds(UUID userId, UUID vocabularyId, List<UUID> wordIds) {
+        validateVocabularyExist(vocabularyId, userId);
+
+        if (wordIds.isEmpty()) {
+            return List.of();
+        }
+
+        return wordReader.readDetailsNotLearnedByIds(userId, vocabularyId, wordIds);
+    }
+
+    // 여러 단어장에 걸친 복습 출제용, 다른 사용자의 단어는 제외
+    @Transactional(readOnly = true)
+    public List<WordDetail> getWordDetailsNotLearnedByIds(UUID userId, List<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return List.of();
+        }
+
+        return wordReader.readDetailsNotLearnedByIds(userId, null, wordIds);
+    }
+
     @Transactional
     public void updateWord(UUID userId, UUID wordId, String expression) {
         Word word = wordReader.readByIdAndUserId(wordId, userId);
@@ -72,8 +129,9 @@ public class WordService {
 
         wordRemover.remove(wordId, userId);
 
-        // Vocabulary 단어 수 원자적 업데이트
-        vocabularyService.decreaseWordCount(word.vocabularyId(), userId);
+        // Vocabulary 단어 수 및 집계값 원자적 업데이트
+        vocabularyService.decreaseWordCount(word.vocabularyId(), wordId, userId);
+        eventPublisher.publishEvent(VocabularyWordsChangedEvent.of(word.vocabularyId()));
     }
 
     private void validateVocabularyExist(UUID vocabularyId, UUID userId) {
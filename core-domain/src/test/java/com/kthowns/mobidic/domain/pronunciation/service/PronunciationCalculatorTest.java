@@ -1,20 +1,26 @@
 package com.kthowns.mobidic.domain.pronunciation.service;
 
+import com.kthowns.mobidic.domain.pronunciation.model.PronunciationKey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.SplittableRandom;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.offset;
 
 @ExtendWith(MockitoExtension.class)
 class PronunciationCalculatorTest {
+    private static final int RANDOM_TRIALS = 20_000;
 
     @InjectMocks
     private PronunciationCalculator pronunciationCalculator;
 
+    private final PronunciationKeyEncoder pronunciationKeyEncoder = new PronunciationKeyEncoder();
+
     @Test
     @DisplayName("calculateSimilarity 테스트 - 완벽히 동일한 경우 (대소문자 무시, 구두점 제거)")
     void calculateSimilarityTest_ExactMatch() {
@@ -86,4 +92,171 @@ class PronunciationCalculatorTest {
         // Then
         assertThat(similarity).isEqualTo(0.0, offset(0.0001));
     }
+
+    @Test
+    @DisplayName("calculateSimilarity 차등 테스트 - 실제 단어 쌍에서 기존 행렬 구현과 같은 값")
+    void calculateSimilarityTest_MatchesReferenceOnRealWords() {
+        String[][] pairs = {
+                {"receive", "recieve"}, {"necessary", "neccessary"}, {"pronunciation", "pronounciation"},
+                {"definitely", "definately"}, {"environment", "enviroment"}, {"thought", "taught"},
+                {"through", "threw"}, {"vocabulary", "vocabulary."}, {"abc", "bca"}, {"ca", "abc"},
+                {"international organization", "internatinal organisation"},
+                {"a comprehensive understanding of the underlying principles of quantum mechanics is required",
+                        "a comprehensive understanding of the underlaying principals of quantom mechanics is requierd"}
+        };
+
+        for (String[] pair : pairs) {
+            assertThat(pronunciationCalculator.calculateSimilarity(pair[0], pair[1]))
+                    .as("%s / %s", pair[0], pair[1])
+                    .isEqualTo(referenceSimilarity(pair[0], pair[1]));
+        }
+    }
+
+    @Test
+    @DisplayName("calculateSimilarity 차등 테스트 - 임의 문자열 쌍에서 기존 행렬 구현과 같은 값 (64자 전후 포함)")
+    void calculateSimilarityTest_MatchesReferenceOnRandomPairs() {
+        // 작은 알파벳일수록 교환, 반복 문자가 자주 나와 비트 병렬 계산의 경계 조건을 많이 지남
+        String[] alphabets = {"ab", "abc", "abcdefghijklmnopqrstuvwxyz", "a가나é"};
+        SplittableRandom random = new SplittableRandom(17);
+
+        for (int trial = 0; trial < RANDOM_TRIALS; trial++) {
+            String alphabet = alphabets[random.nextInt(alphabets.length)];
+            String expression = randomString(random, alphabet, random.nextInt(1, 100));
+            String transcribed = random.nextBoolean()
+                    ? randomString(random, alphabet, random.nextInt(1, 100))
+                    : swapAdjacent(random, expression);
+
+            assertThat(pronunciationCalculator.calculateSimilarity(expression, transcribed))
+                    .as("%s / %s", expression, transcribed)
+                    .isEqualTo(referenceSimilarity(expression, transcribed));
+        }
+    }
+
+    @Test
+    @DisplayName("calculateSimilarity 테스트 - 최소 유사도 이상이면 같은 값, 미만이면 0.0")
+    void calculateSimilarityTest_MinSimilarity() {
+        SplittableRandom random = new SplittableRandom(29);
+
+        for (int trial = 0; trial < RANDOM_TRIALS; trial++) {
+            String expression = randomString(random, "abc", random.nextInt(1, 100));
+            String transcribed = randomString(random, "abc", random.nextInt(1, 100));
+            double minSimilarity = random.nextDouble();
+            double expected = referenceSimilarity(expression, transcribed);
+
+            assertThat(pronunciationCalculator.calculateSimilarity(expression, transcribed, minSimilarity))
+                    .as("%s / %s (min %f)", expression, transcribed, minSimilarity)
+                    .isEqualTo(expected >= minSimilarity ? expected : 0.0);
+        }
+
+        // 경계값: "apple" / "aple" 의 유사도는 정확히 0.8
+        assertThat(pronunciationCalculator.calculateSimilarity("apple", "aple", 0.8)).isEqualTo(0.8, offset(0.0001));
+        assertThat(pronunciationCalculator.calculateSimilarity("apple", "aple", 0.81)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("calculatePhoneticSimilarity 테스트 - 악센트, 대소문자, 구두점만 다르면 1.0")
+    void calculatePhoneticSimilarityTest_Normalized() {
+        // When
+        double similarity = pronunciationCalculator.calculatePhoneticSimilarity(
+                pronunciationKeyEncoder.encode("café"), pronunciationKeyEncoder.encode("Cafe."));
+
+        // Then
+        assertThat(similarity).isEqualTo(1.0, offset(0.0001));
+    }
+
+    @Test
+    @DisplayName("calculatePhoneticSimilarity 테스트 - 철자는 달라도 소리가 같으면 글자 비교보다 높은 점수")
+    void calculatePhoneticSimilarityTest_SameSound() {
+        String[][] pairs = {{"apple", "aple"}, {"their", "there"}, {"color", "colour"}, {"night", "nite"}};
+
+        for (String[] pair : pairs) {
+            double literal = pronunciationCalculator.calculateSimilarity(pair[0], pair[1]);
+            double phonetic = pronunciationCalculator.calculatePhoneticSimilarity(
+                    pronunciationKeyEncoder.encode(pair[0]), pronunciationKeyEncoder.encode(pair[1]));
+
+            assertThat(phonetic).as("%s / %s", pair[0], pair[1]).isGreaterThan(literal).isLessThanOrEqualTo(1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("calculatePhoneticSimilarity 테스트 - 소리가 다른 단어는 낮은 점수")
+    void calculatePhoneticSimilarityTest_DifferentSound() {
+        // When
+        double similarity = pronunciationCalculator.calculatePhoneticSimilarity(
+                pronunciationKeyEncoder.encode("apple"), pronunciationKeyEncoder.encode("zebra"));
+
+        // Then
+        assertThat(similarity).isLessThan(0.5);
+    }
+
+    @Test
+    @DisplayName("calculatePhoneticSimilarity 테스트 - 여러 코드 유닛으로 된 자소 묶음은 한 글자로 셈")
+    void calculatePhoneticSimilarityTest_GraphemeClusters() {
+        // Given: "किताब" 는 5개의 코드 유닛이지만 자소 묶음은 कि, ता, ब 3개
+        PronunciationKey expected = pronunciationKeyEncoder.encode("किताब");
+        PronunciationKey actual = pronunciationKeyEncoder.encode("किताम");
+
+        // When
+        double similarity = pronunciationCalculator.calculatePhoneticSimilarity(expected, actual);
+
+        // Then
+        assertThat(similarity).isEqualTo(2.0 / 3, offset(0.0001));
+    }
+
+    private String randomString(SplittableRandom random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private String swapAdjacent(SplittableRandom random, String value) {
+        if (value.length() < 2) {
+            return value;
+        }
+        char[] chars = value.toCharArray();
+        int i = random.nextInt(chars.length - 1);
+        char tmp = chars[i];
+        chars[i] = chars[i + 1];
+        chars[i + 1] = tmp;
+        return new String(chars);
+    }
+
+    // 비교 기준: 기존 calculateSimilarity 의 전처리 + 전체 행렬 OSA 거리
+    private double referenceSimilarity(String orgString, String compareString) {
+        String processedCompare = compareString.toLowerCase().trim();
+        if (processedCompare.endsWith(".")) {
+            processedCompare = processedCompare.substring(0, processedCompare.length() - 1);
+        }
+
+        double maxLength = Double.max(orgString.length(), processedCompare.length());
+        if (maxLength < 1) {
+            return 0.0;
+        }
+
+        return (maxLength - referenceDistance(orgString, processedCompare)) / maxLength;
+    }
+
+    private int referenceDistance(CharSequence source, CharSequence target) {
+        int sourceLength = source.length();
+        int targetLength = target.length();
+        if (sourceLength == 0) return targetLength;
+        if (targetLength == 0) return sourceLength;
+
+        int[][] dist = new int[sourceLength + 1][targetLength + 1];
+        for (int i = 0; i < sourceLength + 1; i++) dist[i][0] = i;
+        for (int j = 0; j < targetLength + 1; j++) dist[0][j] = j;
+
+        for (int i = 1; i < sourceLength + 1; i++) {
+            for (int j = 1; j < targetLength + 1; j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                dist[i][j] = Math.min(Math.min(dist[i - 1][j] + 1, dist[i][j - 1] + 1), dist[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && source.charAt(i - 1) == target.charAt(j - 2) && source.charAt(i - 2) == target.charAt(j - 1)) {
+                    dist[i][j] = Math.min(dist[i][j], dist[i - 2][j - 2] + cost);
+                }
+            }
+        }
+        return dist[sourceLength][targetLength];
+    }
 }
@@ -0,0 +1,63 @@
+package com.kthowns.mobidic.domain.pronunciation.service;
+
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.pronunciation.model.SimilarityMode;
+import com.kthowns.mobidic.domain.pronunciation.properties.PronunciationProperties;
+import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.service.WordService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PronunciationServiceTest {
+    private static final double MIN_SIMILARITY = 0.6;
+
+    @Mock
+    private WordService wordService;
+    @Mock
+    private TranscriptionReader transcriptionReader;
+    @Mock
+    private PronunciationCalculator pronunciationCalculator;
+    @Mock
+    private PronunciationKeyReader pronunciationKeyReader;
+    @Mock
+    private PronunciationKeyEncoder pronunciationKeyEncoder;
+
+    private PronunciationService pronunciationService;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID wordId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        pronunciationService = new PronunciationService(wordService, transcriptionReader, pronunciationCalculator,
+                pronunciationKeyReader, pronunciationKeyEncoder,
+                new PronunciationProperties(SimilarityMode.LITERAL, MIN_SIMILARITY));
+    }
+
+    @Test
+    @DisplayName("글자 유사도는 설정된 하한을 넘겨 계산")
+    void literalSimilarityUsesConfiguredThreshold() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "audio.wav", "audio/wav", "audio".getBytes());
+        given(wordService.getWordById(userId, wordId)).willReturn(new Word(wordId, UUID.randomUUID(), "apple", AuditTime.create()));
+        given(transcriptionReader.read(file)).willReturn("aple");
+        given(pronunciationCalculator.calculateSimilarity("apple", "aple", MIN_SIMILARITY)).willReturn(0.8);
+
+        // When
+        Double similarity = pronunciationService.ratePronunciation(userId, wordId, file, null);
+
+        // Then
+        assertThat(similarity).isEqualTo(0.8);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kthowns.mobidic.domain.pronunciation.service;
+
+import com.kthowns.mobidic.domain.pronunciation.client.SpeechToTextClient;
+import com.kthowns.mobidic.domain.pronunciation.repository.TranscriptionCacheRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TranscriptionReaderTest {
+    // "audio" 의 SHA-256
+    private static final String AUDIO_HASH = "6ed8919ce20490a5e3ad8630a4fab69475297abd07db73918dd5f36fcfaeb11b";
+
+    @InjectMocks
+    private TranscriptionReader transcriptionReader;
+
+    @Mock
+    private SpeechToTextClient sttClient;
+    @Mock
+    private TranscriptionCacheRepository transcriptionCacheRepository;
+
+    @Test
+    @DisplayName("캐시에 전사 결과가 있으면 STT 서버를 호출하지 않음")
+    void readCachedTranscription() {
+        // Given
+        MockMultipartFile file = audioFile("audio");
+        given(transcriptionCacheRepository.readByAudioHash(AUDIO_HASH)).willReturn(Optional.of("apple"));
+
+        // When
+        String transcription = transcriptionReader.read(file);
+
+        // Then
+        assertThat(transcription).isEqualTo("apple");
+        verify(sttClient, never()).transcribe(any());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 STT 서버에 요청하고 내용 해시로 저장")
+    void transcribeAndSaveOnMiss() {
+        // Given
+        MockMultipartFile file = audioFile("audio");
+        given(transcriptionCacheRepository.readByAudioHash(anyString())).willReturn(Optional.empty());
+        given(sttClient.transcribe(file)).willReturn("apple");
+
+        // When
+        String transcription = transcriptionReader.read(file);
+
+        // Then
+        assertThat(transcription).isEqualTo("apple");
+        verify(transcriptionCacheRepository).save(AUDIO_HASH, "apple");
+    }
+
+    @Test
+    @DisplayName("파일 이름이 달라도 내용이 같으면 같은 키, 내용이 다르면 다른 키")
+    void hashDependsOnContentOnly() {
+        // Given
+        given(transcriptionCacheRepository.readByAudioHash(anyString())).willReturn(Optional.empty());
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+
+        // When
+        transcriptionReader.read(new MockMultipartFile("file", "a.m4a", "audio/m4a", "audio".getBytes()));
+        transcriptionReader.read(new MockMultipartFile("file", "b.m4a", "audio/m4a", "audio".getBytes()));
+        transcriptionReader.read(new MockMultipartFile("file", "a.m4a", "audio/m4a", "audio2".getBytes()));
+
+        // Then
+        verify(transcriptionCacheRepository, times(3)).readByAudioHash(hashCaptor.capture());
+        assertThat(hashCaptor.getAllValues().get(0)).isEqualTo(hashCaptor.getAllValues().get(1));
+        assertThat(hashCaptor.getAllValues().get(0)).isNotEqualTo(hashCaptor.getAllValues().get(2));
+    }
+
+    private MockMultipartFile audioFile(String content) {
+        return new MockMultipartFile("file", "test.m4a", "audio/m4a", content.getBytes());
+    }
+}
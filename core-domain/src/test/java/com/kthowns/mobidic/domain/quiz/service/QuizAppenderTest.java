@@ -1,18 +1,24 @@
 package com.kthowns.mobidic.domain.quiz.service;
 
 import com.kthowns.mobidic.domain.quiz.model.Quiz;
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.quiz.model.QuizToken;
 import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,22 +31,33 @@ class QuizAppenderTest {
     private QuizAppender quizAppender;
 
     @Test
-    @DisplayName("append 테스트 - 퀴즈 정답 저장 및 토큰 반환 성공")
-    void append_Success() {
+    @DisplayName("appendAll 테스트 - 퀴즈 세트를 하나의 세션으로 저장하고 순서대로 토큰 반환")
+    void appendAll_Success() {
         // Given
         UUID userId = UUID.randomUUID();
-        Quiz quiz = Quiz.builder()
-                .id(UUID.randomUUID())
-                .wordId(UUID.randomUUID())
-                .answer("apple")
-                .build();
-        long expMillis = 15000L;
+        List<Quiz> quizzes = List.of(
+                Quiz.builder().id(UUID.randomUUID()).wordId(UUID.randomUUID()).answer("apple").build(),
+                Quiz.builder().id(UUID.randomUUID()).wordId(UUID.randomUUID()).answer("banana").build()
+        );
+        long expMillis = 30000L;
 
         // When
-        String token = quizAppender.append(userId, quiz, expMillis);
+        List<String> tokens = quizAppender.appendAll(userId, quizzes, expMillis);
 
         // Then
-        assertNotNull(token);
-        verify(quizAnswerRepository).append(anyString(), any(), eq(expMillis));
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, QuizAnswer>> answerCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(quizAnswerRepository, times(1)).appendAll(keyCaptor.capture(), eq(userId), answerCaptor.capture(), eq(expMillis));
+
+        QuizToken first = QuizToken.parse(tokens.get(0)).orElseThrow();
+        QuizToken second = QuizToken.parse(tokens.get(1)).orElseThrow();
+        assertEquals(first.sessionId(), second.sessionId());
+        assertEquals(0, first.index());
+        assertEquals(1, second.index());
+        assertEquals("quiz:" + first.sessionId(), keyCaptor.getValue());
+
+        Map<String, QuizAnswer> savedAnswers = answerCaptor.getValue();
+        assertEquals("apple", savedAnswers.get(first.field()).answer());
+        assertEquals("banana", savedAnswers.get(second.field()).answer());
     }
 }
@@ -1,5 +1,6 @@
 package com.kthowns.mobidic.domain.quiz.service;
 
+import com.kthowns.mobidic.domain.definition.model.Definition;
 import com.kthowns.mobidic.domain.quiz.model.Quiz;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
 import org.junit.jupiter.api.DisplayName;
@@ -7,16 +8,23 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class QuizGeneratorTest {
+    private static final int PROPERTY_TRIALS = 200;
+    private static final int PARALLEL_WORD_COUNT = 5000;
 
     private final QuizGenerator quizGenerator = new QuizGenerator() {
         @Override
-        public List<Quiz> generate(UUID memberId, List<WordDetail> wordDetails) {
+        public List<Quiz> generate(UUID memberId, List<WordDetail> wordDetails, int parallelThreshold) {
             return List.of();
         }
     };
@@ -73,4 +81,181 @@ class QuizGeneratorTest {
         // partialShuffle(3) 이면 최소 2개 이상은 바뀌어야 함 (derange의 특성상)
         assertThat(diffCount).isGreaterThanOrEqualTo(2);
     }
+
+    @Test
+    @DisplayName("derange 속성 - 크기와 관계없이 고정점이 없고 원소 구성이 유지됨")
+    void derangeProperty() {
+        for (int size = 2; size <= 50; size++) {
+            for (int trial = 0; trial < PROPERTY_TRIALS; trial++) {
+                // Given
+                List<Integer> list = range(size);
+
+                // When
+                quizGenerator.derange(list);
+
+                // Then
+                assertThat(list).containsExactlyInAnyOrderElementsOf(range(size));
+                for (int i = 0; i < size; i++) {
+                    assertThat(list.get(i)).isNotEqualTo(i);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("partialShuffle 속성 - 정확히 min(n, size) 개 위치만 바뀌고 원소 구성이 유지됨")
+    void partialShuffleProperty() {
+        for (int size = 2; size <= 30; size++) {
+            for (int n = 2; n <= size + 2; n++) {
+                for (int trial = 0; trial < PROPERTY_TRIALS / 10; trial++) {
+                    // Given
+                    List<Integer> list = range(size);
+
+                    // When
+                    quizGenerator.partialShuffle(n, list);
+
+                    // Then
+                    int diffCount = 0;
+                    for (int i = 0; i < size; i++) {
+                        if (list.get(i) != i) {
+                            diffCount++;
+                        }
+                    }
+                    assertThat(diffCount).isEqualTo(Math.min(n, size));
+                    assertThat(list).containsExactlyInAnyOrderElementsOf(range(size));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sampleIndices 속성 - 범위 안의 서로 다른 인덱스 k 개를 고르고 버퍼를 재사용해도 같음")
+    void sampleIndicesProperty() {
+        int[] buffer = new int[64];
+
+        for (int size = 1; size <= 64; size++) {
+            for (int k = 0; k <= size; k++) {
+                // When
+                QuizGenerator.sampleIndices(buffer, size, k, ThreadLocalRandom.current());
+
+                // Then
+                Set<Integer> picked = new HashSet<>();
+                for (int i = 0; i < k; i++) {
+                    assertThat(buffer[i]).isBetween(0, size - 1);
+                    picked.add(buffer[i]);
+                }
+                assertThat(picked).hasSize(k);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("빈칸 퀴즈 속성 - 단어 길이 / 2 + 1 개 위치만 빈칸이고 나머지 글자는 그대로")
+    void blankQuizProperty() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        List<WordDetail> wordDetails = new ArrayList<>();
+        for (int i = 0; i < PROPERTY_TRIALS; i++) {
+            StringBuilder expression = new StringBuilder();
+            int length = rnd.nextInt(1, 20);
+            for (int c = 0; c < length; c++) {
+                expression.append((char) ('a' + rnd.nextInt(26)));
+            }
+            wordDetails.add(new WordDetail(UUID.randomUUID(), expression.toString(), 0.5, 0.0, false,
+                    List.of(), null, null));
+        }
+
+        // When
+        List<Quiz> quizzes = new BlankQuizGenerator().generate(UUID.randomUUID(), wordDetails);
+
+        // Then
+        assertThat(quizzes).hasSize(wordDetails.size());
+        for (int i = 0; i < quizzes.size(); i++) {
+            Quiz quiz = quizzes.get(i);
+            String expression = quiz.answer();
+            assertThat(quiz.stem()).hasSameSizeAs(expression);
+            // derange 로 단어 순서가 바뀌므로 원래 위치의 단어와는 달라야 함
+            assertThat(quiz.wordId()).isNotEqualTo(wordDetails.get(i).id());
+
+            int blanks = 0;
+            for (int c = 0; c < expression.length(); c++) {
+                if (quiz.stem().charAt(c) == '_') {
+                    blanks++;
+                } else {
+                    assertThat(quiz.stem().charAt(c)).isEqualTo(expression.charAt(c));
+                }
+            }
+            assertThat(blanks).isEqualTo(Math.min(expression.length() / 2 + 1, expression.length()));
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 빈칸 퀴즈 - 단어마다 정확히 하나의 문제가 원래와 다른 순서로 생성되고 빈칸 규칙이 유지됨")
+    void parallelBlankQuizKeepsProperties() {
+        // Given
+        List<WordDetail> wordDetails = createWordDetails(PARALLEL_WORD_COUNT);
+
+        // When
+        List<Quiz> quizzes = new BlankQuizGenerator().generate(UUID.randomUUID(), wordDetails, 1);
+
+        // Then
+        assertGeneratedOncePerWordInDerangedOrder(wordDetails, quizzes);
+        for (Quiz quiz : quizzes) {
+            long blanks = quiz.stem().chars().filter(c -> c == '_').count();
+            assertThat(blanks).isEqualTo(Math.min(quiz.answer().length() / 2 + 1, quiz.answer().length()));
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 OX 퀴즈 - 단어마다 정확히 하나의 문제가 생성되고 보기가 뜻에 포함될 때만 정답이 1")
+    void parallelOXQuizKeepsProperties() {
+        // Given
+        List<WordDetail> wordDetails = createWordDetails(PARALLEL_WORD_COUNT);
+        Map<UUID, WordDetail> byId = new HashMap<>();
+        wordDetails.forEach(wordDetail -> byId.put(wordDetail.id(), wordDetail));
+
+        // When
+        List<Quiz> quizzes = new OXQuizGenerator().generate(UUID.randomUUID(), wordDetails, 1);
+
+        // Then
+        assertGeneratedOncePerWordInDerangedOrder(wordDetails, quizzes);
+        long shuffled = 0;
+        for (Quiz quiz : quizzes) {
+            boolean matches = byId.get(quiz.wordId()).definitions().stream()
+                    .anyMatch(definition -> definition.meaning().equals(quiz.options().getFirst()));
+            assertThat(quiz.answer()).isEqualTo(matches ? "1" : "0");
+            if (!matches) {
+                shuffled++;
+            }
+        }
+        // 뜻을 섞는 단어 수는 전체 크기 기준(n / 2 + 1)으로 정해지므로 구간별로 나뉘어도 그대로여야 함
+        assertThat(shuffled).isEqualTo(PARALLEL_WORD_COUNT / 2 + 1);
+    }
+
+    private void assertGeneratedOncePerWordInDerangedOrder(List<WordDetail> wordDetails, List<Quiz> quizzes) {
+        assertThat(quizzes).hasSize(wordDetails.size()).doesNotContainNull();
+        assertThat(quizzes).extracting(Quiz::wordId)
+                .containsExactlyInAnyOrderElementsOf(wordDetails.stream().map(WordDetail::id).toList());
+        for (int i = 0; i < quizzes.size(); i++) {
+            assertThat(quizzes.get(i).wordId()).isNotEqualTo(wordDetails.get(i).id());
+        }
+    }
+
+    // 단어마다 고유한 뜻 하나를 가지므로 OX 보기가 섞였는지 여부를 정확히 판별할 수 있음
+    private List<WordDetail> createWordDetails(int count) {
+        List<WordDetail> wordDetails = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID wordId = UUID.randomUUID();
+            wordDetails.add(new WordDetail(wordId, "word" + i, 0.5, 0.0, false,
+                    List.of(Definition.create(wordId, "meaning" + i, null)), null, null));
+        }
+        return wordDetails;
+    }
+
+    private List<Integer> range(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
 }
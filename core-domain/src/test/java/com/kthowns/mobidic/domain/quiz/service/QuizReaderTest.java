@@ -1,5 +1,6 @@
 package com.kthowns.mobidic.domain.quiz.service;
 
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
 import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
@@ -10,13 +11,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class QuizReaderTest {
@@ -27,28 +36,89 @@ class QuizReaderTest {
     @InjectMocks
     private QuizReader quizReader;
 
+    private final UUID userId = UUID.randomUUID();
+
     @Test
-    @DisplayName("read 테스트 - 존재하는 토큰 조회 성공")
-    void read_Success() {
+    @DisplayName("consume 테스트 - 존재하는 토큰 조회 및 삭제 성공")
+    void consume_Success() {
         // Given
-        String token = "token";
-        QuizAnswer quizAnswer = new QuizAnswer(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "1");
-        given(quizAnswerRepository.read(anyString())).willReturn(Optional.of(quizAnswer));
+        String sessionId = UUID.randomUUID().toString();
+        String token = sessionId + ".3";
+        QuizAnswer quizAnswer = new QuizAnswer(userId, UUID.randomUUID(), UUID.randomUUID(), "1");
+        given(quizAnswerRepository.consume("quiz:" + sessionId, "3", userId)).willReturn(Optional.of(quizAnswer));
 
         // When
-        QuizAnswer result = quizReader.read(token);
+        QuizAnswer result = quizReader.consume(token, userId);
 
         // Then
         assertEquals(quizAnswer, result);
     }
 
     @Test
-    @DisplayName("read 테스트 - 존재하지 않거나 만료된 토큰 조회 실패 (예외)")
-    void read_Fail() {
+    @DisplayName("consume 테스트 - 존재하지 않거나 만료, 이미 채점된 토큰 (예외)")
+    void consume_Fail() {
+        // Given
+        given(quizAnswerRepository.consume(anyString(), anyString(), eq(userId))).willReturn(Optional.empty());
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+                () -> quizReader.consume(UUID.randomUUID() + ".0", userId));
+        assertEquals(GeneralResponseCode.REQUEST_TIMEOUT, exception.getResponseCode());
+    }
+
+    @Test
+    @DisplayName("consume 테스트 - 형식이 잘못된 토큰 (예외)")
+    void consume_Fail_InvalidToken() {
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> quizReader.consume("invalid", userId));
+        assertEquals(GeneralResponseCode.NO_QUIZ, exception.getResponseCode());
+        verifyNoInteractions(quizAnswerRepository);
+    }
+
+    @Test
+    @DisplayName("consumeAll 테스트 - 세션별로 한 번씩 소비하고 토큰 기준으로 반환")
+    void consumeAll_Success() {
+        // Given
+        String sessionA = UUID.randomUUID().toString();
+        String sessionB = UUID.randomUUID().toString();
+        QuizAnswer answerA0 = new QuizAnswer(userId, UUID.randomUUID(), UUID.randomUUID(), "1");
+        QuizAnswer answerB2 = new QuizAnswer(userId, UUID.randomUUID(), UUID.randomUUID(), "0");
+        given(quizAnswerRepository.isOwnedBy(List.of("quiz:" + sessionA, "quiz:" + sessionB), userId)).willReturn(true);
+        given(quizAnswerRepository.consumeAll("quiz:" + sessionA, List.of("0", "1"), userId))
+                .willReturn(Map.of("0", answerA0));
+        given(quizAnswerRepository.consumeAll("quiz:" + sessionB, List.of("2"), userId))
+                .willReturn(Map.of("2", answerB2));
+
+        // When
+        Map<String, QuizAnswer> result = quizReader.consumeAll(
+                List.of(sessionA + ".0", sessionB + ".2", sessionA + ".1"), userId);
+
+        // Then
+        assertEquals(Map.of(sessionA + ".0", answerA0, sessionB + ".2", answerB2), result);
+    }
+
+    @Test
+    @DisplayName("consumeAll 테스트 - 형식이 잘못된 토큰이 있으면 아무것도 소비하지 않음 (예외)")
+    void consumeAll_Fail_InvalidToken() {
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class,
+                () -> quizReader.consumeAll(List.of(UUID.randomUUID() + ".0", "invalid"), userId));
+        assertEquals(GeneralResponseCode.NO_QUIZ, exception.getResponseCode());
+        verifyNoInteractions(quizAnswerRepository);
+    }
+
+    @Test
+    @DisplayName("consumeAll 테스트 - 다른 사용자의 세션이 섞여 있으면 어느 세션도 소비하지 않음 (예외)")
+    void consumeAll_Fail_NotOwner() {
         // Given
-        given(quizAnswerRepository.read(anyString())).willReturn(Optional.empty());
+        String sessionA = UUID.randomUUID().toString();
+        String sessionB = UUID.randomUUID().toString();
+        given(quizAnswerRepository.isOwnedBy(List.of("quiz:" + sessionA, "quiz:" + sessionB), userId)).willReturn(false);
 
         // When & Then
-        assertThrows(ApiException.class, () -> quizReader.read("expired"));
+        ApiException exception = assertThrows(ApiException.class,
+                () -> quizReader.consumeAll(List.of(sessionA + ".0", sessionB + ".1"), userId));
+        assertEquals(GeneralResponseCode.NO_QUIZ, exception.getResponseCode());
+        verify(quizAnswerRepository, never()).consumeAll(anyString(), anyList(), any());
     }
 }
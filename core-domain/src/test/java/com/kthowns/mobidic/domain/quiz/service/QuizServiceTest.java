@@ -1,12 +1,16 @@
 package com.kthowns.mobidic.domain.quiz.service;
 
-import com.kthowns.mobidic.domain.quiz.model.Quiz;
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
 import com.kthowns.mobidic.domain.quiz.model.QuizInfo;
 import com.kthowns.mobidic.domain.quiz.model.QuizResult;
+import com.kthowns.mobidic.domain.quiz.model.QuizSubmission;
 import com.kthowns.mobidic.domain.quiz.properties.QuizProperties;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
 import com.kthowns.mobidic.domain.statistic.service.StatisticService;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import com.kthowns.mobidic.domain.word.service.WordService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,15 +19,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,9 +56,7 @@ class QuizServiceTest {
     @Mock
     private QuizReader quizReader;
     @Mock
-    private QuizRemover quizRemover;
-    @Mock
-    private QuizValidator quizValidator;
+    private QuizWordSelector quizWordSelector;
 
     private final UUID userId = UUID.randomUUID();
     private final UUID vocabId = UUID.randomUUID();
@@ -60,16 +70,40 @@ class QuizServiceTest {
                 new WordDetail(wordId, "apple", 0.5, 0.0, false, List.of(), null, null),
                 new WordDetail(UUID.randomUUID(), "banana", 0.5, 0.0, false, List.of(), null, null)
         );
-        given(wordService.getWordDetailsNotLearnedByVocabularyId(userId, vocabId)).willReturn(wordDetails);
+        given(quizProperties.getDefaultQuizSize()).willReturn(20);
+        given(wordService.sampleWordDetailsNotLearnedByVocabularyId(userId, vocabId, 20, WordSampling.RANDOM))
+                .willReturn(wordDetails);
         given(quizProperties.getExpPerQuiz()).willReturn(15000L);
-        given(quizAppender.append(any(UUID.class), any(Quiz.class), anyLong())).willReturn("token");
+        given(quizAppender.appendAll(eq(userId), anyList(), anyLong())).willReturn(List.of("token1", "token2"));
 
         // when
-        List<QuizInfo> result = quizService.getOXQuizzes(userId, vocabId);
+        List<QuizInfo> result = quizService.getOXQuizzes(userId, vocabId, null, null);
 
         // then
         assertEquals(2, result.size());
-        verify(quizAppender, times(2)).append(eq(userId), any(Quiz.class), anyLong());
+        assertEquals("token1", result.get(0).token());
+        assertEquals("token2", result.get(1).token());
+        verify(quizAppender, times(1)).appendAll(eq(userId), anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("[QuizService] Get OX quizzes success - adaptive sampling uses cached word table")
+    void getOXQuizzesAdaptive() {
+        // given
+        List<WordDetail> wordDetails = List.of(
+                new WordDetail(wordId, "apple", 0.9, 0.0, false, List.of(), null, null)
+        );
+        given(quizProperties.getMaxQuizSize()).willReturn(100);
+        given(quizWordSelector.select(userId, vocabId, 5)).willReturn(wordDetails);
+        given(quizProperties.getExpPerQuiz()).willReturn(15000L);
+        given(quizAppender.appendAll(eq(userId), anyList(), anyLong())).willReturn(List.of("token1"));
+
+        // when
+        List<QuizInfo> result = quizService.getOXQuizzes(userId, vocabId, 5, WordSampling.ADAPTIVE);
+
+        // then
+        assertEquals(1, result.size());
+        verify(wordService, never()).sampleWordDetailsNotLearnedByVocabularyId(any(), any(), anyInt(), any());
     }
 
     @Test
@@ -80,7 +114,7 @@ class QuizServiceTest {
         String answer = "1";
         QuizAnswer quizAnswer = new QuizAnswer(userId, wordId, UUID.randomUUID(), "1");
 
-        given(quizReader.read(token)).willReturn(quizAnswer);
+        given(quizReader.consume(token, userId)).willReturn(quizAnswer);
 
         // when
         QuizResult result = quizService.rateQuiz(userId, token, answer);
@@ -88,8 +122,59 @@ class QuizServiceTest {
         // then
         assertTrue(result.isCorrect());
         assertEquals("1", result.correctAnswer());
-        verify(quizValidator).validateOwnership(quizAnswer, userId);
-        verify(quizRemover).remove(token);
+        verify(quizReader).consume(token, userId);
         verify(statisticService).increaseCorrectCount(userId, wordId);
     }
+
+    @Test
+    @DisplayName("[QuizService] Rate quizzes success - deltas grouped by word, expired item marked incorrect")
+    void rateQuizzesGroupsDeltas() {
+        // given
+        UUID otherWordId = UUID.randomUUID();
+        given(quizProperties.getMaxQuizSize()).willReturn(100);
+        given(quizReader.consumeAll(List.of("t1", "t2", "t3", "t4"), userId)).willReturn(new HashMap<>(Map.of(
+                "t1", new QuizAnswer(userId, wordId, UUID.randomUUID(), "1"),
+                "t2", new QuizAnswer(userId, wordId, UUID.randomUUID(), "0"),
+                "t3", new QuizAnswer(userId, otherWordId, UUID.randomUUID(), "apple")
+        )));
+
+        // when
+        List<QuizResult> results = quizService.rateQuizzes(userId, List.of(
+                QuizSubmission.of("t1", "1"),
+                QuizSubmission.of("t2", "1"),
+                QuizSubmission.of("t3", "APPLE"),
+                QuizSubmission.of("t4", "1")
+        ));
+
+        // then
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isCorrect());
+        assertFalse(results.get(1).isCorrect());
+        assertTrue(results.get(2).isCorrect());
+        assertFalse(results.get(3).isCorrect());
+        assertNull(results.get(3).correctAnswer());
+        verify(statisticService).increaseCounts(userId, List.of(
+                WordStatisticDelta.of(wordId, 1, 0),
+                WordStatisticDelta.of(wordId, 0, 1),
+                WordStatisticDelta.of(otherWordId, 1, 0)
+        ));
+    }
+
+    @Test
+    @DisplayName("[QuizService] Rate quizzes fail - more submissions than max quiz size")
+    void rateQuizzesFailTooMany() {
+        // given
+        given(quizProperties.getMaxQuizSize()).willReturn(2);
+        List<QuizSubmission> submissions = List.of(
+                QuizSubmission.of("t1", "1"),
+                QuizSubmission.of("t2", "1"),
+                QuizSubmission.of("t3", "1")
+        );
+
+        // when & then
+        ApiException exception = assertThrows(ApiException.class, () -> quizService.rateQuizzes(userId, submissions));
+        assertEquals(GeneralResponseCode.TOO_MANY_QUIZ_SUBMISSIONS, exception.getResponseCode());
+        verify(quizReader, never()).consumeAll(anyList(), any());
+        verify(statisticService, never()).increaseCounts(any(), anyList());
+    }
 }
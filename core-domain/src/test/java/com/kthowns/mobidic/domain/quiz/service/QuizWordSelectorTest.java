@@ -0,0 +1,193 @@
+package com.kthowns.mobidic.domain.quiz.service;
+
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.quiz.model.QuizWordTable;
+import com.kthowns.mobidic.domain.quiz.repository.QuizWordTableRepository;
+import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.word.service.WordService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QuizWordSelectorTest {
+    @InjectMocks
+    private QuizWordSelector quizWordSelector;
+
+    @Mock
+    private QuizWordTableRepository quizWordTableRepository;
+    @Mock
+    private StatisticService statisticService;
+    @Mock
+    private WordService wordService;
+    @Spy
+    private QuizWordTableChangeLog quizWordTableChangeLog = new QuizWordTableChangeLog();
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID vocabId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("[QuizWordSelector] 캐시된 테이블이 없으면 통계로 테이블을 만들고 학습 완료 단어는 제외")
+    void selectBuildsTableOnMiss() {
+        // given
+        UUID hardWordId = UUID.randomUUID();
+        UUID learnedWordId = UUID.randomUUID();
+        given(statisticService.getWordStatisticsByVocabularyId(userId, vocabId)).willReturn(List.of(
+                new WordStatistic(hardWordId, 0L, 3L, false, 0.665, 0.0, AuditTime.create()),
+                new WordStatistic(learnedWordId, 5L, 0L, true, 0.275, 1.0, AuditTime.create())
+        ));
+        givenBuildOnMiss();
+
+        // when
+        quizWordSelector.select(userId, vocabId, 10);
+
+        // then
+        verify(wordService).getWordDetailsNotLearnedByIds(userId, vocabId, List.of(hardWordId));
+    }
+
+    @Test
+    @DisplayName("[QuizWordSelector] 테이블을 만드는 동안 기록된 가중치 변경은 캐시에 올린 뒤 반영")
+    void selectAppliesChangesRecordedDuringBuild() {
+        // given
+        UUID wordId = UUID.randomUUID();
+        given(statisticService.getWordStatisticsByVocabularyId(userId, vocabId)).willReturn(List.of(
+                new WordStatistic(wordId, 0L, 3L, false, 0.665, 0.0, AuditTime.create())
+        ));
+        given(quizWordTableRepository.readOrBuild(eq(vocabId), any())).willAnswer(invocation -> {
+            QuizWordTable built = invocation.<Supplier<QuizWordTable>>getArgument(1).get();
+            // 통계를 읽은 뒤 캐시에 올라가기 전에 학습 완료로 바뀜
+            quizWordTableChangeLog.record(wordId, 0.0);
+            return built;
+        });
+
+        // when
+        quizWordSelector.select(userId, vocabId, 10);
+
+        // then
+        verify(wordService).getWordDetailsNotLearnedByIds(userId, vocabId, List.of());
+        assertThat(quizWordTableChangeLog.isBuilding()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[QuizWordSelector] 캐시된 테이블이 있으면 통계를 다시 읽지 않음")
+    void selectUsesCachedTable() {
+        // given
+        UUID wordId = UUID.randomUUID();
+        given(quizWordTableRepository.readOrBuild(eq(vocabId), any()))
+                .willReturn(QuizWordTable.of(List.of(wordId), new double[]{0.5}));
+
+        // when
+        quizWordSelector.select(userId, vocabId, 10);
+
+        // then
+        verify(statisticService, never()).getWordStatisticsByVocabularyId(any(), any());
+        verify(quizWordTableChangeLog, never()).startBuild();
+        verify(wordService).getWordDetailsNotLearnedByIds(eq(userId), eq(vocabId), anyList());
+    }
+
+    @Test
+    @DisplayName("[QuizWordTableChangeLog] 만드는 중인 테이블이 있을 때만 기록하고 생성 이후의 마지막 가중치만 돌려줌")
+    void changeLogRecordsOnlyWhileBuilding() {
+        // given
+        QuizWordTableChangeLog changeLog = new QuizWordTableChangeLog();
+        UUID ignoredWordId = UUID.randomUUID();
+        UUID wordId = UUID.randomUUID();
+
+        // when
+        changeLog.record(ignoredWordId, 1.0);
+        long buildVersion = changeLog.startBuild();
+        changeLog.record(wordId, 0.5);
+        changeLog.record(wordId, 0.2);
+
+        // then
+        assertThat(changeLog.changedSince(buildVersion)).containsExactly(Map.entry(wordId, 0.2));
+
+        // when
+        changeLog.finishBuild(buildVersion);
+
+        // then
+        assertThat(changeLog.isBuilding()).isFalse();
+        assertThat(changeLog.changedSince(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[QuizWordSelector] 가중치는 난이도와 마지막 풀이 이후 경과 시간에 비례")
+    void weightGrowsWithDifficultyAndElapsedTime() {
+        Instant now = Instant.now();
+
+        assertThat(QuizWordSelector.weight(0.8, false, now, now)).isCloseTo(0.8, within(1e-9));
+        assertThat(QuizWordSelector.weight(0.0, false, now, now)).isPositive();
+        assertThat(QuizWordSelector.weight(0.8, false, now.minus(Duration.ofDays(7)), now))
+                .isGreaterThan(QuizWordSelector.weight(0.8, false, now.minus(Duration.ofDays(1)), now));
+        assertThat(QuizWordSelector.weight(0.8, true, now, now)).isZero();
+    }
+
+    @Test
+    @DisplayName("[QuizWordTable] 한 단어씩 뽑은 빈도가 가중치 비율을 따름")
+    void drawFrequencyFollowsWeights() {
+        // given
+        List<UUID> wordIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        QuizWordTable quizWordTable = QuizWordTable.of(wordIds, new double[]{1.0, 3.0, 0.0});
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[wordIds.size()];
+        int rounds = 40_000;
+
+        // when
+        for (int i = 0; i < rounds; i++) {
+            counts[wordIds.indexOf(quizWordTable.draw(1, random).getFirst())]++;
+        }
+
+        // then
+        assertThat(counts[0] / (double) rounds).isCloseTo(0.25, within(0.02));
+        assertThat(counts[1] / (double) rounds).isCloseTo(0.75, within(0.02));
+        assertThat(counts[2]).isZero();
+    }
+
+    @Test
+    @DisplayName("[QuizWordTable] 가중치 변경은 다음 추출부터 반영되고 서로 다른 단어만 뽑힘")
+    void updateWeightAppliesOnNextDraw() {
+        // given
+        List<UUID> wordIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        QuizWordTable quizWordTable = QuizWordTable.of(wordIds, new double[]{1.0, 1.0, 1.0});
+        SplittableRandom random = new SplittableRandom(7);
+
+        // when
+        boolean updated = quizWordTable.updateWeight(wordIds.get(1), 0.0);
+        boolean unknown = quizWordTable.updateWeight(UUID.randomUUID(), 1.0);
+
+        // then
+        assertThat(updated).isTrue();
+        assertThat(unknown).isFalse();
+        assertThat(quizWordTable.draw(3, random))
+                .hasSize(2)
+                .doesNotHaveDuplicates()
+                .doesNotContain(wordIds.get(1));
+    }
+
+    private void givenBuildOnMiss() {
+        given(quizWordTableRepository.readOrBuild(eq(vocabId), any()))
+                .willAnswer(invocation -> invocation.<Supplier<QuizWordTable>>getArgument(1).get());
+    }
+}
@@ -0,0 +1,167 @@
+package com.kthowns.mobidic.domain.statistic.service;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.repository.ReviewScheduleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewSchedulerTest {
+    @InjectMocks
+    private ReviewScheduler reviewScheduler;
+
+    @Mock
+    private ReviewScheduleRepository reviewScheduleRepository;
+
+    @Captor
+    private ArgumentCaptor<List<ReviewSchedule>> schedulesCaptor;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID wordId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("처음 맞힌 단어는 1일 뒤 복습 예정")
+    void firstCorrectReviewScheduledNextDay() {
+        // Given
+        Instant before = Instant.now();
+        given(reviewScheduleRepository.readOrCreateAllForUpdate(eq(userId), anyList()))
+                .willReturn(List.of(ReviewSchedule.create(wordId, userId)));
+
+        // When
+        reviewScheduler.schedule(userId, wordId, true);
+
+        // Then
+        verify(reviewScheduleRepository).updateAll(schedulesCaptor.capture());
+        ReviewSchedule schedule = schedulesCaptor.getValue().getFirst();
+        assertThat(schedule.repetition()).isEqualTo(1);
+        assertThat(schedule.intervalDays()).isEqualTo(1);
+        assertThat(schedule.nextReviewAt()).isAfterOrEqualTo(before.plus(Duration.ofDays(1)));
+    }
+
+    @Test
+    @DisplayName("연속으로 맞히면 간격이 1일, 6일, 6 * EF 일로 늘어남")
+    void consecutiveCorrectReviewsGrowInterval() {
+        // Given
+        Instant now = Instant.now();
+        ReviewSchedule schedule = ReviewSchedule.create(wordId, userId);
+
+        // When
+        ReviewSchedule first = schedule.review(true, now);
+        ReviewSchedule second = first.review(true, now);
+        ReviewSchedule third = second.review(true, now);
+
+        // Then
+        assertThat(first.intervalDays()).isEqualTo(1);
+        assertThat(second.intervalDays()).isEqualTo(6);
+        assertThat(third.intervalDays()).isEqualTo((int) Math.round(6 * third.easeFactor()));
+    }
+
+    @Test
+    @DisplayName("오답이면 반복 횟수를 초기화하고 EF 를 낮춤")
+    void incorrectReviewResetsRepetition() {
+        // Given
+        ReviewSchedule learned = new ReviewSchedule(wordId, userId, 4, 2.5, 30, Instant.now());
+        given(reviewScheduleRepository.readOrCreateAllForUpdate(eq(userId), anyList())).willReturn(List.of(learned));
+
+        // When
+        reviewScheduler.schedule(userId, wordId, false);
+
+        // Then
+        verify(reviewScheduleRepository).updateAll(schedulesCaptor.capture());
+        ReviewSchedule schedule = schedulesCaptor.getValue().getFirst();
+        assertThat(schedule.repetition()).isZero();
+        assertThat(schedule.intervalDays()).isEqualTo(1);
+        assertThat(schedule.easeFactor()).isCloseTo(1.96, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("한 번에 같은 단어가 여러 번 채점되면 채점마다 순서대로 복습")
+    void repeatedGradesAppliedInOrder() {
+        // Given
+        given(reviewScheduleRepository.readOrCreateAllForUpdate(userId, List.of(wordId)))
+                .willReturn(List.of(ReviewSchedule.create(wordId, userId)));
+
+        // When
+        reviewScheduler.schedule(userId, List.of(
+                WordStatisticDelta.of(wordId, 1, 0),
+                WordStatisticDelta.of(wordId, 1, 0),
+                WordStatisticDelta.of(wordId, 0, 1),
+                WordStatisticDelta.of(wordId, 1, 0)
+        ));
+
+        // Then
+        verify(reviewScheduleRepository).updateAll(schedulesCaptor.capture());
+        ReviewSchedule schedule = schedulesCaptor.getValue().getFirst();
+        // 정답, 정답, 오답으로 처음부터 다시 시작한 뒤 정답 한 번
+        assertThat(schedule.repetition()).isEqualTo(1);
+        assertThat(schedule.intervalDays()).isEqualTo(1);
+        assertThat(schedule.easeFactor()).isCloseTo(1.96, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("연속으로 오래 맞혀도 간격은 상한을 넘지 않음")
+    void longCorrectStreakIntervalIsBounded() {
+        // Given
+        Instant now = Instant.now();
+        ReviewSchedule schedule = ReviewSchedule.create(wordId, userId);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            schedule = schedule.review(true, now);
+            assertThat(schedule.intervalDays()).isBetween(1, ReviewSchedule.MAX_INTERVAL_DAYS);
+        }
+
+        // Then
+        assertThat(schedule.repetition()).isEqualTo(100);
+        assertThat(schedule.intervalDays()).isEqualTo(ReviewSchedule.MAX_INTERVAL_DAYS);
+        assertThat(schedule.nextReviewAt()).isEqualTo(now.plus(Duration.ofDays(ReviewSchedule.MAX_INTERVAL_DAYS)));
+    }
+
+    @Test
+    @DisplayName("잠그는 사이 일정이 지워진 단어는 건너뛰고 나머지만 갱신")
+    void removedSchedulesAreSkipped() {
+        // Given
+        UUID removedWordId = UUID.randomUUID();
+        ReviewSchedule existing = new ReviewSchedule(wordId, userId, 1, 2.5, 1, Instant.now());
+        given(reviewScheduleRepository.readOrCreateAllForUpdate(eq(userId), anyList())).willReturn(List.of(existing));
+
+        // When
+        reviewScheduler.schedule(userId, List.of(WordStatisticDelta.of(wordId, 1, 0), WordStatisticDelta.of(removedWordId, 1, 0)));
+
+        // Then
+        verify(reviewScheduleRepository).updateAll(schedulesCaptor.capture());
+        assertThat(schedulesCaptor.getValue()).extracting(ReviewSchedule::wordId).containsExactly(wordId);
+    }
+
+    @Test
+    @DisplayName("EF 는 하한 아래로 내려가지 않음")
+    void easeFactorHasLowerBound() {
+        // Given
+        ReviewSchedule schedule = new ReviewSchedule(wordId, userId, 0, 1.4, 1, Instant.now());
+
+        // When
+        ReviewSchedule reviewed = schedule.review(false, Instant.now());
+
+        // Then
+        assertThat(reviewed.easeFactor()).isEqualTo(ReviewSchedule.MIN_EASE_FACTOR);
+    }
+}
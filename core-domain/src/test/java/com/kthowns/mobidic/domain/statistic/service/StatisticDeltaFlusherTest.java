@@ -0,0 +1,153 @@
+package com.kthowns.mobidic.domain.statistic.service;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDeltaBatch;
+import com.kthowns.mobidic.domain.statistic.properties.StatisticProperties;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticDeltaFlusherTest {
+
+    @Mock
+    private StatisticService statisticService;
+
+    @Mock
+    private WordStatisticDeltaRepository wordStatisticDeltaRepository;
+
+    @Mock
+    private StatisticProperties statisticProperties;
+
+    @InjectMocks
+    private StatisticDeltaFlusher statisticDeltaFlusher;
+
+    @Test
+    @DisplayName("flush 테스트 - write-behind 비활성화 시 아무것도 하지 않음")
+    void flushTest_Disabled() {
+        // Given
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(false);
+
+        // When
+        statisticDeltaFlusher.flush();
+
+        // Then
+        verifyNoInteractions(wordStatisticDeltaRepository, statisticService);
+    }
+
+    @Test
+    @DisplayName("flush 테스트 - 꺼낸 배치를 DB에 반영한 뒤 확인")
+    void flushTest_Success() {
+        // Given
+        WordStatisticDelta delta = WordStatisticDelta.of(UUID.randomUUID(), 1L, 2L);
+        givenWriteBehind(500);
+        given(wordStatisticDeltaRepository.reclaim(any())).willReturn(Optional.empty());
+        given(wordStatisticDeltaRepository.claim()).willReturn(Optional.of(WordStatisticDeltaBatch.of("batch", List.of(delta))));
+
+        // When
+        statisticDeltaFlusher.flush();
+
+        // Then
+        verify(statisticService).applyDeltas("batch", List.of(delta));
+        verify(wordStatisticDeltaRepository).acknowledge("batch", List.of(delta.wordId()));
+    }
+
+    @Test
+    @DisplayName("flush 테스트 - 반영 실패 시 확인하지 않아 배치에 남김")
+    void flushTest_KeepBatchOnFailure() {
+        // Given
+        WordStatisticDelta delta = WordStatisticDelta.of(UUID.randomUUID(), 1L, 0L);
+        givenWriteBehind(500);
+        given(wordStatisticDeltaRepository.reclaim(any())).willReturn(Optional.empty());
+        given(wordStatisticDeltaRepository.claim()).willReturn(Optional.of(WordStatisticDeltaBatch.of("batch", List.of(delta))));
+        willThrow(new RuntimeException("db down")).given(statisticService).applyDeltas("batch", List.of(delta));
+
+        // When
+        statisticDeltaFlusher.flush();
+
+        // Then
+        verify(wordStatisticDeltaRepository, never()).acknowledge(anyString(), anyList());
+        verify(wordStatisticDeltaRepository, never()).increaseAll(anyList());
+    }
+
+    @Test
+    @DisplayName("flush 테스트 - 확인되지 않은 이전 배치를 먼저 다시 반영")
+    void flushTest_ReclaimStaleBatch() {
+        // Given
+        WordStatisticDelta staleDelta = WordStatisticDelta.of(UUID.randomUUID(), 2L, 0L);
+        givenWriteBehind(500);
+        given(wordStatisticDeltaRepository.reclaim(any()))
+                .willReturn(Optional.of(WordStatisticDeltaBatch.of("stale", List.of(staleDelta))), Optional.empty());
+        given(wordStatisticDeltaRepository.claim()).willReturn(Optional.empty());
+
+        // When
+        statisticDeltaFlusher.flush();
+
+        // Then
+        verify(statisticService).applyDeltas("stale", List.of(staleDelta));
+        verify(wordStatisticDeltaRepository).acknowledge("stale", List.of(staleDelta.wordId()));
+    }
+
+    @Test
+    @DisplayName("flush 테스트 - 배치를 flush-batch-size 단위로 나누어 반영하고 단위마다 확인")
+    void flushTest_Chunked() {
+        // Given
+        WordStatisticDelta first = WordStatisticDelta.of(UUID.randomUUID(), 1L, 0L);
+        WordStatisticDelta second = WordStatisticDelta.of(UUID.randomUUID(), 0L, 1L);
+        givenWriteBehind(1);
+        given(wordStatisticDeltaRepository.reclaim(any())).willReturn(Optional.empty());
+        given(wordStatisticDeltaRepository.claim())
+                .willReturn(Optional.of(WordStatisticDeltaBatch.of("batch", List.of(first, second))));
+        willThrow(new RuntimeException("db down")).given(statisticService).applyDeltas("batch", List.of(second));
+
+        // When
+        statisticDeltaFlusher.flush();
+
+        // Then
+        verify(wordStatisticDeltaRepository).acknowledge("batch", List.of(first.wordId()));
+        verify(wordStatisticDeltaRepository, never()).acknowledge("batch", List.of(second.wordId()));
+    }
+
+    @Test
+    @DisplayName("deleteExpiredAppliedDeltas 테스트 - 보관 기간이 지난 반영 기록을 정리")
+    void deleteExpiredAppliedDeltasTest() {
+        // Given
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(statisticProperties.getAppliedRetentionMillis()).willReturn(86_400_000L);
+        Instant before = Instant.now().minusMillis(86_400_000L);
+
+        // When
+        statisticDeltaFlusher.deleteExpiredAppliedDeltas();
+
+        // Then
+        ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
+        verify(statisticService).deleteAppliedDeltasBefore(captor.capture());
+        assertThat(captor.getValue()).isAfterOrEqualTo(before);
+    }
+
+    private void givenWriteBehind(int flushBatchSize) {
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(statisticProperties.getFlushBatchSize()).willReturn(flushBatchSize);
+        given(statisticProperties.getRecoveryAfterMillis()).willReturn(30_000L);
+    }
+}
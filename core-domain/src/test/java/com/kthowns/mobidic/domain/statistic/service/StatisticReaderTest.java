@@ -4,6 +4,9 @@ import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.properties.StatisticProperties;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
 import com.kthowns.mobidic.domain.statistic.repository.WordStatisticRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +30,12 @@ class StatisticReaderTest {
     @Mock
     private WordStatisticRepository wordStatisticRepository;
 
+    @Mock
+    private WordStatisticDeltaRepository wordStatisticDeltaRepository;
+
+    @Mock
+    private StatisticProperties statisticProperties;
+
     @InjectMocks
     private StatisticReader statisticReader;
 
@@ -108,4 +118,26 @@ class StatisticReaderTest {
         // Then
         assertThat(result).isEqualTo(0.75);
     }
+
+    @Test
+    @DisplayName("readByVocabularyId 테스트 - write-behind 모드에서 반영 대기 중인 증가분 합산")
+    void readByVocabularyIdTest_MergePendingDeltas() {
+        // Given
+        UUID vocabularyId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID wordId = UUID.randomUUID();
+        WordStatistic storedStat = new WordStatistic(wordId, 1L, 0L, false, 0.5, 1.0, AuditTime.create());
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(wordStatisticRepository.readByVocabularyId(vocabularyId, userId)).willReturn(List.of(storedStat));
+        given(wordStatisticDeltaRepository.readByWordIds(List.of(wordId)))
+                .willReturn(Map.of(wordId, WordStatisticDelta.of(wordId, 2L, 1L)));
+
+        // When
+        List<WordStatistic> actualStats = statisticReader.readByVocabularyId(vocabularyId, userId);
+
+        // Then
+        assertThat(actualStats).hasSize(1);
+        assertThat(actualStats.getFirst().correctCount()).isEqualTo(3L);
+        assertThat(actualStats.getFirst().incorrectCount()).isEqualTo(1L);
+    }
 }
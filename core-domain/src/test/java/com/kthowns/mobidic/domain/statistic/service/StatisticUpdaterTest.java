@@ -4,6 +4,12 @@ import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticChange;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticIncrease;
+import com.kthowns.mobidic.domain.statistic.properties.StatisticProperties;
+import com.kthowns.mobidic.domain.statistic.repository.AppliedWordStatisticDeltaRepository;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
 import com.kthowns.mobidic.domain.statistic.repository.WordStatisticRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +18,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +41,15 @@ class StatisticUpdaterTest {
     @Mock
     private WordStatisticRepository wordStatisticRepository;
 
+    @Mock
+    private WordStatisticDeltaRepository wordStatisticDeltaRepository;
+
+    @Mock
+    private AppliedWordStatisticDeltaRepository appliedWordStatisticDeltaRepository;
+
+    @Mock
+    private StatisticProperties statisticProperties;
+
     @InjectMocks
     private StatisticUpdater statisticUpdater;
 
@@ -69,16 +91,16 @@ class StatisticUpdaterTest {
         // Given
         UUID userId = UUID.randomUUID();
         UUID wordId = UUID.randomUUID();
-        WordStatistic existingStat = new WordStatistic(wordId, 0L, 0L, false, 0.0, 0.0, AuditTime.create());
-        given(wordStatisticRepository.readForUpdate(wordId, userId)).willReturn(Optional.of(existingStat));
+        given(wordStatisticRepository.increaseCounts(wordId, userId, 1L, 0L)).willReturn(Optional.of(statistic(wordId, false)));
 
         // When
-        statisticUpdater.increaseCorrectCount(userId, wordId);
+        WordStatisticIncrease increase = statisticUpdater.increaseCorrectCount(userId, wordId);
 
         // Then
-        ArgumentCaptor<WordStatistic> captor = ArgumentCaptor.forClass(WordStatistic.class);
-        verify(wordStatisticRepository).update(captor.capture(), eq(userId));
-        assertThat(captor.getValue().correctCount()).isEqualTo(1);
+        assertThat(increase.appliedDeltas()).containsExactly(WordStatisticDelta.of(wordId, 1L, 0L));
+        assertThat(increase.statistics()).extracting(WordStatistic::wordId).containsExactly(wordId);
+        verify(wordStatisticRepository, never()).readForUpdate(any(), any());
+        verify(wordStatisticRepository, never()).readByWordIdAndUserId(any(), any());
     }
 
     @Test
@@ -87,7 +109,7 @@ class StatisticUpdaterTest {
         // Given
         UUID userId = UUID.randomUUID();
         UUID wordId = UUID.randomUUID();
-        given(wordStatisticRepository.readForUpdate(wordId, userId)).willReturn(Optional.empty());
+        given(wordStatisticRepository.increaseCounts(wordId, userId, 1L, 0L)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> statisticUpdater.increaseCorrectCount(userId, wordId))
@@ -101,16 +123,15 @@ class StatisticUpdaterTest {
         // Given
         UUID userId = UUID.randomUUID();
         UUID wordId = UUID.randomUUID();
-        WordStatistic existingStat = new WordStatistic(wordId, 0L, 0L, false, 0.0, 0.0, AuditTime.create());
-        given(wordStatisticRepository.readForUpdate(wordId, userId)).willReturn(Optional.of(existingStat));
+        given(wordStatisticRepository.increaseCounts(wordId, userId, 0L, 1L)).willReturn(Optional.of(statistic(wordId, false)));
 
         // When
-        statisticUpdater.increaseIncorrectCount(userId, wordId);
+        WordStatisticIncrease increase = statisticUpdater.increaseIncorrectCount(userId, wordId);
 
         // Then
-        ArgumentCaptor<WordStatistic> captor = ArgumentCaptor.forClass(WordStatistic.class);
-        verify(wordStatisticRepository).update(captor.capture(), eq(userId));
-        assertThat(captor.getValue().incorrectCount()).isEqualTo(1);
+        assertThat(increase.appliedDeltas()).containsExactly(WordStatisticDelta.of(wordId, 0L, 1L));
+        verify(wordStatisticRepository, never()).readForUpdate(any(), any());
+        verify(wordStatisticRepository, never()).readByWordIdAndUserId(any(), any());
     }
 
     @Test
@@ -119,11 +140,197 @@ class StatisticUpdaterTest {
         // Given
         UUID userId = UUID.randomUUID();
         UUID wordId = UUID.randomUUID();
-        given(wordStatisticRepository.readForUpdate(wordId, userId)).willReturn(Optional.empty());
+        given(wordStatisticRepository.increaseCounts(wordId, userId, 0L, 1L)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> statisticUpdater.increaseIncorrectCount(userId, wordId))
                 .isInstanceOf(ApiException.class)
                 .hasMessageContaining(GeneralResponseCode.NO_STAT.getMessage());
     }
+
+    @Test
+    @DisplayName("increaseCorrectCount 테스트 - write-behind 모드에서는 잠금 없이 증가분만 기록")
+    void increaseCorrectCountTest_WriteBehind() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID wordId = UUID.randomUUID();
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(wordStatisticRepository.readOwnedForShare(userId, List.of(wordId)))
+                .willReturn(List.of(statistic(wordId, true)));
+
+        // When
+        WordStatisticIncrease increase = statisticUpdater.increaseCorrectCount(userId, wordId);
+
+        // Then
+        verify(wordStatisticDeltaRepository).increase(WordStatisticDelta.of(wordId, 1L, 0L));
+        // DB 에 아직 반영되지 않았으므로 반영된 증가분은 없고, 학습 완료 여부는 읽은 통계로 넘김
+        assertThat(increase.appliedDeltas()).isEmpty();
+        assertThat(increase.statistics()).singleElement().satisfies(ws -> assertThat(ws.isLearned()).isTrue());
+        verify(wordStatisticRepository, never()).increaseCounts(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("increaseCorrectCount 테스트 - write-behind 모드에서도 다른 사용자의 단어는 기록하지 않음")
+    void increaseCorrectCountTest_WriteBehindNotOwner() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID wordId = UUID.randomUUID();
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(wordStatisticRepository.readOwnedForShare(userId, List.of(wordId))).willReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> statisticUpdater.increaseCorrectCount(userId, wordId))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining(GeneralResponseCode.NO_STAT.getMessage());
+        verify(wordStatisticDeltaRepository, never()).increase(any());
+    }
+
+    @Test
+    @DisplayName("increaseCounts 테스트 - write-behind 모드에서는 사용자의 단어 증가분만 기록")
+    void increaseCountsTest_WriteBehindFiltersNotOwned() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        WordStatisticDelta owned = WordStatisticDelta.of(UUID.randomUUID(), 1L, 0L);
+        WordStatisticDelta notOwned = WordStatisticDelta.of(UUID.randomUUID(), 0L, 1L);
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(wordStatisticRepository.readOwnedForShare(userId, List.of(owned.wordId(), notOwned.wordId())))
+                .willReturn(List.of(statistic(owned.wordId(), false)));
+
+        // When
+        statisticUpdater.increaseCounts(userId, List.of(owned, notOwned));
+
+        // Then
+        verify(wordStatisticDeltaRepository).increaseAll(List.of(owned));
+    }
+
+    @Test
+    @DisplayName("increaseCounts 테스트 - 같은 단어의 채점 결과는 합쳐서 한 번에 반영")
+    void increaseCountsTest_MergesSameWord() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID wordId = UUID.randomUUID();
+        given(wordStatisticRepository.increaseCounts(wordId, userId, 2L, 1L)).willReturn(Optional.of(statistic(wordId, false)));
+
+        // When
+        WordStatisticIncrease increase = statisticUpdater.increaseCounts(userId, List.of(
+                WordStatisticDelta.of(wordId, 1L, 0L),
+                WordStatisticDelta.of(wordId, 0L, 1L),
+                WordStatisticDelta.of(wordId, 1L, 0L)
+        ));
+
+        // Then
+        assertThat(increase.appliedDeltas()).containsExactly(WordStatisticDelta.of(wordId, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("applyDeltas 테스트 - 증가분을 한 번에 반영")
+    void applyDeltasTest() {
+        // Given
+        UUID wordId = UUID.randomUUID();
+        WordStatistic existingStat = new WordStatistic(wordId, 1L, 1L, false, 0.5, 0.5, AuditTime.create());
+        WordStatisticDelta delta = WordStatisticDelta.of(wordId, 3L, 2L);
+        given(appliedWordStatisticDeltaRepository.markApplied("batch", List.of(wordId))).willReturn(Set.of(wordId));
+        given(wordStatisticRepository.readAllForUpdate(Set.of(wordId))).willReturn(List.of(existingStat));
+
+        // When
+        statisticUpdater.applyDeltas("batch", List.of(delta));
+
+        // Then
+        ArgumentCaptor<List<WordStatistic>> captor = ArgumentCaptor.forClass(List.class);
+        verify(wordStatisticRepository).updateAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(ws -> {
+                    assertThat(ws.correctCount()).isEqualTo(4L);
+                    assertThat(ws.incorrectCount()).isEqualTo(3L);
+                    assertThat(ws.accuracy()).isEqualTo(4.0 / 7.0);
+                });
+    }
+
+    @Test
+    @DisplayName("applyDeltas 테스트 - 같은 배치에서 이미 반영된 단어는 건너뜀")
+    void applyDeltasTest_SkipsAlreadyApplied() {
+        // Given
+        WordStatisticDelta applied = WordStatisticDelta.of(UUID.randomUUID(), 1L, 0L);
+        WordStatisticDelta unapplied = WordStatisticDelta.of(UUID.randomUUID(), 0L, 1L);
+        WordStatistic existingStat = new WordStatistic(unapplied.wordId(), 1L, 1L, false, 0.5, 0.5, AuditTime.create());
+        given(appliedWordStatisticDeltaRepository.markApplied("batch", List.of(applied.wordId(), unapplied.wordId())))
+                .willReturn(Set.of(unapplied.wordId()));
+        given(wordStatisticRepository.readAllForUpdate(Set.of(unapplied.wordId()))).willReturn(List.of(existingStat));
+
+        // When
+        List<WordStatisticChange> changes = statisticUpdater.applyDeltas("batch", List.of(applied, unapplied));
+
+        // Then
+        assertThat(changes).extracting(WordStatisticChange::wordId).containsExactly(unapplied.wordId());
+    }
+
+    @Test
+    @DisplayName("applyDeltas 테스트 - 배치 전체가 이미 반영되었으면 통계를 읽지 않음")
+    void applyDeltasTest_AllApplied() {
+        // Given
+        WordStatisticDelta delta = WordStatisticDelta.of(UUID.randomUUID(), 1L, 0L);
+        given(appliedWordStatisticDeltaRepository.markApplied("batch", List.of(delta.wordId()))).willReturn(Set.of());
+
+        // When
+        List<WordStatisticChange> changes = statisticUpdater.applyDeltas("batch", List.of(delta));
+
+        // Then
+        assertThat(changes).isEmpty();
+        verify(wordStatisticRepository, never()).readAllForUpdate(any());
+        verify(wordStatisticRepository, never()).updateAll(any());
+    }
+
+    @Test
+    @DisplayName("increaseCounts 테스트 - write-behind 모드에서는 트랜잭션이 커밋된 뒤에 증가분을 기록")
+    void increaseCountsTest_WriteBehindRecordsAfterCommit() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        WordStatisticDelta delta = WordStatisticDelta.of(UUID.randomUUID(), 1L, 0L);
+        given(statisticProperties.isWriteBehindEnabled()).willReturn(true);
+        given(wordStatisticRepository.readOwnedForShare(userId, List.of(delta.wordId())))
+                .willReturn(List.of(statistic(delta.wordId(), false)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            statisticUpdater.increaseCounts(userId, List.of(delta));
+
+            // Then
+            verify(wordStatisticDeltaRepository, never()).increaseAll(any());
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            verify(wordStatisticDeltaRepository).increaseAll(List.of(delta));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("increaseCounts 테스트 - 단어별 증가분을 단어당 한 번씩 반영")
+    void increaseCountsTest() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        WordStatisticDelta first = WordStatisticDelta.of(UUID.randomUUID(), 2L, 1L);
+        WordStatisticDelta second = WordStatisticDelta.of(UUID.randomUUID(), 0L, 3L);
+
+        given(wordStatisticRepository.increaseCounts(first.wordId(), userId, 2L, 1L)).willReturn(Optional.of(statistic(first.wordId(), false)));
+
+        // When
+        WordStatisticIncrease increase = statisticUpdater.increaseCounts(userId, List.of(first, second));
+
+        // Then
+        verify(wordStatisticRepository).increaseCounts(first.wordId(), userId, 2L, 1L);
+        verify(wordStatisticRepository).increaseCounts(second.wordId(), userId, 0L, 3L);
+        // 삭제되어 갱신되지 않은 단어는 반영된 증가분에서 제외
+        assertThat(increase.appliedDeltas()).containsExactly(first);
+        assertThat(increase.statistics()).extracting(WordStatistic::wordId).containsExactly(first.wordId());
+        verify(wordStatisticRepository, never()).readByWordIdAndUserId(any(), any());
+    }
+
+    private static WordStatistic statistic(UUID wordId, boolean isLearned) {
+        return new WordStatistic(wordId, 1L, 0L, isLearned, 0.455, 1.0, AuditTime.create());
+    }
 }
@@ -1,7 +1,12 @@
 package com.kthowns.mobidic.domain.statistic.service;
 
 import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.statistic.event.WordStatisticIncreasedEvent;
 import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticChange;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticIncrease;
+import com.kthowns.mobidic.domain.vocabulary.event.VocabularyDetailChangedEvent;
 import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,13 +14,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,9 +41,15 @@ class WordStatisticServiceTest {
     @Mock
     private StatisticUpdater statisticUpdater;
 
+    @Mock
+    private ReviewScheduler reviewScheduler;
+
     @Mock
     private VocabularyService vocabularyService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private final UUID userId = UUID.randomUUID();
     private final UUID wordId = UUID.randomUUID();
     private final UUID vocabId = UUID.randomUUID();
@@ -81,21 +99,138 @@ class WordStatisticServiceTest {
     @Test
     @DisplayName("[StatService] Increase correct count success")
     void increaseCorrectCountSuccess() {
+        // given
+        given(statisticUpdater.increaseCorrectCount(userId, wordId)).willReturn(increased(false));
+
         // when
         statisticService.increaseCorrectCount(userId, wordId);
 
         // then
         verify(statisticUpdater).increaseCorrectCount(userId, wordId);
+        verify(reviewScheduler).schedule(userId, List.of(WordStatisticDelta.of(wordId, 1L, 0L)));
     }
 
     @Test
     @DisplayName("[StatService] Increase incorrect count success")
     void increaseIncorrectCountSuccess() {
+        // given
+        given(statisticUpdater.increaseIncorrectCount(userId, wordId)).willReturn(increased(false));
+
         // when
         statisticService.increaseIncorrectCount(userId, wordId);
 
         // then
         verify(statisticUpdater).increaseIncorrectCount(userId, wordId);
+        verify(reviewScheduler).schedule(userId, List.of(WordStatisticDelta.of(wordId, 0L, 1L)));
+    }
+
+    @Test
+    @DisplayName("[StatService] Grading a learned word does not recreate its review schedule")
+    void increaseLearnedWordSkipsReviewSchedule() {
+        // given
+        given(statisticUpdater.increaseCorrectCount(userId, wordId)).willReturn(increased(true));
+
+        // when
+        statisticService.increaseCorrectCount(userId, wordId);
+
+        // then
+        verify(reviewScheduler).schedule(userId, List.of());
+    }
+
+    @Test
+    @DisplayName("[StatService] Batch grading schedules only words whose increase was applied")
+    void increaseCountsSchedulesAppliedWordsOnly() {
+        // given
+        UUID deletedWordId = UUID.randomUUID();
+        List<WordStatisticDelta> grades = List.of(
+                WordStatisticDelta.of(wordId, 1L, 0L),
+                WordStatisticDelta.of(deletedWordId, 0L, 1L),
+                WordStatisticDelta.of(wordId, 0L, 1L)
+        );
+        given(statisticUpdater.increaseCounts(userId, grades)).willReturn(increased(false));
+
+        // when
+        statisticService.increaseCounts(userId, grades);
+
+        // then
+        verify(reviewScheduler).schedule(userId, List.of(
+                WordStatisticDelta.of(wordId, 1L, 0L),
+                WordStatisticDelta.of(wordId, 0L, 1L)
+        ));
+    }
+
+    @Test
+    @DisplayName("[StatService] Toggle learned adjusts vocabulary aggregates")
+    void toggleLearnedAdjustsVocabularyAggregates() {
+        // given
+        given(statisticUpdater.toggleLearned(userId, wordId))
+                .willReturn(Optional.of(new WordStatisticChange(wordId, 1L, 0.0, 0.5, true)));
+
+        // when
+        statisticService.toggleLearnedByWordId(userId, wordId);
+
+        // then
+        verify(vocabularyService).adjustAggregates(wordId, 1L, 0.0);
+        verify(eventPublisher).publishEvent(VocabularyDetailChangedEvent.of(userId));
+        verify(reviewScheduler).remove(userId, List.of(wordId));
+    }
+
+    @Test
+    @DisplayName("[StatService] Unlearning a word keeps review schedules untouched")
+    void toggleUnlearnedKeepsReviewSchedule() {
+        // given
+        given(statisticUpdater.toggleLearned(userId, wordId))
+                .willReturn(Optional.of(new WordStatisticChange(wordId, -1L, 0.0, 0.5, false)));
+
+        // when
+        statisticService.toggleLearnedByWordId(userId, wordId);
+
+        // then
+        verify(reviewScheduler, never()).remove(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("[StatService] Unchanged statistic does not touch vocabulary aggregates")
+    void emptyChangeSkipsVocabularyAggregates() {
+        // given
+        given(statisticUpdater.toggleLearned(userId, wordId))
+                .willReturn(Optional.of(new WordStatisticChange(wordId, 0L, 0.0, 0.455, false)));
+
+        // when
+        statisticService.toggleLearnedByWordId(userId, wordId);
+
+        // then
+        verify(vocabularyService, never()).adjustAggregates(any(), anyLong(), anyDouble());
+        verify(eventPublisher, never()).publishEvent(any(VocabularyDetailChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("[StatService] Increased statistic publishes events without re-adjusting vocabulary aggregates")
+    void increasePublishesEventsOnly() {
+        // given
+        given(statisticUpdater.increaseCorrectCount(userId, wordId)).willReturn(increased(false));
+
+        // when
+        statisticService.increaseCorrectCount(userId, wordId);
+
+        // then
+        verify(vocabularyService, never()).adjustAggregates(any(), anyLong(), anyDouble());
+        verify(eventPublisher).publishEvent(WordStatisticIncreasedEvent.of(userId, List.of(wordId)));
+        verify(eventPublisher).publishEvent(VocabularyDetailChangedEvent.of(userId));
+    }
+
+    @Test
+    @DisplayName("[StatService] Queued increase (write-behind) publishes nothing")
+    void queuedIncreasePublishesNothing() {
+        // given
+        given(statisticUpdater.increaseCorrectCount(userId, wordId)).willReturn(new WordStatisticIncrease(
+                List.of(), List.of(new WordStatistic(wordId, 0L, 0L, false, 0.5, 0.0, AuditTime.create()))));
+
+        // when
+        statisticService.increaseCorrectCount(userId, wordId);
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -132,4 +267,10 @@ class WordStatisticServiceTest {
         // then
         assertEquals(0.75, result);
     }
+
+    private WordStatisticIncrease increased(boolean isLearned) {
+        return new WordStatisticIncrease(
+                List.of(WordStatisticDelta.of(wordId, 1L, 0L)),
+                List.of(new WordStatistic(wordId, 1L, 0L, isLearned, 0.455, 1.0, AuditTime.create())));
+    }
 }
@@ -0,0 +1,42 @@
+package com.kthowns.mobidic.domain.vocabulary.facade;
+
+import com.kthowns.mobidic.domain.statistic.service.StatisticService;
+import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class VocabularyFacadeTest {
+
+    @Mock
+    private VocabularyService vocabularyService;
+    @Mock
+    private StatisticService statisticService;
+
+    @InjectMocks
+    private VocabularyFacade vocabularyFacade;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID vocabularyId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("deleteVocab 테스트 - 단어가 지워지기 전에 복습 일정을 먼저 삭제")
+    void deleteVocabTest() {
+        // When
+        vocabularyFacade.deleteVocab(userId, vocabularyId);
+
+        // Then
+        InOrder inOrder = inOrder(statisticService, vocabularyService);
+        inOrder.verify(statisticService).deleteReviewSchedulesByVocabularyId(userId, vocabularyId);
+        inOrder.verify(vocabularyService).deleteVocab(userId, vocabularyId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kthowns.mobidic.domain.vocabulary.service;
+
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VocabularyAggregateReconcilerTest {
+
+    @Mock
+    private VocabularyService vocabularyService;
+
+    @InjectMocks
+    private VocabularyAggregateReconciler vocabularyAggregateReconciler;
+
+    @Test
+    @DisplayName("reconcile 테스트 - 어긋난 단어장만 복구")
+    void reconcileTest_RepairDriftedOnly() {
+        // Given
+        UUID driftedId = UUID.randomUUID();
+        List<VocabularyAggregate> page = List.of(
+                VocabularyAggregate.of(UUID.randomUUID(), 1, 0, 0.0),
+                VocabularyAggregate.of(driftedId, 2, 5, 0.0)
+        );
+        given(vocabularyService.getAggregates(isNull(), anyInt())).willReturn(page);
+        given(vocabularyService.findDriftedVocabularyIds(page)).willReturn(List.of(driftedId));
+
+        // When
+        vocabularyAggregateReconciler.reconcile();
+
+        // Then
+        verify(vocabularyService).reconcileAggregate(driftedId);
+    }
+
+    @Test
+    @DisplayName("backfill 테스트 - 계산하지 않은 단어장이 없어질 때까지 다시 계산")
+    void backfillTest_UntilEmpty() {
+        // Given
+        List<UUID> fullPage = Stream.generate(UUID::randomUUID).limit(500).toList();
+        UUID lastId = UUID.randomUUID();
+        given(vocabularyService.getNotBackfilledIds(anyInt())).willReturn(fullPage, List.of(lastId));
+
+        // When
+        vocabularyAggregateReconciler.backfill();
+
+        // Then
+        verify(vocabularyService, times(2)).getNotBackfilledIds(anyInt());
+        verify(vocabularyService).backfillAggregate(fullPage.getFirst());
+        verify(vocabularyService).backfillAggregate(lastId);
+    }
+
+    @Test
+    @DisplayName("backfill 테스트 - 모두 계산된 경우 아무것도 하지 않음")
+    void backfillTest_Empty() {
+        // Given
+        given(vocabularyService.getNotBackfilledIds(anyInt())).willReturn(List.of());
+
+        // When
+        vocabularyAggregateReconciler.backfill();
+
+        // Then
+        verify(vocabularyService, never()).backfillAggregate(any());
+    }
+
+    @Test
+    @DisplayName("reconcile 테스트 - 단어장이 없으면 아무것도 하지 않음")
+    void reconcileTest_Empty() {
+        // Given
+        given(vocabularyService.getAggregates(isNull(), anyInt())).willReturn(List.of());
+
+        // When
+        vocabularyAggregateReconciler.reconcile();
+
+        // Then
+        verify(vocabularyService, never()).reconcileAggregate(any());
+    }
+}
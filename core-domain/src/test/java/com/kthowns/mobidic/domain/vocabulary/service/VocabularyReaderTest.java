@@ -5,6 +5,7 @@ import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyDetailCacheRepository;
 import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,10 +17,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class VocabularyReaderTest {
@@ -27,6 +34,9 @@ class VocabularyReaderTest {
     @Mock
     private VocabularyRepository vocabularyRepository;
 
+    @Mock
+    private VocabularyDetailCacheRepository vocabularyDetailCacheRepository;
+
     @InjectMocks
     private VocabularyReader vocabularyReader;
 
@@ -38,12 +48,31 @@ class VocabularyReaderTest {
         VocabularyDetail detail = new VocabularyDetail(new Vocabulary(UUID.randomUUID(), userId, "title", "desc", 0, AuditTime.create()), 0.0, 0.0);
         List<VocabularyDetail> expectedDetails = List.of(detail);
         given(vocabularyRepository.readDetailsByUserId(userId)).willReturn(expectedDetails);
+        willAnswer(invocation -> invocation.<Supplier<List<VocabularyDetail>>>getArgument(1).get())
+                .given(vocabularyDetailCacheRepository).readOrLoad(eq(userId), any());
 
         // When
         List<VocabularyDetail> actualDetails = vocabularyReader.readDetailsByUserId(userId);
 
         // Then
         assertThat(actualDetails).isEqualTo(expectedDetails);
+        verify(vocabularyRepository).readDetailsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("readDetailsByUserId 테스트 - 캐시 적중 시 DB 조회 없음")
+    void readDetailsByUserIdTest_CacheHit() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        List<VocabularyDetail> cachedDetails = List.of(new VocabularyDetail(new Vocabulary(UUID.randomUUID(), userId, "title", "desc", 0, AuditTime.create()), 0.0, 0.0));
+        given(vocabularyDetailCacheRepository.readOrLoad(eq(userId), any())).willReturn(cachedDetails);
+
+        // When
+        List<VocabularyDetail> actualDetails = vocabularyReader.readDetailsByUserId(userId);
+
+        // Then
+        assertThat(actualDetails).isEqualTo(cachedDetails);
+        verify(vocabularyRepository, never()).readDetailsByUserId(any());
     }
 
     @Test
@@ -92,6 +121,24 @@ class VocabularyReaderTest {
         assertThat(actualDetail).isEqualTo(expectedDetail);
     }
 
+    @Test
+    @DisplayName("readDetailById 테스트 - 목록 캐시에 있으면 캐시에서 조회")
+    void readDetailByIdTest_CacheHit() {
+        // Given
+        UUID vocabId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        VocabularyDetail other = new VocabularyDetail(new Vocabulary(UUID.randomUUID(), userId, "other", "desc", 0, AuditTime.create()), 0.0, 0.0);
+        VocabularyDetail expectedDetail = new VocabularyDetail(new Vocabulary(vocabId, userId, "title", "desc", 0, AuditTime.create()), 0.5, 0.5);
+        given(vocabularyDetailCacheRepository.readByUserId(userId)).willReturn(Optional.of(List.of(other, expectedDetail)));
+
+        // When
+        VocabularyDetail actualDetail = vocabularyReader.readDetailById(userId, vocabId);
+
+        // Then
+        assertThat(actualDetail).isEqualTo(expectedDetail);
+        verify(vocabularyRepository, never()).readDetailById(any(), any());
+    }
+
     @Test
     @DisplayName("readDetailById 테스트 - 조회 실패 (예외 발생)")
     void readDetailByIdTest_Fail() {
@@ -1,6 +1,7 @@
 package com.kthowns.mobidic.domain.vocabulary.service;
 
 import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.vocabulary.event.VocabularyDetailChangedEvent;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
 import org.junit.jupiter.api.DisplayName;
@@ -9,8 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -37,6 +40,9 @@ class VocabularyServiceTest {
     @Mock
     private VocabularyRemover vocabularyRemover;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private final UUID userId = UUID.randomUUID();
     private final UUID vocabId = UUID.randomUUID();
 
@@ -105,6 +111,7 @@ class VocabularyServiceTest {
         // then
         verify(vocabularyValidator).validateTitleUpdateDuplication(title, vocabId, userId);
         verify(vocabularyUpdater).update(userId, vocabId, title, description);
+        verify(eventPublisher).publishEvent(VocabularyDetailChangedEvent.of(userId));
     }
 
     @Test
@@ -115,5 +122,35 @@ class VocabularyServiceTest {
 
         // then
         verify(vocabularyRemover).remove(vocabId, userId);
+        verify(eventPublisher).publishEvent(VocabularyDetailChangedEvent.of(userId));
+    }
+
+    @Test
+    @DisplayName("[VocabService] Word ids change publishes event per owner")
+    void publishDetailChangedByWordIdsSuccess() {
+        // given
+        UUID wordId = UUID.randomUUID();
+        given(vocabularyReader.readUserIdsByWordIds(List.of(wordId))).willReturn(List.of(userId));
+
+        // when
+        vocabularyService.publishDetailChangedByWordIds(List.of(wordId));
+
+        // then
+        verify(eventPublisher).publishEvent(VocabularyDetailChangedEvent.of(userId));
+    }
+
+    @Test
+    @DisplayName("[VocabService] Repaired aggregate publishes event for owner")
+    void reconcileAggregatePublishesEvent() {
+        // given
+        given(vocabularyUpdater.reconcileAggregate(vocabId)).willReturn(true);
+        given(vocabularyReader.readUserIdById(vocabId)).willReturn(Optional.of(userId));
+
+        // when
+        boolean repaired = vocabularyService.reconcileAggregate(vocabId);
+
+        // then
+        assertEquals(true, repaired);
+        verify(eventPublisher).publishEvent(VocabularyDetailChangedEvent.of(userId));
     }
 }
@@ -2,6 +2,7 @@ package com.kthowns.mobidic.domain.vocabulary.service;
 
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
 import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +12,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -72,12 +77,66 @@ class VocabularyUpdaterTest {
     void decreaseWordCountTest() {
         // Given
         UUID vocabId = UUID.randomUUID();
+        UUID wordId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
 
         // When
-        vocabularyUpdater.decreaseWordCount(vocabId, userId);
+        vocabularyUpdater.decreaseWordCount(vocabId, wordId, userId);
 
         // Then
-        verify(vocabularyRepository).decreaseWordCount(vocabId, userId);
+        verify(vocabularyRepository).decreaseWordCount(vocabId, wordId, userId);
+    }
+
+    @Test
+    @DisplayName("reconcileAggregate 테스트 - 집계값이 어긋난 경우 다시 계산한 값으로 복구")
+    void reconcileAggregateTest_Repaired() {
+        // Given
+        UUID vocabId = UUID.randomUUID();
+        VocabularyAggregate actual = VocabularyAggregate.of(vocabId, 3, 1, 1.5);
+        given(vocabularyRepository.readAggregateForUpdate(vocabId))
+                .willReturn(Optional.of(VocabularyAggregate.of(vocabId, 3, 2, 1.5)));
+        given(vocabularyRepository.calculateAggregates(List.of(vocabId))).willReturn(List.of(actual));
+
+        // When
+        boolean repaired = vocabularyUpdater.reconcileAggregate(vocabId);
+
+        // Then
+        assertThat(repaired).isTrue();
+        verify(vocabularyRepository).updateAggregate(actual);
+    }
+
+    @Test
+    @DisplayName("reconcileAggregate 테스트 - 오차 범위 내이면 갱신하지 않음")
+    void reconcileAggregateTest_NotDrifted() {
+        // Given
+        UUID vocabId = UUID.randomUUID();
+        given(vocabularyRepository.readAggregateForUpdate(vocabId))
+                .willReturn(Optional.of(VocabularyAggregate.of(vocabId, 3, 1, 1.5 + 1e-9)));
+        given(vocabularyRepository.calculateAggregates(List.of(vocabId)))
+                .willReturn(List.of(VocabularyAggregate.of(vocabId, 3, 1, 1.5)));
+
+        // When
+        boolean repaired = vocabularyUpdater.reconcileAggregate(vocabId);
+
+        // Then
+        assertThat(repaired).isFalse();
+        verify(vocabularyRepository, never()).updateAggregate(any());
+    }
+
+    @Test
+    @DisplayName("backfillAggregate 테스트 - 오차 범위 내여도 다시 계산한 값을 저장해 계산 완료로 표시")
+    void backfillAggregateTest_AlwaysStored() {
+        // Given
+        UUID vocabId = UUID.randomUUID();
+        VocabularyAggregate actual = VocabularyAggregate.of(vocabId, 0, 0, 0.0);
+        given(vocabularyRepository.readAggregateForUpdate(vocabId)).willReturn(Optional.of(actual));
+        given(vocabularyRepository.calculateAggregates(List.of(vocabId))).willReturn(List.of());
+
+        // When
+        boolean changed = vocabularyUpdater.backfillAggregate(vocabId);
+
+        // Then
+        assertThat(changed).isFalse();
+        verify(vocabularyRepository).updateAggregate(actual);
     }
 }
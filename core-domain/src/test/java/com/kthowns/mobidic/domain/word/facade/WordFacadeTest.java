@@ -86,4 +86,16 @@ class WordFacadeTest {
         inOrder.verify(definitionService).addDefinitions(userId, wordId, addDefinitionCommands);
         inOrder.verify(definitionService).updateDefinitions(userId, wordId, updateDefinitionCommands);
     }
+
+    @Test
+    @DisplayName("deleteWord 테스트 - 단어 삭제 후 복습 일정 삭제")
+    void deleteWordTest() {
+        // When
+        wordFacade.deleteWord(userId, wordId);
+
+        // Then
+        InOrder inOrder = inOrder(wordService, statisticService);
+        inOrder.verify(wordService).deleteWord(userId, wordId);
+        inOrder.verify(statisticService).deleteReviewSchedule(userId, wordId);
+    }
 }
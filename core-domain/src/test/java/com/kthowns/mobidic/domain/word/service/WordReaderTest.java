@@ -4,7 +4,9 @@ import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordDetailSlice;
 import com.kthowns.mobidic.domain.word.repository.WordRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +50,45 @@ class WordReaderTest {
         assertThat(actualDetails).isEqualTo(expectedDetails);
     }
 
+    @Test
+    @DisplayName("readDetailSliceByVocabularyId 테스트 - 한 개 더 조회되면 마지막 단어 위치를 다음 커서로 반환")
+    void readDetailSliceByVocabularyIdTest_HasNext() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID vocabularyId = UUID.randomUUID();
+        Instant now = Instant.now();
+        WordDetail first = new WordDetail(UUID.randomUUID(), "first", 0.0, 0.0, false, List.of(), now, now);
+        WordDetail second = new WordDetail(UUID.randomUUID(), "second", 0.0, 0.0, false, List.of(), now.plusSeconds(1), now);
+        WordDetail third = new WordDetail(UUID.randomUUID(), "third", 0.0, 0.0, false, List.of(), now.plusSeconds(2), now);
+        given(wordRepository.readDetailsByVocabularyIdAfter(userId, vocabularyId, null, 3))
+                .willReturn(List.of(first, second, third));
+
+        // When
+        WordDetailSlice slice = wordReader.readDetailSliceByVocabularyId(userId, vocabularyId, null, 2);
+
+        // Then
+        assertThat(slice.words()).containsExactly(first, second);
+        assertThat(WordCursor.decode(slice.nextCursor())).isEqualTo(WordCursor.after(second));
+    }
+
+    @Test
+    @DisplayName("readDetailSliceByVocabularyId 테스트 - 마지막 페이지는 다음 커서 없음")
+    void readDetailSliceByVocabularyIdTest_Last() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID vocabularyId = UUID.randomUUID();
+        WordCursor cursor = WordCursor.of(Instant.now(), UUID.randomUUID());
+        WordDetail only = new WordDetail(UUID.randomUUID(), "only", 0.0, 0.0, false, List.of(), Instant.now(), Instant.now());
+        given(wordRepository.readDetailsByVocabularyIdAfter(userId, vocabularyId, cursor, 3)).willReturn(List.of(only));
+
+        // When
+        WordDetailSlice slice = wordReader.readDetailSliceByVocabularyId(userId, vocabularyId, cursor, 2);
+
+        // Then
+        assertThat(slice.words()).containsExactly(only);
+        assertThat(slice.nextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("readByIdAndUserId 테스트 - 조회 성공")
     void readByIdAndUserIdTest_Success() {
@@ -2,6 +2,7 @@ package com.kthowns.mobidic.domain.word.service;
 
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.vocabulary.service.VocabularyService;
+import com.kthowns.mobidic.domain.word.event.VocabularyWordsChangedEvent;
 import com.kthowns.mobidic.domain.word.model.Word;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.UUID;
@@ -36,6 +38,8 @@ class WordServiceTest {
 
     @Mock
     private VocabularyService vocabularyService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final UUID userId = UUID.randomUUID();
     private final UUID vocabId = UUID.randomUUID();
@@ -57,6 +61,7 @@ class WordServiceTest {
         // then
         verify(wordAppender).append(expression, vocabId);
         verify(wordValidator).validateExpressionDuplication(expression, vocabId, userId);
+        verify(eventPublisher).publishEvent(VocabularyWordsChangedEvent.of(vocabId));
         assertEquals(word, result);
     }
 
@@ -119,6 +124,7 @@ class WordServiceTest {
 
         // then
         verify(wordRemover).remove(wordId, userId);
-        verify(vocabularyService).decreaseWordCount(vocabId, userId);
+        verify(vocabularyService).decreaseWordCount(vocabId, wordId, userId);
+        verify(eventPublisher).publishEvent(VocabularyWordsChangedEvent.of(vocabId));
     }
 }
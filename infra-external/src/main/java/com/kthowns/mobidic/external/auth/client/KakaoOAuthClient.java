@@ -8,8 +8,8 @@ import com.kthowns.mobidic.external.auth.dto.KakaoTokenResponse;
 import com.kthowns.mobidic.external.auth.dto.KakaoUserInfo;
 import com.kthowns.mobidic.external.auth.properties.KakaoApiProperties;
 import com.kthowns.mobidic.external.auth.properties.KakaoApiUrl;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -23,12 +23,16 @@ import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class KakaoOAuthClient implements OAuthClient {
     private final RestClient restClient;
     private final KakaoApiProperties kakaoApiProperties;
 
+    public KakaoOAuthClient(@Qualifier("kakaoRestClient") RestClient restClient, KakaoApiProperties kakaoApiProperties) {
+        this.restClient = restClient;
+        this.kakaoApiProperties = kakaoApiProperties;
+    }
+
     @Override
     public String getLoginUrl(boolean isDev, String platform, String serverBaseUrl) {
         return UriComponentsBuilder
@@ -0,0 +1,286 @@
+package com.kthowns.mobidic.external.global.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.ConnectException;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대상 하나의 동시 요청 수를 제한하고 요청 시간을 기록하는 JDK HttpClient
+ * JDK HttpClient 는 연결을 재사용(keep-alive)하지만 대상별 연결 수 제한이 없으므로 자리(permit)로 제한한다.
+ * HTTP/1.1 연결은 응답 본문을 다 읽을 때까지 풀로 돌아가지 않으므로 자리도 응답 헤더가 아니라
+ * 본문을 끝까지 받거나 호출 측이 본문 스트림을 닫을 때 반납하고, 본문 구독 전에 요청 자체가 실패했을 때만 여기서 반납한다.
+ * 호출 측이 sendAsync 의 future 를 취소해도 요청은 계속 진행되므로 그것만으로는 반납하지 않는다.
+ * acquireTimeout 안에 자리가 나지 않으면 ConnectException 으로 실패한다.
+ * 지표: http.client.target.requests{target, status=응답 코드|IO_ERROR|REJECTED}, http.client.target.in-flight{target}
+ */
+public class BoundedHttpClient extends HttpClient {
+    private static final String REQUESTS_METRIC_NAME = "http.client.target.requests";
+    private static final String IN_FLIGHT_METRIC_NAME = "http.client.target.in-flight";
+
+    private final String target;
+    private final HttpClient delegate;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public BoundedHttpClient(
+            String target,
+            HttpClient delegate,
+            int maxConnections,
+            Duration acquireTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.target = target;
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConnections);
+        this.acquireTimeout = acquireTimeout;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(IN_FLIGHT_METRIC_NAME, permits, semaphore -> maxConnections - semaphore.availablePermits())
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        acquire();
+        Runnable release = releaseOnce();
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        long start = System.nanoTime();
+        HttpResponse<T> response = null;
+        try {
+            response = delegate.send(request, releasing(responseBodyHandler, release, subscribed));
+            return response;
+        } finally {
+            if (response == null && !subscribed.get()) {
+                release.run();
+            }
+            record(response != null ? String.valueOf(response.statusCode()) : "IO_ERROR", start);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    // 자리를 기다리는 동안은 호출 스레드가 멈춤 (RestClient 는 어차피 응답을 기다리는 요청 스레드에서 호출)
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(
+            HttpRequest request,
+            HttpResponse.BodyHandler<T> responseBodyHandler,
+            HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+        try {
+            acquire();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Runnable release = releaseOnce();
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> future;
+        try {
+            future = delegate.sendAsync(request, releasing(responseBodyHandler, release, subscribed), pushPromiseHandler);
+        } catch (RuntimeException e) {
+            release.run();
+            record("IO_ERROR", start);
+            throw e;
+        }
+
+        // 응답 헤더까지의 시간을 기록, 본문 구독 전에 실패한 경우만 자리를 반납 (이후는 본문 구독자가 반납)
+        future.whenComplete((response, throwable) -> {
+            if (response == null && !subscribed.get()) {
+                release.run();
+            }
+            record(response != null ? String.valueOf(response.statusCode()) : "IO_ERROR", start);
+        });
+        // 호출 측이 읽기 시간 초과 등으로 취소해도 실제 요청의 완료를 기다려 반납하도록 사본을 돌려줌
+        return future.copy();
+    }
+
+    // 본문 완료, 오류, 취소와 요청 실패가 겹쳐도 자리는 한 번만 반납
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    private static <T> HttpResponse.BodyHandler<T> releasing(
+            HttpResponse.BodyHandler<T> bodyHandler, Runnable release, AtomicBoolean subscribed) {
+        return responseInfo -> new PermitReleasingBodySubscriber<>(bodyHandler.apply(responseInfo), release, subscribed);
+    }
+
+    private void acquire() throws IOException, InterruptedException {
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            Timer.builder(REQUESTS_METRIC_NAME)
+                    .tag("target", target)
+                    .tag("status", "REJECTED")
+                    .register(meterRegistry)
+                    .record(acquireTimeout);
+            throw new ConnectException("Too many concurrent requests to " + target);
+        }
+    }
+
+    private void record(String status, long startNanos) {
+        Timer.builder(REQUESTS_METRIC_NAME)
+                .tag("target", target)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(Duration duration) throws InterruptedException {
+        return delegate.awaitTermination(duration);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public void shutdownNow() {
+        delegate.shutdownNow();
+    }
+
+    /**
+     * 본문을 끝까지 받거나(onComplete), 수신 중 오류가 나거나(onError),
+     * 호출 측이 본문을 다 읽기 전에 스트림을 닫아 구독을 취소하면(cancel) 자리를 반납
+     * 구독이 시작되면(onSubscribe) 반납은 이 구독자가 맡는다.
+     */
+    private static final class PermitReleasingBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> delegate;
+        private final Runnable release;
+        private final AtomicBoolean subscribed;
+
+        private PermitReleasingBodySubscriber(
+                HttpResponse.BodySubscriber<T> delegate, Runnable release, AtomicBoolean subscribed) {
+            this.delegate = delegate;
+            this.release = release;
+            this.subscribed = subscribed;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscribed.set(true);
+            delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    release.run();
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            release.run();
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            release.run();
+            delegate.onComplete();
+        }
+    }
+}
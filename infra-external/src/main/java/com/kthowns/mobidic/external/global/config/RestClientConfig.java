@@ -1,15 +1,50 @@
 package com.kthowns.mobidic.external.global.config;
 
 
+import com.kthowns.mobidic.external.global.client.BoundedHttpClient;
+import com.kthowns.mobidic.external.global.properties.HttpClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+
+/**
+ * 호출 대상마다 연결 풀(JDK HttpClient), 시간 제한, 동시 요청 수 제한을 따로 둔 RestClient
+ * 느린 대상 하나가 다른 대상의 연결이나 요청 스레드를 붙잡지 않는다.
+ */
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class RestClientConfig {
+    public static final String KAKAO = "kakao";
+    public static final String STT = "stt";
+
+    @Bean
+    public RestClient kakaoRestClient(HttpClientProperties httpClientProperties, MeterRegistry meterRegistry) {
+        return targetRestClient(KAKAO, httpClientProperties.kakao(), meterRegistry);
+    }
+
     @Bean
-    public RestClient restClient() {
+    public RestClient sttRestClient(HttpClientProperties httpClientProperties, MeterRegistry meterRegistry) {
+        return targetRestClient(STT, httpClientProperties.stt(), meterRegistry);
+    }
+
+    // JDK HttpClient 기반: 스트리밍 요청 본문을 버퍼에 모으지 않고 상대의 수요(backpressure)에 맞춰 전송
+    static RestClient targetRestClient(String target, HttpClientProperties.Profile profile, MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(profile.connectTimeout())
+                .version(profile.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(new BoundedHttpClient(
+                target, httpClient, profile.maxConnections(), profile.acquireTimeout(), meterRegistry));
+        requestFactory.setReadTimeout(profile.readTimeout());
+
         return RestClient.builder()
+                .requestFactory(requestFactory)
                 .build();
     }
 }
@@ -0,0 +1,31 @@
+package com.kthowns.mobidic.external.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출 대상별 HTTP 클라이언트 설정
+ */
+@ConfigurationProperties("http-client")
+public record HttpClientProperties(
+        @DefaultValue Profile kakao,
+        @DefaultValue Profile stt
+) {
+    /**
+     * @param connectTimeout 연결 수립 최대 시간
+     * @param readTimeout    요청 전송 후 응답 헤더까지 최대 시간
+     * @param maxConnections 동시에 진행할 수 있는 요청 수, 응답 본문을 다 읽거나 닫을 때까지 진행 중으로 봄 (HTTP/1.1 에서는 연결 수와 같음)
+     * @param acquireTimeout 동시 요청 수가 가득 찼을 때 자리를 기다리는 최대 시간, 넘으면 바로 실패
+     * @param http2          HTTP/2 협상 시도 여부 (TLS ALPN, 평문 서버는 업그레이드 요청을 보내므로 끔)
+     */
+    public record Profile(
+            @DefaultValue("2s") Duration connectTimeout,
+            @DefaultValue("10s") Duration readTimeout,
+            @DefaultValue("50") int maxConnections,
+            @DefaultValue("500ms") Duration acquireTimeout,
+            @DefaultValue("true") boolean http2
+    ) {
+    }
+}
@@ -5,32 +5,54 @@ import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.pronunciation.client.SpeechToTextClient;
 import com.kthowns.mobidic.domain.pronunciation.model.SttResponse;
 import com.kthowns.mobidic.external.pronunciation.properties.SttProperties;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class WhisperSttClient implements SpeechToTextClient {
+    private static final String CRLF = "\r\n";
+
     private final RestClient restClient;
     private final SttProperties sttProperties;
 
+    public WhisperSttClient(@Qualifier("sttRestClient") RestClient restClient, SttProperties sttProperties) {
+        this.restClient = restClient;
+        this.sttProperties = sttProperties;
+    }
+
+    /**
+     * 업로드된 파일(서블릿 컨테이너가 임시 파일로 받아둔 것)을 고정 크기 버퍼로 읽으며 그대로 STT 요청 본문에 씀
+     * multipart 경계와 헤더만 직접 만들고 Content-Length 를 지정하므로 요청 본문 전체를 메모리에 모으지 않고,
+     * 상대가 읽는 속도보다 빠르게 쓰지 않음 (JdkClientHttpRequestFactory 의 요청 본문 publisher 가 수요만큼만 받음)
+     */
     @Override
     public String transcribe(MultipartFile file) {
-        MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        builder.part("file", file.getResource());
+        String boundary = UUID.randomUUID().toString();
+        byte[] head = partHead(boundary, file);
+        byte[] tail = (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
 
         try {
             SttResponse sttResponse = restClient.post()
                     .uri(URI.create(sttProperties.flaskServerUrl() + "/transcribe"))
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .body(builder.build())
+                    .contentType(new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", boundary)))
+                    .contentLength(head.length + file.getSize() + tail.length)
+                    .body(outputStream -> {
+                        outputStream.write(head);
+                        try (InputStream inputStream = file.getInputStream()) {
+                            inputStream.transferTo(outputStream);
+                        }
+                        outputStream.write(tail);
+                    })
                     .retrieve()
                     .body(SttResponse.class);
 
@@ -43,4 +65,23 @@ public class WhisperSttClient implements SpeechToTextClient {
             throw new ApiException(GeneralResponseCode.INTERNAL_SERVER_ERROR);
         }
     }
+
+    // STT 서버는 "file" 파트 하나만 받음, 클라이언트가 보낸 파일 이름과 Content-Type 은 헤더를 깨지 않도록
+    // 파일 이름의 따옴표와 줄바꿈은 치환하고 Content-Type 의 줄바꿈은 제거
+    private byte[] partHead(String boundary, MultipartFile file) {
+        String fileName = file.getOriginalFilename() == null || file.getOriginalFilename().isBlank()
+                ? "audio"
+                : file.getOriginalFilename().replaceAll("[\"\\r\\n]", "_");
+        String contentType = file.getContentType() == null
+                ? ""
+                : file.getContentType().replaceAll("[\\r\\n]", "");
+        if (contentType.isBlank()) {
+            contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+
+        return ("--" + boundary + CRLF
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"" + CRLF
+                + "Content-Type: " + contentType + CRLF
+                + CRLF).getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,175 @@
+package com.kthowns.mobidic.external.global.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedHttpClientTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private HttpServer server;
+    private String baseUrl;
+    private BoundedHttpClient boundedHttpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 헤더와 본문 일부만 보내고 release 전까지 본문을 끝내지 않는 대상
+        server.createContext("/stream", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("partial".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // release 전까지 응답 헤더를 보내지 않는 대상
+        server.createContext("/slow", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "slow".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        HttpClient delegate = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        boundedHttpClient = new BoundedHttpClient("test", delegate, 1, Duration.ofMillis(100), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("응답 헤더를 받은 뒤에도 본문을 닫기 전까지는 자리를 반납하지 않음")
+    void holdsPermitUntilBodyClosed() throws Exception {
+        // given
+        HttpResponse<InputStream> streaming = boundedHttpClient.send(request("/stream"),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(streaming.statusCode()).isEqualTo(200);
+
+        // when & then
+        assertThatThrownBy(() -> boundedHttpClient.send(request("/ok"), HttpResponse.BodyHandlers.ofString()))
+                .isInstanceOf(ConnectException.class);
+        assertThat(inFlight()).isEqualTo(1);
+
+        streaming.body().close();
+        assertThat(inFlight()).isZero();
+        assertThat(boundedHttpClient.send(request("/ok"), HttpResponse.BodyHandlers.ofString()).body())
+                .isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("본문을 끝까지 읽으면 자리를 반납")
+    void releasesPermitWhenBodyCompletes() throws Exception {
+        // given
+        HttpResponse<InputStream> streaming = boundedHttpClient.sendAsync(request("/stream"),
+                HttpResponse.BodyHandlers.ofInputStream()).get(5, TimeUnit.SECONDS);
+
+        // when
+        release.countDown();
+        try (InputStream body = streaming.body()) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("partial");
+        }
+
+        // then
+        assertThat(inFlight()).isZero();
+        assertThat(boundedHttpClient.send(request("/ok"), HttpResponse.BodyHandlers.ofString()).body())
+                .isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("호출 측이 future 를 취소해도 요청이 끝나기 전까지는 자리를 반납하지 않음")
+    void holdsPermitWhenCallerCancels() throws Exception {
+        // given
+        CompletableFuture<HttpResponse<String>> future = boundedHttpClient.sendAsync(request("/slow"),
+                HttpResponse.BodyHandlers.ofString());
+
+        // when
+        future.cancel(true);
+
+        // then
+        assertThat(inFlight()).isEqualTo(1);
+        assertThatThrownBy(() -> boundedHttpClient.send(request("/ok"), HttpResponse.BodyHandlers.ofString()))
+                .isInstanceOf(ConnectException.class);
+
+        release.countDown();
+        awaitInFlightZero();
+        assertThat(boundedHttpClient.send(request("/ok"), HttpResponse.BodyHandlers.ofString()).body())
+                .isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("응답 헤더를 받기 전에 요청이 실패하면 자리를 반납")
+    void releasesPermitWhenRequestFails() throws Exception {
+        // given
+        server.stop(0);
+
+        // when
+        CompletableFuture<HttpResponse<String>> future = boundedHttpClient.sendAsync(request("/ok"),
+                HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        awaitInFlightZero();
+    }
+
+    private void awaitInFlightZero() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(inFlight()).isZero();
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("http.client.target.in-flight").tag("target", "test").gauge().value();
+    }
+}
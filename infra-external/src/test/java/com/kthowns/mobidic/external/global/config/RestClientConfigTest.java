@@ -0,0 +1,124 @@
+package com.kthowns.mobidic.external.global.config;
+
+import com.kthowns.mobidic.external.global.properties.HttpClientProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestClientConfigTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch arrived = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/ok", exchange -> {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // release 전까지 응답하지 않는 느린 대상
+        server.createContext("/slow", exchange -> {
+            arrived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("대상별 요청 시간을 상태 코드와 함께 기록")
+    void recordsRequestTimerPerTarget() {
+        // given
+        RestClient restClient = RestClientConfig.targetRestClient("stt", profile(Duration.ofSeconds(5), 4), meterRegistry);
+
+        // when
+        String body = restClient.get().uri(baseUrl + "/ok").retrieve().body(String.class);
+
+        // then
+        assertThat(body).isEqualTo("ok");
+        assertThat(meterRegistry.get("http.client.target.requests")
+                .tag("target", "stt")
+                .tag("status", "200")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 시간 제한을 넘으면 ResourceAccessException")
+    void readTimeoutFailsFast() {
+        // given
+        RestClient restClient = RestClientConfig.targetRestClient("kakao", profile(Duration.ofMillis(200), 4), meterRegistry);
+
+        // when & then
+        assertThatThrownBy(() -> restClient.get().uri(baseUrl + "/slow").retrieve().toBodilessEntity())
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수 상한에 도달하면 대기 시간 후 바로 거절하고 다른 대상은 영향 없음")
+    void rejectsWhenConnectionLimitReached() throws Exception {
+        // given
+        RestClient stt = RestClientConfig.targetRestClient("stt", profile(Duration.ofSeconds(5), 1), meterRegistry);
+        RestClient kakao = RestClientConfig.targetRestClient("kakao", profile(Duration.ofSeconds(5), 1), meterRegistry);
+        Future<?> blocked = callers.submit(() -> stt.get().uri(baseUrl + "/slow").retrieve().toBodilessEntity());
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> stt.get().uri(baseUrl + "/ok").retrieve().body(String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(kakao.get().uri(baseUrl + "/ok").retrieve().body(String.class)).isEqualTo("ok");
+        assertThat(meterRegistry.get("http.client.target.requests")
+                .tag("target", "stt")
+                .tag("status", "REJECTED")
+                .timer().count()).isEqualTo(1);
+
+        release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        assertThat(stt.get().uri(baseUrl + "/ok").retrieve().body(String.class)).isEqualTo("ok");
+    }
+
+    private HttpClientProperties.Profile profile(Duration readTimeout, int maxConnections) {
+        return new HttpClientProperties.Profile(Duration.ofSeconds(1), readTimeout, maxConnections,
+                Duration.ofMillis(100), false);
+    }
+}
@@ -0,0 +1,167 @@
+package com.kthowns.mobidic.external.pronunciation.client;
+
+import com.kthowns.mobidic.external.pronunciation.properties.SttProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhisperSttClientTest {
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEADER_END = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final AtomicReference<ReceivedRequest> received = new AtomicReference<>();
+    private HttpServer server;
+    private WhisperSttClient whisperSttClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/transcribe", exchange -> {
+            byte[] requestBody;
+            try (InputStream in = exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            }
+            received.set(new ReceivedRequest(
+                    exchange.getRequestHeaders().getFirst("Content-Type"),
+                    exchange.getRequestHeaders().getFirst("Content-Length"),
+                    requestBody));
+
+            byte[] body = "{\"result\":\"hello\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        RestClient restClient = RestClient.builder()
+                .requestFactory(new JdkClientHttpRequestFactory())
+                .build();
+        whisperSttClient = new WhisperSttClient(restClient,
+                new SttProperties("http://localhost:" + server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("transcribe 테스트 - file 파트 하나에 업로드 내용을 바이트 그대로 담아 전송")
+    void transcribe_SendsPayloadByteExact() {
+        // given
+        // 경계 문자열과 헷갈리기 쉬운 CRLF 와 "--" 를 포함한 바이너리 내용
+        byte[] payload = new byte[64 * 1024 + 7];
+        new Random(42).nextBytes(payload);
+        System.arraycopy("\r\n--\r\n".getBytes(StandardCharsets.US_ASCII), 0, payload, 100, 6);
+        MockMultipartFile file = new MockMultipartFile("file", "voice.wav", "audio/wav", payload);
+
+        // when
+        String result = whisperSttClient.transcribe(file);
+
+        // then
+        assertThat(result).isEqualTo("hello");
+        ReceivedRequest request = received.get();
+        assertThat(request.contentLength()).isEqualTo(String.valueOf(request.body().length));
+
+        Part part = parseSinglePart(request);
+        assertThat(part.headers()).containsExactly(
+                "Content-Disposition: form-data; name=\"file\"; filename=\"voice.wav\"",
+                "Content-Type: audio/wav");
+        assertThat(part.content()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("transcribe 테스트 - 파일 이름의 따옴표와 줄바꿈은 치환, Content-Type 의 줄바꿈은 제거")
+    void transcribe_EscapesPartHeaders() {
+        // given
+        byte[] payload = "audio".getBytes(StandardCharsets.US_ASCII);
+        MockMultipartFile file = new MockMultipartFile("file",
+                "a\"b\r\nX-Injected: 1\r\n.wav", "audio/wav\r\nX-Injected: 2", payload);
+
+        // when
+        whisperSttClient.transcribe(file);
+
+        // then
+        Part part = parseSinglePart(received.get());
+        assertThat(part.headers()).containsExactly(
+                "Content-Disposition: form-data; name=\"file\"; filename=\"a_b__X-Injected: 1__.wav\"",
+                "Content-Type: audio/wavX-Injected: 2");
+        assertThat(part.content()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("transcribe 테스트 - 파일 이름과 Content-Type 이 없으면 기본값 사용")
+    void transcribe_DefaultsMissingHeaders() {
+        // given
+        byte[] payload = "audio".getBytes(StandardCharsets.US_ASCII);
+        MockMultipartFile file = new MockMultipartFile("file", "", null, payload);
+
+        // when
+        whisperSttClient.transcribe(file);
+
+        // then
+        Part part = parseSinglePart(received.get());
+        assertThat(part.headers()).containsExactly(
+                "Content-Disposition: form-data; name=\"file\"; filename=\"audio\"",
+                "Content-Type: application/octet-stream");
+    }
+
+    // 본문이 "--경계 CRLF 헤더 CRLF CRLF 내용 CRLF --경계-- CRLF" 한 파트로만 이루어졌는지 확인하며 분해
+    private Part parseSinglePart(ReceivedRequest request) {
+        assertThat(request.contentType()).startsWith("multipart/form-data;");
+        String boundary = request.contentType().substring(request.contentType().indexOf("boundary=") + "boundary=".length());
+        byte[] opening = ("--" + boundary + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] body = request.body();
+
+        assertThat(Arrays.copyOfRange(body, 0, opening.length)).isEqualTo(opening);
+        assertThat(Arrays.copyOfRange(body, body.length - closing.length, body.length)).isEqualTo(closing);
+
+        int headerEnd = indexOf(body, HEADER_END, opening.length);
+        assertThat(headerEnd).isPositive();
+        String headers = new String(body, opening.length, headerEnd - opening.length, StandardCharsets.UTF_8);
+        byte[] content = Arrays.copyOfRange(body, headerEnd + HEADER_END.length, body.length - closing.length);
+
+        assertThat(indexOf(body, ("--" + boundary).getBytes(StandardCharsets.US_ASCII), opening.length))
+                .isEqualTo(body.length - closing.length + CRLF.length);
+        return new Part(headers.split("\r\n", -1), content);
+    }
+
+    private static int indexOf(byte[] source, byte[] target, int from) {
+        outer:
+        for (int i = from; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record ReceivedRequest(String contentType, String contentLength, byte[] body) {
+    }
+
+    private record Part(String[] headers, byte[] content) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.kthowns.mobidic.security.util;
+
+import com.kthowns.mobidic.domain.auth.repository.BlackListRepository;
+import com.kthowns.mobidic.domain.user.service.UserBlackListService;
+import com.kthowns.mobidic.security.config.JwtAuthenticationFilter;
+import com.kthowns.mobidic.security.model.AuthUser;
+import com.kthowns.mobidic.security.properties.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 토큰 처리 비용 벤치마크
+ * 매번 파서를 새로 만들어 검증과 인증 정보 생성에서 두 번 파싱하던 기존 방식,
+ * 처음 보는 토큰(캐시 미스), 검증된 토큰 캐시를 타는 경우(같은 토큰 반복 요청)를 JwtProvider.authenticate 와
+ * JwtAuthenticationFilter 전체 경로에서 각각 비교한다.
+ * 캐시 미스는 캐시 크기보다 많은 토큰을 미리 만들어 호출마다 다음 토큰을 쓰는 방식으로 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final int CACHE_SIZE = 10_000;
+    // 캐시 크기보다 충분히 커서 한 바퀴를 돌아오기 전에 밀려나 항상 미스 (2의 거듭제곱, 인덱스 마스킹용)
+    private static final int COLD_TOKEN_COUNT = 1 << 16;
+
+    private final JwtProperties jwtProperties = new JwtProperties(SECRET, 86_400_000L);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String token;
+    private String[] coldTokens;
+    private int coldIndex;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(jwtProperties, new VerifiedTokenCache(CACHE_SIZE, 300));
+        token = jwtProvider.generateToken(UUID.randomUUID(), "USER");
+        jwtProvider.authenticate(token);
+
+        coldTokens = new String[COLD_TOKEN_COUNT];
+        for (int i = 0; i < COLD_TOKEN_COUNT; i++) {
+            coldTokens[i] = jwtProvider.generateToken(UUID.randomUUID(), "USER");
+        }
+
+        // 블랙리스트 확인은 별도 캐시 계층이므로 항상 통과시켜 토큰 처리 비용만 측정
+        UserBlackListService userBlackListService = new UserBlackListService(new BlackListRepository() {
+            @Override
+            public void saveDeactivated(UUID userId, long ttlMillis) {
+            }
+
+            @Override
+            public boolean existsDeactivated(UUID userId) {
+                return false;
+            }
+        });
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, userBlackListService,
+                (req, res, e) -> {
+                    throw new IllegalStateException("Benchmark token rejected", e);
+                });
+    }
+
+    // 비교 기준: validateToken + getAuthentication, 호출마다 키와 파서를 새로 만들고 서명 검증 두 번
+    @Benchmark
+    public Authentication legacyFilter() {
+        Jwts.parser().verifyWith(jwtProperties.getSecretKey()).build().parseSignedClaims(token);
+
+        Claims claims = Jwts.parser()
+                .verifyWith(jwtProperties.getSecretKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        AuthUser authUser = AuthUser.builder()
+                .id(UUID.fromString(claims.getSubject()))
+                .role(claims.get("role", String.class))
+                .build();
+        return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+    }
+
+    // 캐시 미스: 다이제스트 계산, 캐시 조회, 재사용 파서로 한 번 파싱, 검증, 캐시 저장
+    @Benchmark
+    public Optional<Authentication> coldAuthenticate() {
+        return jwtProvider.authenticate(nextColdToken());
+    }
+
+    // 캐시 적중: 다이제스트 계산과 캐시 조회만 수행
+    @Benchmark
+    public Optional<Authentication> cachedAuthenticate() {
+        return jwtProvider.authenticate(token);
+    }
+
+    // 필터 전체 경로, 캐시 미스 (헤더 추출, 인증, 블랙리스트 확인, SecurityContext 설정)
+    @Benchmark
+    public Authentication coldFilter() throws Exception {
+        return filter(nextColdToken());
+    }
+
+    // 필터 전체 경로, 캐시 적중
+    @Benchmark
+    public Authentication cachedFilter() throws Exception {
+        return filter(token);
+    }
+
+    private Authentication filter(String jwt) throws Exception {
+        // OncePerRequestFilter 가 요청 속성으로 중복 실행을 막으므로 요청은 매번 새로 만듦
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + jwt);
+
+        jwtAuthenticationFilter.doFilter(request, response, (req, res) -> {
+        });
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private String nextColdToken() {
+        return coldTokens[coldIndex++ & (COLD_TOKEN_COUNT - 1)];
+    }
+}
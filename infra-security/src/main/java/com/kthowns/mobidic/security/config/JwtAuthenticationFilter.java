@@ -18,6 +18,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -35,17 +36,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwt = resolveToken(request);
 
         try {
-            if (StringUtils.hasText(jwt) //Validating JWT Token
-                    && jwtProvider.validateToken(jwt)
-            ) {
-                Authentication authentication = jwtProvider.getAuthentication(jwt);
-                AuthUser authUser = (AuthUser) authentication.getPrincipal();
+            //Validating JWT Token, 검증과 인증 정보 생성을 한 번의 파싱으로 처리 (검증된 토큰은 캐시 사용)
+            Optional<Authentication> authentication = StringUtils.hasText(jwt)
+                    ? jwtProvider.authenticate(jwt)
+                    : Optional.empty();
+
+            if (authentication.isPresent()) {
+                AuthUser authUser = (AuthUser) authentication.get().getPrincipal();
 
                 if (userBlackListService.isDeactivatedUser(authUser.getId())) {
                     throw new DisabledException("Deactivated user");
                 }
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication.get());
             }
         } catch (AuthenticationException e) {
             SecurityContextHolder.clearContext();
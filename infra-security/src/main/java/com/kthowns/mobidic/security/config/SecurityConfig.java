@@ -4,7 +4,10 @@ import com.kthowns.mobidic.domain.user.service.UserBlackListService;
 import com.kthowns.mobidic.security.exception.AuthAccessDeniedHandler;
 import com.kthowns.mobidic.security.exception.AuthAuthenticationEntryPoint;
 import com.kthowns.mobidic.security.properties.JwtProperties;
+import com.kthowns.mobidic.security.properties.PasswordHashProperties;
+import com.kthowns.mobidic.security.util.BoundedPasswordEncoder;
 import com.kthowns.mobidic.security.util.JwtProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -18,7 +21,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -30,7 +32,7 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final AuthAuthenticationEntryPoint authAuthenticationEntryPoint;
@@ -94,8 +96,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashProperties passwordHashProperties, MeterRegistry meterRegistry) {
+        // 로그인, 가입 시 BCrypt 를 요청 스레드 대신 전용 풀에서 실행
+        return new BoundedPasswordEncoder(passwordHashProperties, meterRegistry);
     }
 
     @Bean
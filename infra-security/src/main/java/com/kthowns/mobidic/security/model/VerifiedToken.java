@@ -0,0 +1,18 @@
+package com.kthowns.mobidic.security.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 서명과 만료 검증을 마친 토큰에서 인증에 필요한 값만 뽑은 것
+ * expiresAt 이 없는 토큰은 null
+ */
+public record VerifiedToken(
+        UUID userId,
+        String role,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,22 @@
+package com.kthowns.mobidic.security.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param bcryptStrength BCrypt 비용 (log2 라운드 수), 바꾸면 기존 해시는 다음 로그인 때 새 비용으로 다시 해시
+ * @param poolSize       해시 전용 스레드 수, 0 이하면 코어 수
+ * @param queueCapacity  대기열 크기, 가득 차면 바로 SERVER_BUSY 로 거절
+ * @param timeoutMillis  대기 + 해시 최대 시간, 넘으면 SERVER_BUSY 로 거절
+ */
+@ConfigurationProperties("password-hash")
+public record PasswordHashProperties(
+        @DefaultValue("10") int bcryptStrength,
+        @DefaultValue("0") int poolSize,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("5000") long timeoutMillis
+) {
+    public int getPoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
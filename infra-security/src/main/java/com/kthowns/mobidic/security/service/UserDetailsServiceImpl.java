@@ -5,13 +5,15 @@ import com.kthowns.mobidic.domain.auth.repository.AuthUserRepository;
 import com.kthowns.mobidic.domain.user.model.User;
 import com.kthowns.mobidic.security.model.AuthUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final AuthUserRepository authUserRepository;
 
     @Override
@@ -27,4 +29,22 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return authUser;
     }
+
+    /**
+     * 로그인 성공 후 저장된 해시의 비용이 설정과 다르면(PasswordEncoder.upgradeEncoding) 호출됨
+     * 입력한 비밀번호를 현재 비용으로 다시 해시한 값으로 교체
+     */
+    @Override
+    public AuthUser updatePassword(UserDetails user, String newPassword) {
+        AuthUser authUser = (AuthUser) user;
+        authUserRepository.updatePassword(authUser.getId(), newPassword);
+
+        return AuthUser.builder()
+                .id(authUser.getId())
+                .email(authUser.getEmail())
+                .password(newPassword)
+                .isActive(authUser.getIsActive())
+                .role(authUser.getRole())
+                .build();
+    }
 }
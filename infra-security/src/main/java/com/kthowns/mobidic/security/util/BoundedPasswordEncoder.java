@@ -0,0 +1,139 @@
+package com.kthowns.mobidic.security.util;
+
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
+import com.kthowns.mobidic.security.properties.PasswordHashProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 해시, 검증을 요청 스레드가 아닌 코어 수 크기의 전용 풀에서 실행
+ * 로그인이 몰려도 동시에 해시하는 스레드는 풀 크기를 넘지 않고, 대기열이 가득 차거나 시간을 넘기면 기다리지 않고 SERVER_BUSY 로 거절
+ * 지표: password.hash.duration{operation=encode|matches}, password.hash.queue.size, password.hash.rejected{reason=queue_full|timeout}
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private static final String DURATION_METRIC_NAME = "password.hash.duration";
+    private static final String REJECTED_METRIC_NAME = "password.hash.rejected";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullRejected;
+    private final Counter timeoutRejected;
+
+    public BoundedPasswordEncoder(PasswordHashProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.bcryptStrength();
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.timeoutMillis = properties.timeoutMillis();
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+        this.queueFullRejected = rejected(meterRegistry, "queue_full");
+        this.timeoutRejected = rejected(meterRegistry, "timeout");
+        Gauge.builder("password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용이 설정과 다르면 true (낮춘 경우 포함)
+     * DaoAuthenticationProvider 가 로그인 성공 시 UserDetailsPasswordService 로 다시 해시한 값을 저장
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = cost(encodedPassword);
+        return cost > 0 && cost != strength;
+    }
+
+    // 빈 소멸 시 자동 호출 (추론된 destroy 메서드)
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            queueFullRejected.increment();
+            throw new ApiException(GeneralResponseCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutRejected.increment();
+            throw new ApiException(GeneralResponseCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // "$2a$10$..." 형식의 비용 부분, 형식이 다르면 -1
+    private static int cost(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+            return -1;
+        }
+
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(DURATION_METRIC_NAME)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(REJECTED_METRIC_NAME)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.kthowns.mobidic.security.util;
 
 import com.kthowns.mobidic.security.model.AuthUser;
+import com.kthowns.mobidic.security.model.VerifiedToken;
 import com.kthowns.mobidic.security.properties.JwtProperties;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
@@ -11,6 +12,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -18,6 +20,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class JwtProvider {
     private final JwtProperties jwtProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 키가 바뀌지 않으므로 처음 사용할 때 한 번만 만들어 재사용 (JwtParser 는 불변, 스레드 안전)
+    private volatile JwtParser jwtParser;
 
     public String generateToken(UUID userId, String userRole) {
         return Jwts.builder()
@@ -29,26 +35,58 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱, 검증하여 인증 정보를 만듦, 유효하지 않으면 empty
+     * 이미 검증한 토큰은 캐시에서 꺼내므로 서명 검증과 JSON 파싱을 다시 하지 않음
+     */
+    public Optional<Authentication> authenticate(String token) {
+        Optional<VerifiedToken> cached = verifiedTokenCache.read(token);
+        if (cached.isPresent()) {
+            return cached.map(this::toAuthentication);
+        }
+
+        Optional<VerifiedToken> verified = parseClaims(token).map(claims -> new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                claims.get("role", String.class),
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant()));
+
+        verified.ifPresent(verifiedToken -> verifiedTokenCache.save(token, verifiedToken));
+
+        return verified.map(this::toAuthentication);
+    }
+
     public Authentication getAuthentication(String token) {
         Claims claims = getClaims(token);
-        String userId = claims.getSubject();
-        String role = claims.get("role", String.class);
-
-        AuthUser authUser = AuthUser.builder()
-                .id(UUID.fromString(userId))
-                .role(role)
-                .build();
 
-        return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
+        return toAuthentication(new VerifiedToken(
+                UUID.fromString(claims.getSubject()), claims.get("role", String.class), null));
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    public UUID getIdFromToken(String token) {
+        Claims claims = getClaims(token);
+        return UUID.fromString(claims.getSubject());
+    }
+
+    public Claims getClaims(String token) {
+        return parser()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(jwtProperties.getSecretKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = getClaims(token);
+            // 인증 정보로 바꿀 수 없는 subject 도 유효하지 않은 토큰으로 처리
+            if (claims.getSubject() == null) {
+                log.info("JWT token has no subject.");
+                return Optional.empty();
+            }
+            UUID.fromString(claims.getSubject());
+            return Optional.of(claims);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.info("Invalid JWT signature.");
             log.trace("Invalid JWT signature trace: {}", e.getMessage());
@@ -62,19 +100,26 @@ public class JwtProvider {
             log.info("JWT token compact of handler are invalid.");
             log.trace("JWT token compact of handler are invalid trace: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
-    public UUID getIdFromToken(String token) {
-        Claims claims = getClaims(token);
-        return UUID.fromString(claims.getSubject());
+    private Authentication toAuthentication(VerifiedToken verifiedToken) {
+        AuthUser authUser = AuthUser.builder()
+                .id(verifiedToken.userId())
+                .role(verifiedToken.role())
+                .build();
+
+        return new UsernamePasswordAuthenticationToken(authUser, null, authUser.getAuthorities());
     }
 
-    public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(jwtProperties.getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private JwtParser parser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(jwtProperties.getSecretKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 }
@@ -0,0 +1,76 @@
+package com.kthowns.mobidic.security.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kthowns.mobidic.security.model.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 검증된 토큰 캐시 (인스턴스 로컬, Caffeine)
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 써서 힙에 bearer 토큰을 남기지 않고,
+ * 항목은 토큰 만료 시각과 max-ttl 중 이른 시각에 만료된다.
+ * 로그아웃, 탈퇴 등 토큰 폐기는 블랙리스트로 매 요청 확인하므로 이 캐시가 우회하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Cache<String, VerifiedToken> cache;
+    private final Duration maxTtl;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds
+    ) {
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.writing((String digest, VerifiedToken verifiedToken) -> ttl(verifiedToken)))
+                .build();
+    }
+
+    public Optional<VerifiedToken> read(String token) {
+        VerifiedToken verifiedToken = cache.getIfPresent(digest(token));
+
+        // Caffeine 의 만료 처리는 정확한 시각을 보장하지 않으므로 만료 여부를 한 번 더 확인
+        if (verifiedToken == null || verifiedToken.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(verifiedToken);
+    }
+
+    public void save(String token, VerifiedToken verifiedToken) {
+        cache.put(digest(token), verifiedToken);
+    }
+
+    private Duration ttl(VerifiedToken verifiedToken) {
+        if (verifiedToken.expiresAt() == null) {
+            return maxTtl;
+        }
+
+        Duration untilExpiry = Duration.between(Instant.now(), verifiedToken.expiresAt());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
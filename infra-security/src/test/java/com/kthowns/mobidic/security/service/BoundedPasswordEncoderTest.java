@@ -0,0 +1,126 @@
+package com.kthowns.mobidic.security.service;
+
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
+import com.kthowns.mobidic.security.properties.PasswordHashProperties;
+import com.kthowns.mobidic.security.util.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<BoundedPasswordEncoder> encoders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        encoders.forEach(BoundedPasswordEncoder::shutdown);
+    }
+
+    @DisplayName("[Security][Password] Encode and match on hashing pool")
+    @Test
+    void encodeAndMatch() {
+        //given
+        BoundedPasswordEncoder encoder = encoder(4, 2, 8);
+
+        //when
+        String encoded = encoder.encode("password123!");
+
+        //then
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(encoder.matches("password123!", encoded)).isTrue();
+        assertThat(encoder.matches("wrongPassword", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @DisplayName("[Security][Password] Upgrade encoding when cost differs")
+    @Test
+    void upgradeEncodingWhenCostDiffers() {
+        //given
+        BoundedPasswordEncoder encoder = encoder(6, 1, 8);
+
+        //when & then
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(8).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+    }
+
+    @DisplayName("[Security][Password] Reject immediately when queue is full")
+    @Test
+    void rejectWhenQueueFull() throws Exception {
+        //given
+        // 스레드 1개 + 대기열 1개, 비용 14 는 한 번에 수백 ms 이상 걸리므로 세 번째 요청부터 거절
+        BoundedPasswordEncoder encoder = encoder(14, 1, 1);
+        int requests = 4;
+        ExecutorService callers = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            //when
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return encoder.encode("password123!");
+                }));
+            }
+            start.countDown();
+
+            int rejected = 0;
+            for (Future<String> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ApiException.class);
+                    assertThat(((ApiException) e.getCause()).getResponseCode()).isEqualTo(GeneralResponseCode.SERVER_BUSY);
+                    rejected++;
+                }
+            }
+
+            //then
+            assertThat(rejected).isGreaterThanOrEqualTo(requests - 2);
+            assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue_full").counter().count())
+                    .isEqualTo(rejected);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @DisplayName("[Security][Password] Reject when hashing exceeds timeout")
+    @Test
+    void rejectWhenTimeout() {
+        //given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new PasswordHashProperties(16, 1, 1, 1L), meterRegistry);
+        encoders.add(encoder);
+
+        //when & then
+        assertThatThrownBy(() -> encoder.encode("password123!"))
+                .isInstanceOf(ApiException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    private BoundedPasswordEncoder encoder(int strength, int poolSize, int queueCapacity) {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new PasswordHashProperties(strength, poolSize, queueCapacity, 30_000L), meterRegistry);
+        encoders.add(encoder);
+        return encoder;
+    }
+}
@@ -1,8 +1,11 @@
 package com.kthowns.mobidic.security.service;
 
 import com.kthowns.mobidic.domain.user.model.UserRole;
+import com.kthowns.mobidic.security.model.AuthUser;
+import com.kthowns.mobidic.security.model.VerifiedToken;
 import com.kthowns.mobidic.security.properties.JwtProperties;
 import com.kthowns.mobidic.security.util.JwtProvider;
+import com.kthowns.mobidic.security.util.VerifiedTokenCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
@@ -12,14 +15,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("dev")
@@ -27,6 +39,9 @@ class JwtProviderTest {
     @Mock
     private JwtProperties jwtProperties;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @InjectMocks
     private JwtProvider jwtProvider;
 
@@ -110,4 +125,62 @@ class JwtProviderTest {
         //then
         assertEquals(uid, resultId);
     }
-}
\ No newline at end of file
+
+    @DisplayName("[Security][JWT] Authenticate parses once and caches verified token")
+    @Test
+    void authenticateParsesOnceAndCaches() {
+        UUID uid = UUID.randomUUID();
+
+        //given
+        given(jwtProperties.getJwtAccessExp())
+                .willReturn(testExp);
+        given(jwtProperties.getSecretKey())
+                .willReturn(Keys.hmacShaKeyFor(testKey.getBytes(StandardCharsets.UTF_8)));
+        given(verifiedTokenCache.read(anyString()))
+                .willReturn(Optional.empty());
+        String token = jwtProvider.generateToken(uid, UserRole.USER.name());
+
+        //when
+        Optional<Authentication> authentication = jwtProvider.authenticate(token);
+
+        //then
+        assertThat(authentication).isPresent();
+        assertEquals(uid, ((AuthUser) authentication.get().getPrincipal()).getId());
+        verify(verifiedTokenCache).save(eq(token), any(VerifiedToken.class));
+    }
+
+    @DisplayName("[Security][JWT] Authenticate uses cached token without parsing")
+    @Test
+    void authenticateUsesCachedToken() {
+        UUID uid = UUID.randomUUID();
+
+        //given
+        given(verifiedTokenCache.read("cached-token"))
+                .willReturn(Optional.of(new VerifiedToken(uid, UserRole.USER.name(), Instant.now().plusSeconds(60))));
+
+        //when
+        Optional<Authentication> authentication = jwtProvider.authenticate("cached-token");
+
+        //then
+        assertThat(authentication).isPresent();
+        assertEquals(uid, ((AuthUser) authentication.get().getPrincipal()).getId());
+        verifyNoInteractions(jwtProperties);
+    }
+
+    @DisplayName("[Security][JWT] Authenticate rejects invalid token without caching")
+    @Test
+    void authenticateRejectsInvalidToken() {
+        //given
+        given(jwtProperties.getSecretKey())
+                .willReturn(Keys.hmacShaKeyFor(testKey.getBytes(StandardCharsets.UTF_8)));
+        given(verifiedTokenCache.read(anyString()))
+                .willReturn(Optional.empty());
+
+        //when
+        Optional<Authentication> authentication = jwtProvider.authenticate("invalid-token");
+
+        //then
+        assertThat(authentication).isEmpty();
+        verify(verifiedTokenCache, never()).save(anyString(), any());
+    }
+}
@@ -0,0 +1,44 @@
+package com.kthowns.mobidic.security.service;
+
+import com.kthowns.mobidic.security.model.VerifiedToken;
+import com.kthowns.mobidic.security.util.VerifiedTokenCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, 300);
+
+    @DisplayName("[Security][JWT] Cached token is read by same token")
+    @Test
+    void readSavedToken() {
+        //given
+        VerifiedToken verifiedToken = new VerifiedToken(UUID.randomUUID(), "USER", Instant.now().plusSeconds(60));
+
+        //when
+        verifiedTokenCache.save("token", verifiedToken);
+        Optional<VerifiedToken> cached = verifiedTokenCache.read("token");
+
+        //then
+        assertThat(cached).contains(verifiedToken);
+        assertThat(verifiedTokenCache.read("other-token")).isEmpty();
+    }
+
+    @DisplayName("[Security][JWT] Expired token is not read from cache")
+    @Test
+    void expiredTokenIsNotRead() {
+        //given
+        VerifiedToken verifiedToken = new VerifiedToken(UUID.randomUUID(), "USER", Instant.now().minusSeconds(1));
+
+        //when
+        verifiedTokenCache.save("expired-token", verifiedToken);
+
+        //then
+        assertThat(verifiedTokenCache.read("expired-token")).isEmpty();
+    }
+}
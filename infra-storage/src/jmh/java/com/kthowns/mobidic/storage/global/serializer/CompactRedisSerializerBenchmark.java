@@ -0,0 +1,62 @@
+package com.kthowns.mobidic.storage.global.serializer;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.storage.quiz.serializer.QuizAnswerCodec;
+import com.kthowns.mobidic.storage.vocabulary.serializer.VocabularyDetailListCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 값 직렬화 벤치마크
+ * QuizAnswer 한 건을 기존 JSON 직렬화기와 바이너리 코덱으로 직렬화, 역직렬화할 때의
+ * 처리 시간과 할당량(-prof gc 의 gc.alloc.rate.norm)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompactRedisSerializerBenchmark {
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer compactSerializer =
+            new CompactRedisSerializer(List.of(new QuizAnswerCodec(), new VocabularyDetailListCodec()), jsonSerializer);
+
+    private QuizAnswer quizAnswer;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        quizAnswer = QuizAnswer.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "elephant");
+        jsonBytes = jsonSerializer.serialize(quizAnswer);
+        compactBytes = compactSerializer.serialize(quizAnswer);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(quizAnswer);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compactSerializer.serialize(quizAnswer);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+}
@@ -2,36 +2,226 @@ package com.kthowns.mobidic.storage.auth.repository.redis;
 
 import com.kthowns.mobidic.domain.auth.repository.AuthRedisKey;
 import com.kthowns.mobidic.domain.auth.repository.BlackListRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kthowns.mobidic.storage.global.metrics.StorageMetrics;
+import com.kthowns.mobidic.storage.global.redis.RedisCircuitBreaker;
+import com.kthowns.mobidic.storage.global.redis.RedisCircuitBreakerRegistry;
+import com.kthowns.mobidic.storage.global.redis.RedisCircuitOpenException;
 import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 비활성화 사용자 확인은 인증된 모든 요청에서 호출되므로 인스턴스 로컬 사본(near-cache)으로 먼저 답한다.
+ * 사본은 Redis 색인(DEACTIVATED_INDEX)을 주기적으로 다시 읽고, 다른 인스턴스의 비활성화는 pub/sub 으로 바로 받는다.
+ * 사본이 동기화되지 않은 동안(Redis 장애 등)에는 Redis 키, 실패하거나 서킷이 열려 있으면 DB 로 확인한다.
+ * DB 확인은 사용자별로 합쳐(single-flight) 짧게 재사용하므로 Redis 장애가 요청 수만큼의 DB 조회로 번지지 않는다.
+ * 지표: auth.deactivated.check{source=local|redis|db|db_shared}
+ */
 @Repository
 @Slf4j
-@RequiredArgsConstructor
 public class BlackListRepositoryImpl implements BlackListRepository {
+    private static final String METRIC_NAME = "auth.deactivated.check";
+    private static final int SCAN_COUNT = 1000;
+    private static final String CIRCUIT_NAME = "blacklist";
+    private static final long DB_FALLBACK_MAX_SIZE = 10_000L;
+
     private final UserJpaRepository userJpaRepository;
     private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final DeactivatedUserNearCache nearCache;
+    // 진행 중이거나 최근에 끝난 DB 확인 결과, 실패한 조회는 Caffeine 이 바로 제거
+    private final AsyncCache<UUID, Boolean> dbFallbackResults;
+    private final boolean nearCacheEnabled;
+
+    private final Counter localCheck;
+    private final Counter redisCheck;
+    private final Counter dbCheck;
+    private final Counter dbSharedCheck;
+
+    // 색인 도입 전에 저장된 키는 색인에 없으므로 처음 동기화할 때 한 번 옮김
+    private volatile boolean indexBackfilled;
+
+    public BlackListRepositoryImpl(
+            UserJpaRepository userJpaRepository,
+            RedisTemplate<String, String> stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            RedisCircuitBreakerRegistry redisCircuitBreakerRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${auth.deactivated-cache.enabled:true}") boolean nearCacheEnabled,
+            @Value("${auth.deactivated-cache.max-staleness-millis:60000}") long maxStalenessMillis,
+            @Value("${auth.deactivated-cache.db-fallback-ttl-millis:1000}") long dbFallbackTtlMillis
+    ) {
+        this.userJpaRepository = userJpaRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.circuitBreaker = redisCircuitBreakerRegistry.circuitBreaker(CIRCUIT_NAME);
+        this.nearCache = new DeactivatedUserNearCache(maxStalenessMillis);
+        this.dbFallbackResults = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(dbFallbackTtlMillis))
+                .maximumSize(DB_FALLBACK_MAX_SIZE)
+                .buildAsync();
+        this.nearCacheEnabled = nearCacheEnabled;
+
+        this.localCheck = StorageMetrics.counter(meterRegistry, METRIC_NAME, "source", "local");
+        this.redisCheck = StorageMetrics.counter(meterRegistry, METRIC_NAME, "source", "redis");
+        this.dbCheck = StorageMetrics.counter(meterRegistry, METRIC_NAME, "source", "db");
+        this.dbSharedCheck = StorageMetrics.counter(meterRegistry, METRIC_NAME, "source", "db_shared");
+
+        if (nearCacheEnabled) {
+            redisMessageListenerContainer.addMessageListener(this::onDeactivated,
+                    new ChannelTopic(AuthRedisKey.DEACTIVATED_CHANNEL.toString()));
+        }
+    }
 
     @Override
     public void saveDeactivated(UUID userId, long ttlMillis) {
-        String key = AuthRedisKey.DEACTIVATED + ":" + userId.toString();
-        stringRedisTemplate.opsForValue().set(key, "true", Duration.ofMillis(ttlMillis));
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        nearCache.put(userId, expiresAt);
+
+        circuitBreaker.run(() -> {
+            stringRedisTemplate.opsForValue().set(key(userId), "true", Duration.ofMillis(ttlMillis));
+            stringRedisTemplate.opsForZSet().add(AuthRedisKey.DEACTIVATED_INDEX.toString(), userId.toString(), expiresAt);
+            stringRedisTemplate.convertAndSend(AuthRedisKey.DEACTIVATED_CHANNEL.toString(), userId + ":" + expiresAt);
+        });
     }
 
     @Override
     public boolean existsDeactivated(UUID userId) {
+        if (nearCacheEnabled) {
+            DeactivatedUserNearCache.Lookup lookup = nearCache.lookup(userId, System.currentTimeMillis());
+            if (lookup != DeactivatedUserNearCache.Lookup.UNKNOWN) {
+                localCheck.increment();
+                return lookup == DeactivatedUserNearCache.Lookup.DEACTIVATED;
+            }
+        }
+
         try {
-            String key = AuthRedisKey.DEACTIVATED + ":" + userId.toString();
-            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+            boolean deactivated = circuitBreaker.execute(() -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(key(userId))));
+            redisCheck.increment();
+            return deactivated;
+        } catch (RedisCircuitOpenException e) {
+            // 서킷이 열려 있는 동안은 요청마다 로그를 남기지 않음
+            return existsDeactivatedInDb(userId);
         } catch (Exception e) {
             log.error("Redis connection failed during deactivated user check. Falling back to DB. userId: {}", userId, e);
-            return userJpaRepository.existsByIdAndActiveFalse(userId);
+            return existsDeactivatedInDb(userId);
+        }
+    }
+
+    // 같은 사용자에 대한 동시 확인은 먼저 시작한 DB 조회 하나를 기다리고, 결과는 db-fallback-ttl 동안 재사용
+    private boolean existsDeactivatedInDb(UUID userId) {
+        CompletableFuture<Boolean> loading = new CompletableFuture<>();
+        CompletableFuture<Boolean> shared = dbFallbackResults.asMap().putIfAbsent(userId, loading);
+        if (shared != null) {
+            dbSharedCheck.increment();
+            try {
+                return shared.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            boolean deactivated = userJpaRepository.existsByIdAndActiveFalse(userId);
+            dbCheck.increment();
+            loading.complete(deactivated);
+            return deactivated;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 색인 항목을 지우고 남은 항목을 로컬 사본에 합침
+     * pub/sub 메시지를 놓쳐도 이 주기 안에 반영되며, 실패하면 사본을 쓰지 않고 Redis/DB 확인으로 돌아감
+     */
+    @Scheduled(fixedDelayString = "${auth.deactivated-cache.refresh-interval-millis:30000}")
+    public void refreshDeactivated() {
+        if (!nearCacheEnabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            if (!indexBackfilled) {
+                circuitBreaker.run(() -> backfillIndex(now));
+                indexBackfilled = true;
+            }
+
+            String indexKey = AuthRedisKey.DEACTIVATED_INDEX.toString();
+            Set<ZSetOperations.TypedTuple<String>> entries = circuitBreaker.execute(() -> {
+                ZSetOperations<String, String> zSetOperations = stringRedisTemplate.opsForZSet();
+                zSetOperations.removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+                return zSetOperations.rangeByScoreWithScores(indexKey, now, Double.POSITIVE_INFINITY);
+            });
+
+            Map<UUID, Long> snapshot = new HashMap<>();
+            if (entries != null) {
+                for (ZSetOperations.TypedTuple<String> entry : entries) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        snapshot.put(UUID.fromString(entry.getValue()), entry.getScore().longValue());
+                    }
+                }
+            }
+
+            nearCache.sync(snapshot, now);
+        } catch (Exception e) {
+            nearCache.invalidate();
+            log.warn("Failed to refresh deactivated user near-cache. Falling back to Redis/DB checks.", e);
         }
     }
+
+    private void backfillIndex(long now) {
+        String indexKey = AuthRedisKey.DEACTIVATED_INDEX.toString();
+        String prefix = AuthRedisKey.DEACTIVATED + ":";
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttlMillis = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis != null && ttlMillis > 0) {
+                    stringRedisTemplate.opsForZSet().add(indexKey, key.substring(prefix.length()), now + ttlMillis);
+                }
+            }
+        }
+    }
+
+    private void onDeactivated(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+
+        try {
+            nearCache.put(UUID.fromString(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed deactivated user event: {}", body);
+        }
+    }
+
+    private String key(UUID userId) {
+        return AuthRedisKey.DEACTIVATED + ":" + userId.toString();
+    }
 }
@@ -0,0 +1,59 @@
+package com.kthowns.mobidic.storage.auth.repository.redis;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비활성화된 사용자 ID 의 인스턴스 로컬 사본 (ID -> 만료 시각 epoch millis)
+ * Redis 색인을 주기적으로 다시 읽어 합치고, 그 사이의 비활성화는 pub/sub 메시지로 바로 추가한다.
+ * 마지막 동기화가 실패했거나 maxStalenessMillis 보다 오래되었으면 "비활성화 아님" 을 답하지 않는다.
+ */
+class DeactivatedUserNearCache {
+    enum Lookup {
+        DEACTIVATED,
+        ACTIVE,
+        UNKNOWN
+    }
+
+    private static final long NOT_SYNCED = -1L;
+
+    private final Map<UUID, Long> expiresAtByUserId = new ConcurrentHashMap<>();
+    private final long maxStalenessMillis;
+
+    private volatile long syncedAtMillis = NOT_SYNCED;
+
+    DeactivatedUserNearCache(long maxStalenessMillis) {
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    Lookup lookup(UUID userId, long nowMillis) {
+        Long expiresAt = expiresAtByUserId.get(userId);
+        // 비활성화는 되돌리지 않으므로 동기화 상태와 관계없이 로컬에 있으면 그대로 믿음
+        if (expiresAt != null && expiresAt > nowMillis) {
+            return Lookup.DEACTIVATED;
+        }
+
+        long syncedAt = syncedAtMillis;
+        if (syncedAt == NOT_SYNCED || nowMillis - syncedAt > maxStalenessMillis) {
+            return Lookup.UNKNOWN;
+        }
+
+        return Lookup.ACTIVE;
+    }
+
+    void put(UUID userId, long expiresAtMillis) {
+        expiresAtByUserId.merge(userId, expiresAtMillis, Math::max);
+    }
+
+    // 교체하지 않고 합침: 색인을 읽는 동안 도착한 pub/sub 메시지를 잃지 않도록
+    void sync(Map<UUID, Long> snapshot, long nowMillis) {
+        snapshot.forEach(this::put);
+        expiresAtByUserId.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        syncedAtMillis = nowMillis;
+    }
+
+    void invalidate() {
+        syncedAtMillis = NOT_SYNCED;
+    }
+}
@@ -0,0 +1,95 @@
+package com.kthowns.mobidic.storage.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * L1: 인스턴스 로컬 캐시 (Caffeine), L2: Redis (선택)
+ * 무효화가 없는 값 전용이며 TTL 과 크기로만 제한한다. 무효화가 필요한 값은 조회 도중의 무효화를 따로 막아야 한다.
+ * Redis 장애는 캐시 미스로 취급하고 호출자에게 전파하지 않는다.
+ * 지표: {metricName}{level=local|redis, result=hit|miss}
+ */
+@Slf4j
+public class TwoLevelCache<K, V> {
+    private final String metricName;
+    private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final Cache<K, V> localCache;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Function<K, String> redisKey;
+    private final Class<V> valueType;
+    private final TwoLevelCacheCounters counters;
+
+    public TwoLevelCache(
+            String metricName,
+            RedisTemplate<String, Object> objectRedisTemplate,
+            MeterRegistry meterRegistry,
+            Duration localTtl,
+            long localMaxSize,
+            boolean redisEnabled,
+            Duration redisTtl,
+            Function<K, String> redisKey,
+            Class<V> valueType
+    ) {
+        this.metricName = metricName;
+        this.objectRedisTemplate = objectRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(localMaxSize)
+                .build();
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = redisTtl;
+        this.redisKey = redisKey;
+        this.valueType = valueType;
+        this.counters = TwoLevelCacheCounters.of(meterRegistry, metricName);
+    }
+
+    public Optional<V> get(K key) {
+        V local = localCache.getIfPresent(key);
+        if (local != null) {
+            counters.localHit().increment();
+            return Optional.of(local);
+        }
+        counters.localMiss().increment();
+
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+
+        try {
+            Object cached = objectRedisTemplate.opsForValue().get(redisKey.apply(key));
+            if (valueType.isInstance(cached)) {
+                V value = valueType.cast(cached);
+                counters.redisHit().increment();
+                localCache.put(key, value);
+                return Optional.of(value);
+            }
+        } catch (Exception e) {
+            log.warn("Redis read failed for {}. Treating as miss. key: {}", metricName, key, e);
+        }
+        counters.redisMiss().increment();
+
+        return Optional.empty();
+    }
+
+    public void put(K key, V value) {
+        localCache.put(key, value);
+
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            objectRedisTemplate.opsForValue().set(redisKey.apply(key), value, redisTtl);
+        } catch (Exception e) {
+            log.warn("Redis write failed for {}. key: {}", metricName, key, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kthowns.mobidic.storage.global.cache;
+
+import com.kthowns.mobidic.storage.global.metrics.StorageMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * L1 (local) / L2 (redis) 캐시 적중 지표
+ * 지표: {metricName}{level=local|redis, result=hit|miss}
+ */
+public record TwoLevelCacheCounters(
+        Counter localHit,
+        Counter localMiss,
+        Counter redisHit,
+        Counter redisMiss
+) {
+    public static TwoLevelCacheCounters of(MeterRegistry meterRegistry, String metricName) {
+        return new TwoLevelCacheCounters(
+                counter(meterRegistry, metricName, "local", "hit"),
+                counter(meterRegistry, metricName, "local", "miss"),
+                counter(meterRegistry, metricName, "redis", "hit"),
+                counter(meterRegistry, metricName, "redis", "miss")
+        );
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String metricName, String level, String result) {
+        return StorageMetrics.counter(meterRegistry, metricName, "level", level, "result", result);
+    }
+}
@@ -1,24 +1,46 @@
 package com.kthowns.mobidic.storage.global.config;
 
+import com.kthowns.mobidic.storage.global.serializer.CompactRedisSerializer;
+import com.kthowns.mobidic.storage.global.serializer.RedisValueCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 @Configuration
 public class RedisConfig {
     @Bean
-    public RedisTemplate<String, Object> objectRedisTemplate(RedisConnectionFactory connectionFactory) {
+    public CompactRedisSerializer compactRedisSerializer(List<RedisValueCodec<?>> redisValueCodecs) {
+        // 코덱이 등록되지 않은 타입은 기존과 동일하게 JSON으로 직렬화
+        return new CompactRedisSerializer(redisValueCodecs, new GenericJackson2JsonRedisSerializer());
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> objectRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            CompactRedisSerializer compactRedisSerializer
+    ) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
         template.setKeySerializer(new StringRedisSerializer()); // Key는 단순 문자열로 직렬화
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer()); // Value는 JSON으로 직렬화
+        template.setValueSerializer(compactRedisSerializer); // Value는 코덱 등록 타입은 바이너리, 그 외는 JSON으로 직렬화
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setHashValueSerializer(compactRedisSerializer);
 
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // 인스턴스 간 캐시 무효화 알림(pub/sub) 구독용, 리스너는 각 저장소가 직접 등록
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
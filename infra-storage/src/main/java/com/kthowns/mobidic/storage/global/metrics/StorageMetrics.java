@@ -0,0 +1,19 @@
+package com.kthowns.mobidic.storage.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 저장소 계층 지표 등록 도우미
+ * tags 는 key, value 순서의 쌍으로 전달한다.
+ */
+public final class StorageMetrics {
+    private StorageMetrics() {
+    }
+
+    public static Counter counter(MeterRegistry meterRegistry, String name, String... tags) {
+        return Counter.builder(name)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
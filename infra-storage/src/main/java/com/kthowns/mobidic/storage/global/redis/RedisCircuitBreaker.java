@@ -0,0 +1,117 @@
+package com.kthowns.mobidic.storage.global.redis;
+
+import com.kthowns.mobidic.storage.global.metrics.StorageMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출용 서킷 브레이커
+ * CLOSED: 연속 실패가 failureThreshold 에 닿으면 OPEN
+ * OPEN: openDurationMillis 동안 Redis 를 호출하지 않고 바로 RedisCircuitOpenException (명령 타임아웃을 기다리지 않음)
+ * HALF_OPEN: openDurationMillis 가 지나면 한 요청만 시험 호출, 성공하면 CLOSED, 실패하면 다시 OPEN
+ * 지표: redis.circuit.state{name} (0=closed, 1=open, 2=half_open), redis.circuit.calls{name, result=success|failure|rejected}
+ */
+public class RedisCircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private static final String STATE_METRIC_NAME = "redis.circuit.state";
+    private static final String CALLS_METRIC_NAME = "redis.circuit.calls";
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier currentTimeMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // state 보다 먼저 기록하므로 OPEN 을 읽은 스레드는 그 시각도 함께 봄
+    private volatile long openedAtMillis;
+
+    private final Counter successCalls;
+    private final Counter failureCalls;
+    private final Counter rejectedCalls;
+
+    public RedisCircuitBreaker(
+            String name,
+            int failureThreshold,
+            long openDurationMillis,
+            MeterRegistry meterRegistry,
+            LongSupplier currentTimeMillis
+    ) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.currentTimeMillis = currentTimeMillis;
+
+        Gauge.builder(STATE_METRIC_NAME, state, current -> current.get().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+        this.successCalls = StorageMetrics.counter(meterRegistry, CALLS_METRIC_NAME, "name", name, "result", "success");
+        this.failureCalls = StorageMetrics.counter(meterRegistry, CALLS_METRIC_NAME, "name", name, "result", "failure");
+        this.rejectedCalls = StorageMetrics.counter(meterRegistry, CALLS_METRIC_NAME, "name", name, "result", "rejected");
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            rejectedCalls.increment();
+            throw new RedisCircuitOpenException(name);
+        }
+
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+
+        // OPEN -> HALF_OPEN 전환에 성공한 한 요청만 시험 호출, 시험 중(HALF_OPEN)에는 나머지를 모두 거절
+        return current == State.OPEN
+                && currentTimeMillis.getAsLong() - openedAtMillis >= openDurationMillis
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void onSuccess() {
+        successCalls.increment();
+        consecutiveFailures.set(0);
+        state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+    }
+
+    private void onFailure() {
+        failureCalls.increment();
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAtMillis = currentTimeMillis.getAsLong();
+            consecutiveFailures.set(0);
+            state.set(State.OPEN);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kthowns.mobidic.storage.global.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 를 쓰는 저장소별 서킷 브레이커
+ * 저장소마다 따로 열리고 닫히므로 한 기능의 실패가 다른 기능의 Redis 호출을 막지 않는다.
+ */
+@Component
+public class RedisCircuitBreakerRegistry {
+    private final Map<String, RedisCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    public RedisCircuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${redis.circuit-breaker.open-duration-millis:5000}") long openDurationMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+    }
+
+    public RedisCircuitBreaker circuitBreaker(String name) {
+        return circuitBreakers.computeIfAbsent(name, key -> new RedisCircuitBreaker(
+                key, failureThreshold, openDurationMillis, meterRegistry, System::currentTimeMillis));
+    }
+}
@@ -0,0 +1,14 @@
+package com.kthowns.mobidic.storage.global.redis;
+
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
+
+/**
+ * 서킷이 열려 있어 Redis 를 호출하지 않고 거절한 경우
+ * 대체 경로가 없는 호출에서 그대로 올라가면 RestControllerExceptionHandler 가 503(REDIS_UNAVAILABLE)으로 응답
+ */
+public class RedisCircuitOpenException extends ApiException {
+    public RedisCircuitOpenException(String name) {
+        super(GeneralResponseCode.REDIS_UNAVAILABLE, "Redis circuit is open: " + name);
+    }
+}
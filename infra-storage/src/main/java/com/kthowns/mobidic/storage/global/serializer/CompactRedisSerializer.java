@@ -0,0 +1,93 @@
+package com.kthowns.mobidic.storage.global.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코덱이 등록된 타입은 [버전 1B][타입 1B][페이로드] 형식의 바이너리로, 그 외 타입은 fallback 직렬화기로 저장한다.
+ * JSON 은 버전 바이트(0x01)로 시작할 수 없으므로 기존에 저장된 JSON 값도 그대로 읽을 수 있다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+    static final byte FORMAT_VERSION = 0x01;
+    private static final int HEADER_SIZE = 2;
+
+    private final Map<Class<?>, RedisValueCodec<?>> codecsByType = new HashMap<>();
+    private final RedisValueCodec<?>[] codecsById = new RedisValueCodec<?>[256];
+    private final RedisSerializer<Object> fallback;
+
+    public CompactRedisSerializer(List<RedisValueCodec<?>> codecs, RedisSerializer<Object> fallback) {
+        for (RedisValueCodec<?> codec : codecs) {
+            int id = Byte.toUnsignedInt(codec.typeId());
+            if (codecsById[id] != null) {
+                throw new IllegalStateException("Duplicated redis codec type id: " + id);
+            }
+            codecsById[id] = codec;
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        RedisValueCodec<?> codec = codecsByType.get(value.getClass());
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(codec.typeId());
+            write(codec, value, out);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != FORMAT_VERSION) {
+            return fallback.deserialize(bytes);
+        }
+
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated compact redis value");
+        }
+
+        RedisValueCodec<?> codec = codecsById[Byte.toUnsignedInt(bytes[1])];
+        if (codec == null) {
+            throw new SerializationException("Unknown redis codec type id: " + Byte.toUnsignedInt(bytes[1]));
+        }
+
+        try {
+            return codec.read(new DataInputStream(
+                    new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE)));
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void write(RedisValueCodec<T> codec, Object value, DataOutputStream out) throws IOException {
+        codec.write((T) value, out);
+    }
+}
@@ -0,0 +1,30 @@
+package com.kthowns.mobidic.storage.global.serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * CompactRedisSerializer 에 등록되는 도메인 레코드별 바이너리 코덱
+ * typeId 는 저장된 값의 타입을 식별하므로 한 번 배포된 값은 변경하지 않는다.
+ */
+public interface RedisValueCodec<T> {
+    byte typeId();
+
+    Class<T> type();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    // UUID 는 36자 문자열 대신 16바이트로 기록
+    static void writeUuid(UUID uuid, DataOutput out) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
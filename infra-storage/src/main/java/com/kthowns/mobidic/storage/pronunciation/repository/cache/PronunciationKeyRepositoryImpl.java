@@ -0,0 +1,52 @@
+package com.kthowns.mobidic.storage.pronunciation.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kthowns.mobidic.domain.pronunciation.model.PronunciationKey;
+import com.kthowns.mobidic.domain.pronunciation.repository.PronunciationKeyRepository;
+import com.kthowns.mobidic.storage.global.metrics.StorageMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 인스턴스 로컬 캐시 (Caffeine), 키는 표현 문자열만으로 결정되어 바뀌지 않으므로 만료 없이 크기로만 제한한다.
+ * 지표: pronunciation.key{result=hit|miss}
+ */
+@Repository
+public class PronunciationKeyRepositoryImpl implements PronunciationKeyRepository {
+    private static final String METRIC_NAME = "pronunciation.key";
+
+    private final Cache<String, PronunciationKey> localCache;
+
+    private final Counter hit;
+    private final Counter miss;
+
+    public PronunciationKeyRepositoryImpl(
+            MeterRegistry meterRegistry,
+            @Value("${pronunciation.key-cache.max-size:50000}") long maxSize
+    ) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+
+        this.hit = StorageMetrics.counter(meterRegistry, METRIC_NAME, "result", "hit");
+        this.miss = StorageMetrics.counter(meterRegistry, METRIC_NAME, "result", "miss");
+    }
+
+    @Override
+    public Optional<PronunciationKey> readByExpression(String expression) {
+        PronunciationKey pronunciationKey = localCache.getIfPresent(expression);
+        (pronunciationKey == null ? miss : hit).increment();
+
+        return Optional.ofNullable(pronunciationKey);
+    }
+
+    @Override
+    public void save(String expression, PronunciationKey pronunciationKey) {
+        localCache.put(expression, pronunciationKey);
+    }
+}
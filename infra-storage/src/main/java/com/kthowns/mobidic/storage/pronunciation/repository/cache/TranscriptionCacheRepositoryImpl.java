@@ -0,0 +1,59 @@
+package com.kthowns.mobidic.storage.pronunciation.repository.cache;
+
+import com.kthowns.mobidic.domain.pronunciation.repository.PronunciationRedisKey;
+import com.kthowns.mobidic.domain.pronunciation.repository.TranscriptionCacheRepository;
+import com.kthowns.mobidic.storage.global.cache.TwoLevelCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * L1: 인스턴스 로컬 캐시 (Caffeine), L2: Redis (선택)
+ * 같은 내용의 음성은 전사 결과도 같으므로 무효화 없이 TTL 과 크기로만 제한한다.
+ * 지표: pronunciation.transcription.cache{level=local|redis, result=hit|miss}
+ */
+@Repository
+public class TranscriptionCacheRepositoryImpl implements TranscriptionCacheRepository {
+    private static final String METRIC_NAME = "pronunciation.transcription.cache";
+
+    private final TwoLevelCache<String, String> cache;
+
+    public TranscriptionCacheRepositoryImpl(
+            RedisTemplate<String, Object> objectRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${pronunciation.transcription-cache.local-ttl-seconds:600}") long localTtlSeconds,
+            @Value("${pronunciation.transcription-cache.local-max-size:1000}") long localMaxSize,
+            @Value("${pronunciation.transcription-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${pronunciation.transcription-cache.redis-ttl-seconds:86400}") long redisTtlSeconds
+    ) {
+        this.cache = new TwoLevelCache<>(
+                METRIC_NAME,
+                objectRedisTemplate,
+                meterRegistry,
+                Duration.ofSeconds(localTtlSeconds),
+                localMaxSize,
+                redisEnabled,
+                Duration.ofSeconds(redisTtlSeconds),
+                TranscriptionCacheRepositoryImpl::key,
+                String.class
+        );
+    }
+
+    @Override
+    public Optional<String> readByAudioHash(String audioHash) {
+        return cache.get(audioHash);
+    }
+
+    @Override
+    public void save(String audioHash, String transcription) {
+        cache.put(audioHash, transcription);
+    }
+
+    private static String key(String audioHash) {
+        return PronunciationRedisKey.TRANSCRIPTION + ":" + audioHash;
+    }
+}
@@ -0,0 +1,95 @@
+package com.kthowns.mobidic.storage.quiz.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.kthowns.mobidic.domain.quiz.model.QuizWordTable;
+import com.kthowns.mobidic.domain.quiz.repository.QuizWordTableRepository;
+import com.kthowns.mobidic.storage.global.metrics.StorageMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 로컬 캐시 (Caffeine), 테이블은 제자리에서 갱신되므로 Redis 에는 두지 않는다.
+ * 다른 인스턴스에서 채점된 결과는 반영되지 않으므로 TTL 로 만료되어 다시 생성될 때 반영된다.
+ * 통계 변경 이벤트에는 단어 식별자만 있으므로 단어 -> 단어장 역색인을 함께 유지한다.
+ * 지표: quiz.word.table{result=hit|miss}
+ */
+@Repository
+public class QuizWordTableRepositoryImpl implements QuizWordTableRepository {
+    private static final String METRIC_NAME = "quiz.word.table";
+
+    private final Cache<UUID, QuizWordTable> localCache;
+    private final Map<UUID, UUID> vocabularyIdByWordId = new ConcurrentHashMap<>();
+
+    private final Counter hit;
+    private final Counter miss;
+
+    public QuizWordTableRepositoryImpl(
+            MeterRegistry meterRegistry,
+            @Value("${quiz.word-table.ttl-seconds:600}") long ttlSeconds,
+            @Value("${quiz.word-table.max-size:10000}") long maxSize
+    ) {
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .executor(Runnable::run)
+                .removalListener(this::removeIndex)
+                .build();
+
+        this.hit = StorageMetrics.counter(meterRegistry, METRIC_NAME, "result", "hit");
+        this.miss = StorageMetrics.counter(meterRegistry, METRIC_NAME, "result", "miss");
+    }
+
+    @Override
+    public Optional<QuizWordTable> readByWordId(UUID wordId) {
+        UUID vocabularyId = vocabularyIdByWordId.get(wordId);
+        if (vocabularyId == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(localCache.getIfPresent(vocabularyId))
+                .filter(quizWordTable -> quizWordTable.contains(wordId));
+    }
+
+    // 같은 키의 생성은 Caffeine 이 한 번만 실행하고 나머지 호출은 결과를 기다림
+    @Override
+    public QuizWordTable readOrBuild(UUID vocabularyId, Supplier<QuizWordTable> builder) {
+        QuizWordTable cached = localCache.getIfPresent(vocabularyId);
+        if (cached != null) {
+            hit.increment();
+            return cached;
+        }
+
+        return localCache.get(vocabularyId, key -> {
+            miss.increment();
+            QuizWordTable quizWordTable = builder.get();
+            // 캐시에 올라가기 전에 역색인을 등록해 올라간 직후의 변경 이벤트도 테이블을 찾을 수 있게 함
+            quizWordTable.wordIds().forEach(wordId -> vocabularyIdByWordId.put(wordId, key));
+            return quizWordTable;
+        });
+    }
+
+    @Override
+    public void evict(UUID vocabularyId) {
+        localCache.invalidate(vocabularyId);
+    }
+
+    // 교체된 경우에는 새 테이블이 같은 단어를 이미 다시 등록했으므로 지우지 않음
+    private void removeIndex(UUID vocabularyId, QuizWordTable quizWordTable, RemovalCause cause) {
+        if (vocabularyId == null || quizWordTable == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+
+        quizWordTable.wordIds().forEach(wordId -> vocabularyIdByWordId.remove(wordId, vocabularyId));
+    }
+}
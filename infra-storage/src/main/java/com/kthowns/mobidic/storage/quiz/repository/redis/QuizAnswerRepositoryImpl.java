@@ -1,31 +1,212 @@
 package com.kthowns.mobidic.storage.quiz.repository.redis;
 
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
 import com.kthowns.mobidic.domain.quiz.repository.QuizAnswerRepository;
-import lombok.RequiredArgsConstructor;
+import com.kthowns.mobidic.storage.global.redis.RedisCircuitBreaker;
+import com.kthowns.mobidic.storage.global.redis.RedisCircuitBreakerRegistry;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * 퀴즈 정답은 Redis 에만 있으므로 대체 저장소가 없음
+ * Redis 가 응답하지 않으면 서킷을 열어 요청마다 명령 타임아웃을 기다리지 않고 바로 실패시킨다.
+ */
 @Repository
-@RequiredArgsConstructor
 public class QuizAnswerRepositoryImpl implements QuizAnswerRepository {
+    private static final String CIRCUIT_NAME = "quiz-answer";
+
+    // 문제 필드는 숫자 인덱스이므로 소유자 필드와 겹치지 않음
+    // 소유자 필드가 남아 있으면 해시가 비지 않아 Redis 가 키를 지우지 않으므로, 마지막 문제를 소비한 스크립트가 키를 직접 삭제
+    private static final String OWNER_FIELD = "owner";
+
+    private static final long NOT_FOUND = 0L;
+    private static final long NOT_OWNER = 1L;
+
+    // KEYS[1] = 세션 키, ARGV[1] = 문제 필드, ARGV[2] = 요청 사용자 (해시 값 직렬화 형식)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('HGET', KEYS[1], 'owner')
+            if not owner then
+                return {0}
+            end
+            if owner ~= ARGV[2] then
+                return {1}
+            end
+            local answer = redis.call('HGET', KEYS[1], ARGV[1])
+            if not answer then
+                return {0}
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            if redis.call('HLEN', KEYS[1]) <= 1 then
+                redis.call('DEL', KEYS[1])
+            end
+            return {2, answer}
+            """, List.class);
+
+    // KEYS[1] = 세션 키, ARGV[1] = 요청 사용자 (해시 값 직렬화 형식), ARGV[2..] = 문제 필드
+    // 응답의 정답 위치는 요청한 필드 순서와 같고, 없는 문제는 빈 문자열로 채움 (nil 은 Lua 배열을 끊으므로)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('HGET', KEYS[1], 'owner')
+            if not owner then
+                return {0}
+            end
+            if owner ~= ARGV[1] then
+                return {1}
+            end
+            local result = {2}
+            for i = 2, #ARGV do
+                local answer = redis.call('HGET', KEYS[1], ARGV[i])
+                if answer then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                    table.insert(result, answer)
+                else
+                    table.insert(result, '')
+                end
+            end
+            if redis.call('HLEN', KEYS[1]) <= 1 then
+                redis.call('DEL', KEYS[1])
+            end
+            return result
+            """, List.class);
+
     private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public QuizAnswerRepositoryImpl(
+            RedisTemplate<String, Object> objectRedisTemplate,
+            RedisCircuitBreakerRegistry redisCircuitBreakerRegistry
+    ) {
+        this.objectRedisTemplate = objectRedisTemplate;
+        this.circuitBreaker = redisCircuitBreakerRegistry.circuitBreaker(CIRCUIT_NAME);
+    }
 
     @Override
-    public void append(String key, QuizAnswer quizAnswer, long expMillis) {
-        objectRedisTemplate.opsForValue().set(key, quizAnswer, Duration.ofMillis(expMillis));
+    public void appendAll(String sessionKey, UUID userId, Map<String, QuizAnswer> quizAnswers, long expMillis) {
+        if (quizAnswers.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<>(quizAnswers);
+        fields.put(OWNER_FIELD, userId.toString());
+        Duration ttl = Duration.ofMillis(expMillis);
+
+        // 세션 하나당 해시 하나 + TTL 하나 (HSET, PEXPIRE 를 하나의 파이프라인으로 전송)
+        circuitBreaker.execute(() -> objectRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> stringKeyOperations = (RedisOperations<String, Object>) operations;
+                stringKeyOperations.opsForHash().putAll(sessionKey, fields);
+                stringKeyOperations.expire(sessionKey, ttl);
+                return null;
+            }
+        }));
     }
 
     @Override
-    public Optional<QuizAnswer> read(String key) {
-        return Optional.ofNullable((QuizAnswer) objectRedisTemplate.opsForValue().get(key));
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Optional<QuizAnswer> consume(String sessionKey, String field, UUID userId) {
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) objectRedisTemplate.getHashValueSerializer();
+
+        // 소유자 값은 저장 시와 동일한 직렬화기로 인코딩해야 스크립트 내 바이트 비교가 성립함
+        List<Object> result = circuitBreaker.execute(() -> (List<Object>) objectRedisTemplate.execute(
+                CONSUME_SCRIPT,
+                RedisSerializer.byteArray(),
+                (RedisSerializer) hashValueSerializer,
+                List.of(sessionKey),
+                RedisSerializer.string().serialize(field),
+                hashValueSerializer.serialize(userId.toString())
+        ));
+
+        long status = result == null || result.isEmpty() ? NOT_FOUND : (Long) result.getFirst();
+
+        if (status == NOT_OWNER) {
+            throw new ApiException(GeneralResponseCode.NO_QUIZ);
+        }
+
+        if (status == NOT_FOUND) {
+            return Optional.empty();
+        }
+
+        return Optional.of((QuizAnswer) result.get(1));
     }
 
     @Override
-    public void remove(String key) {
-        objectRedisTemplate.delete(key);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Map<String, QuizAnswer> consumeAll(String sessionKey, List<String> fields, UUID userId) {
+        if (fields.isEmpty()) {
+            return Map.of();
+        }
+
+        RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) objectRedisTemplate.getHashValueSerializer();
+
+        Object[] args = new Object[fields.size() + 1];
+        args[0] = hashValueSerializer.serialize(userId.toString());
+        for (int i = 0; i < fields.size(); i++) {
+            args[i + 1] = RedisSerializer.string().serialize(fields.get(i));
+        }
+
+        List<Object> result = circuitBreaker.execute(() -> (List<Object>) objectRedisTemplate.execute(
+                CONSUME_ALL_SCRIPT,
+                RedisSerializer.byteArray(),
+                (RedisSerializer) hashValueSerializer,
+                List.of(sessionKey),
+                args
+        ));
+
+        long status = result == null || result.isEmpty() ? NOT_FOUND : (Long) result.getFirst();
+
+        if (status == NOT_OWNER) {
+            throw new ApiException(GeneralResponseCode.NO_QUIZ);
+        }
+
+        if (status == NOT_FOUND) {
+            return Map.of();
+        }
+
+        Map<String, QuizAnswer> quizAnswers = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (result.get(i + 1) instanceof QuizAnswer quizAnswer) {
+                quizAnswers.put(fields.get(i), quizAnswer);
+            }
+        }
+
+        return quizAnswers;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean isOwnedBy(List<String> sessionKeys, UUID userId) {
+        if (sessionKeys.isEmpty()) {
+            return true;
+        }
+
+        // 세션별 소유자 HGET 을 하나의 파이프라인으로 전송
+        List<Object> owners = circuitBreaker.execute(() -> objectRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> stringKeyOperations = (RedisOperations<String, Object>) operations;
+                sessionKeys.forEach(sessionKey -> stringKeyOperations.opsForHash().get(sessionKey, OWNER_FIELD));
+                return null;
+            }
+        }, objectRedisTemplate.getHashValueSerializer()));
+
+        String owner = userId.toString();
+        return owners.stream().allMatch(sessionOwner -> sessionOwner == null || owner.equals(sessionOwner));
     }
 }
@@ -0,0 +1,60 @@
+package com.kthowns.mobidic.storage.quiz.serializer;
+
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.storage.global.serializer.RedisValueCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * QuizAnswer 바이너리 코덱
+ * 형식: [null 플래그 1B][userId 16B][wordId 16B][quizId 16B][answer (modified UTF-8)]
+ */
+@Component
+public class QuizAnswerCodec implements RedisValueCodec<QuizAnswer> {
+    private static final byte TYPE_ID = 0x01;
+
+    private static final int USER_ID_PRESENT = 1;
+    private static final int WORD_ID_PRESENT = 1 << 1;
+    private static final int QUIZ_ID_PRESENT = 1 << 2;
+    private static final int ANSWER_PRESENT = 1 << 3;
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<QuizAnswer> type() {
+        return QuizAnswer.class;
+    }
+
+    @Override
+    public void write(QuizAnswer value, DataOutput out) throws IOException {
+        int flags = (value.userId() != null ? USER_ID_PRESENT : 0)
+                | (value.wordId() != null ? WORD_ID_PRESENT : 0)
+                | (value.quizId() != null ? QUIZ_ID_PRESENT : 0)
+                | (value.answer() != null ? ANSWER_PRESENT : 0);
+        out.writeByte(flags);
+
+        if (value.userId() != null) RedisValueCodec.writeUuid(value.userId(), out);
+        if (value.wordId() != null) RedisValueCodec.writeUuid(value.wordId(), out);
+        if (value.quizId() != null) RedisValueCodec.writeUuid(value.quizId(), out);
+        if (value.answer() != null) out.writeUTF(value.answer());
+    }
+
+    @Override
+    public QuizAnswer read(DataInput in) throws IOException {
+        int flags = in.readUnsignedByte();
+
+        UUID userId = (flags & USER_ID_PRESENT) != 0 ? RedisValueCodec.readUuid(in) : null;
+        UUID wordId = (flags & WORD_ID_PRESENT) != 0 ? RedisValueCodec.readUuid(in) : null;
+        UUID quizId = (flags & QUIZ_ID_PRESENT) != 0 ? RedisValueCodec.readUuid(in) : null;
+        String answer = (flags & ANSWER_PRESENT) != 0 ? in.readUTF() : null;
+
+        return QuizAnswer.of(userId, wordId, quizId, answer);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kthowns.mobidic.storage.statistic.jpaentity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "applied_word_statistic_deltas", indexes = {
+        // 보관 기간이 지난 기록 정리용
+        @Index(name = "idx_applied_word_statistic_deltas_applied_at", columnList = "applied_at")
+})
+public class AppliedWordStatisticDeltaJpaEntity {
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "applied_at", updatable = false, nullable = false)
+    private Instant appliedAt;
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @EqualsAndHashCode
+    @Embeddable
+    public static class Key implements Serializable {
+        @Column(name = "batch_id", length = 36, updatable = false, nullable = false)
+        private String batchId;
+
+        @Column(name = "word_id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+        private UUID wordId;
+    }
+}
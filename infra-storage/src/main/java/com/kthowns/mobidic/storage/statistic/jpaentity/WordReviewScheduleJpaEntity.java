@@ -0,0 +1,90 @@
+package com.kthowns.mobidic.storage.statistic.jpaentity;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+import com.kthowns.mobidic.storage.global.jpaentity.BaseAuditingEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "word_review_schedules", indexes = {
+        // 사용자별 복습 대기열: (user_id, next_review_at) 범위 스캔으로 밀린 순서대로 N 개 조회
+        @Index(name = "idx_review_schedules_user_next_review", columnList = "user_id, next_review_at")
+})
+public class WordReviewScheduleJpaEntity extends BaseAuditingEntity {
+    @Id
+    @Column(name = "word_id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+    private UUID wordId;
+
+    @Column(name = "user_id", columnDefinition = "BINARY(16)", updatable = false, nullable = false)
+    private UUID userId;
+
+    @Column(name = "repetition", nullable = false)
+    private int repetition;
+
+    @Column(name = "ease_factor", nullable = false)
+    private double easeFactor;
+
+    @Column(name = "interval_days", nullable = false)
+    private int intervalDays;
+
+    @Column(name = "next_review_at", nullable = false)
+    private Instant nextReviewAt;
+
+    public static WordReviewScheduleJpaEntity createFromModel(ReviewSchedule reviewSchedule) {
+        return WordReviewScheduleJpaEntity.builder()
+                .wordId(reviewSchedule.wordId())
+                .userId(reviewSchedule.userId())
+                .repetition(reviewSchedule.repetition())
+                .easeFactor(reviewSchedule.easeFactor())
+                .intervalDays(reviewSchedule.intervalDays())
+                .nextReviewAt(reviewSchedule.nextReviewAt())
+                .build();
+    }
+
+    public void updateFromModel(ReviewSchedule reviewSchedule) {
+        this.repetition = reviewSchedule.repetition();
+        this.easeFactor = reviewSchedule.easeFactor();
+        this.intervalDays = reviewSchedule.intervalDays();
+        this.nextReviewAt = reviewSchedule.nextReviewAt();
+    }
+
+    public ReviewSchedule toModel() {
+        return new ReviewSchedule(
+                this.wordId,
+                this.userId,
+                this.repetition,
+                this.easeFactor,
+                this.intervalDays,
+                this.nextReviewAt
+        );
+    }
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private WordReviewScheduleJpaEntity(
+            UUID wordId,
+            UUID userId,
+            int repetition,
+            double easeFactor,
+            int intervalDays,
+            Instant nextReviewAt
+    ) {
+        this.wordId = wordId;
+        this.userId = userId;
+        this.repetition = repetition;
+        this.easeFactor = easeFactor;
+        this.intervalDays = intervalDays;
+        this.nextReviewAt = nextReviewAt;
+    }
+}
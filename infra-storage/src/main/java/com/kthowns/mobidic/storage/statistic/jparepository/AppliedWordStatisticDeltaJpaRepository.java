@@ -0,0 +1,30 @@
+package com.kthowns.mobidic.storage.statistic.jparepository;
+
+import com.kthowns.mobidic.storage.statistic.jpaentity.AppliedWordStatisticDeltaJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface AppliedWordStatisticDeltaJpaRepository
+        extends JpaRepository<AppliedWordStatisticDeltaJpaEntity, AppliedWordStatisticDeltaJpaEntity.Key> {
+    // 이미 기록된 단어면 0건
+    // ON DUPLICATE KEY UPDATE 는 드라이버 기본 설정(useAffectedRows=false)에서 중복도 1건으로 세므로 INSERT IGNORE 사용
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO applied_word_statistic_deltas (batch_id, word_id, applied_at)" +
+            " VALUES (:batchId, :wordId, :now)", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("batchId") String batchId,
+            @Param("wordId") UUID wordId,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("DELETE FROM AppliedWordStatisticDeltaJpaEntity a WHERE a.appliedAt < :appliedBefore")
+    int deleteAppliedBefore(
+            @Param("appliedBefore") Instant appliedBefore
+    );
+}
@@ -0,0 +1,82 @@
+package com.kthowns.mobidic.storage.statistic.jparepository;
+
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordReviewScheduleJpaEntity;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface WordReviewScheduleJpaRepository extends JpaRepository<WordReviewScheduleJpaEntity, UUID> {
+    @Query("SELECT r.wordId FROM WordReviewScheduleJpaEntity r" +
+            " WHERE r.userId = :userId AND r.wordId IN :wordIds")
+    List<UUID> findWordIds(
+            @Param("userId") UUID userId,
+            @Param("wordIds") Collection<UUID> wordIds
+    );
+
+    // 여러 트랜잭션이 같은 행을 잠글 때 교착 상태가 생기지 않도록 항상 같은 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM WordReviewScheduleJpaEntity r" +
+            " WHERE r.userId = :userId AND r.wordId IN :wordIds" +
+            " ORDER BY r.wordId")
+    List<WordReviewScheduleJpaEntity> findAllForUpdate(
+            @Param("userId") UUID userId,
+            @Param("wordIds") Collection<UUID> wordIds
+    );
+
+    // 처음 복습하는 단어의 일정 행을 만듦, 이미 있으면 값은 그대로 두고 행만 잠금
+    // 예정 시각은 같은 트랜잭션에서 복습 결과로 바로 덮어쓰므로 임시로 now
+    @Modifying
+    @Query(value = "INSERT INTO word_review_schedules" +
+            " (word_id, user_id, repetition, ease_factor, interval_days, next_review_at, created_at, updated_at)" +
+            " VALUES (:wordId, :userId, :repetition, :easeFactor, :intervalDays, :now, :now, :now)" +
+            " ON DUPLICATE KEY UPDATE word_id = word_id", nativeQuery = true)
+    int insertIfAbsent(
+            @Param("wordId") UUID wordId,
+            @Param("userId") UUID userId,
+            @Param("repetition") int repetition,
+            @Param("easeFactor") double easeFactor,
+            @Param("intervalDays") int intervalDays,
+            @Param("now") Instant now
+    );
+
+    // idx_review_schedules_user_next_review 를 next_review_at 순으로 읽다가 limit 개를 채우면 멈춤
+    // 학습 완료와 삭제 시 일정을 지우므로 조인 조건은 그 사이 경합으로 남은 행만 걸러냄
+    @Query("SELECT r.wordId FROM WordReviewScheduleJpaEntity r" +
+            " JOIN WordJpaEntity w ON w.id = r.wordId" +
+            " JOIN WordStatisticJpaEntity ws ON ws.wordId = r.wordId" +
+            " WHERE r.userId = :userId" +
+            " AND r.nextReviewAt <= :now" +
+            " AND ws.isLearned = false" +
+            " ORDER BY r.nextReviewAt ASC")
+    List<UUID> findDueWordIds(
+            @Param("userId") UUID userId,
+            @Param("now") Instant now,
+            Pageable pageable
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WordReviewScheduleJpaEntity r" +
+            " WHERE r.userId = :userId AND r.wordId IN :wordIds")
+    int deleteByUserIdAndWordIdIn(
+            @Param("userId") UUID userId,
+            @Param("wordIds") Collection<UUID> wordIds
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WordReviewScheduleJpaEntity r" +
+            " WHERE r.userId = :userId" +
+            " AND r.wordId IN (SELECT w.id FROM WordJpaEntity w WHERE w.vocabulary.id = :vocabularyId)")
+    int deleteByUserIdAndVocabularyId(
+            @Param("userId") UUID userId,
+            @Param("vocabularyId") UUID vocabularyId
+    );
+}
@@ -4,9 +4,12 @@ import com.kthowns.mobidic.storage.statistic.jpaentity.WordStatisticJpaEntity;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -49,6 +52,27 @@ public interface WordStatisticJpaRepository extends JpaRepository<WordStatisticJ
             @Param("userId") UUID userId
     );
 
+    // 여러 트랜잭션이 같은 행을 잠글 때 교착 상태가 생기지 않도록 항상 같은 순서로 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ws FROM WordStatisticJpaEntity ws" +
+            " WHERE ws.wordId IN :wordIds" +
+            " ORDER BY ws.wordId")
+    List<WordStatisticJpaEntity> findAllForUpdate(
+            @Param("wordIds") Collection<UUID> wordIds
+    );
+
+    // 학습 완료 토글의 배타 잠금과 순서를 맞추기 위한 공유 잠금, 잠금 순서는 findAllForUpdate 와 같음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT ws FROM WordStatisticJpaEntity ws" +
+            " JOIN WordJpaEntity w ON ws.wordId = w.id" +
+            " WHERE ws.wordId IN :wordIds" +
+            " AND w.vocabulary.userId = :userId" +
+            " ORDER BY ws.wordId")
+    List<WordStatisticJpaEntity> findOwnedForShare(
+            @Param("userId") UUID userId,
+            @Param("wordIds") Collection<UUID> wordIds
+    );
+
     @Query("SELECT ws FROM WordStatisticJpaEntity ws" +
             " JOIN WordJpaEntity w ON ws.wordId = w.id" +
             " WHERE w.id = :wordId" +
@@ -57,4 +81,30 @@ public interface WordStatisticJpaRepository extends JpaRepository<WordStatisticJ
             @Param("wordId") UUID wordId,
             @Param("userId") UUID userId
     );
+
+    // MySQL 은 SET 절을 왼쪽부터 평가하며 앞에서 바뀐 값을 뒤에서 참조하므로 카운터 컬럼은 마지막에 갱신
+    // 정확도/난이도 식은 WordStatistic.calculateAccuracy/calculateDifficulty 와 동일해야 함
+    // 같은 트랜잭션의 이후 조회가 갱신된 값을 읽도록 영속성 컨텍스트를 비움
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WordStatisticJpaEntity ws" +
+            " SET ws.accuracy = CASE" +
+            " WHEN (ws.correctCount + :correctDelta + ws.incorrectCount + :incorrectDelta) = 0 THEN 0.0" +
+            " ELSE (1.0 * (ws.correctCount + :correctDelta))" +
+            " / (ws.correctCount + :correctDelta + ws.incorrectCount + :incorrectDelta) END," +
+            " ws.difficulty = least(greatest(" +
+            "(-0.045 * (ws.correctCount + :correctDelta)) + (0.055 * (ws.incorrectCount + :incorrectDelta)) + 0.5" +
+            ", 0.0), 1.0)," +
+            " ws.updatedAt = :now," +
+            " ws.correctCount = ws.correctCount + :correctDelta," +
+            " ws.incorrectCount = ws.incorrectCount + :incorrectDelta" +
+            " WHERE ws.wordId = :wordId" +
+            " AND EXISTS (SELECT 1 FROM WordJpaEntity w" +
+            " WHERE w.id = :wordId AND w.vocabulary.userId = :userId)")
+    int increaseCounts(
+            @Param("wordId") UUID wordId,
+            @Param("userId") UUID userId,
+            @Param("correctDelta") long correctDelta,
+            @Param("incorrectDelta") long incorrectDelta,
+            @Param("now") Instant now
+    );
 }
@@ -0,0 +1,41 @@
+package com.kthowns.mobidic.storage.statistic.repository.jpa;
+
+import com.kthowns.mobidic.domain.statistic.repository.AppliedWordStatisticDeltaRepository;
+import com.kthowns.mobidic.storage.statistic.jparepository.AppliedWordStatisticDeltaJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class AppliedWordStatisticDeltaRepositoryImpl implements AppliedWordStatisticDeltaRepository {
+    private final AppliedWordStatisticDeltaJpaRepository appliedWordStatisticDeltaJpaRepository;
+
+    @Override
+    public Set<UUID> markApplied(String batchId, Collection<UUID> wordIds) {
+        Instant now = Instant.now();
+        Set<UUID> marked = new HashSet<>(wordIds.size());
+
+        // 같은 배치를 동시에 반영할 때 교착 상태가 생기지 않도록 항상 같은 순서로 기록
+        wordIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(wordId -> {
+                    if (appliedWordStatisticDeltaJpaRepository.insertIfAbsent(batchId, wordId, now) > 0) {
+                        marked.add(wordId);
+                    }
+                });
+
+        return marked;
+    }
+
+    @Override
+    public void deleteAppliedBefore(Instant appliedBefore) {
+        appliedWordStatisticDeltaJpaRepository.deleteAppliedBefore(appliedBefore);
+    }
+}
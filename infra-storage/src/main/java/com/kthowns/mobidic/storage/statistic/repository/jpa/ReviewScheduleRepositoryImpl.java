@@ -0,0 +1,72 @@
+package com.kthowns.mobidic.storage.statistic.repository.jpa;
+
+import com.kthowns.mobidic.domain.statistic.model.ReviewSchedule;
+import com.kthowns.mobidic.domain.statistic.repository.ReviewScheduleRepository;
+import com.kthowns.mobidic.storage.statistic.jpaentity.WordReviewScheduleJpaEntity;
+import com.kthowns.mobidic.storage.statistic.jparepository.WordReviewScheduleJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewScheduleRepositoryImpl implements ReviewScheduleRepository {
+    private final WordReviewScheduleJpaRepository wordReviewScheduleJpaRepository;
+
+    @Override
+    public List<ReviewSchedule> readOrCreateAllForUpdate(UUID userId, Collection<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 없는 행을 잠금 읽기하면 간격 잠금이 걸려 동시 INSERT 끼리 교착되므로 먼저 행을 만들고 나서 잠금
+        // INSERT ... ON DUPLICATE KEY UPDATE 는 그 사이 다른 트랜잭션이 만든 행이면 아무것도 바꾸지 않아 중복 키 오류가 없음
+        Set<UUID> existing = new HashSet<>(wordReviewScheduleJpaRepository.findWordIds(userId, wordIds));
+        Instant now = Instant.now();
+        wordIds.stream()
+                .filter(wordId -> !existing.contains(wordId))
+                .sorted()
+                .map(wordId -> ReviewSchedule.create(wordId, userId))
+                .forEach(initial -> wordReviewScheduleJpaRepository.insertIfAbsent(initial.wordId(), initial.userId(),
+                        initial.repetition(), initial.easeFactor(), initial.intervalDays(), now));
+
+        // 잠금 읽기는 다른 트랜잭션이 커밋한 최신 값을 읽으므로 같은 단어의 복습 결과를 잃지 않음
+        return wordReviewScheduleJpaRepository.findAllForUpdate(userId, wordIds).stream()
+                .map(WordReviewScheduleJpaEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void updateAll(List<ReviewSchedule> reviewSchedules) {
+        // 같은 트랜잭션에서 readOrCreateAllForUpdate 로 불러온 엔티티를 영속성 컨텍스트에서 재사용
+        reviewSchedules.forEach(reviewSchedule -> wordReviewScheduleJpaRepository.getReferenceById(reviewSchedule.wordId())
+                .updateFromModel(reviewSchedule));
+    }
+
+    @Override
+    public List<UUID> readDueWordIds(UUID userId, Instant now, int limit) {
+        return wordReviewScheduleJpaRepository.findDueWordIds(userId, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void deleteAllByWordIds(UUID userId, Collection<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return;
+        }
+
+        wordReviewScheduleJpaRepository.deleteByUserIdAndWordIdIn(userId, wordIds);
+    }
+
+    @Override
+    public void deleteAllByVocabularyId(UUID userId, UUID vocabularyId) {
+        wordReviewScheduleJpaRepository.deleteByUserIdAndVocabularyId(userId, vocabularyId);
+    }
+}
@@ -6,9 +6,12 @@ import com.kthowns.mobidic.domain.statistic.model.WordStatistic;
 import com.kthowns.mobidic.domain.statistic.repository.WordStatisticRepository;
 import com.kthowns.mobidic.storage.statistic.jpaentity.WordStatisticJpaEntity;
 import com.kthowns.mobidic.storage.statistic.jparepository.WordStatisticJpaRepository;
+import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +21,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WordStatisticRepositoryImpl implements WordStatisticRepository {
     private final WordStatisticJpaRepository wordStatisticJpaRepository;
+    private final VocabularyJpaRepository vocabularyJpaRepository;
 
     @Override
     public void append(WordStatistic wordStatistic) {
@@ -34,6 +38,34 @@ public class WordStatisticRepositoryImpl implements WordStatisticRepository {
         wordStatisticJpaEntity.updateFromModel(wordStatistic);
     }
 
+    @Override
+    public void updateAll(List<WordStatistic> wordStatistics) {
+        // 같은 트랜잭션에서 readAllForUpdate 로 불러온 엔티티를 영속성 컨텍스트에서 재사용
+        wordStatistics.forEach(wordStatistic -> wordStatisticJpaRepository.getReferenceById(wordStatistic.wordId())
+                .updateFromModel(wordStatistic));
+    }
+
+    @Override
+    public Optional<WordStatistic> increaseCounts(UUID wordId, UUID userId, long correctDelta, long incorrectDelta) {
+        // 학습 완료 토글, 지연 반영, 집계 보정과 같이 통계 행을 먼저 잠그고 단어장 행은 마지막에 갱신
+        // 다른 사용자의 단어면 0건이므로 단어장은 건드리지 않음
+        if (wordStatisticJpaRepository.increaseCounts(wordId, userId, correctDelta, incorrectDelta, Instant.now()) == 0) {
+            return Optional.empty();
+        }
+
+        // 통계 행 잠금을 쥐고 있으므로 같은 트랜잭션에서 읽은 증가 후 값에서 증가 전 정확도를 계산
+        WordStatistic increased = wordStatisticJpaRepository.findById(wordId)
+                .map(WordStatisticJpaEntity::toModel)
+                .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_STAT));
+        double accuracyDelta = increased.accuracy() - increased.accuracyBefore(correctDelta, incorrectDelta);
+
+        // 정확도가 그대로면(예: 정답만 이어지는 단어) 단어장 행을 잠그지 않음
+        if (accuracyDelta != 0.0) {
+            vocabularyJpaRepository.adjustAggregatesByWordId(wordId, 0, accuracyDelta);
+        }
+        return Optional.of(increased);
+    }
+
     @Override
     public Optional<WordStatistic> readByWordIdAndUserId(UUID wordId, UUID userId) {
         return wordStatisticJpaRepository.findByWordIdAndUserId(wordId, userId)
@@ -46,6 +78,17 @@ public class WordStatisticRepositoryImpl implements WordStatisticRepository {
                 .map(WordStatisticJpaEntity::toModel);
     }
 
+    @Override
+    public List<WordStatistic> readAllForUpdate(Collection<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return List.of();
+        }
+
+        return wordStatisticJpaRepository.findAllForUpdate(wordIds).stream()
+                .map(WordStatisticJpaEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<WordStatistic> readByVocabularyId(UUID vocabularyId, UUID userId) {
         return wordStatisticJpaRepository.findByVocabularyIdAndUserId(vocabularyId, userId).stream()
@@ -60,6 +103,17 @@ public class WordStatisticRepositoryImpl implements WordStatisticRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<WordStatistic> readOwnedForShare(UUID userId, Collection<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return List.of();
+        }
+
+        return wordStatisticJpaRepository.findOwnedForShare(userId, wordIds).stream()
+                .map(WordStatisticJpaEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public double calculateVocabularyLearningRate(UUID vocabularyId, UUID userId) {
         return wordStatisticJpaRepository.getVocabularyLearningRate(vocabularyId, userId);
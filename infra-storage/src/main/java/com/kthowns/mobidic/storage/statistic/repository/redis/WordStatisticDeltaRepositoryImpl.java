@@ -0,0 +1,269 @@
+package com.kthowns.mobidic.storage.statistic.repository.redis;
+
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDelta;
+import com.kthowns.mobidic.domain.statistic.model.WordStatisticDeltaBatch;
+import com.kthowns.mobidic.domain.statistic.repository.StatisticRedisKey;
+import com.kthowns.mobidic.domain.statistic.repository.WordStatisticDeltaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 대기 중인 증가분은 해시 하나(필드 = 단어 식별자:c|i)에 모으고, 꺼낼 때는 RENAME 으로 배치 키에 통째로 옮김
+ * 배치 키는 DB 반영이 확인된 단어만큼 지우고, 꺼낸 시각을 배치 목록(ZSET)에 남겨 확인되지 않은 배치를 다시 꺼낼 수 있게 함
+ * 스크립트가 다루는 키는 모두 KEYS 로 넘기고 같은 해시 태그를 쓰므로 Redis Cluster 에서도 한 슬롯에서 실행됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class WordStatisticDeltaRepositoryImpl implements WordStatisticDeltaRepository {
+    private static final String CORRECT_SUFFIX = ":c";
+    private static final String INCORRECT_SUFFIX = ":i";
+    private static final int RECLAIM_CANDIDATES = 10;
+
+    // KEYS[1] = 대기 해시, KEYS[2] = 새 배치 키, KEYS[3] = 배치 목록, ARGV[1] = 배치 식별자, ARGV[2] = 현재 시각(ms)
+    // RENAME 이후의 증가분은 새 대기 해시에 쌓이므로 꺼내는 사이의 증가분이 유실되지 않음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return {}
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // KEYS[1] = 배치 목록, KEYS[2] = 배치 키, ARGV[1] = 배치 식별자, ARGV[2] = 기준 시각(ms), ARGV[3] = 현재 시각(ms)
+    // 그 사이 다른 인스턴스가 먼저 다시 꺼냈으면(꺼낸 시각이 기준 이후) 빈 응답
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local claimedAt = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not claimedAt or tonumber(claimedAt) > tonumber(ARGV[2]) then
+                return {}
+            end
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                return {}
+            end
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // KEYS[1] = 배치 키, KEYS[2] = 배치 목록, ARGV[1] = 배치 식별자, ARGV[2..] = 반영된 필드
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV do
+                redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    @Override
+    public void increase(WordStatisticDelta delta) {
+        increaseAll(List.of(delta));
+    }
+
+    @Override
+    public void increaseAll(Collection<WordStatisticDelta> deltas) {
+        List<WordStatisticDelta> nonEmptyDeltas = deltas.stream()
+                .filter(delta -> !delta.isEmpty())
+                .toList();
+
+        if (nonEmptyDeltas.isEmpty()) {
+            return;
+        }
+
+        // 단어별 HINCRBY 를 하나의 파이프라인으로 전송
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                String pendingKey = StatisticRedisKey.PENDING.toString();
+                for (WordStatisticDelta delta : nonEmptyDeltas) {
+                    if (delta.correctCount() != 0) {
+                        stringOperations.opsForHash().increment(pendingKey, correctField(delta.wordId()), delta.correctCount());
+                    }
+                    if (delta.incorrectCount() != 0) {
+                        stringOperations.opsForHash().increment(pendingKey, incorrectField(delta.wordId()), delta.incorrectCount());
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    // 커밋 후 확인 전의 짧은 구간에는 DB 값과 배치 값이 함께 더해질 수 있음
+    @Override
+    public Map<UUID, WordStatisticDelta> readByWordIds(Collection<UUID> wordIds) {
+        if (wordIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> orderedIds = List.copyOf(wordIds);
+        List<Object> fields = new ArrayList<>(orderedIds.size() * 2);
+        orderedIds.forEach(wordId -> {
+            fields.add(correctField(wordId));
+            fields.add(incorrectField(wordId));
+        });
+
+        List<String> keys = new ArrayList<>();
+        keys.add(StatisticRedisKey.PENDING.toString());
+        Set<String> batchIds = stringRedisTemplate.opsForZSet().range(StatisticRedisKey.BATCHES.toString(), 0, -1);
+        if (batchIds != null) {
+            batchIds.forEach(batchId -> keys.add(batchKey(batchId)));
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                keys.forEach(key -> stringOperations.opsForHash().multiGet(key, fields));
+                return null;
+            }
+        });
+
+        Map<UUID, WordStatisticDelta> deltas = new HashMap<>();
+        for (Object result : results) {
+            List<?> counts = (List<?>) result;
+            for (int i = 0; i < orderedIds.size(); i++) {
+                WordStatisticDelta delta = WordStatisticDelta.of(
+                        orderedIds.get(i),
+                        parseCount(counts.get(i * 2)),
+                        parseCount(counts.get(i * 2 + 1))
+                );
+                if (!delta.isEmpty()) {
+                    deltas.merge(delta.wordId(), delta, WordStatisticDelta::plus);
+                }
+            }
+        }
+
+        return deltas;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<WordStatisticDeltaBatch> claim() {
+        String batchId = UUID.randomUUID().toString();
+
+        List<Object> entries = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(StatisticRedisKey.PENDING.toString(), batchKey(batchId), StatisticRedisKey.BATCHES.toString()),
+                batchId,
+                String.valueOf(System.currentTimeMillis())
+        );
+
+        return toBatch(batchId, entries);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<WordStatisticDeltaBatch> reclaim(Instant claimedBefore) {
+        long cutoff = claimedBefore.toEpochMilli();
+        Set<String> candidates = stringRedisTemplate.opsForZSet()
+                .rangeByScore(StatisticRedisKey.BATCHES.toString(), Double.NEGATIVE_INFINITY, cutoff, 0, RECLAIM_CANDIDATES);
+
+        if (candidates == null) {
+            return Optional.empty();
+        }
+
+        for (String batchId : candidates) {
+            List<Object> entries = stringRedisTemplate.execute(
+                    RECLAIM_SCRIPT,
+                    List.of(StatisticRedisKey.BATCHES.toString(), batchKey(batchId)),
+                    batchId,
+                    String.valueOf(cutoff),
+                    String.valueOf(System.currentTimeMillis())
+            );
+
+            Optional<WordStatisticDeltaBatch> batch = toBatch(batchId, entries);
+            if (batch.isPresent()) {
+                return batch;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public void acknowledge(String batchId, Collection<UUID> wordIds) {
+        Object[] args = new Object[wordIds.size() * 2 + 1];
+        args[0] = batchId;
+        int i = 1;
+        for (UUID wordId : wordIds) {
+            args[i++] = correctField(wordId);
+            args[i++] = incorrectField(wordId);
+        }
+
+        stringRedisTemplate.execute(
+                ACKNOWLEDGE_SCRIPT,
+                List.of(batchKey(batchId), StatisticRedisKey.BATCHES.toString()),
+                args
+        );
+    }
+
+    // HGETALL 응답(필드, 값 반복)을 단어별 증가분으로 묶음
+    private Optional<WordStatisticDeltaBatch> toBatch(String batchId, List<Object> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<UUID, WordStatisticDelta> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = (String) entries.get(i);
+            UUID wordId = UUID.fromString(field.substring(0, field.length() - CORRECT_SUFFIX.length()));
+            long count = parseCount(entries.get(i + 1));
+
+            WordStatisticDelta delta = field.endsWith(CORRECT_SUFFIX)
+                    ? WordStatisticDelta.of(wordId, count, 0)
+                    : WordStatisticDelta.of(wordId, 0, count);
+            deltas.merge(wordId, delta, WordStatisticDelta::plus);
+        }
+
+        List<WordStatisticDelta> nonEmptyDeltas = deltas.values().stream()
+                .filter(delta -> !delta.isEmpty())
+                .toList();
+
+        if (nonEmptyDeltas.isEmpty()) {
+            acknowledge(batchId, deltas.keySet());
+            return Optional.empty();
+        }
+
+        return Optional.of(WordStatisticDeltaBatch.of(batchId, nonEmptyDeltas));
+    }
+
+    private String batchKey(String batchId) {
+        return StatisticRedisKey.PROCESSING + ":" + batchId;
+    }
+
+    private String correctField(UUID wordId) {
+        return wordId + CORRECT_SUFFIX;
+    }
+
+    private String incorrectField(UUID wordId) {
+        return wordId + INCORRECT_SUFFIX;
+    }
+
+    private long parseCount(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
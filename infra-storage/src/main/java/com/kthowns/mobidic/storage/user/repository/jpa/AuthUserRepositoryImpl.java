@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
@@ -22,4 +23,12 @@ public class AuthUserRepositoryImpl implements AuthUserRepository {
     public Optional<User> readByKakaoId(Long kakaoId) {
         return userJpaRepository.findByKakaoId(kakaoId).map(UserJpaEntity::toModel);
     }
+
+    @Override
+    public void updatePassword(UUID userId, String encodedPassword) {
+        userJpaRepository.findById(userId).ifPresent(userJpaEntity -> {
+            userJpaEntity.updateFromModel(userJpaEntity.toModel().update(null, encodedPassword));
+            userJpaRepository.save(userJpaEntity);
+        });
+    }
 }
@@ -2,6 +2,8 @@ package com.kthowns.mobidic.storage.vocabulary.jpaentity;
 
 import com.kthowns.mobidic.domain.global.model.AuditTime;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
 import com.kthowns.mobidic.storage.global.jpaentity.BaseAuditingEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +15,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
@@ -38,6 +41,19 @@ public class VocabularyJpaEntity extends BaseAuditingEntity {
     @Column(name = "description")
     private String description;
 
+    // 학습 완료로 표시된 단어 수
+    @Column(name = "learned_count", nullable = false)
+    private long learnedCount;
+
+    // 단어별 정확도의 합 (평균 정확도 = accuracySum / wordCount)
+    @Column(name = "accuracy_sum", nullable = false)
+    private double accuracySum;
+
+    // 집계 컬럼 추가 이전에 만들어진 단어장은 컬럼 기본값(false)으로 남아 기동 시 한 번 다시 계산됨
+    @ColumnDefault("0")
+    @Column(name = "aggregate_backfilled", nullable = false)
+    private boolean aggregateBackfilled;
+
     public static VocabularyJpaEntity createFromModel(Vocabulary vocabulary) {
         return VocabularyJpaEntity.builder()
                 .userId(vocabulary.userId())
@@ -65,11 +81,28 @@ public class VocabularyJpaEntity extends BaseAuditingEntity {
         );
     }
 
+    public VocabularyDetail toDetailModel() {
+        VocabularyAggregate aggregate = toAggregateModel();
+        return new VocabularyDetail(toModel(), aggregate.learningRate(), aggregate.accuracy());
+    }
+
+    public VocabularyAggregate toAggregateModel() {
+        return VocabularyAggregate.of(this.id, this.wordCount, this.learnedCount, this.accuracySum);
+    }
+
+    public void updateAggregate(VocabularyAggregate aggregate) {
+        this.wordCount = aggregate.wordCount();
+        this.learnedCount = aggregate.learnedCount();
+        this.accuracySum = aggregate.accuracySum();
+        this.aggregateBackfilled = true;
+    }
+
     @Builder(access = AccessLevel.PRIVATE)
     private VocabularyJpaEntity(UUID userId, String title, String description, long wordCount) {
         this.userId = userId;
         this.title = title;
         this.description = description;
         this.wordCount = wordCount;
+        this.aggregateBackfilled = true;
     }
 }
@@ -0,0 +1,11 @@
+package com.kthowns.mobidic.storage.vocabulary.jparepository;
+
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface VocabularyAggregateJpaRepositoryCustom {
+    List<VocabularyAggregate> calculateAggregates(Collection<UUID> vocabularyIds);
+}
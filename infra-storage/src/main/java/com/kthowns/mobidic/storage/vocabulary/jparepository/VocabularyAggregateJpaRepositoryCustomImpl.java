@@ -0,0 +1,56 @@
+package com.kthowns.mobidic.storage.vocabulary.jparepository;
+
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
+import com.kthowns.mobidic.storage.statistic.jpaentity.QWordStatisticJpaEntity;
+import com.kthowns.mobidic.storage.vocabulary.jpaentity.QVocabularyJpaEntity;
+import com.kthowns.mobidic.storage.word.jpaentity.QWordJpaEntity;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class VocabularyAggregateJpaRepositoryCustomImpl implements VocabularyAggregateJpaRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    private final QVocabularyJpaEntity vocabulary = QVocabularyJpaEntity.vocabularyJpaEntity;
+    private final QWordStatisticJpaEntity wordStatistic = QWordStatisticJpaEntity.wordStatisticJpaEntity;
+    private final QWordJpaEntity word = QWordJpaEntity.wordJpaEntity;
+
+    @Override
+    public List<VocabularyAggregate> calculateAggregates(Collection<UUID> vocabularyIds) {
+        if (vocabularyIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .select(Projections.constructor(VocabularyAggregate.class,
+                        vocabulary.id,
+                        word.id.count(),
+                        new CaseBuilder()
+                                .when(wordStatistic.isLearned.isTrue()).then(1L)
+                                .otherwise(0L)
+                                .sum()
+                                .coalesce(0L),
+                        new CaseBuilder()
+                                .when(wordStatistic.correctCount.add(wordStatistic.incorrectCount).gt(0)) // 문제를 한 번이라도 풀었나?
+                                .then(
+                                        wordStatistic.correctCount.doubleValue()
+                                                .divide(wordStatistic.correctCount.add(wordStatistic.incorrectCount))
+                                )
+                                .otherwise(0.0)
+                                .sum()
+                                .coalesce(0.0)
+                ))
+                .from(vocabulary)
+                .leftJoin(word).on(word.vocabulary.id.eq(vocabulary.id))
+                .leftJoin(wordStatistic).on(wordStatistic.wordId.eq(word.id))
+                .where(vocabulary.id.in(vocabularyIds))
+                .groupBy(vocabulary.id)
+                .fetch();
+    }
+}
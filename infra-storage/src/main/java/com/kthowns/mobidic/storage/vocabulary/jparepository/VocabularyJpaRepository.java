@@ -2,6 +2,7 @@ package com.kthowns.mobidic.storage.vocabulary.jparepository;
 
 import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,11 +10,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface VocabularyJpaRepository extends JpaRepository<VocabularyJpaEntity, UUID>, VocabularyDetailJpaRepositoryCustom {
+public interface VocabularyJpaRepository extends JpaRepository<VocabularyJpaEntity, UUID>, VocabularyAggregateJpaRepositoryCustom {
     Optional<VocabularyJpaEntity> findByIdAndUserId(UUID id, UUID userId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -42,12 +45,60 @@ public interface VocabularyJpaRepository extends JpaRepository<VocabularyJpaEnti
             @Param("userId") UUID userId
     );
 
+    // 삭제되는 단어의 학습 여부와 정확도만큼 집계값도 함께 차감
     @Modifying
     @Query("UPDATE VocabularyJpaEntity v" +
-            " SET v.wordCount = v.wordCount - 1" +
+            " SET v.wordCount = v.wordCount - 1," +
+            " v.learnedCount = v.learnedCount - COALESCE((SELECT CASE WHEN ws.isLearned = true THEN 1 ELSE 0 END" +
+            " FROM WordStatisticJpaEntity ws WHERE ws.wordId = :wordId), 0)," +
+            " v.accuracySum = v.accuracySum - COALESCE((SELECT ws.accuracy" +
+            " FROM WordStatisticJpaEntity ws WHERE ws.wordId = :wordId), 0.0)" +
             " WHERE v.id = :vocabularyId and v.userId = :userId and v.wordCount > 0")
     void decreaseWordCount(
             @Param("vocabularyId") UUID vocabularyId,
+            @Param("wordId") UUID wordId,
             @Param("userId") UUID userId
     );
+
+    @Modifying
+    @Query("UPDATE VocabularyJpaEntity v" +
+            " SET v.learnedCount = v.learnedCount + :learnedDelta," +
+            " v.accuracySum = v.accuracySum + :accuracyDelta" +
+            " WHERE v.id = (SELECT w.vocabulary.id FROM WordJpaEntity w WHERE w.id = :wordId)")
+    void adjustAggregatesByWordId(
+            @Param("wordId") UUID wordId,
+            @Param("learnedDelta") long learnedDelta,
+            @Param("accuracyDelta") double accuracyDelta
+    );
+
+    List<VocabularyJpaEntity> findAllByUserId(UUID userId);
+
+    @Query("SELECT v.userId FROM VocabularyJpaEntity v WHERE v.id = :id")
+    Optional<UUID> findUserIdById(
+            @Param("id") UUID id
+    );
+
+    @Query("SELECT DISTINCT w.vocabulary.userId FROM WordJpaEntity w WHERE w.id IN :wordIds")
+    List<UUID> findUserIdsByWordIds(
+            @Param("wordIds") Collection<UUID> wordIds
+    );
+
+    @Query("SELECT v FROM VocabularyJpaEntity v" +
+            " WHERE :lastId IS NULL OR v.id > :lastId" +
+            " ORDER BY v.id")
+    List<VocabularyJpaEntity> findPageAfter(
+            @Param("lastId") UUID lastId,
+            Pageable pageable
+    );
+
+    @Query("SELECT v.id FROM VocabularyJpaEntity v" +
+            " WHERE v.aggregateBackfilled = false" +
+            " ORDER BY v.id")
+    List<UUID> findNotBackfilledIds(Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM VocabularyJpaEntity v WHERE v.id = :id")
+    Optional<VocabularyJpaEntity> findByIdForUpdate(
+            @Param("id") UUID id
+    );
 }
@@ -0,0 +1,232 @@
+package com.kthowns.mobidic.storage.vocabulary.repository.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyDetailCacheRepository;
+import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyRedisKey;
+import com.kthowns.mobidic.storage.global.cache.TwoLevelCacheCounters;
+import com.kthowns.mobidic.storage.vocabulary.serializer.VocabularyDetailList;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * L1: 인스턴스 로컬 캐시 (Caffeine), L2: Redis (선택)
+ * 무효화 이벤트는 이 인스턴스의 L1 과 공유 L2 만 지우므로 다른 인스턴스의 L1 은 짧은 TTL 로 만료되도록 둔다.
+ * 조회 도중 무효화된 경우 조회 결과로 채우지 않도록 L1 은 무효화 순번, L2 는 세대 키로 확인한다.
+ * 지표: vocabulary.detail.cache{level=local|redis, result=hit|miss}
+ */
+@Repository
+@Slf4j
+public class VocabularyDetailCacheRepositoryImpl implements VocabularyDetailCacheRepository {
+    private static final String METRIC_NAME = "vocabulary.detail.cache";
+    // 무효화 표식 보관 시간, 이보다 오래 걸리는 조회는 고려하지 않음
+    private static final Duration EVICTION_MARK_TTL = Duration.ofMinutes(1);
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    // KEYS[1] = 세대 키
+    private static final RedisScript<Long> GENERATION_SCRIPT = new DefaultRedisScript<>("""
+            return tonumber(redis.call('GET', KEYS[1]) or '0')
+            """, Long.class);
+
+    // KEYS[1] = 값 키, KEYS[2] = 세대 키, ARGV[1] = 조회 전 세대, ARGV[2] = 값, ARGV[3] = TTL (ms)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 값 키, KEYS[2] = 세대 키, ARGV[1] = 세대 키 TTL (ms)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final Cache<UUID, List<VocabularyDetail>> localCache;
+    // 사용자별 마지막 무효화 순번, 조회 시작 이후 무효화된 사용자는 L1 에 채우지 않음
+    private final Cache<UUID, Long> localEvictions;
+    private final AtomicLong evictionSequence = new AtomicLong();
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+
+    private final TwoLevelCacheCounters counters;
+
+    public VocabularyDetailCacheRepositoryImpl(
+            RedisTemplate<String, Object> objectRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${vocabulary.detail-cache.local-ttl-seconds:10}") long localTtlSeconds,
+            @Value("${vocabulary.detail-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${vocabulary.detail-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${vocabulary.detail-cache.redis-ttl-seconds:600}") long redisTtlSeconds
+    ) {
+        this.objectRedisTemplate = objectRedisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(localMaxSize)
+                .build();
+        this.localEvictions = Caffeine.newBuilder()
+                .expireAfterWrite(EVICTION_MARK_TTL)
+                .build();
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.counters = TwoLevelCacheCounters.of(meterRegistry, METRIC_NAME);
+    }
+
+    @Override
+    public Optional<List<VocabularyDetail>> readByUserId(UUID userId) {
+        long startedAt = evictionSequence.get();
+
+        List<VocabularyDetail> local = localCache.getIfPresent(userId);
+        if (local != null) {
+            counters.localHit().increment();
+            return Optional.of(local);
+        }
+        counters.localMiss().increment();
+
+        return readRedis(userId, startedAt);
+    }
+
+    @Override
+    public List<VocabularyDetail> readOrLoad(UUID userId, Supplier<List<VocabularyDetail>> loader) {
+        // 순번과 세대는 DB 조회 전에 읽어야 조회 도중의 무효화를 알아챌 수 있음
+        long startedAt = evictionSequence.get();
+
+        List<VocabularyDetail> local = localCache.getIfPresent(userId);
+        if (local != null) {
+            counters.localHit().increment();
+            return local;
+        }
+        counters.localMiss().increment();
+
+        Long redisGeneration = null;
+        if (redisEnabled) {
+            Optional<List<VocabularyDetail>> cached = readRedis(userId, startedAt);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            redisGeneration = readRedisGeneration(userId);
+        }
+
+        List<VocabularyDetail> details = List.copyOf(loader.get());
+        putLocal(userId, details, startedAt);
+
+        // 세대를 읽지 못했으면 무효화 여부를 확인할 수 없으므로 L2 에는 채우지 않음
+        if (redisGeneration != null) {
+            saveRedis(userId, details, redisGeneration);
+        }
+
+        return details;
+    }
+
+    @Override
+    public void evict(UUID userId) {
+        // 표식을 먼저 남겨야 진행 중인 조회가 무효화 이후에 L1 을 다시 채우지 않음
+        localEvictions.put(userId, evictionSequence.incrementAndGet());
+        localCache.invalidate(userId);
+
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            objectRedisTemplate.execute(
+                    EVICT_SCRIPT,
+                    RedisSerializer.byteArray(),
+                    LONG_SERIALIZER,
+                    List.of(key(userId), generationKey(userId)),
+                    RedisSerializer.string().serialize(String.valueOf(redisTtl.toMillis()))
+            );
+        } catch (Exception e) {
+            log.error("Redis evict failed for vocabulary details. Stale until TTL. userId: {}", userId, e);
+        }
+    }
+
+    private Optional<List<VocabularyDetail>> readRedis(UUID userId, long startedAt) {
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+
+        try {
+            if (objectRedisTemplate.opsForValue().get(key(userId)) instanceof VocabularyDetailList cached) {
+                counters.redisHit().increment();
+                putLocal(userId, cached.details(), startedAt);
+                return Optional.of(cached.details());
+            }
+        } catch (Exception e) {
+            log.warn("Redis read failed for vocabulary details. Falling back to DB. userId: {}", userId, e);
+        }
+        counters.redisMiss().increment();
+
+        return Optional.empty();
+    }
+
+    private Long readRedisGeneration(UUID userId) {
+        try {
+            return objectRedisTemplate.execute(GENERATION_SCRIPT, List.of(generationKey(userId)));
+        } catch (Exception e) {
+            log.warn("Redis generation read failed for vocabulary details. Skip filling. userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    private void saveRedis(UUID userId, List<VocabularyDetail> details, long generation) {
+        try {
+            objectRedisTemplate.execute(
+                    SAVE_SCRIPT,
+                    RedisSerializer.byteArray(),
+                    LONG_SERIALIZER,
+                    List.of(key(userId), generationKey(userId)),
+                    RedisSerializer.string().serialize(String.valueOf(generation)),
+                    serializeValue(new VocabularyDetailList(details)),
+                    RedisSerializer.string().serialize(String.valueOf(redisTtl.toMillis()))
+            );
+        } catch (Exception e) {
+            log.warn("Redis write failed for vocabulary details. userId: {}", userId, e);
+        }
+    }
+
+    // 무효화 표식 갱신과 같은 잠금 안에서 확인 후 채워야 확인과 채우기 사이에 무효화가 끼어들지 않음
+    private void putLocal(UUID userId, List<VocabularyDetail> details, long startedAt) {
+        localEvictions.asMap().compute(userId, (id, evictedAt) -> {
+            if (evictedAt == null || evictedAt <= startedAt) {
+                localCache.put(id, details);
+            }
+            return evictedAt;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serializeValue(Object value) {
+        return ((RedisSerializer<Object>) objectRedisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    // 값 키와 세대 키는 같은 해시 태그로 묶어 클러스터에서도 한 스크립트로 다룸
+    private String key(UUID userId) {
+        return VocabularyRedisKey.DETAILS + ":{" + userId + "}";
+    }
+
+    private String generationKey(UUID userId) {
+        return key(userId) + ":generation";
+    }
+
+}
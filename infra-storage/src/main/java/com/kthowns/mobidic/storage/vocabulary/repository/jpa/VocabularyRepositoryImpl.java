@@ -3,13 +3,16 @@ package com.kthowns.mobidic.storage.vocabulary.repository.jpa;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyAggregate;
 import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
 import com.kthowns.mobidic.domain.vocabulary.repository.VocabularyRepository;
 import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
 import com.kthowns.mobidic.storage.vocabulary.jparepository.VocabularyJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,7 +24,9 @@ public class VocabularyRepositoryImpl implements VocabularyRepository {
 
     @Override
     public List<VocabularyDetail> readDetailsByUserId(UUID userId) {
-        return vocabularyJpaRepository.findVocabularyDetails(userId);
+        return vocabularyJpaRepository.findAllByUserId(userId).stream()
+                .map(VocabularyJpaEntity::toDetailModel)
+                .toList();
     }
 
     @Override
@@ -38,7 +43,8 @@ public class VocabularyRepositoryImpl implements VocabularyRepository {
 
     @Override
     public Optional<VocabularyDetail> readDetailById(UUID vocabularyId, UUID userId) {
-        return vocabularyJpaRepository.findVocabularyDetail(vocabularyId, userId);
+        return vocabularyJpaRepository.findByIdAndUserId(vocabularyId, userId)
+                .map(VocabularyJpaEntity::toDetailModel);
     }
 
     @Override
@@ -46,6 +52,16 @@ public class VocabularyRepositoryImpl implements VocabularyRepository {
         return vocabularyJpaRepository.existsByIdAndUserId(vocabularyId, userId);
     }
 
+    @Override
+    public Optional<UUID> readUserIdById(UUID vocabularyId) {
+        return vocabularyJpaRepository.findUserIdById(vocabularyId);
+    }
+
+    @Override
+    public List<UUID> readUserIdsByWordIds(Collection<UUID> wordIds) {
+        return vocabularyJpaRepository.findUserIdsByWordIds(wordIds);
+    }
+
     @Override
     public void delete(UUID vocabularyId, UUID userId) {
         VocabularyJpaEntity vocabularyJpaEntity = vocabularyJpaRepository.findByIdAndUserId(vocabularyId, userId)
@@ -59,8 +75,44 @@ public class VocabularyRepositoryImpl implements VocabularyRepository {
     }
 
     @Override
-    public void decreaseWordCount(UUID vocabularyId, UUID userId) {
-        vocabularyJpaRepository.decreaseWordCount(vocabularyId, userId);
+    public void decreaseWordCount(UUID vocabularyId, UUID wordId, UUID userId) {
+        vocabularyJpaRepository.decreaseWordCount(vocabularyId, wordId, userId);
+    }
+
+    @Override
+    public void adjustAggregatesByWordId(UUID wordId, long learnedDelta, double accuracyDelta) {
+        vocabularyJpaRepository.adjustAggregatesByWordId(wordId, learnedDelta, accuracyDelta);
+    }
+
+    @Override
+    public List<VocabularyAggregate> readAggregates(UUID lastVocabularyId, int limit) {
+        return vocabularyJpaRepository.findPageAfter(lastVocabularyId, PageRequest.ofSize(limit)).stream()
+                .map(VocabularyJpaEntity::toAggregateModel)
+                .toList();
+    }
+
+    @Override
+    public List<UUID> readNotBackfilledIds(int limit) {
+        return vocabularyJpaRepository.findNotBackfilledIds(PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public Optional<VocabularyAggregate> readAggregateForUpdate(UUID vocabularyId) {
+        return vocabularyJpaRepository.findByIdForUpdate(vocabularyId)
+                .map(VocabularyJpaEntity::toAggregateModel);
+    }
+
+    @Override
+    public List<VocabularyAggregate> calculateAggregates(Collection<UUID> vocabularyIds) {
+        return vocabularyJpaRepository.calculateAggregates(vocabularyIds);
+    }
+
+    @Override
+    public void updateAggregate(VocabularyAggregate vocabularyAggregate) {
+        VocabularyJpaEntity vocabularyJpaEntity = vocabularyJpaRepository.findById(vocabularyAggregate.vocabularyId())
+                .orElseThrow(() -> new ApiException(GeneralResponseCode.NO_VOCAB));
+
+        vocabularyJpaEntity.updateAggregate(vocabularyAggregate);
     }
 
     @Override
@@ -0,0 +1,14 @@
+package com.kthowns.mobidic.storage.vocabulary.serializer;
+
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+
+import java.util.List;
+
+/**
+ * 사용자별 단어장 상세 목록을 하나의 Redis 값으로 저장하기 위한 래퍼
+ * 코덱은 정확한 클래스로 선택되므로 List 구현체 대신 이 타입으로 저장
+ */
+public record VocabularyDetailList(
+        List<VocabularyDetail> details
+) {
+}
@@ -0,0 +1,110 @@
+package com.kthowns.mobidic.storage.vocabulary.serializer;
+
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+import com.kthowns.mobidic.storage.global.serializer.RedisValueCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * VocabularyDetailList 바이너리 코덱
+ * 형식: [개수 4B] 이후 항목마다
+ * [null 플래그 1B][id 16B][userId 16B][title][description][wordCount 8B]
+ * [createdAt 12B][updatedAt 12B][learningRate 8B][accuracy 8B]
+ */
+@Component
+public class VocabularyDetailListCodec implements RedisValueCodec<VocabularyDetailList> {
+    private static final byte TYPE_ID = 0x02;
+
+    private static final int ID_PRESENT = 1;
+    private static final int USER_ID_PRESENT = 1 << 1;
+    private static final int TITLE_PRESENT = 1 << 2;
+    private static final int DESCRIPTION_PRESENT = 1 << 3;
+    private static final int CREATED_AT_PRESENT = 1 << 4;
+    private static final int UPDATED_AT_PRESENT = 1 << 5;
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public Class<VocabularyDetailList> type() {
+        return VocabularyDetailList.class;
+    }
+
+    @Override
+    public void write(VocabularyDetailList value, DataOutput out) throws IOException {
+        out.writeInt(value.details().size());
+
+        for (VocabularyDetail detail : value.details()) {
+            Vocabulary vocabulary = detail.vocabulary();
+            Instant createdAt = vocabulary.auditTime() != null ? vocabulary.auditTime().createdAt() : null;
+            Instant updatedAt = vocabulary.auditTime() != null ? vocabulary.auditTime().updatedAt() : null;
+
+            int flags = (vocabulary.id() != null ? ID_PRESENT : 0)
+                    | (vocabulary.userId() != null ? USER_ID_PRESENT : 0)
+                    | (vocabulary.title() != null ? TITLE_PRESENT : 0)
+                    | (vocabulary.description() != null ? DESCRIPTION_PRESENT : 0)
+                    | (createdAt != null ? CREATED_AT_PRESENT : 0)
+                    | (updatedAt != null ? UPDATED_AT_PRESENT : 0);
+            out.writeByte(flags);
+
+            if (vocabulary.id() != null) RedisValueCodec.writeUuid(vocabulary.id(), out);
+            if (vocabulary.userId() != null) RedisValueCodec.writeUuid(vocabulary.userId(), out);
+            if (vocabulary.title() != null) out.writeUTF(vocabulary.title());
+            if (vocabulary.description() != null) out.writeUTF(vocabulary.description());
+            out.writeLong(vocabulary.wordCount());
+            if (createdAt != null) writeInstant(createdAt, out);
+            if (updatedAt != null) writeInstant(updatedAt, out);
+            out.writeDouble(detail.learningRate());
+            out.writeDouble(detail.accuracy());
+        }
+    }
+
+    @Override
+    public VocabularyDetailList read(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<VocabularyDetail> details = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            int flags = in.readUnsignedByte();
+
+            UUID id = (flags & ID_PRESENT) != 0 ? RedisValueCodec.readUuid(in) : null;
+            UUID userId = (flags & USER_ID_PRESENT) != 0 ? RedisValueCodec.readUuid(in) : null;
+            String title = (flags & TITLE_PRESENT) != 0 ? in.readUTF() : null;
+            String description = (flags & DESCRIPTION_PRESENT) != 0 ? in.readUTF() : null;
+            long wordCount = in.readLong();
+            Instant createdAt = (flags & CREATED_AT_PRESENT) != 0 ? readInstant(in) : null;
+            Instant updatedAt = (flags & UPDATED_AT_PRESENT) != 0 ? readInstant(in) : null;
+            double learningRate = in.readDouble();
+            double accuracy = in.readDouble();
+
+            AuditTime auditTime = createdAt != null || updatedAt != null ? AuditTime.of(createdAt, updatedAt) : null;
+            details.add(new VocabularyDetail(
+                    new Vocabulary(id, userId, title, description, wordCount, auditTime),
+                    learningRate,
+                    accuracy
+            ));
+        }
+
+        return new VocabularyDetailList(details);
+    }
+
+    private static void writeInstant(Instant instant, DataOutput out) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInput in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
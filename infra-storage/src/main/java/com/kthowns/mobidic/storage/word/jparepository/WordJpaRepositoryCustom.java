@@ -1,10 +1,18 @@
 package com.kthowns.mobidic.storage.word.jparepository;
 
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface WordJpaRepositoryCustom {
     List<WordDetail> findWordDetailsByVocabularyId(UUID userId, UUID vocabularyId, boolean notLearned);
+
+    List<WordDetail> findWordDetailsByVocabularyIdAfter(UUID userId, UUID vocabularyId, WordCursor cursor, int limit);
+
+    List<WordDetail> sampleWordDetails(UUID userId, UUID vocabularyId, int size, WordSampling sampling);
+
+    List<WordDetail> findWordDetailsNotLearnedByIds(UUID userId, UUID vocabularyId, List<UUID> wordIds);
 }
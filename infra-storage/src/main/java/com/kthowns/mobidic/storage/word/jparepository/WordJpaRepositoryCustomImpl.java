@@ -1,82 +1,231 @@
 package com.kthowns.mobidic.storage.word.jparepository;
 
 import com.kthowns.mobidic.domain.definition.model.Definition;
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
-import com.kthowns.mobidic.storage.definition.jpaentity.DefinitionJpaEntity;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import com.kthowns.mobidic.storage.definition.jpaentity.QDefinitionJpaEntity;
 import com.kthowns.mobidic.storage.statistic.jpaentity.QWordStatisticJpaEntity;
 import com.kthowns.mobidic.storage.word.jpaentity.QWordJpaEntity;
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class WordJpaRepositoryCustomImpl implements WordJpaRepositoryCustom {
+    // 난이도가 0 인 단어도 가끔은 출제되도록 가중치 하한
+    private static final double MIN_SAMPLING_WEIGHT = 0.05;
+
     private final JPAQueryFactory queryFactory;
 
     private final QWordJpaEntity word = QWordJpaEntity.wordJpaEntity;
     private final QWordStatisticJpaEntity wordStatistic = QWordStatisticJpaEntity.wordStatisticJpaEntity;
     private final QDefinitionJpaEntity definition = QDefinitionJpaEntity.definitionJpaEntity;
 
+    // Tuple 에서 같은 인스턴스로 꺼내야 하므로 필드로 보관
+    private final NumberExpression<Double> difficulty = wordStatistic.difficulty.coalesce(0.5);
+    private final NumberExpression<Double> accuracy = wordStatistic.accuracy.coalesce(0.0);
+    private final BooleanExpression isLearned = wordStatistic.isLearned.coalesce(false);
+
+    private final Expression<?>[] wordColumns = {
+            word.id, word.expression, difficulty, accuracy, isLearned, word.createdAt, word.updatedAt
+    };
+    private final Expression<?>[] wordWithDefinitionColumns = {
+            word.id, word.expression, difficulty, accuracy, isLearned, word.createdAt, word.updatedAt,
+            definition.id, definition.meaning, definition.part, definition.createdAt, definition.updatedAt
+    };
+
+    // 단어 x 뜻 평탄 조인을 한 번에 조회하고, 단어 순으로 정렬된 행을 스트리밍하면서 단어마다 WordDetail 을 한 번만 생성
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 행 단위로 스트리밍하고, 그 외에는 결과 전체를 메모리에 올림
+    // 단어 컬럼은 뜻 행마다 반복되어 전송되므로 뜻이 많은 단어장일수록 전송량이 단어/뜻 두 번 조회보다 커짐
     @Override
     public List<WordDetail> findWordDetailsByVocabularyId(UUID userId, UUID vocabularyId, boolean notLearned) {
-        List<WordDetail> wordDetails = queryFactory
-                .select(Projections.constructor(WordDetail.class,
-                        word.id,
-                        word.expression,
-                        wordStatistic.difficulty.coalesce(0.5),
-                        wordStatistic.accuracy.coalesce(0.0),
-                        wordStatistic.isLearned.coalesce(false),
-                        Expressions.constant(new ArrayList<Definition>()), // 빈 리스트 (도메인 모델 Definition 사용)
-                        word.createdAt,
-                        word.updatedAt
-                ))
+        try (Stream<Tuple> rows = queryFactory
+                .select(wordWithDefinitionColumns)
                 .from(word)
                 .leftJoin(wordStatistic).on(wordStatistic.wordId.eq(word.id))
+                .leftJoin(definition).on(definition.word.id.eq(word.id))
                 .where(
                         word.vocabulary.id.eq(vocabularyId),
                         word.vocabulary.userId.eq(userId),
                         isNotLearned(notLearned)
                 )
+                .orderBy(word.createdAt.asc(), word.id.asc(), definition.createdAt.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)
+                .stream()) {
+            return foldByWord(rows.iterator());
+        }
+    }
+
+    // (createdAt, id) 키셋 조건으로 OFFSET 없이 페이지를 조회하고 뜻은 해당 페이지의 단어만 조회
+    // 조인 행 수로는 단어 수를 제한할 수 없으므로 페이지는 단어/뜻 두 번으로 나누어 조회
+    @Override
+    public List<WordDetail> findWordDetailsByVocabularyIdAfter(UUID userId, UUID vocabularyId, WordCursor cursor, int limit) {
+        List<Tuple> wordRows = queryFactory
+                .select(wordColumns)
+                .from(word)
+                .leftJoin(wordStatistic).on(wordStatistic.wordId.eq(word.id))
+                .where(
+                        word.vocabulary.id.eq(vocabularyId),
+                        word.vocabulary.userId.eq(userId),
+                        isAfter(cursor)
+                )
+                .orderBy(word.createdAt.asc(), word.id.asc())
+                .limit(limit)
                 .fetch();
 
-        List<UUID> wordIds = wordDetails.stream()
-                .map(WordDetail::id)
-                .toList();
+        return withDefinitions(wordRows);
+    }
 
-        if (wordIds.isEmpty()) {
+    // 정렬 키가 가장 작은 size 개만 남기므로 애플리케이션 메모리와 응답 크기는 단어장 크기가 아닌 size 에 비례
+    @Override
+    public List<WordDetail> sampleWordDetails(UUID userId, UUID vocabularyId, int size, WordSampling sampling) {
+        List<Tuple> wordRows = queryFactory
+                .select(wordColumns)
+                .from(word)
+                .leftJoin(wordStatistic).on(wordStatistic.wordId.eq(word.id))
+                .where(
+                        word.vocabulary.id.eq(vocabularyId),
+                        word.vocabulary.userId.eq(userId),
+                        isNotLearned(true)
+                )
+                .orderBy(samplingKey(sampling).asc())
+                .limit(size)
+                .fetch();
+
+        return withDefinitions(wordRows);
+    }
+
+    // vocabularyId 가 null 이면 사용자의 모든 단어장에서 조회
+    @Override
+    public List<WordDetail> findWordDetailsNotLearnedByIds(UUID userId, UUID vocabularyId, List<UUID> wordIds) {
+        List<Tuple> wordRows = queryFactory
+                .select(wordColumns)
+                .from(word)
+                .leftJoin(wordStatistic).on(wordStatistic.wordId.eq(word.id))
+                .where(
+                        word.id.in(wordIds),
+                        vocabularyId == null ? null : word.vocabulary.id.eq(vocabularyId),
+                        word.vocabulary.userId.eq(userId),
+                        isNotLearned(true)
+                )
+                .fetch();
+
+        return withDefinitions(wordRows);
+    }
+
+    // 단어 행에 해당 단어들의 뜻만 IN 으로 조회하여 붙임
+    private List<WordDetail> withDefinitions(List<Tuple> wordRows) {
+        if (wordRows.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<DefinitionJpaEntity> definitions = queryFactory
-                .selectFrom(definition)
-                .where(definition.word.id.in(wordIds))
+        Map<UUID, List<Definition>> definitionMap = new HashMap<>(wordRows.size() * 2);
+        List<Tuple> definitionRows = queryFactory
+                .select(definition.word.id, definition.id, definition.meaning, definition.part,
+                        definition.createdAt, definition.updatedAt)
+                .from(definition)
+                .where(definition.word.id.in(wordRows.stream().map(row -> row.get(word.id)).toList()))
+                .orderBy(definition.createdAt.asc())
                 .fetch();
+        for (Tuple row : definitionRows) {
+            UUID wordId = row.get(definition.word.id);
+            definitionMap.computeIfAbsent(wordId, id -> new ArrayList<>()).add(toDefinition(row, wordId));
+        }
+
+        List<WordDetail> wordDetails = new ArrayList<>(wordRows.size());
+        for (Tuple row : wordRows) {
+            wordDetails.add(toWordDetail(row, definitionMap.getOrDefault(row.get(word.id), Collections.emptyList())));
+        }
+
+        return wordDetails;
+    }
+
+    private NumberExpression<Double> samplingKey(WordSampling sampling) {
+        return switch (sampling) {
+            case RANDOM -> Expressions.numberTemplate(Double.class, "function('rand')");
+            // Efraimidis-Spirakis: 키 -ln(U) / w 가 작은 순으로 뽑으면 가중치 w(난이도)에 비례한 비복원 추출
+            // ADAPTIVE 는 퀴즈 도메인의 캐시된 가중치 테이블에서 추출하므로 여기서는 난이도 가중 추출로 대체
+            case DIFFICULTY, ADAPTIVE -> Expressions.numberTemplate(Double.class,
+                    "-ln(function('rand')) / ({0} + {1})", difficulty, MIN_SAMPLING_WEIGHT);
+        };
+    }
+
+    private List<WordDetail> foldByWord(Iterator<Tuple> rows) {
+        List<WordDetail> wordDetails = new ArrayList<>();
+        Tuple current = null;
+        List<Definition> definitions = null;
+
+        while (rows.hasNext()) {
+            Tuple row = rows.next();
+            UUID wordId = row.get(word.id);
+
+            if (current == null || !wordId.equals(current.get(word.id))) {
+                if (current != null) {
+                    wordDetails.add(toWordDetail(current, definitions));
+                }
+                current = row;
+                definitions = new ArrayList<>(2);
+            }
+
+            // 뜻이 없는 단어는 뜻 컬럼이 모두 null 인 한 행으로 조회됨
+            if (row.get(definition.id) != null) {
+                definitions.add(toDefinition(row, wordId));
+            }
+        }
+
+        if (current != null) {
+            wordDetails.add(toWordDetail(current, definitions));
+        }
+
+        return wordDetails;
+    }
+
+    private WordDetail toWordDetail(Tuple row, List<Definition> definitions) {
+        return new WordDetail(
+                row.get(word.id),
+                row.get(word.expression),
+                row.get(difficulty),
+                row.get(accuracy),
+                row.get(isLearned),
+                definitions,
+                row.get(word.createdAt),
+                row.get(word.updatedAt)
+        );
+    }
+
+    private Definition toDefinition(Tuple row, UUID wordId) {
+        return new Definition(
+                row.get(definition.id),
+                wordId,
+                row.get(definition.meaning),
+                row.get(definition.part),
+                AuditTime.of(row.get(definition.createdAt), row.get(definition.updatedAt))
+        );
+    }
+
+    private BooleanExpression isAfter(WordCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
 
-        Map<UUID, List<Definition>> definitionMap = definitions.stream()
-                .collect(
-                        Collectors.groupingBy(definition -> definition.getWord().getId(), // 단어 ID를 Key로
-                                Collectors.mapping(DefinitionJpaEntity::toModel, Collectors.toList())
-                        ));
-
-        return wordDetails.stream()
-                .map(wd -> new WordDetail(
-                        wd.id(), wd.expression(), wd.difficulty(), wd.accuracy(),
-                        wd.isLearned(),
-                        definitionMap.getOrDefault(wd.id(), Collections.emptyList()),
-                        wd.createdAt(),
-                        wd.updatedAt()
-                ))
-                .collect(Collectors.toList());
+        return word.createdAt.gt(cursor.createdAt())
+                .or(word.createdAt.eq(cursor.createdAt()).and(word.id.gt(cursor.id())));
     }
 
     private BooleanExpression isNotLearned(boolean notLearned) {
@@ -3,7 +3,9 @@ package com.kthowns.mobidic.storage.word.repository.jpa;
 import com.kthowns.mobidic.common.code.GeneralResponseCode;
 import com.kthowns.mobidic.common.exception.ApiException;
 import com.kthowns.mobidic.domain.word.model.Word;
+import com.kthowns.mobidic.domain.word.model.WordCursor;
 import com.kthowns.mobidic.domain.word.model.WordDetail;
+import com.kthowns.mobidic.domain.word.model.WordSampling;
 import com.kthowns.mobidic.domain.word.repository.WordRepository;
 import com.kthowns.mobidic.storage.vocabulary.jpaentity.VocabularyJpaEntity;
 import com.kthowns.mobidic.storage.word.jpaentity.WordJpaEntity;
@@ -41,6 +43,21 @@ public class WordRepositoryImpl implements WordRepository {
         return wordJpaRepository.findWordDetailsByVocabularyId(userId, vocabularyId, onlyNotLearned);
     }
 
+    @Override
+    public List<WordDetail> readDetailsByVocabularyIdAfter(UUID userId, UUID vocabularyId, WordCursor cursor, int limit) {
+        return wordJpaRepository.findWordDetailsByVocabularyIdAfter(userId, vocabularyId, cursor, limit);
+    }
+
+    @Override
+    public List<WordDetail> sampleDetailsNotLearned(UUID userId, UUID vocabularyId, int size, WordSampling sampling) {
+        return wordJpaRepository.sampleWordDetails(userId, vocabularyId, size, sampling);
+    }
+
+    @Override
+    public List<WordDetail> readDetailsNotLearnedByIds(UUID userId, UUID vocabularyId, List<UUID> wordIds) {
+        return wordJpaRepository.findWordDetailsNotLearnedByIds(userId, vocabularyId, wordIds);
+    }
+
     @Override
     public void update(Word word, UUID userId) {
         WordJpaEntity wordJpaEntity = wordJpaRepository.findByIdAndVocabulary_UserId(word.id(), userId)
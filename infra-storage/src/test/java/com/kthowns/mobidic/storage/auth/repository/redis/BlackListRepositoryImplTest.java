@@ -0,0 +1,250 @@
+package com.kthowns.mobidic.storage.auth.repository.redis;
+
+import com.kthowns.mobidic.domain.auth.repository.AuthRedisKey;
+import com.kthowns.mobidic.storage.global.redis.RedisCircuitBreakerRegistry;
+import com.kthowns.mobidic.storage.user.jparepository.UserJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BlackListRepositoryImplTest {
+    private static final String INDEX_KEY = AuthRedisKey.DEACTIVATED_INDEX.toString();
+    private static final int FAILURE_THRESHOLD = 3;
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+    @Mock
+    private RedisTemplate<String, String> stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private BlackListRepositoryImpl blackListRepository;
+    private MessageListener deactivatedListener;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        blackListRepository = new BlackListRepositoryImpl(userJpaRepository, stringRedisTemplate,
+                redisMessageListenerContainer, new RedisCircuitBreakerRegistry(meterRegistry, FAILURE_THRESHOLD, 60_000L),
+                meterRegistry, true, 60_000L, 60_000L);
+
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(redisMessageListenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        deactivatedListener = listenerCaptor.getValue();
+    }
+
+    @Test
+    @DisplayName("[BlackList] 동기화된 사본은 Redis 조회 없이 비활성화되지 않은 사용자로 답함")
+    void syncedNearCacheAnswersWithoutRedis() {
+        // given
+        UUID deactivatedUserId = UUID.randomUUID();
+        givenIndex(deactivatedUserId);
+        blackListRepository.refreshDeactivated();
+
+        // when
+        boolean active = blackListRepository.existsDeactivated(userId);
+        boolean deactivated = blackListRepository.existsDeactivated(deactivatedUserId);
+
+        // then
+        assertThat(active).isFalse();
+        assertThat(deactivated).isTrue();
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+        verify(userJpaRepository, never()).existsByIdAndActiveFalse(any());
+    }
+
+    @Test
+    @DisplayName("[BlackList] 다른 인스턴스의 비활성화 알림은 다음 동기화 전에도 바로 반영")
+    void deactivatedEventAppliesImmediately() {
+        // given
+        givenIndex();
+        blackListRepository.refreshDeactivated();
+
+        // when
+        String body = userId + ":" + (System.currentTimeMillis() + 60_000L);
+        deactivatedListener.onMessage(new DefaultMessage(
+                AuthRedisKey.DEACTIVATED_CHANNEL.toString().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(blackListRepository.existsDeactivated(userId)).isTrue();
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("[BlackList] 비활성화 등록 시 키, 색인 저장 후 다른 인스턴스에 알림")
+    @SuppressWarnings("unchecked")
+    void saveDeactivatedPublishesEvent() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(mock(ValueOperations.class));
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        // when
+        blackListRepository.saveDeactivated(userId, 60_000L);
+
+        // then
+        verify(zSetOperations).add(eq(INDEX_KEY), eq(userId.toString()), anyDouble());
+        verify(stringRedisTemplate).convertAndSend(eq(AuthRedisKey.DEACTIVATED_CHANNEL.toString()), anyString());
+        assertThat(blackListRepository.existsDeactivated(userId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("[BlackList] Redis 장애로 동기화하지 못하면 DB 로 확인")
+    void redisDownBeforeSyncFallsBackToDb() {
+        // given
+        given(stringRedisTemplate.scan(any(ScanOptions.class)))
+                .willThrow(new RedisConnectionFailureException("Redis is down"));
+        given(stringRedisTemplate.hasKey(anyString()))
+                .willThrow(new RedisConnectionFailureException("Redis is down"));
+        given(userJpaRepository.existsByIdAndActiveFalse(userId)).willReturn(true);
+
+        // when
+        blackListRepository.refreshDeactivated();
+        boolean deactivated = blackListRepository.existsDeactivated(userId);
+
+        // then
+        assertThat(deactivated).isTrue();
+        verify(userJpaRepository).existsByIdAndActiveFalse(userId);
+    }
+
+    @Test
+    @DisplayName("[BlackList] 동기화 후 Redis 장애가 나면 사본을 믿지 않고 DB 로 확인")
+    void redisDownAfterSyncStopsTrustingNearCache() {
+        // given
+        givenIndex();
+        blackListRepository.refreshDeactivated();
+        given(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble()))
+                .willThrow(new RedisConnectionFailureException("Redis is down"));
+        given(stringRedisTemplate.hasKey(anyString()))
+                .willThrow(new RedisConnectionFailureException("Redis is down"));
+        given(userJpaRepository.existsByIdAndActiveFalse(userId)).willReturn(true);
+
+        // when
+        blackListRepository.refreshDeactivated();
+        boolean deactivated = blackListRepository.existsDeactivated(userId);
+
+        // then
+        assertThat(deactivated).isTrue();
+        verify(userJpaRepository).existsByIdAndActiveFalse(userId);
+    }
+
+    @Test
+    @DisplayName("[BlackList] Redis 실패가 이어지면 서킷을 열고 Redis 를 더 호출하지 않음")
+    void openCircuitSkipsRedis() {
+        // given
+        AtomicInteger redisCalls = givenRedisDown();
+        given(userJpaRepository.existsByIdAndActiveFalse(any())).willReturn(false);
+
+        // when
+        for (int i = 0; i < FAILURE_THRESHOLD * 10; i++) {
+            blackListRepository.existsDeactivated(UUID.randomUUID());
+        }
+
+        // then
+        assertThat(redisCalls.get()).isEqualTo(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("[BlackList] Redis 장애 중 같은 사용자의 동시 확인은 DB 조회 한 번으로 합쳐짐")
+    void concurrentDbFallbackIsCoalesced() throws Exception {
+        // given
+        givenRedisDown();
+        CountDownLatch dbEntered = new CountDownLatch(1);
+        CountDownLatch releaseDb = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            dbEntered.countDown();
+            releaseDb.await(5, TimeUnit.SECONDS);
+            return true;
+        }).given(userJpaRepository).existsByIdAndActiveFalse(userId);
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            results.add(executor.submit(() -> blackListRepository.existsDeactivated(userId)));
+            assertThat(dbEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> blackListRepository.existsDeactivated(userId)));
+            }
+            releaseDb.countDown();
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+            // 결과를 db-fallback-ttl 동안 재사용하므로 이후 확인도 DB 를 다시 조회하지 않음
+            assertThat(blackListRepository.existsDeactivated(userId)).isTrue();
+            verify(userJpaRepository, times(1)).existsByIdAndActiveFalse(userId);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 장애 주입: 키 조회가 모두 연결 실패, 실제로 Redis 까지 간 조회 수를 셈
+    private AtomicInteger givenRedisDown() {
+        AtomicInteger redisCalls = new AtomicInteger();
+        given(stringRedisTemplate.hasKey(anyString())).willAnswer(invocation -> {
+            redisCalls.incrementAndGet();
+            throw new RedisConnectionFailureException("Redis is down");
+        });
+        return redisCalls;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIndex(UUID... deactivatedUserIds) {
+        Set<ZSetOperations.TypedTuple<String>> entries = new HashSet<>();
+        for (UUID deactivatedUserId : deactivatedUserIds) {
+            entries.add(new DefaultTypedTuple<>(deactivatedUserId.toString(), (double) (System.currentTimeMillis() + 60_000L)));
+        }
+
+        given(stringRedisTemplate.scan(any(ScanOptions.class))).willReturn(mock(Cursor.class));
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.rangeByScoreWithScores(eq(INDEX_KEY), anyDouble(), anyDouble())).willReturn(entries);
+    }
+}
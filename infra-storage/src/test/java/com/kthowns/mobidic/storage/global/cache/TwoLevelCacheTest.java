@@ -0,0 +1,90 @@
+package com.kthowns.mobidic.storage.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+    private static final String METRIC_NAME = "test.cache";
+
+    @Mock
+    private RedisTemplate<String, Object> objectRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache<>(METRIC_NAME, objectRedisTemplate, meterRegistry,
+                Duration.ofMinutes(1), 100, true, Duration.ofMinutes(10), key -> "test:" + key, String.class);
+    }
+
+    @Test
+    @DisplayName("get 테스트 - L2 적중 시 L1 에 채우고 이후에는 Redis 를 조회하지 않음")
+    void get_RedisHit_FillsLocal() {
+        // Given
+        given(objectRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("test:key")).willReturn("value");
+
+        // When
+        cache.get("key");
+        String cached = cache.get("key").orElseThrow();
+
+        // Then
+        assertThat(cached).isEqualTo("value");
+        verify(valueOperations, times(1)).get("test:key");
+        assertThat(count("redis", "hit")).isEqualTo(1);
+        assertThat(count("local", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get 테스트 - Redis 장애와 다른 타입의 값은 미스로 처리")
+    void get_RedisFailureOrWrongType_Miss() {
+        // Given
+        given(objectRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("test:failure")).willThrow(new RedisConnectionFailureException("down"));
+        given(valueOperations.get("test:wrong")).willReturn(1L);
+
+        // When & Then
+        assertThat(cache.get("failure")).isEmpty();
+        assertThat(cache.get("wrong")).isEmpty();
+        assertThat(count("redis", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("put 테스트 - L1 과 L2 에 함께 저장")
+    void put_SavesBothLevels() {
+        // Given
+        given(objectRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // When
+        cache.put("key", "value");
+
+        // Then
+        assertThat(cache.get("key")).contains("value");
+        verify(valueOperations).set("test:key", "value", Duration.ofMinutes(10));
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry.get(METRIC_NAME).tag("level", level).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,130 @@
+package com.kthowns.mobidic.storage.global.redis;
+
+import com.kthowns.mobidic.common.code.GeneralResponseCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisCircuitBreakerTest {
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_DURATION_MILLIS = 5_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(
+            "test", FAILURE_THRESHOLD, OPEN_DURATION_MILLIS, meterRegistry, now::get);
+
+    // 장애 주입용 Redis 대역: down 이면 연결 실패, 호출 수를 셈
+    private final FaultyRedis redis = new FaultyRedis();
+
+    @Test
+    @DisplayName("연속 실패가 임계값에 닿으면 열리고, 열린 동안은 Redis 를 호출하지 않고 거절")
+    void opensAfterConsecutiveFailures() {
+        // given
+        redis.down = true;
+
+        // when
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> circuitBreaker.execute(redis::get))
+                    .isInstanceOf(RedisConnectionFailureException.class);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.execute(redis::get))
+                .isInstanceOf(RedisCircuitOpenException.class)
+                .hasFieldOrPropertyWithValue("responseCode", GeneralResponseCode.REDIS_UNAVAILABLE);
+        assertThat(redis.calls.get()).isEqualTo(FAILURE_THRESHOLD);
+        assertThat(meterRegistry.get("redis.circuit.state").tag("name", "test").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("redis.circuit.calls").tag("result", "rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수가 초기화됨")
+    void successResetsFailureCount() {
+        for (int i = 0; i < FAILURE_THRESHOLD * 3; i++) {
+            redis.down = i % FAILURE_THRESHOLD != 0;
+            try {
+                circuitBreaker.execute(redis::get);
+            } catch (RedisConnectionFailureException ignored) {
+                // 임계값보다 한 번 적게 연속 실패
+            }
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 한 요청만 시험 호출하고, 성공하면 닫힘")
+    void halfOpenProbeClosesOnSuccess() {
+        // given
+        open();
+        now.addAndGet(OPEN_DURATION_MILLIS);
+        redis.down = false;
+
+        // when
+        Supplier<String> slowProbe = () -> {
+            // 시험 호출이 끝나기 전에 들어온 요청은 거절
+            assertThatThrownBy(() -> circuitBreaker.execute(redis::get))
+                    .isInstanceOf(RedisCircuitOpenException.class);
+            return redis.get();
+        };
+        String result = circuitBreaker.execute(slowProbe);
+
+        // then
+        assertThat(result).isEqualTo("value");
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.execute(redis::get)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열리고 열린 시간을 새로 잼")
+    void halfOpenProbeReopensOnFailure() {
+        // given
+        open();
+        now.addAndGet(OPEN_DURATION_MILLIS);
+
+        // when
+        assertThatThrownBy(() -> circuitBreaker.execute(redis::get))
+                .isInstanceOf(RedisConnectionFailureException.class);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        now.addAndGet(OPEN_DURATION_MILLIS - 1);
+        assertThatThrownBy(() -> circuitBreaker.execute(redis::get))
+                .isInstanceOf(RedisCircuitOpenException.class);
+    }
+
+    private void open() {
+        redis.down = true;
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            try {
+                circuitBreaker.execute(redis::get);
+            } catch (RedisConnectionFailureException ignored) {
+                // 서킷을 열기 위한 실패
+            }
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    private static class FaultyRedis {
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean down;
+
+        String get() {
+            calls.incrementAndGet();
+            if (down) {
+                throw new RedisConnectionFailureException("Redis is down");
+            }
+            return "value";
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.kthowns.mobidic.storage.global.serializer;
+
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.quiz.model.QuizAnswer;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+import com.kthowns.mobidic.storage.quiz.serializer.QuizAnswerCodec;
+import com.kthowns.mobidic.storage.vocabulary.serializer.VocabularyDetailList;
+import com.kthowns.mobidic.storage.vocabulary.serializer.VocabularyDetailListCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactRedisSerializerTest {
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer compactSerializer =
+            new CompactRedisSerializer(List.of(new QuizAnswerCodec(), new VocabularyDetailListCodec()), jsonSerializer);
+
+    @Test
+    @DisplayName("QuizAnswer 직렬화/역직렬화 왕복 성공")
+    void quizAnswerRoundTrip() {
+        // Given
+        QuizAnswer quizAnswer = QuizAnswer.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "코끼리");
+
+        // When
+        byte[] bytes = compactSerializer.serialize(quizAnswer);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.FORMAT_VERSION);
+        assertThat(compactSerializer.deserialize(bytes)).isEqualTo(quizAnswer);
+    }
+
+    @Test
+    @DisplayName("null 필드를 포함한 QuizAnswer 왕복 성공")
+    void quizAnswerWithNullFieldsRoundTrip() {
+        // Given
+        QuizAnswer quizAnswer = QuizAnswer.of(UUID.randomUUID(), null, UUID.randomUUID(), null);
+
+        // When & Then
+        assertThat(compactSerializer.deserialize(compactSerializer.serialize(quizAnswer))).isEqualTo(quizAnswer);
+    }
+
+    @Test
+    @DisplayName("VocabularyDetailList 직렬화/역직렬화 왕복 성공")
+    void vocabularyDetailListRoundTrip() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        VocabularyDetailList vocabularyDetails = new VocabularyDetailList(List.of(
+                new VocabularyDetail(new Vocabulary(UUID.randomUUID(), userId, "토익", "필수 단어", 3L, AuditTime.create()), 1.0 / 3, 0.75),
+                new VocabularyDetail(new Vocabulary(UUID.randomUUID(), userId, "빈 단어장", null, 0L, null), 0.0, 0.0)
+        ));
+
+        // When
+        byte[] bytes = compactSerializer.serialize(vocabularyDetails);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.FORMAT_VERSION);
+        assertThat(compactSerializer.deserialize(bytes)).isEqualTo(vocabularyDetails);
+    }
+
+    @Test
+    @DisplayName("기존 JSON으로 저장된 값도 역직렬화 가능")
+    void readsLegacyJsonValue() {
+        // Given
+        QuizAnswer quizAnswer = QuizAnswer.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "1");
+        byte[] legacyBytes = jsonSerializer.serialize(quizAnswer);
+
+        // When & Then
+        assertThat(compactSerializer.deserialize(legacyBytes)).isEqualTo(quizAnswer);
+    }
+
+    @Test
+    @DisplayName("코덱이 없는 타입은 JSON으로 직렬화")
+    void fallsBackToJsonForUnknownType() {
+        // Given
+        Map<String, String> value = new HashMap<>(Map.of("key", "value"));
+
+        // When
+        byte[] bytes = compactSerializer.serialize(value);
+
+        // Then
+        assertThat(bytes[0]).isNotEqualTo(CompactRedisSerializer.FORMAT_VERSION);
+        assertThat(compactSerializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 타입 식별자 역직렬화 실패")
+    void unknownTypeIdFails() {
+        // Given
+        byte[] bytes = {CompactRedisSerializer.FORMAT_VERSION, 0x7F, 0x00};
+
+        // When & Then
+        assertThatThrownBy(() -> compactSerializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("중복된 타입 식별자 등록 실패")
+    void duplicatedTypeIdFails() {
+        assertThatThrownBy(() -> new CompactRedisSerializer(
+                List.of(new QuizAnswerCodec(), new QuizAnswerCodec()), jsonSerializer))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("QuizAnswer 저장 크기가 JSON 대비 1/3 이하")
+    void compactValueIsAtLeastThreeTimesSmaller() {
+        // Given
+        QuizAnswer quizAnswer = QuizAnswer.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "elephant");
+
+        // When
+        int jsonSize = jsonSerializer.serialize(quizAnswer).length;
+        int compactSize = compactSerializer.serialize(quizAnswer).length;
+
+        // Then
+        assertThat(compactSize * 3).isLessThanOrEqualTo(jsonSize);
+    }
+}
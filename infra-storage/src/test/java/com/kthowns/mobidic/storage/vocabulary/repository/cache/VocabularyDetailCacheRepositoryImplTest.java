@@ -0,0 +1,112 @@
+package com.kthowns.mobidic.storage.vocabulary.repository.cache;
+
+import com.kthowns.mobidic.domain.global.model.AuditTime;
+import com.kthowns.mobidic.domain.vocabulary.model.Vocabulary;
+import com.kthowns.mobidic.domain.vocabulary.model.VocabularyDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class VocabularyDetailCacheRepositoryImplTest {
+    @Mock
+    private RedisTemplate<String, Object> objectRedisTemplate;
+
+    private VocabularyDetailCacheRepositoryImpl vocabularyDetailCacheRepository;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        vocabularyDetailCacheRepository = new VocabularyDetailCacheRepositoryImpl(
+                objectRedisTemplate, new SimpleMeterRegistry(), 60, 100, false, 600);
+    }
+
+    @Test
+    @DisplayName("readOrLoad 테스트 - 미스면 조회 결과를 채우고 이후에는 캐시에서 반환")
+    void readOrLoad_FillsOnMiss() {
+        // Given
+        List<VocabularyDetail> details = List.of(detail("title"));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        vocabularyDetailCacheRepository.readOrLoad(userId, () -> {
+            loads.incrementAndGet();
+            return details;
+        });
+        List<VocabularyDetail> cached = vocabularyDetailCacheRepository.readOrLoad(userId, () -> {
+            loads.incrementAndGet();
+            return details;
+        });
+
+        // Then
+        assertThat(cached).isEqualTo(details);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("readOrLoad 테스트 - 조회 도중 무효화되면 조회 결과로 채우지 않음")
+    void readOrLoad_EvictedDuringLoad_DoesNotFill() throws Exception {
+        // Given
+        List<VocabularyDetail> stale = List.of(detail("stale"));
+        List<VocabularyDetail> fresh = List.of(detail("fresh"));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When: 조회가 DB 결과를 받은 뒤 채우기 전에 다른 스레드에서 무효화
+            Future<List<VocabularyDetail>> read = executor.submit(() -> vocabularyDetailCacheRepository.readOrLoad(userId, () -> {
+                loading.countDown();
+                await(evicted);
+                return stale;
+            }));
+            Future<?> evict = executor.submit(() -> {
+                await(loading);
+                vocabularyDetailCacheRepository.evict(userId);
+                evicted.countDown();
+            });
+
+            evict.get(5, TimeUnit.SECONDS);
+
+            // Then: 조회한 요청에는 결과를 돌려주되 캐시에는 남기지 않음
+            assertThat(read.get(5, TimeUnit.SECONDS)).isEqualTo(stale);
+            assertThat(vocabularyDetailCacheRepository.readByUserId(userId)).isEmpty();
+            assertThat(vocabularyDetailCacheRepository.readOrLoad(userId, () -> fresh)).isEqualTo(fresh);
+            assertThat(vocabularyDetailCacheRepository.readByUserId(userId)).contains(fresh);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private VocabularyDetail detail(String title) {
+        return new VocabularyDetail(new Vocabulary(UUID.randomUUID(), userId, title, "desc", 0, AuditTime.create()), 0.0, 0.0);
+    }
+}